@@ -1,9 +1,15 @@
 package de.bund.digitalservice.ris.caselaw.adapter;
 
-import de.bund.digitalservice.ris.caselaw.adapter.publication.PortalPublicationService;
+import de.bund.digitalservice.ris.caselaw.adapter.publication.PortalRepublishProgress;
+import de.bund.digitalservice.ris.caselaw.adapter.publication.PortalRepublishService;
+import de.bund.digitalservice.ris.caselaw.adapter.publication.PortalSanityCheckReport;
+import de.bund.digitalservice.ris.caselaw.adapter.publication.PortalSanityCheckService;
+import de.bund.digitalservice.ris.caselaw.adapter.publication.PublishedDocumentationSnapshotService;
+import de.bund.digitalservice.ris.caselaw.adapter.publication.SnapshotJobProgress;
 import de.bund.digitalservice.ris.caselaw.domain.EnvironmentResponse;
 import de.bund.digitalservice.ris.caselaw.domain.MailTrackingService;
 import jakarta.validation.Valid;
+import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -23,16 +29,22 @@ public class AdminController {
 
   private final MailTrackingService mailTrackingService;
   private final EnvironmentService environmentService;
-  private final PortalPublicationService publicationService;
+  private final PublishedDocumentationSnapshotService snapshotService;
+  private final PortalSanityCheckService portalSanityCheckService;
+  private final PortalRepublishService portalRepublishService;
 
   public AdminController(
       MailTrackingService mailTrackingService,
       EnvironmentService environmentService,
-      PortalPublicationService publicationService) {
+      PublishedDocumentationSnapshotService snapshotService,
+      PortalSanityCheckService portalSanityCheckService,
+      PortalRepublishService portalRepublishService) {
 
     this.mailTrackingService = mailTrackingService;
     this.environmentService = environmentService;
-    this.publicationService = publicationService;
+    this.snapshotService = snapshotService;
+    this.portalSanityCheckService = portalSanityCheckService;
+    this.portalRepublishService = portalRepublishService;
   }
 
   @PostMapping("/webhook")
@@ -56,14 +68,80 @@ public class AdminController {
     return ResponseEntity.ok(environmentService.getAccountManagementUrl());
   }
 
+  /**
+   * Start the creation of the snapshots of all published documentation units. The job runs in the
+   * background, its progress can be requested with {@link
+   * #getFillPublishedDocumentationUnitProgress}.
+   *
+   * @param oidcUser current user via Spring Security
+   * @param after id of the last documentation unit processed by a previous run to resume it
+   * @param size number of documentation units that are written in one batch
+   * @return "ok" if the job was started
+   */
   @GetMapping("/fillPublishedDocumentationUnit")
   @PreAuthorize("@isDSMember.apply(#oidcUser)")
   public ResponseEntity<String> startFillPublishedDocumentationUnit(
       @AuthenticationPrincipal OidcUser oidcUser,
-      @RequestParam(value = "page", defaultValue = "0") int page,
+      @RequestParam(value = "after", required = false) UUID after,
       @RequestParam(value = "size", defaultValue = "1000") int size) {
 
-    publicationService.publishSnapshots(page, size);
+    snapshotService.publishSnapshots(after, size);
     return ResponseEntity.ok("ok");
   }
+
+  @GetMapping("/fillPublishedDocumentationUnit/progress")
+  @PreAuthorize("@isDSMember.apply(#oidcUser)")
+  public ResponseEntity<SnapshotJobProgress> getFillPublishedDocumentationUnitProgress(
+      @AuthenticationPrincipal OidcUser oidcUser) {
+
+    return ResponseEntity.ok(snapshotService.getProgress());
+  }
+
+  /**
+   * Start the republication of all documentation units published in the portal, e.g. after a change
+   * of the LDML transformation. The job runs in the background, its progress can be requested with
+   * {@link #getPortalRepublishProgress}.
+   *
+   * @param oidcUser current user via Spring Security
+   * @param after document number of the last documentation unit processed by a previous run to
+   *     resume it, an empty value to start from the beginning, if missing an interrupted run is
+   *     resumed from its saved checkpoint
+   * @param size number of document numbers that are read in one batch
+   * @return "ok" if the job was started
+   */
+  @PostMapping("/portalRepublish")
+  @PreAuthorize("@isDSMember.apply(#oidcUser)")
+  public ResponseEntity<String> startPortalRepublish(
+      @AuthenticationPrincipal OidcUser oidcUser,
+      @RequestParam(value = "after", required = false) String after,
+      @RequestParam(value = "size", defaultValue = "1000") int size) {
+
+    portalRepublishService.republishAll(after, size);
+    return ResponseEntity.ok("ok");
+  }
+
+  @GetMapping("/portalRepublish/progress")
+  @PreAuthorize("@isDSMember.apply(#oidcUser)")
+  public ResponseEntity<PortalRepublishProgress> getPortalRepublishProgress(
+      @AuthenticationPrincipal OidcUser oidcUser) {
+
+    return ResponseEntity.ok(portalRepublishService.getProgress());
+  }
+
+  /**
+   * Get the result of the last nightly sanity check of the portal bucket.
+   *
+   * @param oidcUser current user via Spring Security
+   * @return the report of the last check or no content if the check didn't run yet
+   */
+  @GetMapping("/portalSanityCheck")
+  @PreAuthorize("@isDSMember.apply(#oidcUser)")
+  public ResponseEntity<PortalSanityCheckReport> getPortalSanityCheckReport(
+      @AuthenticationPrincipal OidcUser oidcUser) {
+
+    return portalSanityCheckService
+        .getLastReport()
+        .map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.noContent().build());
+  }
 }
@@ -2,6 +2,8 @@ package de.bund.digitalservice.ris.caselaw.adapter;
 
 import de.bund.digitalservice.ris.caselaw.domain.Attachment2Html;
 import de.bund.digitalservice.ris.caselaw.domain.ConverterService;
+import de.bund.digitalservice.ris.caselaw.domain.Image;
+import de.bund.digitalservice.ris.caselaw.domain.docx.DocxImagePart;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -42,15 +44,38 @@ public class CommonConverterService implements ConverterService {
    * @param s3Path (optional) path of the file in the bucket in case of a bucket attachment
    * @param documentationUnitId (optional) id of the documentation unit that the file is attached to
    *     in case of a database attachment
+   * @param imageUrlPrefix (optional) prefix of the urls under which the images of a docx file are
+   *     served, if they are referenced by url instead of being embedded
    * @return the generated object with html content and metadata, or null if format and filename are
    *     null or blank
    */
   public Attachment2Html getConvertedObject(
-      String format, String s3Path, UUID documentationUnitId) {
+      String format, String s3Path, UUID documentationUnitId, String imageUrlPrefix) {
     if ("fmx".equals(format)) {
       return fmxConverterService.getFmx(documentationUnitId);
     } else {
-      return docxConverterService.getConvertedObject(s3Path);
+      return docxConverterService.getConvertedObject(s3Path, imageUrlPrefix);
     }
   }
+
+  /**
+   * Get an image of an attached docx file, which is referenced by url in the converted html.
+   *
+   * @param s3Path path of the file in the bucket
+   * @param imageUrlPrefix prefix of the urls of the images, which was used for the html
+   * @param imageId id of the image, the last part of its url
+   * @return the image or null, if the file doesn't contain the image
+   */
+  public Image getConvertedImage(String s3Path, String imageUrlPrefix, String imageId) {
+    DocxImagePart image = docxConverterService.getConvertedImage(s3Path, imageUrlPrefix, imageId);
+    if (image == null) {
+      return null;
+    }
+
+    return Image.builder()
+        .content(image.bytes())
+        .contentType(image.contentType())
+        .name(imageId)
+        .build();
+  }
 }
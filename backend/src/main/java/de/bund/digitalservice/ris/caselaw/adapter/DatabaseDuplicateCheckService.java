@@ -11,10 +11,14 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.StatusDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.CourtTransformer;
 import de.bund.digitalservice.ris.caselaw.domain.DuplicateCheckService;
 import de.bund.digitalservice.ris.caselaw.domain.DuplicateRelationStatus;
+import de.bund.digitalservice.ris.caselaw.domain.LoggingKeys;
 import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
 import de.bund.digitalservice.ris.caselaw.domain.exception.DocumentationUnitNotExistsException;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -24,52 +28,123 @@ import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Slf4j
 public class DatabaseDuplicateCheckService implements DuplicateCheckService {
+  static final Duration UPDATED_DECISIONS_LOOKBACK = Duration.ofMinutes(30);
+
   private final DatabaseDuplicateCheckRepository repository;
   private final DuplicateRelationService duplicateRelationService;
   private final DatabaseDocumentationUnitRepository documentationUnitRepository;
   private final DatabaseCourtRepository databaseCourtRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final EntityManager entityManager;
 
   public DatabaseDuplicateCheckService(
       DatabaseDuplicateCheckRepository duplicateCheckRepository,
       DuplicateRelationService duplicateRelationService,
       DatabaseDocumentationUnitRepository documentationUnitRepository,
-      DatabaseCourtRepository databaseCourtRepository) {
+      DatabaseCourtRepository databaseCourtRepository,
+      TransactionTemplate transactionTemplate,
+      EntityManager entityManager) {
     this.repository = duplicateCheckRepository;
     this.duplicateRelationService = duplicateRelationService;
     this.documentationUnitRepository = documentationUnitRepository;
     this.databaseCourtRepository = databaseCourtRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.entityManager = entityManager;
   }
 
   @Override
   @Transactional
   public void checkDuplicates(String docNumber) {
     try {
-      var documentationUnit =
-          documentationUnitRepository.findByDocumentNumber(docNumber).orElseThrow();
-
-      if (documentationUnit instanceof DecisionDTO decisionDTO) {
-        List<DocumentationUnitIdDuplicateCheckDTO> duplicates =
-            findPotentialDuplicates(decisionDTO);
-        processDuplicates(decisionDTO, duplicates);
-        removeObsoleteDuplicates(decisionDTO, duplicates);
+      updateDuplicates(docNumber);
+    } catch (Exception e) {
+      log.error("Could not check duplicates for doc unit {}", docNumber, e);
+    }
+  }
+
+  private void updateDuplicates(String docNumber) {
+    var documentationUnit =
+        documentationUnitRepository.findByDocumentNumber(docNumber).orElseThrow();
+
+    if (documentationUnit instanceof DecisionDTO decisionDTO) {
+      List<DocumentationUnitIdDuplicateCheckDTO> duplicates = findPotentialDuplicates(decisionDTO);
+      processDuplicates(decisionDTO, duplicates);
+      removeObsoleteDuplicates(decisionDTO, duplicates);
+    }
+  }
+
+  /**
+   * Check the duplicates of all decisions updated within the last {@link
+   * #UPDATED_DECISIONS_LOOKBACK}. Decisions updated in NeuRIS are checked directly on save, this
+   * job picks up the changes of the migration. As the lookback is longer than the interval of the
+   * job, every change is checked even if one run is skipped.
+   *
+   * <p>Every decision is checked in its own transaction, so a failing check only rolls back the
+   * relations of this decision and the loaded decisions don't pile up in the persistence context.
+   */
+  @Scheduled(cron = "0 */15 * * * *", zone = "Europe/Berlin")
+  @SchedulerLock(name = "updated-duplicate-check-job", lockAtMostFor = "PT10M")
+  @Override
+  public void checkUpdatedDuplicates() {
+    long start = System.currentTimeMillis();
+    try {
+      var documentNumbers =
+          repository.findDocumentNumbersOfDecisionsUpdatedSince(
+              Instant.now().minus(UPDATED_DECISIONS_LOOKBACK));
+      int failed = 0;
+      for (String documentNumber : documentNumbers) {
+        if (!checkUpdatedDuplicates(documentNumber)) {
+          failed++;
+        }
       }
+      log.info(
+          "Checked duplicates of {} updated decisions ({} failed) in {} ms",
+          documentNumbers.size(),
+          failed,
+          System.currentTimeMillis() - start);
+    } catch (Exception e) {
+      log.error("Error while checking duplicates of updated decisions", e);
+    }
+  }
 
+  private boolean checkUpdatedDuplicates(String documentNumber) {
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            updateDuplicates(documentNumber);
+            entityManager.flush();
+            entityManager.clear();
+          });
+      return true;
     } catch (Exception e) {
-      log.error("Could not check duplicates for doc unit {}", docNumber, e);
+      log.atError()
+          .setMessage("Could not check duplicates of updated decision")
+          .addKeyValue(LoggingKeys.DOCUMENT_NUMBER, documentNumber)
+          .setCause(e)
+          .log();
+      return false;
     }
   }
 
+  /**
+   * Recompute all duplicate relations every night. This reconciles the relations with changes,
+   * which are not covered by {@link #checkUpdatedDuplicates()}, e.g. changed data without an
+   * updated management data.
+   */
   @Scheduled(cron = "10 5 5 * * *", zone = "Europe/Berlin")
   @SchedulerLock(name = "duplicate-check-job", lockAtMostFor = "PT15M")
   @Transactional
   @Override
   public void checkAllDuplicates() {
+    long start = System.currentTimeMillis();
     try {
       this.duplicateRelationService.updateAllDuplicates();
+      log.info("Updated all duplicate relations in {} ms", System.currentTimeMillis() - start);
     } catch (Exception e) {
       log.error("Error while updating duplicate relations", e);
     }
@@ -27,18 +27,24 @@ import de.bund.digitalservice.ris.caselaw.domain.exception.DocumentationUnitPatc
 import de.bund.digitalservice.ris.caselaw.domain.image.ImageUtil;
 import de.bund.digitalservice.ris.caselaw.domain.mapper.PatchMapperService;
 import de.bund.digitalservice.ris.caselaw.domain.textcheck.CategoryType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.Strings;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
@@ -82,11 +88,73 @@ public class DatabasePatchMapperService implements PatchMapperService {
     return documentationUnit;
   }
 
+  /**
+   * Calculate the difference between two documentation units as patch. Components of the records
+   * with equal values are left out of the comparison, so only the changed subtrees are converted to
+   * json and compared. If the records can't be reduced, the complete documentation units are
+   * compared.
+   */
   @Override
   public JsonPatch getDiffPatch(DocumentationUnit existed, DocumentationUnit updated) {
+    if (Objects.equals(existed, updated)) {
+      return new JsonPatch(Collections.emptyList());
+    }
+
+    Object source = existed;
+    Object target = updated;
+    if (existed instanceof Record existedRecord
+        && updated instanceof Record updatedRecord
+        && existed.getClass() == updated.getClass()) {
+      try {
+        Object[] reduced = removeEqualComponents(existedRecord, updatedRecord);
+        source = reduced[0];
+        target = reduced[1];
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        log.debug("Couldn't reduce documentation units to their differences", e);
+      }
+    }
+
     return JsonDiff.asJsonPatch(
-        objectMapper.convertValue(existed, JsonNode.class),
-        objectMapper.convertValue(updated, JsonNode.class));
+        objectMapper.convertValue(source, JsonNode.class),
+        objectMapper.convertValue(target, JsonNode.class));
+  }
+
+  /**
+   * Create copies of two records of the same type, in which all components with equal values are
+   * set to null. Differing components which are records themselves are reduced recursively.
+   * Primitive components can't be null and are kept.
+   *
+   * @return array with the reduced copy of the first and the second record
+   */
+  private static Object[] removeEqualComponents(Record first, Record second)
+      throws ReflectiveOperationException {
+    RecordComponent[] components = first.getClass().getRecordComponents();
+    Class<?>[] types = new Class<?>[components.length];
+    Object[] firstValues = new Object[components.length];
+    Object[] secondValues = new Object[components.length];
+
+    for (int i = 0; i < components.length; i++) {
+      types[i] = components[i].getType();
+      Object firstValue = components[i].getAccessor().invoke(first);
+      Object secondValue = components[i].getAccessor().invoke(second);
+
+      if (types[i].isPrimitive() || !Objects.equals(firstValue, secondValue)) {
+        if (firstValue instanceof Record firstRecord
+            && secondValue instanceof Record secondRecord
+            && firstValue.getClass() == secondValue.getClass()) {
+          Object[] reduced = removeEqualComponents(firstRecord, secondRecord);
+          firstValue = reduced[0];
+          secondValue = reduced[1];
+        }
+        firstValues[i] = firstValue;
+        secondValues[i] = secondValue;
+      }
+    }
+
+    Constructor<?> constructor = first.getClass().getDeclaredConstructor(types);
+    return new Object[] {
+      constructor.newInstance(firstValues), constructor.newInstance(secondValues)
+    };
   }
 
   @Override
@@ -172,21 +240,22 @@ public class DatabasePatchMapperService implements PatchMapperService {
 
     List<String> errorPaths = new ArrayList<>();
     List<JsonPatchOperation> operations = new ArrayList<>(patch1.getOperations());
+    JsonNode existingNode = null;
     for (Entry<String, List<JsonPatchOperation>> entry : pathList3.entrySet()) {
       if (pathList2.containsKey(entry.getKey())) {
         List<JsonPatchOperation> toRemove = pathList2.get(entry.getKey());
         log.debug("remove path '{}': {}", entry.getKey(), toRemove);
-        toRemove.forEach(
-            patch -> {
-              if (patch instanceof AddOperation) {
-                operations.add(new RemoveOperation(entry.getKey()));
-              } else if (patch instanceof RemoveOperation) {
-                JsonNode node =
-                    objectMapper.convertValue(existingDocumentationUnit, JsonNode.class);
-                JsonNode value = node.at(JsonPointer.valueOf(entry.getKey()));
-                operations.add(new AddOperation(entry.getKey(), value));
-              }
-            });
+        for (JsonPatchOperation patch : toRemove) {
+          if (patch instanceof AddOperation) {
+            operations.add(new RemoveOperation(entry.getKey()));
+          } else if (patch instanceof RemoveOperation) {
+            if (existingNode == null) {
+              existingNode = objectMapper.convertValue(existingDocumentationUnit, JsonNode.class);
+            }
+            JsonNode value = existingNode.at(JsonPointer.valueOf(entry.getKey()));
+            operations.add(new AddOperation(entry.getKey(), value));
+          }
+        }
         operations.addAll(entry.getValue());
         errorPaths.add(entry.getKey());
       } else {
@@ -324,6 +393,7 @@ public class DatabasePatchMapperService implements PatchMapperService {
   public JsonPatch extractAndStoreBase64Images(
       JsonPatch patch, DocumentationUnit documentationUnit, User user) {
     List<JsonPatchOperation> updatedOperations = new ArrayList<>();
+    AtomicBoolean changed = new AtomicBoolean(false);
 
     patch
         .getOperations()
@@ -333,10 +403,19 @@ public class DatabasePatchMapperService implements PatchMapperService {
                   && valueOperation.getValue() instanceof TextNode textNode) {
                 try {
                   String originalHtmlContent = textNode.textValue();
+                  if (!Strings.CI.contains(originalHtmlContent, "data:image/")) {
+                    updatedOperations.add(operation);
+                    return;
+                  }
+
                   Document parsedDocument = Jsoup.parse(originalHtmlContent);
                   parsedDocument.outputSettings().prettyPrint(false);
                   List<Element> base64ImageElements =
                       ImageUtil.extractBase64ImageTags(parsedDocument);
+                  if (base64ImageElements.isEmpty()) {
+                    updatedOperations.add(operation);
+                    return;
+                  }
 
                   String updatedHtmlContent = originalHtmlContent;
 
@@ -367,6 +446,7 @@ public class DatabasePatchMapperService implements PatchMapperService {
                           operation, valueOperation.getPath(), updatedHtmlContent);
 
                   updatedOperations.add(newOperation);
+                  changed.set(true);
 
                 } catch (Exception e) {
                   log.atInfo()
@@ -381,7 +461,7 @@ public class DatabasePatchMapperService implements PatchMapperService {
               }
             });
 
-    return new JsonPatch(updatedOperations);
+    return changed.get() ? new JsonPatch(updatedOperations) : patch;
   }
 
   private HttpHeaders createHttpHeadersForImage(Element imageElement) {
@@ -0,0 +1,20 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * Private bucket of the original documents. Files that must not be published, e.g. the state of a
+ * job, are saved here instead of the portal bucket.
+ */
+@Component
+public class DocumentStorageBucket extends S3Bucket {
+
+  public DocumentStorageBucket(
+      @Qualifier("docxS3Client") S3Client s3Client,
+      @Value("${otc.obs.bucket-name}") String bucketName) {
+    super(s3Client, bucketName);
+  }
+}
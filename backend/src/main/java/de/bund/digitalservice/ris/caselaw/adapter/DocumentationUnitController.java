@@ -639,7 +639,10 @@ public class DocumentationUnitController {
       var attach = attachment.get();
       var attachment2Html =
           converterService.getConvertedObject(
-              attach.getFormat(), attach.getS3ObjectPath(), documentationUnitId);
+              attach.getFormat(),
+              attach.getS3ObjectPath(),
+              documentationUnitId,
+              getOriginalImageUrlPrefix(documentationUnitId, attachmentId));
       return ResponseEntity.ok()
           .cacheControl(CacheControl.maxAge(Duration.ofDays(1))) // Set cache duration
           .body(attachment2Html);
@@ -649,6 +652,69 @@ public class DocumentationUnitController {
     }
   }
 
+  /**
+   * Get an image of an original document, which is referenced by url in the html of the document.
+   * The id of the image is the hash of its content, so the image can be cached by the browser and
+   * is validated by its ETag.
+   *
+   * @param documentationUnitId id of the documentation unit the original document is attached to
+   * @param attachmentId id of the original document, which contains the image
+   * @param imageId id of the image
+   * @param ifNoneMatch ETag of the image in the cache of the browser
+   * @return the content of the image, 304 if the cached image is still valid or 404 if the original
+   *     document doesn't belong to the documentation unit or doesn't contain the image
+   */
+  @GetMapping(
+      value = "/{documentationUnitId}/file/{attachmentId}/image/{imageId}",
+      produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+  @PreAuthorize("@userHasReadAccessByDocumentationUnitId.apply(#documentationUnitId)")
+  public ResponseEntity<byte[]> getOriginalImage(
+      @PathVariable UUID documentationUnitId,
+      @PathVariable UUID attachmentId,
+      @PathVariable String imageId,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+    String eTag = "\"" + imageId + "\"";
+    if (eTag.equals(ifNoneMatch)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+
+    try {
+      var attachment =
+          attachmentRepository
+              .findById(attachmentId)
+              .filter(
+                  attach ->
+                      attach.getDocumentationUnit() != null
+                          && documentationUnitId.equals(attach.getDocumentationUnit().getId()))
+              .filter(attach -> !"fmx".equals(attach.getFormat()))
+              .filter(attach -> attach.getS3ObjectPath() != null);
+      if (attachment.isEmpty()) {
+        return ResponseEntity.notFound().build();
+      }
+
+      Image image =
+          converterService.getConvertedImage(
+              attachment.get().getS3ObjectPath(),
+              getOriginalImageUrlPrefix(documentationUnitId, attachmentId),
+              imageId);
+      if (image == null || image.getContent() == null) {
+        return ResponseEntity.notFound().build();
+      }
+
+      return ResponseEntity.ok()
+          .contentType(getOriginalImageMediaType(image.getContentType()))
+          .contentLength(image.getContent().length)
+          .eTag(eTag)
+          .cacheControl(CacheControl.maxAge(Duration.ofDays(1)).cachePrivate())
+          .body(image.getContent());
+    } catch (Exception ex) {
+      log.error(
+          "Error by getting image {} of documentation unit {}", imageId, documentationUnitId, ex);
+      return ResponseEntity.internalServerError().build();
+    }
+  }
+
   @GetMapping(
       value = "/{documentNumber}/image/{imageName}",
       produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
@@ -697,6 +763,26 @@ public class DocumentationUnitController {
     }
   }
 
+  /**
+   * Prefix of the urls of the images of the original documents, which are served by {@link
+   * #getOriginalImage}.
+   */
+  private static String getOriginalImageUrlPrefix(UUID documentationUnitId, UUID attachmentId) {
+    return "/api/v1/caselaw/documentunits/"
+        + documentationUnitId
+        + "/file/"
+        + attachmentId
+        + "/image/";
+  }
+
+  private static MediaType getOriginalImageMediaType(String contentType) {
+    try {
+      return MediaType.parseMediaType(contentType);
+    } catch (IllegalArgumentException e) {
+      return MediaType.APPLICATION_OCTET_STREAM;
+    }
+  }
+
   @PostMapping(value = "/validateSingleNorm")
   @PreAuthorize("isAuthenticated()")
   public ResponseEntity<String> validateSingleNorm(
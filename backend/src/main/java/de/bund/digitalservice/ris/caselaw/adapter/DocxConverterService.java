@@ -1,5 +1,6 @@
 package de.bund.digitalservice.ris.caselaw.adapter;
 
+import de.bund.digitalservice.ris.caselaw.adapter.DocxHtmlCache.Conversion;
 import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocumentationUnitDocxListUtils;
 import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConverter;
 import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConverterException;
@@ -25,6 +26,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -50,6 +54,7 @@ import org.docx4j.openpackaging.parts.WordprocessingML.ImageJpegPart;
 import org.docx4j.openpackaging.parts.WordprocessingML.ImagePngPart;
 import org.docx4j.openpackaging.parts.WordprocessingML.MetafileEmfPart;
 import org.docx4j.wml.Style;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -58,15 +63,23 @@ import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
 @Service
 @Slf4j
 public class DocxConverterService {
   private static final String PARAGRAPH = "paragraph";
+  static final String IMAGE_PATH_PREFIX = "images/";
+  private static final Pattern IMAGE_ID_PATTERN = Pattern.compile("[0-9a-f]{64}");
   private static final List<UnhandledElement> IRRELEVANT_ELEMENTS =
       List.of(
           new UnhandledElement(PARAGRAPH, "org.docx4j.wml.CTBookmark", UnhandledElementType.JAXB),
@@ -83,7 +96,11 @@ public class DocxConverterService {
 
   private final S3Client client;
   private final DocumentBuilderFactory documentBuilderFactory;
-  private final DocxConverter converter;
+  private final ObjectProvider<DocxConverter> converterProvider;
+  private final DocxHtmlCache htmlCache;
+  private final Map<ConversionKey, CompletableFuture<Conversion>> runningConversions =
+      new ConcurrentHashMap<>();
+  private final boolean imagesByReference;
 
   @Value("${otc.obs.bucket-name}")
   private String bucketName;
@@ -91,10 +108,14 @@ public class DocxConverterService {
   public DocxConverterService(
       @Qualifier("docxS3Client") S3Client client,
       DocumentBuilderFactory documentBuilderFactory,
-      DocxConverter converter) {
+      ObjectProvider<DocxConverter> converterProvider,
+      @Value("${neuris.docx-html-cache.max-characters:50000000}") long maxCachedCharacters,
+      @Value("${neuris.docx.images-by-reference:false}") boolean imagesByReference) {
     this.client = client;
     this.documentBuilderFactory = documentBuilderFactory;
-    this.converter = converter;
+    this.converterProvider = converterProvider;
+    this.htmlCache = new DocxHtmlCache(maxCachedCharacters);
+    this.imagesByReference = imagesByReference;
   }
 
   public String getOriginalText(WordprocessingMLPackage mlPackage) {
@@ -130,28 +151,192 @@ public class DocxConverterService {
 
   /**
    * Convert docx file to an object with the html content of the word file and some metadata
-   * extracted from the docx file.
+   * extracted from the docx file. The images are embedded into the html.
    *
    * @param s3Path path of the file in the bucket
    * @return the generated object with html content and metadata, if the s3Path is null, we return
    *     null
    */
   public Docx2Html getConvertedObject(String s3Path) {
+    return getConvertedObject(s3Path, null);
+  }
+
+  /**
+   * Convert docx file to an object with the html content of the word file and some metadata
+   * extracted from the docx file.
+   *
+   * <p>The conversion is cached for the path and the ETag of the file, so a file is only downloaded
+   * and converted again if it was changed. The upload of a file converts it immediately, which
+   * fills the cache for the following requests.
+   *
+   * @param s3Path path of the file in the bucket
+   * @param imageUrlPrefix prefix of the urls of the images. If the images are referenced by url
+   *     (neuris.docx.images-by-reference), the html only contains the url of the images, which can
+   *     be loaded by {@link #getConvertedImage(String, String, String)}. Otherwise, or if the
+   *     prefix is null, the images are embedded into the html.
+   * @return the generated object with html content and metadata, if the s3Path is null, we return
+   *     null
+   */
+  public Docx2Html getConvertedObject(String s3Path, String imageUrlPrefix) {
     if (s3Path == null) {
       return null;
     }
-    return getDocx(s3Path);
+
+    return getConversion(s3Path, imagesByReference ? imageUrlPrefix : null).docx2Html();
+  }
+
+  /**
+   * Get an image of a docx file, which is referenced by url in the html of the file.
+   *
+   * <p>The images are saved to the bucket under their id, the hash of their content, by the first
+   * conversion of the file. So an image is loaded from there and the file is only converted again
+   * if the image wasn't saved yet.
+   *
+   * @param s3Path path of the file in the bucket
+   * @param imageUrlPrefix prefix of the urls of the images, which was used for the html
+   * @param imageId id of the image, the last part of its url
+   * @return the image or null, if the file doesn't contain the image or the images aren't
+   *     referenced by url
+   */
+  public DocxImagePart getConvertedImage(String s3Path, String imageUrlPrefix, String imageId) {
+    if (s3Path == null
+        || imageUrlPrefix == null
+        || !imagesByReference
+        || imageId == null
+        || !IMAGE_ID_PATTERN.matcher(imageId).matches()) {
+      return null;
+    }
+
+    DocxImagePart savedImage = getSavedImage(imageId);
+    if (savedImage != null) {
+      return savedImage;
+    }
+
+    return getConversion(s3Path, imageUrlPrefix).images().get(imageId);
+  }
+
+  private DocxImagePart getSavedImage(String imageId) {
+    GetObjectRequest request =
+        GetObjectRequest.builder().bucket(bucketName).key(IMAGE_PATH_PREFIX + imageId).build();
+    try {
+      ResponseBytes<GetObjectResponse> response =
+          client.getObject(request, ResponseTransformer.toBytes());
+      return new DocxImagePart(response.response().contentType(), response.asByteArray());
+    } catch (NoSuchKeyException e) {
+      return null;
+    } catch (S3Exception e) {
+      log.warn("Couldn't load the saved image {}, the file is converted again", imageId, e);
+      return null;
+    }
+  }
+
+  /**
+   * Save the referenced images of a conversion to the bucket. The key of an image is its id, the
+   * hash of its content, so an image used by several files is saved only once.
+   */
+  private void saveImages(Map<String, DocxImagePart> images) {
+    images.forEach(
+        (imageId, image) -> {
+          PutObjectRequest request =
+              PutObjectRequest.builder()
+                  .bucket(bucketName)
+                  .key(IMAGE_PATH_PREFIX + imageId)
+                  .contentType(image.contentType())
+                  .build();
+          try {
+            client.putObject(request, RequestBody.fromBytes(image.bytes()));
+          } catch (S3Exception e) {
+            log.warn("Couldn't save the image {}, it is served from the conversion", imageId, e);
+          }
+        });
+  }
+
+  /**
+   * Get the conversion of a file from the cache or convert it. Concurrent requests for the same
+   * version of a file, e.g. for all images of its html, wait for the conversion of the first
+   * request instead of downloading and converting the file each.
+   */
+  private Conversion getConversion(String s3Path, String imageUrlPrefix) {
+    String eTag = getETag(s3Path);
+    if (eTag == null) {
+      return getDocx(s3Path, imageUrlPrefix);
+    }
+
+    Conversion cached = htmlCache.get(s3Path, eTag, imageUrlPrefix);
+    if (cached != null) {
+      return cached;
+    }
+
+    ConversionKey key = new ConversionKey(s3Path, eTag, imageUrlPrefix);
+    CompletableFuture<Conversion> conversion = new CompletableFuture<>();
+    CompletableFuture<Conversion> running = runningConversions.putIfAbsent(key, conversion);
+    if (running != null) {
+      return awaitConversion(running);
+    }
+
+    try {
+      // a conversion which finished since the cache was checked is not started again
+      Conversion result = htmlCache.get(s3Path, eTag, imageUrlPrefix);
+      if (result == null) {
+        result = getDocx(s3Path, imageUrlPrefix);
+      }
+      conversion.complete(result);
+      return result;
+    } catch (RuntimeException | Error e) {
+      conversion.completeExceptionally(e);
+      throw e;
+    } finally {
+      runningConversions.remove(key, conversion);
+    }
+  }
+
+  private static Conversion awaitConversion(CompletableFuture<Conversion> conversion) {
+    try {
+      return conversion.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private String getETag(String s3Path) {
+    try {
+      HeadObjectResponse response =
+          client.headObject(HeadObjectRequest.builder().bucket(bucketName).key(s3Path).build());
+      return response == null ? null : response.eTag();
+    } catch (S3Exception e) {
+      log.debug("Couldn't read the ETag of {}, the cache is skipped", s3Path, e);
+      return null;
+    }
   }
 
-  private Docx2Html getDocx(String s3Path) {
+  private Conversion getDocx(String s3Path, String imageUrlPrefix) {
 
     GetObjectRequest request = GetObjectRequest.builder().bucket(bucketName).key(s3Path).build();
 
     ResponseBytes<GetObjectResponse> response =
         client.getObject(request, ResponseTransformer.toBytes());
 
+    DocxConverter converter = converterProvider.getObject();
+    converter.setImageUrlPrefix(imageUrlPrefix);
+    Docx2Html docx2Html = convert(response, converter);
+    Conversion conversion = new Conversion(docx2Html, Map.copyOf(converter.getReferencedImages()));
+    saveImages(conversion.images());
+
+    GetObjectResponse objectResponse = response.response();
+    if (objectResponse != null && objectResponse.eTag() != null) {
+      htmlCache.put(s3Path, objectResponse.eTag(), imageUrlPrefix, conversion);
+    }
+
+    return conversion;
+  }
+
+  private Docx2Html convert(ResponseBytes<GetObjectResponse> response, DocxConverter converter) {
     List<DocumentationUnitDocx> documentationUnitDocxList;
-    documentationUnitDocxList = parseAsDocumentationUnitDocxList(response.asInputStream());
+    documentationUnitDocxList =
+        parseAsDocumentationUnitDocxList(response.asInputStream(), converter);
     List<DocumentationUnitDocx> packedList =
         DocumentationUnitDocxListUtils.packList(documentationUnitDocxList);
     List<String> ecliList =
@@ -186,6 +371,12 @@ public class DocxConverterService {
    * @return list of DocumentationUnitDocx elements
    */
   public List<DocumentationUnitDocx> parseAsDocumentationUnitDocxList(InputStream inputStream) {
+    // new converter for every file, so files can be converted in parallel
+    return parseAsDocumentationUnitDocxList(inputStream, converterProvider.getObject());
+  }
+
+  private List<DocumentationUnitDocx> parseAsDocumentationUnitDocxList(
+      InputStream inputStream, DocxConverter converter) {
     if (inputStream == null) {
       return Collections.emptyList();
     }
@@ -210,7 +401,7 @@ public class DocxConverterService {
             .filter(Objects::nonNull)
             .collect(Collectors.toList());
 
-    Set<FooterElement> footerElements = parseFooterAndIdentifyECLI();
+    Set<FooterElement> footerElements = parseFooterAndIdentifyECLI(converter);
     documentationUnitDocxList.addAll(
         0, footerElements.stream().filter(ECLIElement.class::isInstance).toList());
     documentationUnitDocxList.addAll(
@@ -274,7 +465,7 @@ public class DocxConverterService {
     return props;
   }
 
-  private Set<FooterElement> parseFooterAndIdentifyECLI() {
+  private Set<FooterElement> parseFooterAndIdentifyECLI(DocxConverter converter) {
     Set<FooterElement> footerElements = new HashSet<>();
 
     // Check if footers are null
@@ -485,4 +676,6 @@ public class DocxConverterService {
 
     return images;
   }
+
+  private record ConversionKey(String s3Path, String eTag, String imageUrlPrefix) {}
 }
@@ -0,0 +1,98 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
+import de.bund.digitalservice.ris.caselaw.domain.docx.DocxImagePart;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Bounded cache for the html of converted docx files. The key is the path of the file in the
+ * bucket, the entry is only valid for the ETag of the file it was converted from. So a file which
+ * is replaced in the bucket is converted again. If the images of the file are referenced by url
+ * instead of being embedded into the html, the entry holds the images, too.
+ *
+ * <p>The size of the cache is limited by the sum of the html lengths and image sizes, because the
+ * html can contain the images of the file and can get big. The least recently used entries are
+ * evicted first.
+ */
+class DocxHtmlCache {
+  private final long maxCharacters;
+  private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long characters;
+
+  DocxHtmlCache(long maxCharacters) {
+    this.maxCharacters = maxCharacters;
+  }
+
+  /**
+   * Get the cached conversion of a file.
+   *
+   * @param s3Path path of the file in the bucket
+   * @param eTag current ETag of the file
+   * @param imageUrlPrefix prefix of the image urls of the conversion, null if the images are
+   *     embedded
+   * @return the converted file or null, if the file with this ETag is not cached
+   */
+  @Nullable
+  synchronized Conversion get(String s3Path, String eTag, @Nullable String imageUrlPrefix) {
+    Entry entry = entries.get(s3Path);
+    if (entry == null
+        || !entry.eTag().equals(eTag)
+        || !Objects.equals(entry.imageUrlPrefix(), imageUrlPrefix)) {
+      return null;
+    }
+    return entry.conversion();
+  }
+
+  /**
+   * Cache the conversion of a file. Conversions which are bigger than the cache are not cached.
+   *
+   * @param s3Path path of the file in the bucket
+   * @param eTag ETag of the converted file
+   * @param imageUrlPrefix prefix of the image urls of the conversion, null if the images are
+   *     embedded
+   * @param conversion the converted file
+   */
+  synchronized void put(
+      String s3Path, String eTag, @Nullable String imageUrlPrefix, Conversion conversion) {
+    long weight = conversion.weight();
+    if (weight > maxCharacters) {
+      return;
+    }
+
+    Entry previous = entries.put(s3Path, new Entry(eTag, imageUrlPrefix, conversion));
+    if (previous != null) {
+      characters -= previous.conversion().weight();
+    }
+    characters += weight;
+
+    Iterator<Entry> iterator = entries.values().iterator();
+    while (characters > maxCharacters && iterator.hasNext()) {
+      characters -= iterator.next().conversion().weight();
+      iterator.remove();
+    }
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * A converted file.
+   *
+   * @param docx2Html the html and metadata of the file
+   * @param images the images referenced by url in the html by their id, empty if the images are
+   *     embedded
+   */
+  record Conversion(Docx2Html docx2Html, Map<String, DocxImagePart> images) {
+    private long weight() {
+      return Objects.requireNonNullElse(docx2Html.html(), "").length()
+          + images.values().stream().mapToLong(image -> image.bytes().length).sum();
+    }
+  }
+
+  private record Entry(String eTag, @Nullable String imageUrlPrefix, Conversion conversion) {}
+}
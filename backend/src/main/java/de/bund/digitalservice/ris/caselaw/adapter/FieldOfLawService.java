@@ -4,10 +4,11 @@ import de.bund.digitalservice.ris.caselaw.domain.FieldOfLawRepository;
 import de.bund.digitalservice.ris.caselaw.domain.StringUtils;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.FieldOfLaw;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.Norm;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -19,6 +20,11 @@ import org.springframework.stereotype.Service;
 public class FieldOfLawService {
   private static final String ROOT_ID = "root";
 
+  private static final Comparator<ScoredFieldOfLaw> BY_SCORE_AND_IDENTIFIER =
+      Comparator.comparingInt(ScoredFieldOfLaw::score)
+          .reversed()
+          .thenComparing(scored -> scored.fieldOfLaw().identifier());
+
   private final FieldOfLawRepository repository;
 
   public FieldOfLawService(FieldOfLawRepository repository) {
@@ -77,72 +83,84 @@ public class FieldOfLawService {
       return new PageImpl<>(List.of(), pageable, 0);
     }
 
-    List<FieldOfLaw> orderedList = orderResults(description, norm, unorderedList);
+    return selectPage(scoreResults(description, norm, unorderedList), pageable);
+  }
+
+  /**
+   * Select the page of the best scored fields of law. Only the fields of law up to the end of the
+   * requested page are kept in a bounded heap, instead of sorting all results.
+   */
+  private Slice<FieldOfLaw> selectPage(List<ScoredFieldOfLaw> scoredList, Pageable pageable) {
+    long end = pageable.getOffset() + pageable.getPageSize();
+    List<ScoredFieldOfLaw> best;
+
+    if (end >= scoredList.size()) {
+      best = scoredList.stream().sorted(BY_SCORE_AND_IDENTIFIER).toList();
+    } else {
+      int limit = (int) end;
+      PriorityQueue<ScoredFieldOfLaw> heap =
+          new PriorityQueue<>(limit + 1, BY_SCORE_AND_IDENTIFIER.reversed());
+      for (ScoredFieldOfLaw scored : scoredList) {
+        heap.offer(scored);
+        if (heap.size() > limit) {
+          heap.poll();
+        }
+      }
+      best = heap.stream().sorted(BY_SCORE_AND_IDENTIFIER).toList();
+    }
 
-    return sliceResults(orderedList, pageable);
+    int fromIdx = (int) Math.min(pageable.getOffset(), best.size());
+    List<FieldOfLaw> pageContent =
+        best.subList(fromIdx, best.size()).stream().map(ScoredFieldOfLaw::fieldOfLaw).toList();
+    return new PageImpl<>(pageContent, pageable, scoredList.size());
   }
 
-  private List<FieldOfLaw> orderResults(
+  private List<ScoredFieldOfLaw> scoreResults(
       Optional<String> description, Optional<String> normStr, List<FieldOfLaw> unorderedList) {
 
-    // Calculate scores and sort the list based on the score and identifier
-    Map<FieldOfLaw, Integer> scores =
-        calculateScore(
-            description, normStr.map(n -> n.trim().replaceAll("§(\\d+)", "§ $1")), unorderedList);
+    Optional<String[]> descriptionSearchTerms =
+        description.map(
+            str ->
+                Arrays.stream(StringUtils.splitSearchTerms(str))
+                    .map(String::toLowerCase)
+                    .toArray(String[]::new));
+    Optional<String> normSearch =
+        normStr.map(n -> n.trim().replaceAll("§(\\d+)", "§ $1").toLowerCase());
+
     return unorderedList.stream()
-        .sorted(
-            (f1, f2) -> {
-              int compare = scores.get(f2).compareTo(scores.get(f1));
-              return compare != 0 ? compare : f1.identifier().compareTo(f2.identifier());
-            })
+        .map(
+            fieldOfLaw ->
+                new ScoredFieldOfLaw(
+                    fieldOfLaw, calculateScore(descriptionSearchTerms, normSearch, fieldOfLaw)))
         .toList();
   }
 
-  private Slice<FieldOfLaw> sliceResults(List<FieldOfLaw> orderedList, Pageable pageable) {
-    // Extract the correct sublist for pagination
-    int fromIdx = (int) pageable.getOffset();
-    int toIdx = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), orderedList.size());
-    List<FieldOfLaw> pageContent = orderedList.subList(Math.max(0, fromIdx), toIdx);
-    return new PageImpl<>(pageContent, pageable, orderedList.size());
-  }
-
-  private Map<FieldOfLaw, Integer> calculateScore(
-      Optional<String> descriptionStr, Optional<String> normStr, List<FieldOfLaw> fieldOfLaws) {
-    Map<FieldOfLaw, Integer> scores = new HashMap<>();
+  private int calculateScore(
+      Optional<String[]> descriptionSearchTerms, Optional<String> normStr, FieldOfLaw fieldOfLaw) {
+    int score = 0;
 
-    if (fieldOfLaws == null || fieldOfLaws.isEmpty()) {
-      return scores;
+    if (descriptionSearchTerms.isPresent()) {
+      String text = fieldOfLaw.text() == null ? "" : fieldOfLaw.text().toLowerCase();
+      // split by whitespace and hyphen to get words
+      String[] textParts = text.split("[\\s-]+");
+      for (String searchTerm : descriptionSearchTerms.get()) {
+        score += getScoreContributionFromSearchTerm(text, textParts, searchTerm);
+      }
     }
-    Optional<String[]> descriptionSearchTerms = descriptionStr.map(StringUtils::splitSearchTerms);
-
-    fieldOfLaws.forEach(
-        fieldOfLaw -> {
-          int score = 0;
-
-          if (descriptionSearchTerms.isPresent()) {
-            for (String searchTerm : descriptionSearchTerms.get()) {
-              score += getScoreContributionFromSearchTerm(fieldOfLaw, searchTerm);
-            }
-          }
-
-          if (normStr.isPresent()) {
-            score += getScoreContributionFromNormStr(fieldOfLaw, normStr.get());
-          }
 
-          scores.put(fieldOfLaw, score);
-        });
+    if (normStr.isPresent()) {
+      score += getScoreContributionFromNormStr(fieldOfLaw, normStr.get());
+    }
 
-    return scores;
+    return score;
   }
 
-  private int getScoreContributionFromSearchTerm(FieldOfLaw fieldOfLaw, String searchTerm) {
+  private int getScoreContributionFromSearchTerm(
+      String text, String[] textParts, String searchTerm) {
     int score = 0;
-    searchTerm = searchTerm.toLowerCase();
-    String text = fieldOfLaw.text() == null ? "" : fieldOfLaw.text().toLowerCase();
 
     if (text.startsWith(searchTerm)) score += 5;
-    // split by whitespace and hyphen to get words
-    for (String textPart : text.split("[\\s-]+")) {
+    for (String textPart : textParts) {
       if (textPart.equals(searchTerm)) score += 4;
       else if (textPart.startsWith(searchTerm)) score += 3;
       else if (textPart.contains(searchTerm)) score += 1;
@@ -152,8 +170,7 @@ public class FieldOfLawService {
 
   private int getScoreContributionFromNormStr(FieldOfLaw fieldOfLaw, String normStr) {
     int score = 0;
-    normStr = normStr.toLowerCase();
-    if (normStr.isBlank()) {
+    if (normStr.isBlank() || fieldOfLaw.norms() == null) {
       return score;
     }
     for (Norm norm : fieldOfLaw.norms()) {
@@ -179,4 +196,6 @@ public class FieldOfLawService {
   public FieldOfLaw getTreeForFieldOfLaw(String identifier) {
     return repository.findTreeByIdentifier(identifier);
   }
+
+  private record ScoredFieldOfLaw(FieldOfLaw fieldOfLaw, int score) {}
 }
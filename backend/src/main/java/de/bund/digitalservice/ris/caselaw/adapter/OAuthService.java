@@ -10,7 +10,7 @@ import de.bund.digitalservice.ris.caselaw.domain.ApiKey;
 import de.bund.digitalservice.ris.caselaw.domain.AuthService;
 import de.bund.digitalservice.ris.caselaw.domain.Decision;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
-import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnit;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitAccessInfo;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitService;
 import de.bund.digitalservice.ris.caselaw.domain.Procedure;
 import de.bund.digitalservice.ris.caselaw.domain.ProcedureService;
@@ -23,17 +23,22 @@ import de.bund.digitalservice.ris.caselaw.domain.exception.DocumentationUnitNotE
 import de.bund.digitalservice.ris.caselaw.domain.exception.ImportApiKeyException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.text.RandomStringGenerator;
+import org.jspecify.annotations.Nullable;
 import org.springframework.context.annotation.Bean;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
  * Service responsible for handling authorization checks for users.
@@ -69,6 +74,7 @@ public class OAuthService implements AuthService {
   private final ProcedureService procedureService;
   private final DatabaseApiKeyRepository keyRepository;
   private final DatabaseDocumentationOfficeRepository officeRepository;
+  private static final String ACCESS_INFO_ATTRIBUTE = OAuthService.class.getName() + ".accessInfos";
   private static final List<String> allowedPaths =
       List.of(
           "/previousDecisions",
@@ -108,9 +114,9 @@ public class OAuthService implements AuthService {
    * Creates a Spring bean that checks if a user has read access to a {@link Decision} by its {@link
    * Decision#documentNumber() documentNumber}.
    *
-   * <p>The function retrieves the {@link Decision} using the {@link Decision#documentNumber()
-   * documentNumber} and checks if the user has read access. Returns {@link Boolean#FALSE false} if
-   * the {@link Decision} is not found.
+   * <p>The function retrieves the {@link DocumentationUnitAccessInfo} using the {@link
+   * Decision#documentNumber() documentNumber} and checks if the user has read access. Returns
+   * {@link Boolean#FALSE false} if the {@link Decision} is not found.
    *
    * @return a {@link Function} that accepts a {@link Decision#documentNumber() documentNumber} as
    *     {@link String} and returns {@link Boolean#TRUE true} if the user has read access, otherwise
@@ -118,38 +124,23 @@ public class OAuthService implements AuthService {
    */
   @Bean
   public Function<String, Boolean> userHasReadAccessByDocumentNumber() {
-    return documentNumber -> {
-      try {
-        return Optional.ofNullable(documentationUnitService.getByDocumentNumber(documentNumber))
-            .map(this::userHasReadAccess)
-            .orElse(false);
-      } catch (DocumentationUnitNotExistsException ex) {
-        return false;
-      }
-    };
+    return documentNumber ->
+        getAccessInfoByDocumentNumber(documentNumber).map(this::userHasReadAccess).orElse(false);
   }
 
   /**
    * Creates a Spring bean that checks if a user has read access to a {@link Decision} by its {@link
    * UUID}.
    *
-   * <p>The function retrieves the {@link Decision} and checks if the user has read access. Returns
-   * {@link Boolean#FALSE false} if the {@link Decision} is not found.
+   * <p>The function retrieves the {@link DocumentationUnitAccessInfo} and checks if the user has
+   * read access. Returns {@link Boolean#FALSE false} if the {@link Decision} is not found.
    *
    * @return a {@link Function} that accepts a {@link UUID} and returns {@link Boolean#TRUE true} if
    *     the user has read access, otherwise {@link Boolean#FALSE false}.
    */
   @Bean
   public Function<UUID, Boolean> userHasReadAccessByDocumentationUnitId() {
-    return uuid -> {
-      try {
-        return Optional.ofNullable(documentationUnitService.getByUuid(uuid))
-            .map(this::userHasReadAccess)
-            .orElse(false);
-      } catch (DocumentationUnitNotExistsException ex) {
-        return false;
-      }
-    };
+    return uuid -> getAccessInfoByUuid(uuid).map(this::userHasReadAccess).orElse(false);
   }
 
   /**
@@ -190,24 +181,16 @@ public class OAuthService implements AuthService {
    * Creates a Spring bean that checks if a user has the same {@link DocumentationOffice} as the
    * {@link Decision} by its {@link UUID}.
    *
-   * <p>The function retrieves the {@link Decision} by its {@link UUID} and verifies if the user has
-   * the same {@link DocumentationOffice}. Returns {@link Boolean#FALSE false} if the {@link
-   * Decision} is not found.
+   * <p>The function retrieves the {@link DocumentationUnitAccessInfo} by its {@link UUID} and
+   * verifies if the user has the same {@link DocumentationOffice}. Returns {@link Boolean#FALSE
+   * false} if the {@link Decision} is not found.
    *
    * @return a {@link Function} that accepts a {@link UUID} and returns {@link Boolean#TRUE true} if
    *     the user has the same {@link DocumentationOffice}, otherwise {@link Boolean#FALSE false}.
    */
   @Bean
   public Function<UUID, Boolean> userHasWriteAccess() {
-    return uuid -> {
-      try {
-        return Optional.ofNullable(documentationUnitService.getByUuid(uuid))
-            .map(this::userHasWriteAccess)
-            .orElse(false);
-      } catch (DocumentationUnitNotExistsException e) {
-        return false;
-      }
-    };
+    return uuid -> getAccessInfoByUuid(uuid).map(this::userHasWriteAccess).orElse(false);
   }
 
   /**
@@ -226,19 +209,12 @@ public class OAuthService implements AuthService {
     return documentNumber ->
         getUserDocumentationOffice()
             .flatMap(
-                userOffice -> {
-                  try {
-                    return Optional.ofNullable(
-                            documentationUnitService.getByDocumentNumber(documentNumber))
+                userOffice ->
+                    getAccessInfoByDocumentNumber(documentNumber)
                         .map(
-                            documentationUnit ->
+                            accessInfo ->
                                 userHasSameDocOfficeAsDocument(
-                                    userOffice,
-                                    documentationUnit.coreData().documentationOffice()));
-                  } catch (DocumentationUnitNotExistsException e) {
-                    return Optional.of(false);
-                  }
-                })
+                                    userOffice, accessInfo.documentationOffice())))
             .orElse(false);
   }
 
@@ -246,9 +222,9 @@ public class OAuthService implements AuthService {
    * Creates a Spring bean that checks if a {@link Procedure} associated with a {@link Decision} is
    * assigned to the current {@link OidcUser}.
    *
-   * <p>The function retrieves the {@link Procedure} of the {@link Decision} by the given {@link
-   * UUID} and verifies if it is assigned to the current {@link OidcUser}. Returns {@link
-   * Boolean#FALSE false} if no {@link Decision} or {@link Procedure} is found.
+   * <p>The function retrieves the user group of the {@link Procedure} of the {@link Decision} by
+   * the given {@link UUID} and verifies if it is assigned to the current {@link OidcUser}. Returns
+   * {@link Boolean#FALSE false} if no {@link Decision} or {@link Procedure} is found.
    *
    * @return a {@link Function} that accepts a {@link UUID} and returns {@link Boolean#TRUE true} if
    *     the {@link Procedure} is assigned to the current user, otherwise {@link Boolean#FALSE
@@ -257,19 +233,12 @@ public class OAuthService implements AuthService {
   @Bean
   public Function<UUID, Boolean> isAssignedViaProcedure() {
     return uuid -> {
-      try {
-        var documentationUnit = Optional.ofNullable(documentationUnitService.getByUuid(uuid));
-        Optional<OidcUser> oidcUser = getOidcUser();
-        if (documentationUnit.isPresent() && oidcUser.isPresent()) {
-          var procedure = documentationUnit.get().coreData().procedure();
-          if (procedure != null) {
-            return isProcedureAssignedToUser(procedure, oidcUser.get());
-          }
-        }
-        return false;
-      } catch (DocumentationUnitNotExistsException ex) {
-        return false;
+      var accessInfo = getAccessInfoByUuid(uuid);
+      Optional<OidcUser> oidcUser = getOidcUser();
+      if (accessInfo.isPresent() && oidcUser.isPresent()) {
+        return isProcedureAssignedToUser(accessInfo.get().procedureUserGroupId(), oidcUser.get());
       }
+      return false;
     };
   }
 
@@ -306,21 +275,23 @@ public class OAuthService implements AuthService {
     };
   }
 
-  private boolean isProcedureAssignedToUser(Procedure procedure, OidcUser oidcUser) {
+  private boolean isProcedureAssignedToUser(
+      @Nullable UUID procedureUserGroupId, OidcUser oidcUser) {
+    if (procedureUserGroupId == null) {
+      return false;
+    }
     var userGroupIdOfUser = userService.getUserGroup(oidcUser).map(UserGroup::id).orElse(null);
-    return procedure.userGroupId() != null && procedure.userGroupId().equals(userGroupIdOfUser);
+    return procedureUserGroupId.equals(userGroupIdOfUser);
   }
 
-  private boolean userHasWriteAccess(DocumentationUnit documentationUnit) {
+  private boolean userHasWriteAccess(DocumentationUnitAccessInfo accessInfo) {
     return getUserDocumentationOffice()
         .map(
             userOffice ->
-                userHasSameDocOfficeAsDocument(
-                        userOffice, documentationUnit.coreData().documentationOffice())
-                    || (documentationUnit.status() != null
-                        && isPendingStatus(documentationUnit.status())
+                userHasSameDocOfficeAsDocument(userOffice, accessInfo.documentationOffice())
+                    || (isPendingStatus(accessInfo.publicationStatus())
                         && userHasSameDocOfficeAsDocumentCreator(
-                            userOffice, documentationUnit.coreData().creatingDocOffice())))
+                            userOffice, accessInfo.creatingDocumentationOffice())))
         .orElse(false);
   }
 
@@ -350,21 +321,27 @@ public class OAuthService implements AuthService {
         || isPublishedStatus(status);
   }
 
-  private boolean userHasReadAccess(DocumentationUnit documentationUnit) {
-    return documentationUnit.status() == null
-        || isPublishedStatus(documentationUnit.status())
-        || userHasWriteAccess(documentationUnit);
+  private boolean userHasReadAccess(DocumentationUnitAccessInfo accessInfo) {
+    return accessInfo.publicationStatus() == null
+        || isPublishedStatus(accessInfo.publicationStatus())
+        || userHasWriteAccess(accessInfo);
   }
 
   private boolean isPublishedStatus(Status status) {
-    return status != null
-        && List.of(PublicationStatus.PUBLISHED, PublicationStatus.PUBLISHING)
-            .contains(status.publicationStatus());
+    return status != null && isPublishedStatus(status.publicationStatus());
+  }
+
+  private boolean isPublishedStatus(@Nullable PublicationStatus publicationStatus) {
+    return List.of(PublicationStatus.PUBLISHED, PublicationStatus.PUBLISHING)
+        .contains(publicationStatus);
   }
 
   private boolean isPendingStatus(Status status) {
-    return status != null
-        && PublicationStatus.EXTERNAL_HANDOVER_PENDING.equals(status.publicationStatus());
+    return status != null && isPendingStatus(status.publicationStatus());
+  }
+
+  private boolean isPendingStatus(@Nullable PublicationStatus publicationStatus) {
+    return PublicationStatus.EXTERNAL_HANDOVER_PENDING.equals(publicationStatus);
   }
 
   private boolean userHasSameDocOfficeAsDocumentCreator(
@@ -399,6 +376,66 @@ public class OAuthService implements AuthService {
     return getOidcUser().map(userService::getDocumentationOffice);
   }
 
+  private Optional<DocumentationUnitAccessInfo> getAccessInfoByUuid(UUID uuid) {
+    return getAccessInfo(uuid, () -> documentationUnitService.getAccessInfoByUuid(uuid));
+  }
+
+  private Optional<DocumentationUnitAccessInfo> getAccessInfoByDocumentNumber(
+      String documentNumber) {
+    return getAccessInfo(
+        documentNumber,
+        () -> documentationUnitService.getAccessInfoByDocumentNumber(documentNumber));
+  }
+
+  /**
+   * Get the access info of a documentation unit. Within a web request the access info is loaded
+   * only once and shared by all checks of the request, which may reference the documentation unit
+   * by its id or by its document number.
+   */
+  private Optional<DocumentationUnitAccessInfo> getAccessInfo(Object key, AccessInfoLoader loader) {
+    Map<Object, DocumentationUnitAccessInfo> requestAccessInfos = getRequestAccessInfos();
+    if (requestAccessInfos != null && requestAccessInfos.containsKey(key)) {
+      return Optional.of(requestAccessInfos.get(key));
+    }
+
+    DocumentationUnitAccessInfo accessInfo;
+    try {
+      accessInfo = loader.load();
+    } catch (DocumentationUnitNotExistsException ex) {
+      return Optional.empty();
+    }
+
+    if (accessInfo != null && requestAccessInfos != null) {
+      requestAccessInfos.put(accessInfo.id(), accessInfo);
+      requestAccessInfos.put(accessInfo.documentNumber(), accessInfo);
+    }
+    return Optional.ofNullable(accessInfo);
+  }
+
+  @Nullable
+  @SuppressWarnings("unchecked")
+  private static Map<Object, DocumentationUnitAccessInfo> getRequestAccessInfos() {
+    RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+    if (requestAttributes == null) {
+      return null;
+    }
+
+    var accessInfos =
+        (Map<Object, DocumentationUnitAccessInfo>)
+            requestAttributes.getAttribute(ACCESS_INFO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    if (accessInfos == null) {
+      accessInfos = new HashMap<>();
+      requestAttributes.setAttribute(
+          ACCESS_INFO_ATTRIBUTE, accessInfos, RequestAttributes.SCOPE_REQUEST);
+    }
+    return accessInfos;
+  }
+
+  @FunctionalInterface
+  private interface AccessInfoLoader {
+    DocumentationUnitAccessInfo load() throws DocumentationUnitNotExistsException;
+  }
+
   /**
    * Generate an api key for the importer and for the user if the user doesn't have a valid one.
    * <br>
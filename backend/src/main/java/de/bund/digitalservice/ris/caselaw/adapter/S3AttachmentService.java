@@ -22,18 +22,28 @@ import de.bund.digitalservice.ris.caselaw.domain.StreamedFileResponse;
 import de.bund.digitalservice.ris.caselaw.domain.StringUtils;
 import de.bund.digitalservice.ris.caselaw.domain.User;
 import de.bund.digitalservice.ris.caselaw.domain.image.ImageUtil;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.zip.ZipException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -64,8 +74,13 @@ public class S3AttachmentService implements AttachmentService {
   private final S3Client s3Client;
   private final DatabaseDocumentationUnitRepository documentationUnitRepository;
   private final DocumentationUnitHistoryLogService documentationUnitHistoryLogService;
+  private final Executor uploadExecutor;
+  private final int partConcurrency;
+  private final Timer uploadTimer;
+  private final DistributionSummary uploadThroughput;
   private static final String UNKNOWN_YET = "unknown yet";
   private static final int PART_SIZE = 5 * 1024 * 1024; // minimum of 5 MB for S3 multipart upload
+  private static final long MAX_DOCX_UNCOMPRESSED_SIZE = 1024L * 1024 * 1024;
 
   @Value("${otc.obs.bucket-name}")
   private String bucketName;
@@ -80,12 +95,26 @@ public class S3AttachmentService implements AttachmentService {
       DatabaseAttachmentInlineRepository attachmentInlineRepository,
       @Qualifier("docxS3Client") S3Client s3Client,
       DatabaseDocumentationUnitRepository documentationUnitRepository,
-      DocumentationUnitHistoryLogService documentationUnitHistoryLogService) {
+      DocumentationUnitHistoryLogService documentationUnitHistoryLogService,
+      @Qualifier("attachmentUploadExecutor") Executor uploadExecutor,
+      @Value("${neuris.attachment-upload.part-concurrency:4}") int partConcurrency,
+      MeterRegistry meterRegistry) {
     this.repository = repository;
     this.attachmentInlineRepository = attachmentInlineRepository;
     this.s3Client = s3Client;
     this.documentationUnitRepository = documentationUnitRepository;
     this.documentationUnitHistoryLogService = documentationUnitHistoryLogService;
+    this.uploadExecutor = uploadExecutor;
+    this.partConcurrency = Math.max(1, partConcurrency);
+    this.uploadTimer =
+        Timer.builder("attachment.upload.duration")
+            .description("Duration of the multipart uploads of attachments to the bucket")
+            .register(meterRegistry);
+    this.uploadThroughput =
+        DistributionSummary.builder("attachment.upload.throughput")
+            .description("Throughput of the multipart uploads of attachments to the bucket")
+            .baseUnit("bytes per second")
+            .register(meterRegistry);
   }
 
   public AttachmentInline attachImageFileToDocumentationUnit(
@@ -204,7 +233,18 @@ public class S3AttachmentService implements AttachmentService {
     return "";
   }
 
+  /**
+   * Upload the stream as multipart upload to the bucket. The parts are read one after another on
+   * the calling thread and uploaded in parallel by the upload executor. At most {@code
+   * partConcurrency} parts of an upload are in flight, and the part buffers are reused for the
+   * following parts, so an upload holds at most {@code partConcurrency} buffers independent of the
+   * file size.
+   *
+   * <p>If a part fails, no further parts are read. The upload is aborted after the parts in flight
+   * are finished, so no uploaded part is left behind in the bucket.
+   */
   private void streamFileToBucket(String s3ObjectPath, InputStream inputStream) {
+    long start = System.nanoTime();
     var createdMultipartUpload =
         s3Client.createMultipartUpload(
             c ->
@@ -213,41 +253,92 @@ public class S3AttachmentService implements AttachmentService {
                     .contentType(MediaType.APPLICATION_OCTET_STREAM_VALUE));
     String uploadId = createdMultipartUpload.uploadId();
 
-    List<CompletedPart> completedParts = new ArrayList<>();
+    List<CompletableFuture<CompletedPart>> uploadedParts = new ArrayList<>();
+    BlockingQueue<byte[]> freeBuffers = new LinkedBlockingQueue<>();
+    Semaphore partsInFlight = new Semaphore(partConcurrency);
+    long uploadedBytes = 0;
     int partNumber = 1;
 
     try (inputStream) {
-      byte[] buffer;
-      while ((buffer = inputStream.readNBytes(PART_SIZE)).length > 0) {
-        CompletedPart part = uploadPart(s3ObjectPath, uploadId, partNumber, buffer);
-        completedParts.add(part);
+      while (uploadedParts.stream().noneMatch(CompletableFuture::isCompletedExceptionally)) {
+        partsInFlight.acquire();
+        byte[] buffer = freeBuffers.poll();
+        if (buffer == null) {
+          buffer = new byte[PART_SIZE];
+        }
+
+        int length = inputStream.readNBytes(buffer, 0, PART_SIZE);
+        if (length == 0) {
+          partsInFlight.release();
+          break;
+        }
+
+        uploadedBytes += length;
+        uploadedParts.add(
+            uploadPartAsync(s3ObjectPath, uploadId, partNumber, buffer, length)
+                .whenComplete(releaseBuffer(buffer, freeBuffers, partsInFlight)));
         partNumber++;
       }
 
-      if (completedParts.isEmpty()) {
+      if (uploadedParts.isEmpty()) {
         throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cannot upload empty file");
       }
 
+      List<CompletedPart> completedParts =
+          uploadedParts.stream().map(CompletableFuture::join).toList();
       s3Client.completeMultipartUpload(completeRequest(s3ObjectPath, uploadId, completedParts));
 
     } catch (Exception e) {
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      awaitQuietly(uploadedParts);
       abortUploadSafely(s3ObjectPath, uploadId, e);
       throw new ResponseStatusException(
           HttpStatus.INTERNAL_SERVER_ERROR, "Failed to upload file", e);
     }
+
+    long duration = System.nanoTime() - start;
+    uploadTimer.record(Duration.ofNanos(duration));
+    if (duration > 0) {
+      uploadThroughput.record(uploadedBytes * 1_000_000_000.0 / duration);
+    }
+  }
+
+  private CompletableFuture<CompletedPart> uploadPartAsync(
+      String key, String uploadId, int partNumber, byte[] buffer, int length) {
+    return CompletableFuture.supplyAsync(
+        () -> uploadPart(key, uploadId, partNumber, buffer, length), uploadExecutor);
+  }
+
+  private static BiConsumer<CompletedPart, Throwable> releaseBuffer(
+      byte[] buffer, BlockingQueue<byte[]> freeBuffers, Semaphore partsInFlight) {
+    return (part, throwable) -> {
+      freeBuffers.add(buffer);
+      partsInFlight.release();
+    };
+  }
+
+  private static void awaitQuietly(List<CompletableFuture<CompletedPart>> uploadedParts) {
+    uploadedParts.forEach(part -> part.exceptionally(throwable -> null).join());
   }
 
-  private CompletedPart uploadPart(String key, String uploadId, int partNumber, byte[] buffer) {
+  private CompletedPart uploadPart(
+      String key, String uploadId, int partNumber, byte[] buffer, int length) {
     var request =
         UploadPartRequest.builder()
             .bucket(bucketName)
             .key(key)
             .uploadId(uploadId)
             .partNumber(partNumber)
-            .contentLength((long) buffer.length)
+            .contentLength((long) length)
             .build();
 
-    var response = s3Client.uploadPart(request, RequestBody.fromBytes(buffer));
+    // the body reads the buffer without copying it, the buffer is reused after the upload
+    var response =
+        s3Client.uploadPart(
+            request,
+            RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length));
     return CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build();
   }
 
@@ -379,27 +470,38 @@ public class S3AttachmentService implements AttachmentService {
     return new StreamedFileResponse(stream.response(), responseBody, attachmentDTO.getFilename());
   }
 
+  /**
+   * Check that the buffer contains a docx file. The entries are read from the central directory of
+   * the archive in place, so the file is neither copied nor inflated.
+   *
+   * @param byteBuffer the content of the file
+   * @throws ResponseStatusException with status 415, if the file is no zip archive, contains no
+   *     word document or is too large after decompression
+   */
   void checkDocx(ByteBuffer byteBuffer) {
-    var zip = new ZipInputStream(new ByteArrayInputStream(byteBufferToArray(byteBuffer)));
-    ZipEntry entry;
+    List<ZipCentralDirectory.Entry> entries;
     try {
-      while ((entry = zip.getNextEntry()) != null) {
-        if (entry.getName().startsWith("word/document") && entry.getName().endsWith(".xml")) {
-          return;
-        }
-      }
-    } catch (IOException e) {
+      entries = ZipCentralDirectory.readEntries(byteBuffer);
+    } catch (ZipException e) {
       throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
     }
-    throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
-  }
 
-  private byte[] byteBufferToArray(ByteBuffer byteBuffer) {
-    byteBuffer.rewind();
-    byte[] byteBufferArray = new byte[byteBuffer.remaining()];
-    byteBuffer.get(byteBufferArray);
-    byteBuffer.rewind();
-    return byteBufferArray;
+    long uncompressedSize = entries.stream().mapToLong(ZipCentralDirectory.Entry::size).sum();
+    if (uncompressedSize > MAX_DOCX_UNCOMPRESSED_SIZE) {
+      throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+    }
+
+    boolean containsDocument =
+        entries.stream()
+            .anyMatch(
+                entry ->
+                    entry.name().startsWith("word/document")
+                        && entry.name().endsWith(".xml")
+                        && (entry.method() == ZipEntry.STORED
+                            || entry.method() == ZipEntry.DEFLATED));
+    if (!containsDocument) {
+      throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+    }
   }
 
   private void deleteObjectFromBucket(String s3Path) {
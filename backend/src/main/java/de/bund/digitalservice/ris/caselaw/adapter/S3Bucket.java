@@ -2,22 +2,34 @@ package de.bund.digitalservice.ris.caselaw.adapter;
 
 import de.bund.digitalservice.ris.caselaw.adapter.exception.BucketException;
 import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
@@ -28,6 +40,7 @@ public class S3Bucket {
   private final String bucketName;
   private static final String FILE_COULD_NOT_BE_SAVED_TO_BUCKET =
       "File could not be saved to bucket.";
+  private static final int MAX_KEYS_PER_DELETE = 1000;
 
   public S3Bucket(S3Client s3Client, String bucketName) {
     this.s3Client = s3Client;
@@ -38,8 +51,48 @@ public class S3Bucket {
     return getAllFilenamesByPath("");
   }
 
+  /**
+   * Stream the names of all files in the bucket. The files are listed page by page while the stream
+   * is consumed, so only one page of file names is held in memory. The file names are ordered by
+   * their UTF-8 bytes.
+   *
+   * @return the names of all files in the bucket
+   */
+  public Stream<String> streamAllFilenames() {
+    ListObjectsV2Request request = ListObjectsV2Request.builder().bucket(bucketName).build();
+    return Stream.iterate(
+            s3Client.listObjectsV2(request),
+            Objects::nonNull,
+            response -> {
+              if (!Boolean.TRUE.equals(response.isTruncated())) {
+                return null;
+              }
+              return s3Client.listObjectsV2(
+                  request.toBuilder().continuationToken(response.nextContinuationToken()).build());
+            })
+        .flatMap(response -> response.contents().stream())
+        .map(S3Object::key);
+  }
+
   public List<String> getAllFilenamesByPath(String path) {
-    List<String> keys = new ArrayList<>();
+    return new ArrayList<>(listAllObjectsByPath(path).stream().map(S3Object::key).toList());
+  }
+
+  /**
+   * Get all files with the given path prefix. For files that were uploaded in a single request, the
+   * ETag of the file is the hex encoded MD5 digest of the content, see {@link #hasContent}.
+   *
+   * @param path the path prefix of the files
+   * @return the files with their ETag and time of the last modification keyed by their file name
+   */
+  public Map<String, S3Object> getAllFilesByPath(String path) {
+    Map<String, S3Object> files = new HashMap<>();
+    listAllObjectsByPath(path).forEach(object -> files.put(object.key(), object));
+    return files;
+  }
+
+  private List<S3Object> listAllObjectsByPath(String path) {
+    List<S3Object> objects = new ArrayList<>();
     ListObjectsV2Response response;
     ListObjectsV2Request request =
         ListObjectsV2Request.builder().bucket(bucketName).prefix(path).build();
@@ -48,12 +101,49 @@ public class S3Bucket {
       if (response == null) {
         return Collections.emptyList();
       }
-      keys.addAll(response.contents().stream().map(S3Object::key).toList());
+      objects.addAll(response.contents());
       String token = response.nextContinuationToken();
       request = ListObjectsV2Request.builder().bucket(bucketName).continuationToken(token).build();
     } while (Boolean.TRUE.equals(response.isTruncated()));
 
-    return keys;
+    return objects;
+  }
+
+  /**
+   * Check if a file with the given ETag has exactly the given content. ETags of multipart uploads
+   * or encrypted objects are no plain MD5 digests. They never match, so the content is treated as
+   * changed.
+   *
+   * @param eTag the ETag of the existing file, may be null if the file does not exist
+   * @param content the content to compare with
+   * @return true if the ETag is the MD5 digest of the content
+   */
+  public static boolean hasContent(@Nullable String eTag, byte[] content) {
+    if (eTag == null) {
+      return false;
+    }
+    try {
+      String digest = HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content));
+      return hasDigest(eTag, digest);
+    } catch (NoSuchAlgorithmException e) {
+      log.warn("MD5 algorithm not available, can't compare content with ETag", e);
+      return false;
+    }
+  }
+
+  /**
+   * Check if a file with the given ETag has the content with the given MD5 digest, see {@link
+   * #hasContent}.
+   *
+   * @param eTag the ETag of the existing file, may be null if the file does not exist
+   * @param md5Digest the hex encoded MD5 digest of the content, may be null if it is unknown
+   * @return true if the ETag is the given digest
+   */
+  public static boolean hasDigest(@Nullable String eTag, @Nullable String md5Digest) {
+    if (eTag == null || md5Digest == null) {
+      return false;
+    }
+    return md5Digest.equalsIgnoreCase(eTag.replace("\"", ""));
   }
 
   public Optional<byte[]> get(String filename) {
@@ -87,6 +177,39 @@ public class S3Bucket {
     }
   }
 
+  /**
+   * Delete the files with one request per 1000 files. A single file is deleted with a plain delete
+   * request.
+   *
+   * @param fileNames the names of the files
+   * @throws BucketException if one of the files could not be deleted
+   */
+  public void deleteAll(List<String> fileNames) {
+    if (fileNames.size() == 1) {
+      delete(fileNames.getFirst());
+      return;
+    }
+
+    for (int start = 0; start < fileNames.size(); start += MAX_KEYS_PER_DELETE) {
+      List<ObjectIdentifier> objects =
+          fileNames.subList(start, Math.min(start + MAX_KEYS_PER_DELETE, fileNames.size())).stream()
+              .map(fileName -> ObjectIdentifier.builder().key(fileName).build())
+              .toList();
+      DeleteObjectsRequest request =
+          DeleteObjectsRequest.builder()
+              .bucket(bucketName)
+              .delete(delete -> delete.objects(objects).quiet(true))
+              .build();
+      DeleteObjectsResponse response = s3Client.deleteObjects(request);
+      if (response != null && response.hasErrors() && !response.errors().isEmpty()) {
+        throw new BucketException(
+            "Files could not be deleted from bucket: "
+                + response.errors().stream().map(S3Error::key).toList(),
+            null);
+      }
+    }
+  }
+
   public void save(String fileName, String fileContent) {
     PutObjectRequest putObjectRequest =
         PutObjectRequest.builder().bucket(bucketName).key(fileName).build();
@@ -33,6 +33,8 @@ import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
@@ -161,6 +163,22 @@ public class S3MockClient implements S3Client {
     return DeleteObjectResponse.builder().build();
   }
 
+  @Override
+  public DeleteObjectsResponse deleteObjects(DeleteObjectsRequest deleteObjectsRequest) {
+    deleteObjectsRequest
+        .delete()
+        .objects()
+        .forEach(
+            object ->
+                deleteObject(
+                    DeleteObjectRequest.builder()
+                        .bucket(deleteObjectsRequest.bucket())
+                        .key(object.key())
+                        .build()));
+
+    return DeleteObjectsResponse.builder().build();
+  }
+
   @Override
   public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
     String uploadId = UUID.randomUUID().toString();
@@ -5,6 +5,8 @@ import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
@@ -44,4 +46,9 @@ public class S3NoOpClient implements S3Client {
   public DeleteObjectResponse deleteObject(DeleteObjectRequest deleteObjectRequest) {
     return DeleteObjectResponse.builder().build();
   }
+
+  @Override
+  public DeleteObjectsResponse deleteObjects(DeleteObjectsRequest deleteObjectsRequest) {
+    return DeleteObjectsResponse.builder().build();
+  }
 }
@@ -2,7 +2,13 @@ package de.bund.digitalservice.ris.caselaw.adapter;
 
 import de.bund.digitalservice.ris.caselaw.adapter.caselawldml.CaseLawLdml;
 import de.bund.digitalservice.ris.caselaw.adapter.exception.LdmlTransformationException;
-import jakarta.xml.bind.JAXB;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.util.JAXBSource;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -10,19 +16,31 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.xml.XMLConstants;
+import javax.xml.transform.ErrorListener;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
 import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.URIResolver;
+import javax.xml.transform.sax.SAXResult;
+import javax.xml.transform.sax.SAXTransformerFactory;
+import javax.xml.transform.sax.TransformerHandler;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.ValidatorHandler;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -30,36 +48,111 @@ import org.springframework.data.mapping.MappingException;
 import org.springframework.stereotype.Service;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.Locator;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
+import org.xml.sax.ext.LexicalHandler;
 
 @Service
 @Slf4j
 public class XmlUtilService {
+  private static final String HTML_TO_AKN_HTML = "xml/htmlToAknHtml.xslt";
+
+  /** Stylesheets which are compiled at startup, so the first request doesn't wait for them. */
+  private static final List<String> PRECOMPILED_STYLESHEETS =
+      List.of(HTML_TO_AKN_HTML, "xml/fmxToHtml.xslt");
+
   private final TransformerFactory transformerFactory;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, TimedTemplates> templatesByFilePath = new ConcurrentHashMap<>();
   private final Templates htmlToAknHtml;
+  private final Timer htmlToAknHtmlTimer;
   private final Schema schema;
+  private final SAXTransformerFactory saxTransformerFactory;
+  private final JAXBContext ldmlContext;
 
-  public XmlUtilService(@Qualifier("saxon") TransformerFactory transformerFactory) {
+  public XmlUtilService(
+      @Qualifier("saxon") TransformerFactory transformerFactory, MeterRegistry meterRegistry) {
     this.transformerFactory = transformerFactory;
-    this.htmlToAknHtml = getTemplates("xml/htmlToAknHtml.xslt");
+    this.meterRegistry = meterRegistry;
+    PRECOMPILED_STYLESHEETS.forEach(this::getTemplates);
+    // the LDML export times the whole pass of serialization, transformation and validation
+    TimedTemplates timedHtmlToAknHtml = templatesByFilePath.get(HTML_TO_AKN_HTML);
+    this.htmlToAknHtml = timedHtmlToAknHtml.templates;
+    this.htmlToAknHtmlTimer = timedHtmlToAknHtml.timer;
     this.schema = getSchema("xml/akomantoso30.xsd");
+    this.saxTransformerFactory = (SAXTransformerFactory) transformerFactory;
+    try {
+      this.ldmlContext = JAXBContext.newInstance(CaseLawLdml.class);
+    } catch (JAXBException e) {
+      log.error("JAXB initialization error.", e);
+      throw new LdmlTransformationException("JAXB initialization error.", e);
+    }
   }
 
+  /**
+   * Get the compiled stylesheet. Every stylesheet is compiled only once and shared, as compiled
+   * templates are thread safe. A transformer has to be created for every transformation. The
+   * transformations of the created transformers are timed by xml.xslt.transform. The counters of
+   * the lookups are registered once with the compiled stylesheet.
+   *
+   * @param filePath the class path of the stylesheet
+   * @return the compiled stylesheet
+   */
   public Templates getTemplates(String filePath) {
+    TimedTemplates templates = templatesByFilePath.get(filePath);
+    if (templates != null) {
+      templates.hits.increment();
+      return templates;
+    }
+
+    return templatesByFilePath.computeIfAbsent(filePath, this::compileTemplates);
+  }
+
+  /** Compile the stylesheet on the first lookup, which is counted as the only miss. */
+  private TimedTemplates compileTemplates(String filePath) {
+    buildTemplatesCounter(filePath, "miss").increment();
+    long start = System.nanoTime();
     try {
       InputStream inputStream = getClass().getResourceAsStream("/" + filePath);
       if (inputStream == null) {
         throw new FileNotFoundException("Class path resource [" + filePath + "] not found.");
       }
       String fileContent = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
-      return transformerFactory.newTemplates(new StreamSource(new StringReader(fileContent)));
+      return new TimedTemplates(
+          transformerFactory.newTemplates(new StreamSource(new StringReader(fileContent))),
+          buildTransformTimer(filePath),
+          buildTemplatesCounter(filePath, "hit"));
     } catch (TransformerConfigurationException | IOException e) {
       log.error("XSLT initialization error.", e);
       throw new LdmlTransformationException("XSLT initialization error.", e);
+    } finally {
+      Timer.builder("xml.xslt.compile")
+          .description("Duration of the compilation of a stylesheet")
+          .tag("stylesheet", filePath)
+          .register(meterRegistry)
+          .record(Duration.ofNanos(System.nanoTime() - start));
     }
   }
 
+  private Counter buildTemplatesCounter(String filePath, String result) {
+    return Counter.builder("xml.xslt.templates")
+        .description("Lookups of compiled stylesheets")
+        .tag("stylesheet", filePath)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  private Timer buildTransformTimer(String filePath) {
+    return Timer.builder("xml.xslt.transform")
+        .description("Duration of a transformation with a stylesheet")
+        .tag("stylesheet", filePath)
+        .register(meterRegistry);
+  }
+
   public Schema getSchema(String filePath) {
     try {
       URL resourceUrl = getClass().getClassLoader().getResource(filePath);
@@ -101,13 +194,36 @@ public class XmlUtilService {
     }
   }
 
-  @SuppressWarnings("java:S1141") // only temporary for extra logging
+  /**
+   * Serialize the LDML and transform its html parts into akn html.
+   *
+   * <p>The LDML is marshalled as SAX events directly into the XSLT transformation. The result of
+   * the transformation is serialized and validated against the akomantoso30.xsd in the same pass,
+   * so the document is converted to a string only once.
+   *
+   * @param ldml the LDML to serialize
+   * @return the LDML as string or an empty optional, if the transformation failed or an unknown
+   *     element or attribute was discovered
+   */
   public Optional<String> ldmlToString(CaseLawLdml ldml) {
-    StringWriter jaxbOutput = new StringWriter();
-    JAXB.marshal(ldml, jaxbOutput);
-
+    long start = System.nanoTime();
     try {
-      String ldmlAsXmlString = XmlUtilService.xsltTransform(htmlToAknHtml, jaxbOutput.toString());
+      StringWriter output = new StringWriter();
+      TransformerHandler serializer = saxTransformerFactory.newTransformerHandler();
+      serializer.getTransformer().setOutputProperties(htmlToAknHtml.getOutputProperties());
+      serializer.setResult(new StreamResult(output));
+
+      ValidationErrorHandler validationErrors = new ValidationErrorHandler();
+      ValidatorHandler validator = schema.newValidatorHandler();
+      validator.setErrorHandler(validationErrors);
+
+      htmlToAknHtml
+          .newTransformer()
+          .transform(
+              new JAXBSource(ldmlContext.createMarshaller(), ldml),
+              new SAXResult(new TeeContentHandler(serializer, validator)));
+
+      String ldmlAsXmlString = output.toString();
       if (ldmlAsXmlString.contains("akn:unknownUseCaseDiscovered")) {
         int hintStart = Math.max(0, ldmlAsXmlString.indexOf("akn:unknownUseCaseDiscovered") - 10);
         int hintEnd = Math.min(ldmlAsXmlString.length(), hintStart + 60);
@@ -121,17 +237,30 @@ public class XmlUtilService {
         return Optional.empty();
       }
 
-      try {
-        schema.newValidator().validate(new StreamSource(new StringReader(ldmlAsXmlString)));
-      } catch (SAXParseException e) {
-        log.error("Validation error: {}", e.getMessage());
+      if (validationErrors.getFirstError() != null) {
+        log.error("Validation error: {}", validationErrors.getFirstError().getMessage());
         log.info("Invalid LDML ({}): {}", ldml.getUniqueId(), ldmlAsXmlString);
       }
 
       return Optional.of(ldmlAsXmlString);
-    } catch (SAXException | MappingException | IOException e) {
-      logXsdError(ldml.getUniqueId(), jaxbOutput.toString(), e);
+    } catch (TransformerException | JAXBException e) {
+      logXsdError(ldml.getUniqueId(), marshalForLogging(ldml), e);
       return Optional.empty();
+    } finally {
+      htmlToAknHtmlTimer.record(Duration.ofNanos(System.nanoTime() - start));
+    }
+  }
+
+  /** Marshal the LDML without transformation, only used for the hints of a failed export. */
+  private String marshalForLogging(CaseLawLdml ldml) {
+    try {
+      StringWriter jaxbOutput = new StringWriter();
+      Marshaller marshaller = ldmlContext.createMarshaller();
+      marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+      marshaller.marshal(ldml, jaxbOutput);
+      return jaxbOutput.toString();
+    } catch (JAXBException e) {
+      return "";
     }
   }
 
@@ -151,4 +280,247 @@ public class XmlUtilService {
     }
     log.error("Error: {} Case Law {} does not match akomantoso30.xsd. {}", hint, caseLawId, e);
   }
+
+  /**
+   * Compiled stylesheet, whose transformers record the duration of their transformations, with the
+   * counter of its lookups.
+   */
+  private record TimedTemplates(Templates templates, Timer timer, Counter hits)
+      implements Templates {
+    @Override
+    public Transformer newTransformer() throws TransformerConfigurationException {
+      return new TimedTransformer(templates.newTransformer(), timer);
+    }
+
+    @Override
+    public Properties getOutputProperties() {
+      return templates.getOutputProperties();
+    }
+  }
+
+  /** Delegates to the transformer and records the duration of every transformation. */
+  private static class TimedTransformer extends Transformer {
+    private final Transformer transformer;
+    private final Timer timer;
+
+    private TimedTransformer(Transformer transformer, Timer timer) {
+      this.transformer = transformer;
+      this.timer = timer;
+    }
+
+    @Override
+    public void transform(Source xmlSource, Result outputTarget) throws TransformerException {
+      long start = System.nanoTime();
+      try {
+        transformer.transform(xmlSource, outputTarget);
+      } finally {
+        timer.record(Duration.ofNanos(System.nanoTime() - start));
+      }
+    }
+
+    @Override
+    public void reset() {
+      transformer.reset();
+    }
+
+    @Override
+    public void setParameter(String name, Object value) {
+      transformer.setParameter(name, value);
+    }
+
+    @Override
+    public Object getParameter(String name) {
+      return transformer.getParameter(name);
+    }
+
+    @Override
+    public void clearParameters() {
+      transformer.clearParameters();
+    }
+
+    @Override
+    public void setURIResolver(URIResolver resolver) {
+      transformer.setURIResolver(resolver);
+    }
+
+    @Override
+    public URIResolver getURIResolver() {
+      return transformer.getURIResolver();
+    }
+
+    @Override
+    public void setOutputProperties(Properties oformat) {
+      transformer.setOutputProperties(oformat);
+    }
+
+    @Override
+    public Properties getOutputProperties() {
+      return transformer.getOutputProperties();
+    }
+
+    @Override
+    public void setOutputProperty(String name, String value) {
+      transformer.setOutputProperty(name, value);
+    }
+
+    @Override
+    public String getOutputProperty(String name) {
+      return transformer.getOutputProperty(name);
+    }
+
+    @Override
+    public void setErrorListener(ErrorListener listener) {
+      transformer.setErrorListener(listener);
+    }
+
+    @Override
+    public ErrorListener getErrorListener() {
+      return transformer.getErrorListener();
+    }
+  }
+
+  /**
+   * Keeps the first validation error instead of aborting the transformation, so the LDML is still
+   * exported and the error is only logged.
+   */
+  private static class ValidationErrorHandler implements ErrorHandler {
+    private SAXParseException firstError;
+
+    @Override
+    public void warning(SAXParseException exception) {
+      // warnings don't make the LDML invalid
+    }
+
+    @Override
+    public void error(SAXParseException exception) {
+      if (firstError == null) {
+        firstError = exception;
+      }
+    }
+
+    @Override
+    public void fatalError(SAXParseException exception) throws SAXException {
+      throw exception;
+    }
+
+    SAXParseException getFirstError() {
+      return firstError;
+    }
+  }
+
+  /**
+   * Passes the result of the transformation to the serializer and the validator. Lexical events
+   * (e.g. comments) are only relevant for the serializer.
+   */
+  private static class TeeContentHandler implements ContentHandler, LexicalHandler {
+    private final TransformerHandler serializer;
+    private final ContentHandler validator;
+
+    private TeeContentHandler(TransformerHandler serializer, ContentHandler validator) {
+      this.serializer = serializer;
+      this.validator = validator;
+    }
+
+    @Override
+    public void setDocumentLocator(Locator locator) {
+      serializer.setDocumentLocator(locator);
+      validator.setDocumentLocator(locator);
+    }
+
+    @Override
+    public void startDocument() throws SAXException {
+      serializer.startDocument();
+      validator.startDocument();
+    }
+
+    @Override
+    public void endDocument() throws SAXException {
+      serializer.endDocument();
+      validator.endDocument();
+    }
+
+    @Override
+    public void startPrefixMapping(String prefix, String uri) throws SAXException {
+      serializer.startPrefixMapping(prefix, uri);
+      validator.startPrefixMapping(prefix, uri);
+    }
+
+    @Override
+    public void endPrefixMapping(String prefix) throws SAXException {
+      serializer.endPrefixMapping(prefix);
+      validator.endPrefixMapping(prefix);
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes atts)
+        throws SAXException {
+      serializer.startElement(uri, localName, qName, atts);
+      validator.startElement(uri, localName, qName, atts);
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) throws SAXException {
+      serializer.endElement(uri, localName, qName);
+      validator.endElement(uri, localName, qName);
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) throws SAXException {
+      serializer.characters(ch, start, length);
+      validator.characters(ch, start, length);
+    }
+
+    @Override
+    public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
+      serializer.ignorableWhitespace(ch, start, length);
+      validator.ignorableWhitespace(ch, start, length);
+    }
+
+    @Override
+    public void processingInstruction(String target, String data) throws SAXException {
+      serializer.processingInstruction(target, data);
+      validator.processingInstruction(target, data);
+    }
+
+    @Override
+    public void skippedEntity(String name) throws SAXException {
+      serializer.skippedEntity(name);
+      validator.skippedEntity(name);
+    }
+
+    @Override
+    public void startDTD(String name, String publicId, String systemId) throws SAXException {
+      serializer.startDTD(name, publicId, systemId);
+    }
+
+    @Override
+    public void endDTD() throws SAXException {
+      serializer.endDTD();
+    }
+
+    @Override
+    public void startEntity(String name) throws SAXException {
+      serializer.startEntity(name);
+    }
+
+    @Override
+    public void endEntity(String name) throws SAXException {
+      serializer.endEntity(name);
+    }
+
+    @Override
+    public void startCDATA() throws SAXException {
+      serializer.startCDATA();
+    }
+
+    @Override
+    public void endCDATA() throws SAXException {
+      serializer.endCDATA();
+    }
+
+    @Override
+    public void comment(char[] ch, int start, int length) throws SAXException {
+      serializer.comment(ch, start, length);
+    }
+  }
 }
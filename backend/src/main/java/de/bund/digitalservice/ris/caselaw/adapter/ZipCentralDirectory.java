@@ -0,0 +1,113 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/**
+ * Reads the entries of a zip archive from its central directory at the end of the archive. The
+ * archive is read in place from the buffer, so neither the archive is copied nor an entry is
+ * inflated.
+ */
+final class ZipCentralDirectory {
+  private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+  private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+  private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+  private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+  private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+  private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+  private static final long ZIP64_MARKER = 0xFFFFFFFFL;
+
+  private ZipCentralDirectory() {}
+
+  /**
+   * An entry of the central directory.
+   *
+   * @param name the name of the entry
+   * @param method the compression method, {@link ZipEntry#STORED} or {@link ZipEntry#DEFLATED} for
+   *     the usual archives
+   * @param compressedSize the size of the compressed data in the archive
+   * @param size the size of the uncompressed data
+   */
+  record Entry(String name, int method, long compressedSize, long size) {}
+
+  /**
+   * Read the entries of the archive. The whole buffer from position 0 to its limit is read as
+   * archive, the position of the buffer is not changed.
+   *
+   * @param archive the zip archive
+   * @return the entries in the order of the central directory
+   * @throws ZipException if the buffer is no zip archive, the central directory or an entry lies
+   *     outside of the archive or the archive needs zip64 extensions
+   */
+  static List<Entry> readEntries(ByteBuffer archive) throws ZipException {
+    ByteBuffer buffer = archive.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    int end = findEndOfCentralDirectory(buffer);
+
+    int entryCount = Short.toUnsignedInt(buffer.getShort(end + 10));
+    long directorySize = Integer.toUnsignedLong(buffer.getInt(end + 12));
+    long directoryOffset = Integer.toUnsignedLong(buffer.getInt(end + 16));
+    if (entryCount == 0xFFFF || directoryOffset == ZIP64_MARKER) {
+      throw new ZipException("zip64 archives are not supported");
+    }
+    if (directoryOffset + directorySize > end) {
+      throw new ZipException("central directory outside of the archive");
+    }
+
+    List<Entry> entries = new ArrayList<>(entryCount);
+    int position = (int) directoryOffset;
+    for (int i = 0; i < entryCount; i++) {
+      if (position + CENTRAL_DIRECTORY_HEADER_SIZE > end
+          || buffer.getInt(position) != CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+        throw new ZipException("invalid central directory header");
+      }
+
+      int method = Short.toUnsignedInt(buffer.getShort(position + 10));
+      long compressedSize = Integer.toUnsignedLong(buffer.getInt(position + 20));
+      long size = Integer.toUnsignedLong(buffer.getInt(position + 24));
+      int nameLength = Short.toUnsignedInt(buffer.getShort(position + 28));
+      int extraLength = Short.toUnsignedInt(buffer.getShort(position + 30));
+      int commentLength = Short.toUnsignedInt(buffer.getShort(position + 32));
+      long localHeaderOffset = Integer.toUnsignedLong(buffer.getInt(position + 42));
+
+      if (compressedSize == ZIP64_MARKER
+          || size == ZIP64_MARKER
+          || localHeaderOffset == ZIP64_MARKER) {
+        throw new ZipException("zip64 archives are not supported");
+      }
+      if (localHeaderOffset + compressedSize > directoryOffset
+          || buffer.getInt((int) localHeaderOffset) != LOCAL_FILE_HEADER_SIGNATURE) {
+        throw new ZipException("entry outside of the archive");
+      }
+
+      int nameStart = position + CENTRAL_DIRECTORY_HEADER_SIZE;
+      if (nameStart + nameLength > end) {
+        throw new ZipException("invalid central directory header");
+      }
+      String name = StandardCharsets.UTF_8.decode(buffer.slice(nameStart, nameLength)).toString();
+
+      entries.add(new Entry(name, method, compressedSize, size));
+      position = nameStart + nameLength + extraLength + commentLength;
+    }
+
+    return entries;
+  }
+
+  private static int findEndOfCentralDirectory(ByteBuffer buffer) throws ZipException {
+    // the end of central directory record is followed only by the archive comment
+    int lowest = Math.max(0, buffer.limit() - END_OF_CENTRAL_DIRECTORY_SIZE - MAX_COMMENT_LENGTH);
+    for (int position = buffer.limit() - END_OF_CENTRAL_DIRECTORY_SIZE;
+        position >= lowest;
+        position--) {
+      if (buffer.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+        return position;
+      }
+    }
+
+    throw new ZipException("end of central directory not found");
+  }
+}
@@ -8,6 +8,10 @@ import de.bund.digitalservice.ris.caselaw.domain.docx.ParagraphElement;
 import de.bund.digitalservice.ris.caselaw.domain.docx.UnhandledElement;
 import de.bund.digitalservice.ris.caselaw.domain.docx.UnhandledElementType;
 import jakarta.xml.bind.JAXBElement;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import org.docx4j.model.listnumbering.ListNumberingDefinition;
@@ -15,11 +19,19 @@ import org.docx4j.wml.P;
 import org.docx4j.wml.Style;
 import org.docx4j.wml.Tbl;
 
+/**
+ * Converts the elements of the main document part of a docx file. The converter holds the styles,
+ * images, footers and numbering definitions of one file, which are passed with it through all
+ * builders and converters of the elements. So it is not thread safe and a new instance has to be
+ * used for every converted file.
+ */
 public class DocxConverter implements Converter<DocumentationUnitDocx> {
   private Map<String, Style> styles;
   private Map<String, DocxImagePart> images;
   private List<ParagraphElement> footers;
   private Map<String, ListNumberingDefinition> listNumberingDefinitions;
+  private String imageUrlPrefix;
+  private final Map<String, DocxImagePart> referencedImages = new HashMap<>();
 
   public Map<String, DocxImagePart> getImages() {
     return images;
@@ -54,6 +66,48 @@ public class DocxConverter implements Converter<DocumentationUnitDocx> {
     this.footers = footers;
   }
 
+  public String getImageUrlPrefix() {
+    return imageUrlPrefix;
+  }
+
+  /**
+   * Set the prefix of the image urls. If it is set, the images are referenced by their url in the
+   * html instead of being embedded as base64 representation.
+   */
+  public void setImageUrlPrefix(String imageUrlPrefix) {
+    this.imageUrlPrefix = imageUrlPrefix;
+  }
+
+  /**
+   * @return the images referenced by url in the converted elements by their id
+   */
+  public Map<String, DocxImagePart> getReferencedImages() {
+    return referencedImages;
+  }
+
+  /**
+   * Get the url of an image, if the images are referenced by url. The id of the image is the hash
+   * of its content, so the url of an image never points to another content.
+   *
+   * @param image the (already transformed) image
+   * @return the url of the image or null, if the images are embedded into the html
+   */
+  public String getImageUrl(DocxImagePart image) {
+    if (imageUrlPrefix == null) {
+      return null;
+    }
+
+    String imageId;
+    try {
+      imageId =
+          HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(image.bytes()));
+    } catch (NoSuchAlgorithmException e) {
+      throw new DocxConverterException("Couldn't calculate the image id", e);
+    }
+    referencedImages.putIfAbsent(imageId, image);
+    return imageUrlPrefix + imageId;
+  }
+
   public DocumentationUnitDocx convert(Object part, List<UnhandledElement> unhandledElements) {
     DocxBuilder builder;
 
@@ -206,8 +206,13 @@ public class RunElementConverter {
     DocxImagePart image = converter.getImages().get(imageData.getId());
     AnchorImageElement imageElement = new AnchorImageElement();
     imageElement.setContentType(image.contentType());
-    var base64 = Base64.getEncoder().encodeToString(image.bytes());
-    imageElement.setBase64Representation(base64);
+    String url = converter.getImageUrl(image);
+    if (url != null) {
+      imageElement.setUrl(url);
+    } else {
+      var base64 = Base64.getEncoder().encodeToString(image.bytes());
+      imageElement.setBase64Representation(base64);
+    }
     StyleConverter.getListFromString(style).forEach(imageElement::addStyle);
 
     parent.addRunElement(imageElement);
@@ -348,7 +353,7 @@ public class RunElementConverter {
         if (optionalRotatedDocxImagePart.isPresent()) {
           image = optionalRotatedDocxImagePart.get();
         }
-        addImageContent(imageElement, image, size);
+        addImageContent(imageElement, image, size, converter);
       }
     } else {
       LOGGER.error("no picture");
@@ -408,7 +413,7 @@ public class RunElementConverter {
   // convert images before
   // TODO: take out the image input.
   private static void addImageContent(
-      InlineImageElement element, DocxImagePart image, Dimension size) {
+      InlineImageElement element, DocxImagePart image, Dimension size, DocxConverter converter) {
     element.setContentType(image.contentType());
 
     if (image.contentType().equals("image/unknown")) {
@@ -416,8 +421,13 @@ public class RunElementConverter {
       // base64 representation of the material design icon for unknown files
       element.setBase64Representation(BASE64_PNG_UNKNOWN_FILE_ICON);
     } else {
-      byte[] bytes = image.bytes();
-      element.setBase64Representation(Base64.getEncoder().encodeToString(bytes));
+      String url = converter.getImageUrl(image);
+      if (url != null) {
+        element.setUrl(url);
+      } else {
+        byte[] bytes = image.bytes();
+        element.setBase64Representation(Base64.getEncoder().encodeToString(bytes));
+      }
     }
     element.setSize(size);
   }
@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,4 +15,21 @@ public interface DatabaseAttachmentInlineRepository
 
   Optional<AttachmentInlineDTO> findByDocumentationUnitIdAndFilename(
       UUID documentationUnitId, String fileName);
+
+  /**
+   * Get the inline images of a documentation unit without their content.
+   *
+   * @param documentationUnitId the id of the documentation unit
+   * @return rows of the id, the file name and the hex encoded MD5 digest of the content
+   */
+  @Query(
+      value =
+          "SELECT id, filename, md5(content) FROM incremental_migration.attachment_inline "
+              + "WHERE documentation_unit_id = :documentationUnitId",
+      nativeQuery = true)
+  List<Object[]> findAllMetadataByDocumentationUnitId(
+      @Param("documentationUnitId") UUID documentationUnitId);
+
+  @Query("SELECT a.content FROM AttachmentInlineDTO a WHERE a.id = :id")
+  Optional<byte[]> findContentById(@Param("id") UUID id);
 }
@@ -1,10 +1,11 @@
 package de.bund.digitalservice.ris.caselaw.adapter.database.jpa;
 
+import de.bund.digitalservice.ris.caselaw.domain.PortalPublicationStatus;
 import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
 import io.lettuce.core.dynamic.annotation.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,9 +15,31 @@ public interface DatabaseDocumentationUnitRepository
     extends JpaRepository<DocumentationUnitDTO, UUID> {
   Optional<DocumentationUnitDTO> findByDocumentNumber(String documentNumber);
 
+  /**
+   * The passive caselaw citations are fetched with the decisions, so all targets of the active
+   * citations of a published decision are loaded in one query.
+   */
   @Query(
-      "SELECT d FROM DocumentationUnitDTO d where d.documentNumber = :documentNumber AND d.portalPublicationStatus = de.bund.digitalservice.ris.caselaw.domain.PortalPublicationStatus.PUBLISHED")
-  Optional<DocumentationUnitDTO> findPublishedByDocumentNumber(String documentNumber);
+      "SELECT DISTINCT d FROM DecisionDTO d LEFT JOIN FETCH d.passiveCaselawCitations where d.documentNumber IN :documentNumbers AND d.portalPublicationStatus = de.bund.digitalservice.ris.caselaw.domain.PortalPublicationStatus.PUBLISHED")
+  List<DecisionDTO> findPublishedDecisionsWithPassiveCaselawCitations(
+      @Param("documentNumbers") Collection<String> documentNumbers);
+
+  /**
+   * Only the metadata shown for a related document is selected, so the related documents of all
+   * relation types of a decision are resolved in one query without loading their aggregates.
+   */
+  @Query(
+      "SELECT d.documentNumber AS documentNumber, d.date AS date, c AS court, dt AS documentType, "
+          + "(SELECT MIN(f.value) FROM FileNumberDTO f WHERE f.documentationUnit = d "
+          + "AND f.rank = (SELECT MIN(f2.rank) FROM FileNumberDTO f2 WHERE f2.documentationUnit = d)) "
+          + "AS fileNumber "
+          + "FROM DocumentationUnitDTO d "
+          + "LEFT JOIN d.court c "
+          + "LEFT JOIN d.documentType dt "
+          + "WHERE d.documentNumber IN :documentNumbers "
+          + "AND d.portalPublicationStatus = de.bund.digitalservice.ris.caselaw.domain.PortalPublicationStatus.PUBLISHED")
+  List<RelatedDocumentInfoDTO> findPublishedRelatedDocumentInfos(
+      @Param("documentNumbers") Collection<String> documentNumbers);
 
   @Query("SELECT d.id FROM DocumentationUnitDTO d where d.documentNumber = :documentNumber")
   Optional<UUID> findIdByDocumentNumber(@Param("documentNumber") String documentNumber);
@@ -24,6 +47,43 @@ public interface DatabaseDocumentationUnitRepository
   Optional<DocumentationUnitListItemDTO> findDocumentationUnitListItemByDocumentNumber(
       String documentNumber);
 
+  /**
+   * Only the columns needed for the access checks are selected, so neither the lazy collections of
+   * the documentation unit are loaded nor the documentation unit is transformed.
+   */
+  @Query(
+      "SELECT d.id AS id, d.documentNumber AS documentNumber, "
+          + "o.id AS documentationOfficeId, o.abbreviation AS documentationOfficeAbbreviation, "
+          + "co.id AS creatingDocumentationOfficeId, "
+          + "co.abbreviation AS creatingDocumentationOfficeAbbreviation, "
+          + "s.publicationStatus AS publicationStatus, ug.id AS procedureUserGroupId "
+          + "FROM DocumentationUnitDTO d "
+          + "JOIN d.documentationOffice o "
+          + "LEFT JOIN d.status s "
+          + "LEFT JOIN DecisionDTO decision ON decision.id = d.id "
+          + "LEFT JOIN decision.creatingDocumentationOffice co "
+          + "LEFT JOIN decision.procedure p "
+          + "LEFT JOIN p.userGroupDTO ug "
+          + "WHERE d.id = :id")
+  Optional<DocumentationUnitAccessInfoDTO> findAccessInfoById(@Param("id") UUID id);
+
+  @Query(
+      "SELECT d.id AS id, d.documentNumber AS documentNumber, "
+          + "o.id AS documentationOfficeId, o.abbreviation AS documentationOfficeAbbreviation, "
+          + "co.id AS creatingDocumentationOfficeId, "
+          + "co.abbreviation AS creatingDocumentationOfficeAbbreviation, "
+          + "s.publicationStatus AS publicationStatus, ug.id AS procedureUserGroupId "
+          + "FROM DocumentationUnitDTO d "
+          + "JOIN d.documentationOffice o "
+          + "LEFT JOIN d.status s "
+          + "LEFT JOIN DecisionDTO decision ON decision.id = d.id "
+          + "LEFT JOIN decision.creatingDocumentationOffice co "
+          + "LEFT JOIN decision.procedure p "
+          + "LEFT JOIN p.userGroupDTO ug "
+          + "WHERE d.documentNumber = :documentNumber")
+  Optional<DocumentationUnitAccessInfoDTO> findAccessInfoByDocumentNumber(
+      @Param("documentNumber") String documentNumber);
+
   // temporarily needed for the ldml handover phase, can be removed once we integrate ldml
   // generation into the doc-unit lifecycle
   @Query(
@@ -39,40 +99,64 @@ public interface DatabaseDocumentationUnitRepository
 
   @Query(
       value =
-"""
+          """
   SELECT documentationUnit FROM DocumentationUnitDTO documentationUnit
   WHERE documentationUnit.scheduledPublicationDateTime <= CURRENT_TIMESTAMP
 """)
   List<DocumentationUnitDTO> getScheduledDocumentationUnitsDueNow();
 
+  /**
+   * Document numbers are compared with the "C" collation, so that they are ordered by their bytes
+   * like the keys of an S3 bucket listing.
+   */
   @Query(
       value =
           """
-        SELECT d.documentNumber FROM DocumentationUnitDTO d
-        JOIN d.court c
-        JOIN d.status s
-        JOIN d.documentType dt
-        JOIN d.documentationOffice o
-        WHERE cast(d.date as date) > cast('2009-12-31' as date)
-        AND s.publicationStatus = 'PUBLISHED'
+        SELECT d.document_number FROM incremental_migration.documentation_unit d
+        JOIN incremental_migration.court c ON d.court_id = c.id
+        JOIN incremental_migration.status s ON d.current_status_id = s.id
+        JOIN incremental_migration.document_type dt ON d.document_type_id = dt.id
+        JOIN incremental_migration.documentation_office o ON d.documentation_office_id = o.id
+        WHERE d.date > DATE '2009-12-31'
+        AND s.publication_status = 'PUBLISHED'
         AND dt.abbreviation <> 'Anh'
         AND (c.type = o.abbreviation AND c.type IN ('BSG', 'BAG', 'BGH', 'BFH', 'BVerfG', 'BVerwG', 'BPatG')
           OR (o.abbreviation = 'juris' AND c.type = 'BPatG'))
-    """)
-  List<String> getAllMatchingPublishCriteria();
+        AND d.document_number COLLATE "C" > :lastDocumentNumber
+        ORDER BY d.document_number COLLATE "C"
+        LIMIT :size
+    """,
+      nativeQuery = true)
+  List<String> findDocumentNumbersMatchingPublishCriteriaAfter(String lastDocumentNumber, int size);
+
+  @Query(
+      value =
+          """
+        SELECT d.document_number FROM incremental_migration.documentation_unit d
+        WHERE d.portal_publication_status = 'PUBLISHED'
+        AND d.document_number COLLATE "C" > :lastDocumentNumber
+        ORDER BY d.document_number COLLATE "C"
+        LIMIT :size
+    """,
+      nativeQuery = true)
+  List<String> findPublishedDocumentNumbersAfter(String lastDocumentNumber, int size);
 
   @Query(
       value =
-"""
-SELECT d.documentNumber FROM DocumentationUnitDTO d
-  WHERE d.portalPublicationStatus = 'PUBLISHED'
-            """)
-  Set<String> findAllPublishedDocumentNumbers();
+          "SELECT d.id FROM DocumentationUnitDTO d WHERE d.status.publicationStatus = :publicationStatus ORDER BY d.id")
+  List<UUID> findIdsByStatus(PublicationStatus publicationStatus, Pageable page);
 
   @Query(
       value =
-          "SELECT d.id FROM DocumentationUnitDTO d WHERE d.status.publicationStatus = :publicationStatus ORDER BY d.status.createdAt DESC")
-  List<UUID> findAllByStatus(PublicationStatus publicationStatus, Pageable page);
+          "SELECT d.id FROM DocumentationUnitDTO d WHERE d.status.publicationStatus = :publicationStatus AND d.id > :lastId ORDER BY d.id")
+  List<UUID> findIdsByStatusAfter(PublicationStatus publicationStatus, UUID lastId, Pageable page);
+
+  @Query(
+      value =
+          "SELECT count(d) FROM DocumentationUnitDTO d WHERE d.status.publicationStatus = :publicationStatus")
+  long countByStatus(PublicationStatus publicationStatus);
+
+  long countByPortalPublicationStatus(PortalPublicationStatus portalPublicationStatus);
 
   @Query(
       "SELECT DISTINCT d FROM DecisionDTO d "
@@ -1,5 +1,6 @@
 package de.bund.digitalservice.ris.caselaw.adapter.database.jpa;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -188,4 +189,22 @@ public interface DatabaseDuplicateCheckRepository
       @Param("allDeviatingCourts") List<String> allDeviatingCourts,
       @Param("allEclis") List<String> allEclis,
       @Param("allDocTypeIds") List<UUID> allDocTypeIds);
+
+  /**
+   * Get the document numbers of all decisions, whose management data has been updated since the
+   * given point in time. These decisions have to be checked for changed duplicate relations.
+   */
+  @Query(
+      nativeQuery = true,
+      value =
+"""
+    SELECT documentationUnit.document_number
+    FROM incremental_migration.documentation_unit documentationUnit
+    INNER JOIN incremental_migration.decision decision
+      ON decision.id = documentationUnit.id
+    INNER JOIN incremental_migration.management_data managementData
+      ON managementData.documentation_unit_id = documentationUnit.id
+    WHERE managementData.last_updated_at_date_time >= :since
+""")
+  List<String> findDocumentNumbersOfDecisionsUpdatedSince(@Param("since") Instant since);
 }
@@ -44,4 +44,33 @@ public interface DatabaseFieldOfLawRepository extends JpaRepository<FieldOfLawDT
           + "LIKE upper(concat(:searchStr, '%')) "
           + "ORDER BY fol.identifier")
   List<FieldOfLawDTO> findAllByIdentifierStartsWithIgnoreCaseOrderByIdentifier(String searchStr);
+
+  @Query("SELECT fol FROM FieldOfLawDTO fol LEFT JOIN FETCH fol.parent")
+  List<FieldOfLawDTO> findAllWithParent();
+
+  @Query("SELECT norm FROM FieldOfLawNormDTO norm ORDER BY norm.abbreviation")
+  List<FieldOfLawNormDTO> findAllNormsOrderByAbbreviation();
+
+  @Query(
+      "SELECT fol.id, reference.identifier FROM FieldOfLawDTO fol "
+          + "JOIN fol.fieldOfLawTextReferences reference")
+  List<Object[]> findAllTextReferences();
+
+  /**
+   * Fingerprint of the field of law catalogue, which changes if a field of law, a parent relation,
+   * a norm or a text reference is added, removed or changed.
+   */
+  @Query(
+      value =
+          "SELECT concat_ws(':', "
+              + "(SELECT count(*) || '-' || coalesce(sum(hashtext(concat_ws('|', id, identifier, text, notation))), 0) "
+              + "FROM incremental_migration.field_of_law), "
+              + "(SELECT count(*) || '-' || coalesce(sum(hashtext(concat_ws('|', field_of_law_id, field_of_law_parent_id))), 0) "
+              + "FROM incremental_migration.field_of_law_field_of_law_parent), "
+              + "(SELECT count(*) || '-' || coalesce(sum(hashtext(concat_ws('|', field_of_law_id, abbreviation, single_norm_description))), 0) "
+              + "FROM incremental_migration.field_of_law_norm), "
+              + "(SELECT count(*) || '-' || coalesce(sum(hashtext(concat_ws('|', field_of_law_id, field_of_law_text_reference_id))), 0) "
+              + "FROM incremental_migration.field_of_law_field_of_law_text_reference))",
+      nativeQuery = true)
+  String getCatalogueFingerprint();
 }
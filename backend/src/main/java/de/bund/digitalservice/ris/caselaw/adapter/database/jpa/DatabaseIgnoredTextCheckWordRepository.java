@@ -32,4 +32,8 @@ public interface DatabaseIgnoredTextCheckWordRepository
   Integer deleteByWordAndDocumentationUnitIdIsNullAndJurisIdIsNull(String word);
 
   IgnoredTextCheckWordDTO findByDocumentationUnitIdIsNullAndWord(String word);
+
+  List<IgnoredTextCheckWordDTO> findAllByDocumentationUnitIdIsNull();
+
+  List<IgnoredTextCheckWordDTO> findAllByDocumentationUnitId(UUID documentationUnitId);
 }
@@ -4,7 +4,6 @@ import jakarta.transaction.Transactional;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.context.annotation.Primary;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -15,41 +14,52 @@ import org.springframework.stereotype.Repository;
 public interface DatabaseNormAbbreviationRepository
     extends JpaRepository<NormAbbreviationDTO, UUID> {
 
-  List<NormAbbreviationDTO> findByAbbreviationIgnoreCase(String abbreviation, PageRequest of);
-
-  List<NormAbbreviationDTO> findByOfficialLetterAbbreviationIgnoreCase(
-      String officialLetterAbbreviation, PageRequest of);
-
-  List<NormAbbreviationDTO> findByAbbreviationStartsWithIgnoreCase(
-      String abbreviation, PageRequest of);
-
-  List<NormAbbreviationDTO> findByOfficialLongTitleContainsIgnoreCase(
-      String officialLongTitle, PageRequest of);
-
-  List<NormAbbreviationDTO> findByOfficialLetterAbbreviationStartsWithIgnoreCase(
-      String officialLetterAbbreviation, PageRequest size);
-
+  /**
+   * Search norm abbreviations ordered by the accuracy of the match. The matches are ranked in the
+   * following tiers: exact abbreviation, exact official letter abbreviation, abbreviation starts
+   * with, official letter abbreviation starts with, official long title contains and the full text
+   * search in the weighted vector. Inside of a tier, the full text search is ordered by its rank
+   * and the other tiers by abbreviation.
+   *
+   * @param query the search query
+   * @param likeQuery the search query with escaped wildcards for the like patterns
+   * @param size the size of the page
+   * @param offset the offset of the page
+   * @return the norm abbreviations of the page
+   */
   @Query(
       value =
-          "select"
-              + " id,"
-              + " abbreviation,"
-              + " decision_date,"
-              + " document_id,"
-              + " document_number,"
-              + " official_letter_abbreviation,"
-              + " official_long_title,"
-              + " official_short_title,"
-              + " source,"
-              + " region_id,"
-              + " ts_rank_cd(weighted_vector, plainto_tsquery('german', '' || :tsQuery || '')) rank"
-              + " from incremental_migration.norm_abbreviation_search_migration"
-              + " where weighted_vector @@ plainto_tsquery('german', '' || :tsQuery || '')"
-              + " order by rank desc"
-              + " limit :size"
-              + " offset :offset",
+          "SELECT na.* FROM incremental_migration.norm_abbreviation na"
+              + " JOIN ("
+              + "   SELECT id, min(tier) tier, max(rank) rank FROM ("
+              + "     SELECT id,"
+              + "       CASE"
+              + "         WHEN lower(abbreviation) = lower(:query) THEN 1"
+              + "         WHEN lower(official_letter_abbreviation) = lower(:query) THEN 2"
+              + "         WHEN lower(abbreviation) LIKE lower(:likeQuery || '%') ESCAPE '\\' THEN 3"
+              + "         WHEN lower(official_letter_abbreviation) LIKE lower(:likeQuery || '%') ESCAPE '\\' THEN 4"
+              + "         ELSE 5"
+              + "       END tier,"
+              + "       0 rank"
+              + "     FROM incremental_migration.norm_abbreviation"
+              + "     WHERE lower(abbreviation) LIKE lower(:likeQuery || '%') ESCAPE '\\'"
+              + "       OR lower(official_letter_abbreviation) LIKE lower(:likeQuery || '%') ESCAPE '\\'"
+              + "       OR lower(official_long_title) LIKE lower('%' || :likeQuery || '%') ESCAPE '\\'"
+              + "     UNION ALL"
+              + "     SELECT id, 6 tier,"
+              + "       ts_rank_cd(weighted_vector, plainto_tsquery('german', '' || :query || '')) rank"
+              + "     FROM incremental_migration.norm_abbreviation_search_migration"
+              + "     WHERE weighted_vector @@ plainto_tsquery('german', '' || :query || '')"
+              + "   ) matches"
+              + "   GROUP BY id"
+              + " ) ranked ON ranked.id = na.id"
+              + " ORDER BY ranked.tier, CASE WHEN ranked.tier = 6 THEN ranked.rank END DESC NULLS LAST,"
+              + "   lower(na.abbreviation), na.id"
+              + " LIMIT :size"
+              + " OFFSET :offset",
       nativeQuery = true)
-  List<NormAbbreviationDTO> findByRankWeightedVector(String tsQuery, Integer size, Integer offset);
+  List<NormAbbreviationDTO> findAllOrderByAccuracy(
+      String query, String likeQuery, Integer size, Integer offset);
 
   @Transactional
   @Modifying
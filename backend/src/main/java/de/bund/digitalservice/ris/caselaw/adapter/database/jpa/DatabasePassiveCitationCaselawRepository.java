@@ -0,0 +1,7 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.jpa;
+
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DatabasePassiveCitationCaselawRepository
+    extends JpaRepository<PassiveCitationCaselawDTO, UUID> {}
@@ -32,6 +32,7 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.type.SqlTypes;
@@ -42,6 +43,7 @@ import org.hibernate.type.SqlTypes;
 @AllArgsConstructor
 @SuperBuilder(toBuilder = true)
 @ToString(onlyExplicitlyIncluded = true)
+@DynamicUpdate
 @Entity
 @Table(name = "decision", schema = "incremental_migration")
 @SuppressWarnings(
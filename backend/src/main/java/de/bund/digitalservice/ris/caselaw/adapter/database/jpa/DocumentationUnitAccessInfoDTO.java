@@ -0,0 +1,23 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.jpa;
+
+import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
+import java.util.UUID;
+
+/** An interface representing the properties of a documentation unit needed for access checks */
+public interface DocumentationUnitAccessInfoDTO {
+  UUID getId();
+
+  String getDocumentNumber();
+
+  UUID getDocumentationOfficeId();
+
+  String getDocumentationOfficeAbbreviation();
+
+  UUID getCreatingDocumentationOfficeId();
+
+  String getCreatingDocumentationOfficeAbbreviation();
+
+  PublicationStatus getPublicationStatus();
+
+  UUID getProcedureUserGroupId();
+}
@@ -17,6 +17,8 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.OrderBy;
@@ -40,6 +42,7 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.ToString.Include;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.proxy.HibernateProxy;
 
 @Getter
@@ -48,14 +51,35 @@ import org.hibernate.proxy.HibernateProxy;
 @AllArgsConstructor
 @SuperBuilder(toBuilder = true)
 @ToString(onlyExplicitlyIncluded = true)
+// update only the changed columns, so an autosave doesn't write all texts again
+@DynamicUpdate
 @Entity
 @Inheritance(strategy = InheritanceType.JOINED)
 @Table(name = "documentation_unit", schema = "incremental_migration")
+@NamedEntityGraph(
+    name = DocumentationUnitDTO.AGGREGATE_GRAPH,
+    attributeNodes = {
+      @NamedAttributeNode("documentationOffice"),
+      @NamedAttributeNode("status"),
+      @NamedAttributeNode("court"),
+      @NamedAttributeNode("documentType"),
+      @NamedAttributeNode("managementData"),
+      @NamedAttributeNode("currentProcessStep"),
+      @NamedAttributeNode("courtBranchLocation")
+    })
 @SuppressWarnings(
     "java:S6539") // This class depends on many classes, because it's the key part and merging
 // everything.
 public abstract class DocumentationUnitDTO implements DocumentationUnitListItemDTO {
 
+  /**
+   * Load graph for the complete documentation unit, as it is transformed into the domain object.
+   * The single valued associations are joined into the query of the documentation unit. The
+   * collections are bags, which can't be joined together, so they are loaded afterwards with one
+   * query per collection.
+   */
+  public static final String AGGREGATE_GRAPH = "DocumentationUnit.aggregate";
+
   @Id @GeneratedValue @Include private UUID id;
 
   private Long version;
@@ -0,0 +1,300 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.jpa;
+
+import de.bund.digitalservice.ris.caselaw.domain.StringUtils;
+import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.FieldOfLaw;
+import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.Norm;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+
+/**
+ * Immutable in-memory copy of the field of law catalogue.
+ *
+ * <p>The nodes are transformed into domain objects once, in the same shape as {@link
+ * PostgresFieldOfLawRepositoryImpl#getWithNormsWithoutChildren(FieldOfLawDTO)} creates them. The
+ * fields of law in the new notation are kept sorted by their identifier, so a search by an
+ * identifier prefix is a binary search for the start of the range. The lower case text and the
+ * combined norm texts are prepared for the search by description and norm.
+ */
+class FieldOfLawTree {
+  private final Map<String, Node> nodesByIdentifier;
+  private final List<Node> newNotationNodes;
+  private final String[] newNotationIdentifiers;
+  private final List<FieldOfLaw> topLevelNodes;
+
+  private FieldOfLawTree(Map<String, Node> nodesByIdentifier) {
+    this.nodesByIdentifier = nodesByIdentifier;
+    this.newNotationNodes =
+        nodesByIdentifier.values().stream()
+            .filter(Node::newNotation)
+            .sorted(Comparator.comparing(node -> node.fieldOfLaw().identifier()))
+            .toList();
+    this.newNotationIdentifiers =
+        newNotationNodes.stream()
+            .map(node -> node.fieldOfLaw().identifier())
+            .toArray(String[]::new);
+    this.topLevelNodes =
+        newNotationNodes.stream()
+            .filter(node -> node.parentIdentifier() == null)
+            .map(Node::fieldOfLaw)
+            .toList();
+  }
+
+  /**
+   * Build the tree from the complete catalogue.
+   *
+   * @param fieldsOfLaw all fields of law with their parents
+   * @param norms all norms of the fields of law, ordered by their abbreviation
+   * @param textReferences pairs of the id of a field of law and the identifier of a field of law it
+   *     references
+   * @return the tree
+   */
+  static FieldOfLawTree build(
+      List<FieldOfLawDTO> fieldsOfLaw,
+      List<FieldOfLawNormDTO> norms,
+      List<TextReference> textReferences) {
+
+    Map<UUID, List<FieldOfLawNormDTO>> normsByFieldOfLaw = new HashMap<>();
+    norms.forEach(
+        norm ->
+            normsByFieldOfLaw
+                .computeIfAbsent(norm.getFieldOfLaw().getId(), id -> new ArrayList<>())
+                .add(norm));
+
+    Map<UUID, List<String>> linkedFieldsByFieldOfLaw = new HashMap<>();
+    textReferences.forEach(
+        reference ->
+            linkedFieldsByFieldOfLaw
+                .computeIfAbsent(reference.fieldOfLawId(), id -> new ArrayList<>())
+                .add(reference.identifier()));
+    linkedFieldsByFieldOfLaw.values().forEach(Collections::sort);
+
+    Map<String, List<String>> childrenByParent = new HashMap<>();
+    fieldsOfLaw.stream()
+        .filter(fieldOfLaw -> fieldOfLaw.getParent() != null)
+        .forEach(
+            fieldOfLaw ->
+                childrenByParent
+                    .computeIfAbsent(
+                        fieldOfLaw.getParent().getIdentifier(), identifier -> new ArrayList<>())
+                    .add(fieldOfLaw.getIdentifier()));
+    childrenByParent.values().forEach(Collections::sort);
+
+    Builder builder =
+        new Builder(fieldsOfLaw, normsByFieldOfLaw, linkedFieldsByFieldOfLaw, childrenByParent);
+    fieldsOfLaw.forEach(fieldOfLaw -> builder.getNode(fieldOfLaw.getIdentifier()));
+
+    return new FieldOfLawTree(Map.copyOf(builder.nodes));
+  }
+
+  int size() {
+    return nodesByIdentifier.size();
+  }
+
+  List<FieldOfLaw> getTopLevelNodes() {
+    return topLevelNodes;
+  }
+
+  /** All fields of law in the new notation, ordered by their identifier. */
+  List<FieldOfLaw> getAllOrderedByIdentifier() {
+    return newNotationNodes.stream().map(Node::fieldOfLaw).toList();
+  }
+
+  List<FieldOfLaw> getChildren(String identifier) {
+    Node node = nodesByIdentifier.get(identifier);
+    if (node == null) {
+      return List.of();
+    }
+    return node.children().stream()
+        .map(child -> nodesByIdentifier.get(child).fieldOfLaw())
+        .toList();
+  }
+
+  /**
+   * Get the path from the top level node to the field of law. Every node of the path contains only
+   * its successor on the path as child.
+   *
+   * @param identifier the identifier of the field of law
+   * @return the top level node of the path or null, if the identifier is unknown
+   */
+  @Nullable
+  FieldOfLaw getPath(String identifier) {
+    Node node = nodesByIdentifier.get(identifier);
+    if (node == null) {
+      return null;
+    }
+
+    FieldOfLaw path = node.fieldOfLaw();
+    while (node.parentIdentifier() != null) {
+      node = nodesByIdentifier.get(node.parentIdentifier());
+      path = node.fieldOfLaw().toBuilder().children(List.of(path)).build();
+    }
+    return path;
+  }
+
+  /**
+   * Get the fields of law in the new notation whose identifier starts with the given prefix.
+   *
+   * @param prefix the prefix of the identifier, upper case
+   * @return the fields of law ordered by their identifier
+   */
+  List<FieldOfLaw> findByIdentifierPrefix(String prefix) {
+    return getPrefixRange(prefix).map(Node::fieldOfLaw).toList();
+  }
+
+  /**
+   * Search in the fields of law in the new notation. All given criteria have to match.
+   *
+   * @param identifier prefix of the identifier
+   * @param description search terms, which all have to be part of the text
+   * @param norm part of the abbreviation and single norm description of one of the norms
+   * @return the matching fields of law ordered by their identifier
+   */
+  List<FieldOfLaw> findByCombinedCriteria(
+      @Nullable String identifier, @Nullable String description, @Nullable String norm) {
+
+    Stream<Node> candidates =
+        identifier == null ? newNotationNodes.stream() : getPrefixRange(identifier.toUpperCase());
+
+    if (description != null) {
+      List<String> searchTerms =
+          Arrays.stream(StringUtils.splitSearchTerms(description))
+              .map(String::toLowerCase)
+              .toList();
+      candidates =
+          candidates.filter(
+              node ->
+                  node.lowerCaseText() != null
+                      && searchTerms.stream().allMatch(node.lowerCaseText()::contains));
+    }
+
+    if (!StringUtils.isNullOrBlank(norm)) {
+      String normSearch = norm.toLowerCase();
+      candidates =
+          candidates.filter(
+              node -> node.normSearchTexts().stream().anyMatch(text -> text.contains(normSearch)));
+    }
+
+    return candidates.map(Node::fieldOfLaw).toList();
+  }
+
+  private Stream<Node> getPrefixRange(String prefix) {
+    int index = Arrays.binarySearch(newNotationIdentifiers, prefix);
+    int start = index >= 0 ? index : -index - 1;
+    int end = start;
+    while (end < newNotationIdentifiers.length && newNotationIdentifiers[end].startsWith(prefix)) {
+      end++;
+    }
+    return newNotationNodes.subList(start, end).stream();
+  }
+
+  /** A pair of a field of law and the identifier of a field of law referenced in its text. */
+  record TextReference(UUID fieldOfLawId, String identifier) {}
+
+  private record Node(
+      FieldOfLaw fieldOfLaw,
+      boolean newNotation,
+      @Nullable String parentIdentifier,
+      List<String> children,
+      @Nullable String lowerCaseText,
+      List<String> normSearchTexts) {}
+
+  /** Transforms the nodes recursively, so every parent is transformed only once. */
+  private static class Builder {
+    private final Map<String, FieldOfLawDTO> dtosByIdentifier = new HashMap<>();
+    private final Map<UUID, List<FieldOfLawNormDTO>> normsByFieldOfLaw;
+    private final Map<UUID, List<String>> linkedFieldsByFieldOfLaw;
+    private final Map<String, List<String>> childrenByParent;
+    private final Map<String, Node> nodes = new HashMap<>();
+    private final Map<String, FieldOfLaw> parents = new HashMap<>();
+
+    private Builder(
+        List<FieldOfLawDTO> fieldsOfLaw,
+        Map<UUID, List<FieldOfLawNormDTO>> normsByFieldOfLaw,
+        Map<UUID, List<String>> linkedFieldsByFieldOfLaw,
+        Map<String, List<String>> childrenByParent) {
+      fieldsOfLaw.forEach(dto -> dtosByIdentifier.put(dto.getIdentifier(), dto));
+      this.normsByFieldOfLaw = normsByFieldOfLaw;
+      this.linkedFieldsByFieldOfLaw = linkedFieldsByFieldOfLaw;
+      this.childrenByParent = childrenByParent;
+    }
+
+    private Node getNode(String identifier) {
+      Node existing = nodes.get(identifier);
+      if (existing != null) {
+        return existing;
+      }
+
+      FieldOfLawDTO dto = dtosByIdentifier.get(identifier);
+      List<FieldOfLawNormDTO> normDTOs = normsByFieldOfLaw.getOrDefault(dto.getId(), List.of());
+      List<Norm> norms =
+          normDTOs.stream()
+              .map(
+                  normDTO ->
+                      Norm.builder()
+                          .abbreviation(normDTO.getAbbreviation())
+                          .singleNormDescription(normDTO.getSingleNormDescription())
+                          .build())
+              .toList();
+      FieldOfLaw fieldOfLaw = transform(dto).toBuilder().norms(norms).build();
+
+      // same as the combination of abbreviation and single norm description in the database
+      // query, which is null if one of them is null
+      List<String> normSearchTexts =
+          normDTOs.stream()
+              .filter(
+                  normDTO ->
+                      normDTO.getAbbreviation() != null
+                          && normDTO.getSingleNormDescription() != null)
+              .map(
+                  normDTO ->
+                      normDTO.getAbbreviation().toLowerCase()
+                          + " "
+                          + normDTO.getSingleNormDescription().toLowerCase())
+              .toList();
+
+      Node node =
+          new Node(
+              fieldOfLaw,
+              dto.getNotation() == Notation.NEW,
+              dto.getParent() == null ? null : dto.getParent().getIdentifier(),
+              childrenByParent.getOrDefault(identifier, List.of()),
+              dto.getText() == null ? null : dto.getText().toLowerCase(),
+              normSearchTexts);
+      nodes.put(identifier, node);
+      return node;
+    }
+
+    /** Transform without norms and children, as the parent of another field of law. */
+    private FieldOfLaw transform(FieldOfLawDTO dto) {
+      FieldOfLaw existing = parents.get(dto.getIdentifier());
+      if (existing != null) {
+        return existing;
+      }
+
+      FieldOfLaw.FieldOfLawBuilder builder =
+          FieldOfLaw.builder()
+              .id(dto.getId())
+              .identifier(dto.getIdentifier())
+              .text(dto.getText())
+              .linkedFields(linkedFieldsByFieldOfLaw.getOrDefault(dto.getId(), List.of()))
+              .hasChildren(childrenByParent.containsKey(dto.getIdentifier()))
+              .children(Collections.emptyList());
+
+      if (dto.getParent() != null) {
+        builder.parent(transform(dtosByIdentifier.get(dto.getParent().getIdentifier())));
+      }
+
+      FieldOfLaw fieldOfLaw = builder.build();
+      parents.put(dto.getIdentifier(), fieldOfLaw);
+      return fieldOfLaw;
+    }
+  }
+}
@@ -10,10 +10,12 @@ import de.bund.digitalservice.ris.caselaw.adapter.transformer.PendingProceedingT
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.ReferenceTransformer;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.StatusTransformer;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.UserTransformer;
+import de.bund.digitalservice.ris.caselaw.domain.ChangedPaths;
 import de.bund.digitalservice.ris.caselaw.domain.ContentRelatedIndexing;
 import de.bund.digitalservice.ris.caselaw.domain.Decision;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnit;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitAccessInfo;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitHistoryLogService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitListItem;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitProcessStep;
@@ -57,10 +59,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.SpecHints;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.context.annotation.Primary;
@@ -153,12 +155,43 @@ public class PostgresDocumentationUnitRepositoryImpl implements DocumentationUni
   private DocumentationUnit findByDocumentNumberNonTransactional(String documentNumber, User user)
       throws DocumentationUnitNotExistsException {
     var documentationUnit =
-        repository
-            .findByDocumentNumber(documentNumber)
+        findAggregateByDocumentNumber(documentNumber)
             .orElseThrow(() -> new DocumentationUnitNotExistsException(documentNumber));
     return getDocumentationUnit(documentationUnit, user);
   }
 
+  /**
+   * Load the documentation unit with the {@link DocumentationUnitDTO#AGGREGATE_GRAPH}, so the
+   * single valued associations are part of the first query and only the collections are loaded
+   * afterwards.
+   */
+  private Optional<DocumentationUnitDTO> findAggregateById(UUID id) {
+    return Optional.ofNullable(
+        entityManager.find(
+            DocumentationUnitDTO.class,
+            id,
+            Map.of(
+                SpecHints.HINT_SPEC_LOAD_GRAPH,
+                entityManager.getEntityGraph(DocumentationUnitDTO.AGGREGATE_GRAPH))));
+  }
+
+  /**
+   * Load the documentation unit with the {@link DocumentationUnitDTO#AGGREGATE_GRAPH} by its
+   * document number, so no lookup of the id is needed before the load.
+   */
+  private Optional<DocumentationUnitDTO> findAggregateByDocumentNumber(String documentNumber) {
+    return entityManager
+        .createQuery(
+            "SELECT d FROM DocumentationUnitDTO d WHERE d.documentNumber = :documentNumber",
+            DocumentationUnitDTO.class)
+        .setParameter("documentNumber", documentNumber)
+        .setHint(
+            SpecHints.HINT_SPEC_LOAD_GRAPH,
+            entityManager.getEntityGraph(DocumentationUnitDTO.AGGREGATE_GRAPH))
+        .getResultStream()
+        .findFirst();
+  }
+
   @Nullable
   private DocumentationUnit getDocumentationUnit(
       DocumentationUnitDTO documentationUnit, @Nullable User user) {
@@ -205,10 +238,55 @@ public class PostgresDocumentationUnitRepositoryImpl implements DocumentationUni
   private DocumentationUnit findByUuidNonTransactional(UUID uuid, User user)
       throws DocumentationUnitNotExistsException {
     var documentationUnit =
-        repository.findById(uuid).orElseThrow(() -> new DocumentationUnitNotExistsException(uuid));
+        findAggregateById(uuid).orElseThrow(() -> new DocumentationUnitNotExistsException(uuid));
     return getDocumentationUnit(documentationUnit, user);
   }
 
+  @Override
+  @Transactional(transactionManager = "jpaTransactionManager", readOnly = true)
+  public DocumentationUnitAccessInfo findAccessInfoByUuid(UUID uuid)
+      throws DocumentationUnitNotExistsException {
+    return repository
+        .findAccessInfoById(uuid)
+        .map(PostgresDocumentationUnitRepositoryImpl::transformAccessInfo)
+        .orElseThrow(() -> new DocumentationUnitNotExistsException(uuid));
+  }
+
+  @Override
+  @Transactional(transactionManager = "jpaTransactionManager", readOnly = true)
+  public DocumentationUnitAccessInfo findAccessInfoByDocumentNumber(String documentNumber)
+      throws DocumentationUnitNotExistsException {
+    return repository
+        .findAccessInfoByDocumentNumber(documentNumber)
+        .map(PostgresDocumentationUnitRepositoryImpl::transformAccessInfo)
+        .orElseThrow(() -> new DocumentationUnitNotExistsException(documentNumber));
+  }
+
+  private static DocumentationUnitAccessInfo transformAccessInfo(
+      DocumentationUnitAccessInfoDTO accessInfoDTO) {
+    DocumentationOffice creatingDocumentationOffice = null;
+    if (accessInfoDTO.getCreatingDocumentationOfficeId() != null) {
+      creatingDocumentationOffice =
+          DocumentationOffice.builder()
+              .id(accessInfoDTO.getCreatingDocumentationOfficeId())
+              .abbreviation(accessInfoDTO.getCreatingDocumentationOfficeAbbreviation())
+              .build();
+    }
+
+    return DocumentationUnitAccessInfo.builder()
+        .id(accessInfoDTO.getId())
+        .documentNumber(accessInfoDTO.getDocumentNumber())
+        .documentationOffice(
+            DocumentationOffice.builder()
+                .id(accessInfoDTO.getDocumentationOfficeId())
+                .abbreviation(accessInfoDTO.getDocumentationOfficeAbbreviation())
+                .build())
+        .creatingDocumentationOffice(creatingDocumentationOffice)
+        .publicationStatus(accessInfoDTO.getPublicationStatus())
+        .procedureUserGroupId(accessInfoDTO.getProcedureUserGroupId())
+        .build();
+  }
+
   @Override
   @Transactional(transactionManager = "jpaTransactionManager")
   public DocumentationUnit createNewDocumentationUnit(
@@ -376,13 +454,13 @@ public class PostgresDocumentationUnitRepositoryImpl implements DocumentationUni
   @Transactional(transactionManager = "jpaTransactionManager")
   @Override
   public void save(DocumentationUnit documentationUnit) {
-    saveNonTransactional(documentationUnit, null, null, false);
+    saveNonTransactional(documentationUnit, null, null, false, ChangedPaths.ALL);
   }
 
   @Transactional(transactionManager = "jpaTransactionManager")
   @Override
   public void save(DocumentationUnit documentationUnit, @Nullable User currentUser) {
-    saveNonTransactional(documentationUnit, currentUser, null, false);
+    saveNonTransactional(documentationUnit, currentUser, null, false, ChangedPaths.ALL);
   }
 
   @Transactional(transactionManager = "jpaTransactionManager")
@@ -392,14 +470,28 @@ public class PostgresDocumentationUnitRepositoryImpl implements DocumentationUni
       @Nullable User currentUser,
       @Nullable String description,
       @Nullable boolean processStepChanged) {
-    saveNonTransactional(documentationUnit, currentUser, description, processStepChanged);
+    saveNonTransactional(
+        documentationUnit, currentUser, description, processStepChanged, ChangedPaths.ALL);
+  }
+
+  @Transactional(transactionManager = "jpaTransactionManager")
+  @Override
+  public void save(
+      DocumentationUnit documentationUnit,
+      @Nullable User currentUser,
+      @Nullable String description,
+      boolean processStepChanged,
+      ChangedPaths changedPaths) {
+    saveNonTransactional(
+        documentationUnit, currentUser, description, processStepChanged, changedPaths);
   }
 
   private void saveNonTransactional(
       DocumentationUnit documentationUnit,
       @Nullable User currentUser,
       String description,
-      boolean processStepChanged) {
+      boolean processStepChanged,
+      ChangedPaths changedPaths) {
     DocumentationUnitDTO documentationUnitDTO =
         repository.findById(documentationUnit.uuid()).orElse(null);
     if (documentationUnitDTO == null) {
@@ -407,8 +499,10 @@ public class PostgresDocumentationUnitRepositoryImpl implements DocumentationUni
       return;
     }
 
-    // Doing database-related (pre) transformation
-    if (documentationUnit.coreData() != null) {
+    // Doing database-related (pre) transformation, which depends on the court only
+    if (documentationUnit.coreData() != null
+        && (changedPaths.affects("/coreData/court")
+            || changedPaths.affects("/coreData/leadingDecisionNormReferences"))) {
       documentationUnit = processCoreData(documentationUnit, documentationUnitDTO);
     }
 
@@ -427,7 +521,8 @@ public class PostgresDocumentationUnitRepositoryImpl implements DocumentationUni
     // Transform non-database-related properties
     if (documentationUnitDTO instanceof DecisionDTO decisionDTO) {
       documentationUnitDTO =
-          DecisionTransformer.transformToDTO(decisionDTO, (Decision) documentationUnit);
+          DecisionTransformer.transformToDTO(
+              decisionDTO, (Decision) documentationUnit, changedPaths);
       repository.save(documentationUnitDTO);
     }
     if (documentationUnitDTO instanceof PendingProceedingDTO pendingProceedingDTO) {
@@ -1140,13 +1235,16 @@ public class PostgresDocumentationUnitRepositoryImpl implements DocumentationUni
   }
 
   @Override
-  public List<String> findAllDocumentNumbersByMatchingPublishCriteria() {
-    return repository.getAllMatchingPublishCriteria();
+  @Transactional(transactionManager = "jpaTransactionManager", readOnly = true)
+  public List<String> findDocumentNumbersByMatchingPublishCriteriaAfter(
+      String lastDocumentNumber, int size) {
+    return repository.findDocumentNumbersMatchingPublishCriteriaAfter(lastDocumentNumber, size);
   }
 
   @Override
-  public Set<String> findAllPublishedDocumentNumbers() {
-    return repository.findAllPublishedDocumentNumbers();
+  @Transactional(transactionManager = "jpaTransactionManager", readOnly = true)
+  public List<String> findPublishedDocumentNumbersAfter(String lastDocumentNumber, int size) {
+    return repository.findPublishedDocumentNumbersAfter(lastDocumentNumber, size);
   }
 
   @Override
@@ -1209,9 +1307,18 @@ public class PostgresDocumentationUnitRepositoryImpl implements DocumentationUni
 
   @Override
   @Transactional(transactionManager = "jpaTransactionManager")
-  public List<UUID> findAllByCurrentStatus(
-      PublicationStatus publicationStatus, int page, int size) {
-    return repository.findAllByStatus(publicationStatus, PageRequest.of(page, size));
+  public List<UUID> findAllIdsByCurrentStatusAfter(
+      PublicationStatus publicationStatus, @Nullable UUID lastId, int size) {
+    if (lastId == null) {
+      return repository.findIdsByStatus(publicationStatus, PageRequest.ofSize(size));
+    }
+    return repository.findIdsByStatusAfter(publicationStatus, lastId, PageRequest.ofSize(size));
+  }
+
+  @Override
+  @Transactional(transactionManager = "jpaTransactionManager")
+  public long countByCurrentStatus(PublicationStatus publicationStatus) {
+    return repository.countByStatus(publicationStatus);
   }
 
   @Override
@@ -1219,7 +1326,7 @@ public class PostgresDocumentationUnitRepositoryImpl implements DocumentationUni
   public DocumentationUnitDTO loadDocumentationUnitDTO(UUID uuid)
       throws DocumentationUnitNotExistsException {
     var documenatationUnit =
-        repository.findById(uuid).orElseThrow(() -> new DocumentationUnitNotExistsException(uuid));
+        findAggregateById(uuid).orElseThrow(() -> new DocumentationUnitNotExistsException(uuid));
 
     // load the lazy properties so we can convert it later as well
     getDocumentationUnit(documenatationUnit, null);
@@ -1232,8 +1339,7 @@ public class PostgresDocumentationUnitRepositoryImpl implements DocumentationUni
   public DocumentationUnitDTO loadDocumentationUnitDTO(String documentNumber)
       throws DocumentationUnitNotExistsException {
     var documenatationUnit =
-        repository
-            .findByDocumentNumber(documentNumber)
+        findAggregateByDocumentNumber(documentNumber)
             .orElseThrow(() -> new DocumentationUnitNotExistsException(documentNumber));
 
     // load the lazy properties so we can convert it later as well
@@ -2,144 +2,120 @@ package de.bund.digitalservice.ris.caselaw.adapter.database.jpa;
 
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.FieldOfLawTransformer;
 import de.bund.digitalservice.ris.caselaw.domain.FieldOfLawRepository;
-import de.bund.digitalservice.ris.caselaw.domain.StringUtils;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.FieldOfLaw;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.TypedQuery;
-import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.Expression;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
-import jakarta.persistence.criteria.Predicate;
-import jakarta.persistence.criteria.Root;
-import java.util.ArrayList;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Field of law repository, which answers from an in-memory copy of the catalogue. The catalogue is
+ * maintained by the migration only, so the copy is reloaded if the fingerprint of the catalogue
+ * tables has changed. The fingerprint is checked at most once per revalidate interval.
+ */
 @Repository
+@Slf4j
 public class PostgresFieldOfLawRepositoryImpl implements FieldOfLawRepository {
-  private static final String NORMS = "norms";
   private final DatabaseFieldOfLawRepository repository;
-  private final EntityManager entityManager;
+  private final Duration revalidateInterval;
+
+  private volatile FieldOfLawTree tree;
+  private volatile String fingerprint;
+  private volatile Instant validatedAt = Instant.MIN;
 
   public PostgresFieldOfLawRepositoryImpl(
-      DatabaseFieldOfLawRepository repository, EntityManager entityManager) {
+      DatabaseFieldOfLawRepository repository,
+      @Value("${neuris.field-of-law.revalidate-interval:PT1M}") Duration revalidateInterval) {
 
     this.repository = repository;
-    this.entityManager = entityManager;
+    this.revalidateInterval = revalidateInterval;
   }
 
   @Override
   @Transactional
   public List<FieldOfLaw> getTopLevelNodes() {
-    return repository.findAllByParentIsNullAndNotationOrderByIdentifier().stream()
-        .map(PostgresFieldOfLawRepositoryImpl::getWithNormsWithoutChildren)
-        .toList();
+    return getTree().getTopLevelNodes();
   }
 
   @Override
   @Transactional
   public List<FieldOfLaw> findAllByParentIdentifierOrderByIdentifierAsc(String identifier) {
-    return repository.findByIdentifier(identifier).getChildren().stream()
-        .map(PostgresFieldOfLawRepositoryImpl::getWithNormsWithoutChildren)
-        .toList();
+    return getTree().getChildren(identifier);
   }
 
   @Override
   @Transactional
   public FieldOfLaw findTreeByIdentifier(String identifier) {
-    FieldOfLawDTO childDTO = repository.findByIdentifier(identifier);
-    FieldOfLaw child = FieldOfLawTransformer.transformToDomain(childDTO, false, true);
-
-    FieldOfLawDTO parentDTO;
-    FieldOfLaw parent = child;
-    while (childDTO.getParent() != null) {
-      parentDTO = childDTO.getParent();
-      parent = PostgresFieldOfLawRepositoryImpl.getWithNormsWithoutChildren(parentDTO);
-      parent = parent.toBuilder().children(List.of(child)).build();
-
-      childDTO = parentDTO;
-      child = parent;
-    }
-
-    return parent;
+    return getTree().getPath(identifier);
   }
 
   @Override
   @Transactional
   public Slice<FieldOfLaw> findAllByOrderByIdentifierAsc(Pageable pageable) {
-    return repository
-        .findAllByOrderByIdentifierAsc(pageable)
-        .map(PostgresFieldOfLawRepositoryImpl::getWithNormsWithoutChildren);
+    return getPage(getTree().getAllOrderedByIdentifier(), pageable);
   }
 
   @Override
   @Transactional
   public List<FieldOfLaw> findByCombinedCriteria(
       String identifier, String descriptionSearchTerms, String norm) {
-    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-    CriteriaQuery<FieldOfLawDTO> cq = cb.createQuery(FieldOfLawDTO.class);
-    Root<FieldOfLawDTO> fieldOfLawRoot = cq.from(FieldOfLawDTO.class);
-    ArrayList<Predicate> predicates = new ArrayList<>();
-
-    Predicate notationPredicate =
-        cb.equal(fieldOfLawRoot.get("notation"), cb.literal(Notation.NEW));
-    predicates.add(notationPredicate);
-
-    if (descriptionSearchTerms != null) {
-      for (String searchTerm : StringUtils.splitSearchTerms(descriptionSearchTerms)) {
-        predicates.add(
-            cb.like(cb.lower(fieldOfLawRoot.get("text")), "%" + searchTerm.toLowerCase() + "%"));
-      }
-    }
-    if (identifier != null) {
-      Predicate identifierPredicate =
-          cb.like(fieldOfLawRoot.get("identifier"), identifier.toUpperCase() + "%");
-      predicates.add(identifierPredicate);
-    }
-
-    if (!StringUtils.isNullOrBlank(norm)) {
-      predicates.add(getExactNormPredicate(norm, fieldOfLawRoot, cb));
-    }
+    return getTree().findByCombinedCriteria(identifier, descriptionSearchTerms, norm);
+  }
 
-    cq.select(fieldOfLawRoot).where(predicates.toArray(Predicate[]::new));
-    cq.orderBy(cb.asc(fieldOfLawRoot.get("identifier")));
+  @Override
+  @Transactional
+  public List<FieldOfLaw> findByIdentifier(String searchStr, Pageable pageable) {
+    return getPage(getTree().findByIdentifierPrefix(searchStr.toUpperCase()), pageable)
+        .getContent();
+  }
 
-    TypedQuery<FieldOfLawDTO> query = entityManager.createQuery(cq);
-    List<FieldOfLawDTO> result = query.getResultList();
+  private static Page<FieldOfLaw> getPage(List<FieldOfLaw> fieldsOfLaw, Pageable pageable) {
+    if (pageable.isUnpaged()) {
+      return new PageImpl<>(fieldsOfLaw, pageable, fieldsOfLaw.size());
+    }
 
-    return result.stream()
-        .filter(Objects::nonNull)
-        .distinct()
-        .map(PostgresFieldOfLawRepositoryImpl::getWithNormsWithoutChildren)
-        .toList();
+    int start = (int) Math.min(pageable.getOffset(), fieldsOfLaw.size());
+    int end = Math.min(start + pageable.getPageSize(), fieldsOfLaw.size());
+    return new PageImpl<>(fieldsOfLaw.subList(start, end), pageable, fieldsOfLaw.size());
   }
 
-  private Predicate getExactNormPredicate(
-      String normsString, Root<FieldOfLawDTO> fieldOfLawRoot, CriteriaBuilder cb) {
-    Join<FieldOfLawDTO, ?> normsJoin = fieldOfLawRoot.join(NORMS, JoinType.LEFT);
-
-    Expression<String> combinedNorm =
-        cb.concat(
-            cb.concat(cb.lower(normsJoin.get("abbreviation")), " "),
-            cb.lower(normsJoin.get("singleNormDescription")));
+  private FieldOfLawTree getTree() {
+    FieldOfLawTree current = tree;
+    if (current != null && validatedAt.plus(revalidateInterval).isAfter(Instant.now())) {
+      return current;
+    }
 
-    return cb.like(combinedNorm, "%" + normsString.toLowerCase() + "%");
+    synchronized (this) {
+      String currentFingerprint = repository.getCatalogueFingerprint();
+      if (tree == null || !Objects.equals(fingerprint, currentFingerprint)) {
+        tree = loadTree();
+        fingerprint = currentFingerprint;
+        log.info("Loaded field of law catalogue with {} fields of law", tree.size());
+      }
+      validatedAt = Instant.now();
+      return tree;
+    }
   }
 
-  @Override
-  @Transactional
-  public List<FieldOfLaw> findByIdentifier(String searchStr, Pageable pageable) {
-    return repository
-        .findAllByIdentifierStartsWithIgnoreCaseOrderByIdentifier(searchStr, pageable)
-        .stream()
-        .map(PostgresFieldOfLawRepositoryImpl::getWithNormsWithoutChildren)
-        .toList();
+  private FieldOfLawTree loadTree() {
+    List<FieldOfLawTree.TextReference> textReferences =
+        repository.findAllTextReferences().stream()
+            .map(row -> new FieldOfLawTree.TextReference((UUID) row[0], (String) row[1]))
+            .toList();
+
+    return FieldOfLawTree.build(
+        repository.findAllWithParent(),
+        repository.findAllNormsOrderByAbbreviation(),
+        textReferences);
   }
 
   static FieldOfLaw getWithNormsWithoutChildren(FieldOfLawDTO fieldOfLawDTO) {
@@ -72,4 +72,18 @@ public class PostgresIgnoredTextCheckWordRepositoryImpl implements IgnoredTextCh
     return IgnoredTextCheckWordTransformer.transformToDomain(
         repository.findByDocumentationUnitIdIsNullAndWord(word));
   }
+
+  @Override
+  public List<IgnoredTextCheckWord> findAllGloballyIgnoredWords() {
+    return repository.findAllByDocumentationUnitIdIsNull().stream()
+        .map(IgnoredTextCheckWordTransformer::transformToDomain)
+        .toList();
+  }
+
+  @Override
+  public List<IgnoredTextCheckWord> findAllIgnoredInDocumentationUnit(UUID documentationUnitId) {
+    return repository.findAllByDocumentationUnitId(documentationUnitId).stream()
+        .map(IgnoredTextCheckWordTransformer::transformToDomain)
+        .toList();
+  }
 }
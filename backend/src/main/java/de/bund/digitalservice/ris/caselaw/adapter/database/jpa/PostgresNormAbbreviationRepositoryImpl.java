@@ -5,7 +5,6 @@ import de.bund.digitalservice.ris.caselaw.domain.lookuptable.NormAbbreviation;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.NormAbbreviationRepository;
 import java.util.List;
 import java.util.UUID;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -41,7 +40,8 @@ public class PostgresNormAbbreviationRepositoryImpl implements NormAbbreviationR
 
   /**
    * Retrieves a list of norm abbreviations containing the specified query string, ordered by
-   * accuracy.
+   * accuracy. All tiers of accuracy are ranked by a single query, so the paging is applied to the
+   * complete ordered result.
    *
    * @param query The query string used to filter normal abbreviations.
    * @param size The maximum number of results to retrieve.
@@ -53,49 +53,12 @@ public class PostgresNormAbbreviationRepositoryImpl implements NormAbbreviationR
   public List<NormAbbreviation> findAllContainingOrderByAccuracy(
       String query, Integer size, Integer page) {
     List<NormAbbreviationDTO> results =
-        repository.findByAbbreviationIgnoreCase(query, PageRequest.of(page, size));
-
-    // Add results from additional queries if needed to meet size requirement
-    if (results.size() < size) {
-      var officialLetterAbbreviationExact =
-          repository.findByOfficialLetterAbbreviationIgnoreCase(query, PageRequest.of(page, size));
-      officialLetterAbbreviationExact.stream()
-          .filter(e -> results.size() < size && !results.contains(e))
-          .forEach(results::add);
-    }
-
-    if (results.size() < size) {
-      var abbreviationStartingWith =
-          repository.findByAbbreviationStartsWithIgnoreCase(query, PageRequest.of(page, size));
-      abbreviationStartingWith.stream()
-          .filter(e -> results.size() < size && !results.contains(e))
-          .forEach(results::add);
-    }
-
-    if (results.size() < size) {
-      var officialLetterAbbreviationStartingWith =
-          repository.findByOfficialLetterAbbreviationStartsWithIgnoreCase(
-              query, PageRequest.of(page, size));
-      officialLetterAbbreviationStartingWith.stream()
-          .filter(e -> results.size() < size && !results.contains(e))
-          .forEach(results::add);
-    }
-
-    if (results.size() < size) {
-      var officialLongTitleStartingWith =
-          repository.findByOfficialLongTitleContainsIgnoreCase(query, PageRequest.of(page, size));
-      officialLongTitleStartingWith.stream()
-          .filter(e -> results.size() < size && !results.contains(e))
-          .forEach(results::add);
-    }
-
-    if (results.size() < size) {
-      var rankWeightedVector = repository.findByRankWeightedVector(query, size, page * size);
-      rankWeightedVector.stream()
-          .filter(e -> results.size() < size && !results.contains(e))
-          .forEach(results::add);
-    }
+        repository.findAllOrderByAccuracy(query, escapeLikePattern(query), size, page * size);
 
     return results.stream().map(NormAbbreviationTransformer::transformToDomain).toList();
   }
+
+  private static String escapeLikePattern(String query) {
+    return query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
 }
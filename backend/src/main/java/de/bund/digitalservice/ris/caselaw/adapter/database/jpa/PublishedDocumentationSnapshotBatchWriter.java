@@ -0,0 +1,94 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.jpa;
+
+import de.bund.digitalservice.ris.caselaw.config.ConverterConfig;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnit;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Writes published documentation snapshots with JDBC batch statements. Saving the snapshots one by
+ * one with JPA costs a select and an insert or update per documentation unit, which is too slow for
+ * the creation of the snapshots of all published documentation units.
+ */
+@Repository
+public class PublishedDocumentationSnapshotBatchWriter {
+
+  private static final String UPDATE_SNAPSHOT =
+      """
+      UPDATE incremental_migration.published_documentation_snapshot
+      SET json = ?, last_updated_at = ?
+      WHERE documentation_unit_id = ?
+      """;
+
+  private static final String INSERT_SNAPSHOT =
+      """
+      INSERT INTO incremental_migration.published_documentation_snapshot
+          (id, documentation_unit_id, json, last_updated_at)
+      VALUES (?, ?, ?, ?)
+      """;
+
+  // same serialization as the DocumentationUnitType used by the snapshot entity
+  private final JsonMapper jsonMapper = new ConverterConfig().jsonMapper();
+  private final JdbcTemplate jdbcTemplate;
+
+  public PublishedDocumentationSnapshotBatchWriter(DataSource dataSource) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  /**
+   * Update the snapshots of the given documentation units or insert them if they don't exist yet.
+   * All existing snapshots are updated in one batch, the missing ones are inserted in a second one.
+   *
+   * @param snapshots the new snapshot content keyed by the id of the documentation unit
+   * @return the number of written snapshots
+   */
+  @Transactional(transactionManager = "jpaTransactionManager")
+  public int upsertAll(Map<UUID, DocumentationUnit> snapshots) {
+    if (snapshots.isEmpty()) {
+      return 0;
+    }
+
+    Timestamp publishedAt = Timestamp.valueOf(LocalDateTime.now());
+    List<UUID> documentationUnitIds = new ArrayList<>(snapshots.keySet());
+    List<String> jsons =
+        documentationUnitIds.stream()
+            .map(id -> jsonMapper.writeValueAsString(snapshots.get(id)))
+            .toList();
+
+    List<Object[]> updates = new ArrayList<>();
+    for (int i = 0; i < documentationUnitIds.size(); i++) {
+      updates.add(new Object[] {jsons.get(i), publishedAt, documentationUnitIds.get(i)});
+    }
+    int[] updateCounts =
+        jdbcTemplate.batchUpdate(
+            UPDATE_SNAPSHOT, updates, new int[] {Types.OTHER, Types.TIMESTAMP, Types.OTHER});
+
+    List<Object[]> inserts = new ArrayList<>();
+    for (int i = 0; i < updateCounts.length; i++) {
+      if (updateCounts[i] == 0) {
+        inserts.add(
+            new Object[] {
+              UUID.randomUUID(), documentationUnitIds.get(i), jsons.get(i), publishedAt
+            });
+      }
+    }
+    if (!inserts.isEmpty()) {
+      jdbcTemplate.batchUpdate(
+          INSERT_SNAPSHOT,
+          inserts,
+          new int[] {Types.OTHER, Types.OTHER, Types.OTHER, Types.TIMESTAMP});
+    }
+
+    return documentationUnitIds.size();
+  }
+}
@@ -0,0 +1,20 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.jpa;
+
+import java.time.LocalDate;
+
+/**
+ * An interface representing the metadata of a published documentation unit shown for the citations
+ * and related decisions of other documentation units
+ */
+public interface RelatedDocumentInfoDTO {
+  String getDocumentNumber();
+
+  LocalDate getDate();
+
+  CourtDTO getCourt();
+
+  /** The first file number by rank */
+  String getFileNumber();
+
+  DocumentTypeDTO getDocumentType();
+}
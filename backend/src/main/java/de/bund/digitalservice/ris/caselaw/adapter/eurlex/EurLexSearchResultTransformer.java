@@ -19,6 +19,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
@@ -100,12 +101,13 @@ public class EurLexSearchResultTransformer {
 
     NodeList nodeList = searchResults.getElementsByTagName("result");
     List<EurLexResultDTO> results = new ArrayList<>();
+    Transformer transformer = createIdentityTransformer();
     for (int i = 0; i < nodeList.getLength(); i++) {
       EurLexResultDTOBuilder builder = EurLexResultDTO.builder();
       parseContent(nodeList.item(i), builder, courts);
       parseDocumentLink(nodeList.item(i), builder);
       builder.status(EurLexResultStatus.NEW);
-      builder.resultXml(getXmlAsString(nodeList.item(i)));
+      builder.resultXml(getXmlAsString(transformer, nodeList.item(i)));
 
       results.add(builder.build());
     }
@@ -113,12 +115,29 @@ public class EurLexSearchResultTransformer {
     return results;
   }
 
-  private static String getXmlAsString(Node node) {
+  /**
+   * Create one transformer for all results of a search, instead of a new factory and transformer
+   * for every result.
+   */
+  private static Transformer createIdentityTransformer() {
     try {
-      TransformerFactory transFactory = TransformerFactory.newInstance();
-      Transformer transformer = transFactory.newTransformer();
-      StringWriter buffer = new StringWriter();
+      Transformer transformer = TransformerFactory.newInstance().newTransformer();
       transformer.setOutputProperty(OutputKeys.INDENT, "no");
+      return transformer;
+    } catch (TransformerConfigurationException ex) {
+      log.error("Error while creating XML transformer", ex);
+    }
+
+    return null;
+  }
+
+  private static String getXmlAsString(Transformer transformer, Node node) {
+    if (transformer == null) {
+      return null;
+    }
+
+    try {
+      StringWriter buffer = new StringWriter();
       transformer.transform(new DOMSource(node), new StreamResult(buffer));
       return buffer.toString();
     } catch (TransactionalException | TransformerException ex) {
@@ -1,5 +1,6 @@
 package de.bund.digitalservice.ris.caselaw.adapter.languagetool;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -21,6 +22,15 @@ public class LanguageToolConfig implements InitializingBean {
   private List<String> disabledCategories = new ArrayList<>();
   private Map<String, List<String>> disabledCategoriesWithWhitelistedRules = new HashMap<>();
 
+  /** Number of categories of a documentation unit that are checked in parallel */
+  private int concurrency = 4;
+
+  /** Maximum number of paragraphs whose matches are cached. 0 disables the cache */
+  private int cacheSize = 10_000;
+
+  /** Time after which cached paragraph matches are checked again */
+  private Duration cacheTtl = Duration.ofHours(1);
+
   @Override
   public void afterPropertiesSet() throws IncompatibleConfigurationException {
 
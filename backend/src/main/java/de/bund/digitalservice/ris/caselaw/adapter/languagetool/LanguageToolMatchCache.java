@@ -0,0 +1,85 @@
+package de.bund.digitalservice.ris.caselaw.adapter.languagetool;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Bounded cache for the LanguageTool matches of single paragraphs. The key identifies the content
+ * of a paragraph, the value holds the matches with offsets relative to the start of the paragraph.
+ *
+ * <p>The least recently used entry is evicted if the cache is full. Entries expire after the
+ * configured time to live, so that changes of the LanguageTool rules are picked up eventually.
+ */
+public class LanguageToolMatchCache {
+  private final int maxSize;
+  private final Duration ttl;
+  private final Clock clock;
+  private final Map<String, Entry> entries;
+
+  public LanguageToolMatchCache(int maxSize, Duration ttl) {
+    this(maxSize, ttl, Clock.systemUTC());
+  }
+
+  LanguageToolMatchCache(int maxSize, Duration ttl, Clock clock) {
+    this.maxSize = maxSize;
+    this.ttl = ttl;
+    this.clock = clock;
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > LanguageToolMatchCache.this.maxSize;
+          }
+        };
+  }
+
+  /**
+   * Get the cached matches of a paragraph.
+   *
+   * @param key the key of the paragraph content
+   * @return the matches relative to the paragraph start or null, if the paragraph is not cached
+   */
+  @Nullable
+  public synchronized List<Match> get(String key) {
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+
+    if (!entry.expiresAt().isAfter(clock.instant())) {
+      entries.remove(key);
+      return null;
+    }
+
+    return entry.matches();
+  }
+
+  /**
+   * Cache the matches of a paragraph. The matches must not be changed afterwards.
+   *
+   * @param key the key of the paragraph content
+   * @param matches the matches relative to the paragraph start
+   */
+  public synchronized void put(String key, List<Match> matches) {
+    if (maxSize <= 0) {
+      return;
+    }
+
+    entries.put(key, new Entry(List.copyOf(matches), clock.instant().plus(ttl)));
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private record Entry(List<Match> matches, Instant expiresAt) {}
+}
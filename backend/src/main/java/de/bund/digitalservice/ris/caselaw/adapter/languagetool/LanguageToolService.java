@@ -1,19 +1,29 @@
 package de.bund.digitalservice.ris.caselaw.adapter.languagetool;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.TextCheckResponseTransformer;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitRepository;
 import de.bund.digitalservice.ris.caselaw.domain.TextCheckService;
-import de.bund.digitalservice.ris.caselaw.domain.textcheck.Match;
 import de.bund.digitalservice.ris.caselaw.domain.textcheck.ignored_words.IgnoredTextCheckWordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.jsoup.nodes.Node;
 import org.jsoup.nodes.TextNode;
 import org.jsoup.select.NodeTraversor;
@@ -23,53 +33,183 @@ import org.jsoup.select.NodeVisitor;
 public class LanguageToolService extends TextCheckService {
   private final LanguageToolConfig languageToolConfig;
   private final LanguageToolClient languageToolClient;
+  private final LanguageToolMatchCache matchCache;
+  private final Executor categoryExecutor;
 
   public LanguageToolService(
       DocumentationUnitRepository documentationUnitRepository,
       IgnoredTextCheckWordRepository ignoredTextCheckWordRepository,
       LanguageToolConfig languageToolConfig,
-      LanguageToolClient languageToolClient) {
+      LanguageToolClient languageToolClient,
+      LanguageToolMatchCache matchCache,
+      Executor categoryExecutor,
+      MeterRegistry meterRegistry) {
 
-    super(documentationUnitRepository, ignoredTextCheckWordRepository);
+    super(documentationUnitRepository, ignoredTextCheckWordRepository, meterRegistry);
     this.languageToolConfig = languageToolConfig;
     this.languageToolClient = languageToolClient;
+    this.matchCache = matchCache;
+    this.categoryExecutor = categoryExecutor;
   }
 
   @Override
-  protected List<Match> requestTool(String text) {
+  protected Executor getCategoryExecutor() {
+    return categoryExecutor;
+  }
+
+  /**
+   * Check the text paragraph by paragraph. The matches of unchanged paragraphs are taken from the
+   * cache, all other paragraphs are sent to LanguageTool in one request. The offsets of the matches
+   * are relative to the paragraph start in the cache and are shifted to the position of the
+   * paragraph in the whole text afterwards.
+   */
+  @Override
+  protected List<de.bund.digitalservice.ris.caselaw.domain.textcheck.Match> requestTool(
+      String text) {
     if (!languageToolConfig.isEnabled()) {
       log.info("LanguageTool is disabled. Skipping text check.");
       return List.of();
     }
     Document document = Jsoup.parse(text);
-    JsonObject data = new JsonObject();
-    data.add("annotation", getAnnotationsArray(document));
+    List<JsonArray> paragraphs = getParagraphAnnotations(document);
+
+    List<String> keys = new ArrayList<>(paragraphs.size());
+    Map<Integer, List<Match>> matchesByParagraph = new HashMap<>();
+    List<Integer> uncheckedParagraphs = new ArrayList<>();
+    for (int i = 0; i < paragraphs.size(); i++) {
+      String key = getCacheKey(paragraphs.get(i));
+      keys.add(key);
+      var cachedMatches = matchCache.get(key);
+      if (cachedMatches == null) {
+        uncheckedParagraphs.add(i);
+      } else {
+        matchesByParagraph.put(i, cachedMatches);
+      }
+    }
+
+    if (!uncheckedParagraphs.isEmpty()) {
+      var checkedMatches =
+          checkParagraphs(uncheckedParagraphs.stream().map(paragraphs::get).toList());
+      for (int i = 0; i < uncheckedParagraphs.size(); i++) {
+        int paragraph = uncheckedParagraphs.get(i);
+        matchCache.put(keys.get(paragraph), checkedMatches.get(i));
+        matchesByParagraph.put(paragraph, checkedMatches.get(i));
+      }
+    }
+
+    log.debug(
+        "Checked {} of {} paragraphs with LanguageTool, the others were cached",
+        uncheckedParagraphs.size(),
+        paragraphs.size());
+
+    List<Match> matches = new ArrayList<>();
+    int paragraphStart = 0;
+    for (int i = 0; i < paragraphs.size(); i++) {
+      int offset = paragraphStart;
+      matchesByParagraph.get(i).stream()
+          .map(match -> match.toBuilder().offset(match.getOffset() + offset).build())
+          .forEach(matches::add);
+      paragraphStart += getLength(paragraphs.get(i));
+    }
+
+    return TextCheckResponseTransformer.transformToListOfDomainMatches(matches);
+  }
+
+  /**
+   * Send the given paragraphs in one request to LanguageTool and assign the returned matches to the
+   * paragraphs.
+   *
+   * @param paragraphs the annotations of the paragraphs
+   * @return for every paragraph the filtered matches with offsets relative to the paragraph start
+   */
+  private List<List<Match>> checkParagraphs(List<JsonArray> paragraphs) {
+    JsonArray annotations = new JsonArray();
+    int[] paragraphStarts = new int[paragraphs.size()];
+    List<List<Match>> result = new ArrayList<>(paragraphs.size());
+    int length = 0;
+    for (int i = 0; i < paragraphs.size(); i++) {
+      paragraphStarts[i] = length;
+      annotations.addAll(paragraphs.get(i));
+      length += getLength(paragraphs.get(i));
+      result.add(new ArrayList<>());
+    }
 
-    // Use the new client to get the response
+    JsonObject data = new JsonObject();
+    data.add("annotation", annotations);
     LanguageToolResponse response = languageToolClient.checkText(data);
 
-    var filtered =
-        response.getMatches().stream()
-            .filter(
-                match -> {
-                  String categoryId = match.getRule().getCategory().getId();
-                  Map<String, List<String>> categoriesWithAllowedRules =
-                      languageToolConfig.getDisabledCategoriesWithWhitelistedRules();
-                  return !categoriesWithAllowedRules.containsKey(categoryId)
-                      || categoriesWithAllowedRules
-                          .get(categoryId)
-                          .contains(match.getRule().getId());
-                })
-            .toList();
-
-    return TextCheckResponseTransformer.transformToListOfDomainMatches(filtered);
+    response.getMatches().stream()
+        .filter(this::isAllowed)
+        .forEach(
+            match -> {
+              int paragraph = findParagraph(paragraphStarts, match.getOffset());
+              result
+                  .get(paragraph)
+                  .add(
+                      match.toBuilder()
+                          .offset(match.getOffset() - paragraphStarts[paragraph])
+                          .build());
+            });
+
+    return result;
+  }
+
+  private boolean isAllowed(Match match) {
+    String categoryId = match.getRule().getCategory().getId();
+    Map<String, List<String>> categoriesWithAllowedRules =
+        languageToolConfig.getDisabledCategoriesWithWhitelistedRules();
+    return !categoriesWithAllowedRules.containsKey(categoryId)
+        || categoriesWithAllowedRules.get(categoryId).contains(match.getRule().getId());
+  }
+
+  private static int findParagraph(int[] paragraphStarts, int offset) {
+    int index = Arrays.binarySearch(paragraphStarts, offset);
+    if (index >= 0) {
+      // empty paragraphs share their start with the next paragraph, take the last one
+      while (index + 1 < paragraphStarts.length && paragraphStarts[index + 1] == offset) {
+        index++;
+      }
+      return index;
+    }
+    return Math.max(0, -index - 2);
   }
 
+  /**
+   * Split the body of the document into paragraphs. Each top level element is a paragraph.
+   *
+   * @param document the parsed html document
+   * @return the annotations of every paragraph
+   */
   @NotNull
-  static JsonArray getAnnotationsArray(Document document) {
-    JsonArray annotations = new JsonArray();
-    NodeTraversor.traverse(new AnnotationsNodeVisitor(annotations), document.body().children());
-    return annotations;
+  static List<JsonArray> getParagraphAnnotations(Document document) {
+    List<JsonArray> paragraphs = new ArrayList<>();
+    for (Element element : document.body().children()) {
+      JsonArray annotations = new JsonArray();
+      NodeTraversor.traverse(new AnnotationsNodeVisitor(annotations), element);
+      paragraphs.add(annotations);
+    }
+    return paragraphs;
+  }
+
+  /** Length of the annotated text, as LanguageTool counts the offsets of its matches. */
+  private static int getLength(JsonArray annotations) {
+    int length = 0;
+    for (JsonElement annotation : annotations) {
+      JsonObject entry = annotation.getAsJsonObject();
+      JsonElement value = entry.has("text") ? entry.get("text") : entry.get("markup");
+      length += value.getAsString().length();
+    }
+    return length;
+  }
+
+  private static String getCacheKey(JsonArray annotations) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of()
+          .formatHex(digest.digest(annotations.toString().getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 algorithm not available", e);
+    }
   }
 
   private record AnnotationsNodeVisitor(JsonArray annotations)
@@ -0,0 +1,131 @@
+package de.bund.digitalservice.ris.caselaw.adapter.publication;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Differences between the document numbers of a source (e.g. the database) and a target (e.g. the
+ * portal bucket). Only the first {@value #SAMPLE_SIZE} differing document numbers of each side are
+ * kept.
+ *
+ * @param sourceCount number of distinct document numbers in the source
+ * @param targetCount number of distinct document numbers in the target
+ * @param notInTargetCount number of document numbers in the source but not in the target
+ * @param notInSourceCount number of document numbers in the target but not in the source
+ * @param notInTarget sample of the document numbers in the source but not in the target
+ * @param notInSource sample of the document numbers in the target but not in the source
+ */
+public record DocumentNumberDiff(
+    long sourceCount,
+    long targetCount,
+    long notInTargetCount,
+    long notInSourceCount,
+    List<String> notInTarget,
+    List<String> notInSource) {
+
+  static final int SAMPLE_SIZE = 100;
+
+  /**
+   * Compare two sequences of document numbers in a single pass (sorted merge). Both sequences have
+   * to be sorted ascending, duplicates are skipped.
+   *
+   * @param source the document numbers of the source
+   * @param target the document numbers of the target
+   * @param onNotInTarget called for every document number in the source but not in the target
+   * @param onNotInSource called for every document number in the target but not in the source
+   * @return the differences of both sequences
+   * @throws IllegalStateException if one of the sequences isn't sorted
+   */
+  static DocumentNumberDiff compare(
+      Iterator<String> source,
+      Iterator<String> target,
+      Consumer<String> onNotInTarget,
+      Consumer<String> onNotInSource) {
+
+    SortedCursor sourceCursor = new SortedCursor(source, "source");
+    SortedCursor targetCursor = new SortedCursor(target, "target");
+    List<String> notInTarget = new ArrayList<>();
+    List<String> notInSource = new ArrayList<>();
+    long notInTargetCount = 0;
+    long notInSourceCount = 0;
+
+    while (sourceCursor.current != null || targetCursor.current != null) {
+      int comparison;
+      if (sourceCursor.current == null) {
+        comparison = 1;
+      } else if (targetCursor.current == null) {
+        comparison = -1;
+      } else {
+        comparison = sourceCursor.current.compareTo(targetCursor.current);
+      }
+
+      if (comparison < 0) {
+        notInTargetCount++;
+        addToSample(notInTarget, sourceCursor.current);
+        onNotInTarget.accept(sourceCursor.current);
+        sourceCursor.advance();
+      } else if (comparison > 0) {
+        notInSourceCount++;
+        addToSample(notInSource, targetCursor.current);
+        onNotInSource.accept(targetCursor.current);
+        targetCursor.advance();
+      } else {
+        sourceCursor.advance();
+        targetCursor.advance();
+      }
+    }
+
+    return new DocumentNumberDiff(
+        sourceCursor.count,
+        targetCursor.count,
+        notInTargetCount,
+        notInSourceCount,
+        notInTarget,
+        notInSource);
+  }
+
+  private static void addToSample(List<String> sample, String documentNumber) {
+    if (sample.size() < SAMPLE_SIZE) {
+      sample.add(documentNumber);
+    }
+  }
+
+  /** Position in a sorted sequence, which skips duplicates and counts the distinct values. */
+  private static final class SortedCursor {
+    private final Iterator<String> iterator;
+    private final String name;
+    private String current;
+    private long count;
+
+    private SortedCursor(Iterator<String> iterator, String name) {
+      this.iterator = iterator;
+      this.name = name;
+      advance();
+    }
+
+    private void advance() {
+      String previous = current;
+      current = null;
+      while (iterator.hasNext()) {
+        String next = iterator.next();
+        int comparison = previous == null ? 1 : next.compareTo(previous);
+        if (comparison < 0) {
+          throw new IllegalStateException(
+              "Document numbers of the "
+                  + name
+                  + " are not sorted: "
+                  + next
+                  + " after "
+                  + previous);
+        }
+        if (comparison > 0) {
+          current = next;
+          count++;
+          return;
+        }
+      }
+    }
+  }
+}
@@ -4,14 +4,27 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PortalPublication
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PortalPublicationJobRepository;
 import de.bund.digitalservice.ris.caselaw.domain.PublicationJobStatus;
 import de.bund.digitalservice.ris.caselaw.domain.PublicationJobType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -19,14 +32,41 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class PortalPublicationJobService {
 
+  /**
+   * The time of the last modification of a file in the bucket is truncated to seconds and the
+   * clocks of the database and the bucket may differ, so files written shortly before the creation
+   * of a job are counted as written for the job, too.
+   */
+  private static final Duration CLOCK_TOLERANCE = Duration.ofMinutes(1);
+
+  /** Number of changelog uploads tried for a job before the job fails with an error. */
+  static final int MAX_CHANGELOG_ATTEMPTS = 10;
+
+  /**
+   * The number of scheduled runs skipped after a failed changelog upload doubles with every
+   * consecutive failure, up to 2^6 = 64 runs of 5 seconds.
+   */
+  private static final int MAX_BACKOFF_EXPONENT = 6;
+
   private final PortalPublicationJobRepository publicationJobRepository;
   private final PortalPublicationService portalPublicationService;
+  private final Executor jobExecutor;
+  private final MeterRegistry meterRegistry;
+
+  // only used by the scheduled executions, which never overlap
+  private final Map<UUID, Integer> changelogAttempts = new HashMap<>();
+  private int consecutiveChangelogFailures;
+  private int runsToSkip;
 
   public PortalPublicationJobService(
       PortalPublicationJobRepository publicationJobRepository,
-      PortalPublicationService portalPublicationService) {
+      PortalPublicationService portalPublicationService,
+      @Qualifier("portalPublicationJobExecutor") Executor jobExecutor,
+      MeterRegistry meterRegistry) {
     this.publicationJobRepository = publicationJobRepository;
     this.portalPublicationService = portalPublicationService;
+    this.jobExecutor = jobExecutor;
+    this.meterRegistry = meterRegistry;
   }
 
   //                        ↓ day of month (1-31)
@@ -49,37 +89,174 @@ public class PortalPublicationJobService {
   @Scheduled(fixedDelayString = "PT5S")
   @SchedulerLock(name = "portal-publication-job", lockAtMostFor = "PT15M")
   public void executePendingJobs() {
+    if (runsToSkip > 0) {
+      runsToSkip--;
+      return;
+    }
 
     List<PortalPublicationJobDTO> pendingJobs = publicationJobRepository.findNextPendingJobsBatch();
     if (pendingJobs.isEmpty()) {
       return;
     }
 
-    log.info("Executing {} portal publication jobs", pendingJobs.size());
+    long start = System.nanoTime();
+    Map<String, PortalPublicationJobDTO> latestJobs = getLatestJobPerDocumentNumber(pendingJobs);
+
+    log.info(
+        "Executing {} portal publication jobs ({} superseded)",
+        latestJobs.size(),
+        pendingJobs.size() - latestJobs.size());
     log.info(
         "Executing portal publication jobs for doc numbers: {}",
-        pendingJobs.stream()
-            .map(PortalPublicationJobDTO::getDocumentNumber)
-            .collect(Collectors.joining(", ")));
-    List<PortalPublicationResult> results = new ArrayList<>();
-    for (PortalPublicationJobDTO job : pendingJobs) {
-      var result = executeJob(job);
-      if (result != null) results.add(result);
+        String.join(", ", latestJobs.keySet()));
+
+    List<PortalPublicationResult> results =
+        executeJobs(latestJobs.values(), getFirstCreationPerDocumentNumber(pendingJobs));
+    markSupersededJobs(pendingJobs, latestJobs);
+    PublicationResult publicationResult;
+    try {
+      publicationResult = writeChangelog(results, latestJobs.values());
+    } catch (Exception e) {
+      handleChangelogFailure(pendingJobs, e);
+      return;
     }
-    var publicationResult = writeChangelog(results, pendingJobs);
     publicationJobRepository.saveAll(pendingJobs);
+    pendingJobs.forEach(job -> changelogAttempts.remove(job.getId()));
+    consecutiveChangelogFailures = 0;
+
+    Duration duration = Duration.ofNanos(System.nanoTime() - start);
+    Timer.builder("portal.publication.batch")
+        .description("Duration of a batch of portal publication jobs")
+        .register(meterRegistry)
+        .record(duration);
 
     log.info(
-        "Portal publication jobs successfully executed: {} files published, {} files deleted.",
+        "Portal publication jobs executed in {} ms: {} files published, {} files deleted.",
+        duration.toMillis(),
         publicationResult.publishedCount,
         publicationResult.deletedCount);
   }
 
-  private PortalPublicationResult executeJob(PortalPublicationJobDTO job) {
+  /**
+   * The jobs stay pending. Their retry reports the files written since the creation of the jobs as
+   * changed, so the files are part of its changelog even if their content is the same. The next
+   * batch is delayed by an exponential backoff and jobs whose changelog failed {@link
+   * #MAX_CHANGELOG_ATTEMPTS} times are not retried anymore but saved with an error.
+   */
+  private void handleChangelogFailure(List<PortalPublicationJobDTO> pendingJobs, Exception e) {
+    consecutiveChangelogFailures++;
+    runsToSkip = 1 << Math.min(consecutiveChangelogFailures - 1, MAX_BACKOFF_EXPONENT);
+
+    List<PortalPublicationJobDTO> failedJobs =
+        pendingJobs.stream()
+            .filter(
+                job ->
+                    changelogAttempts.merge(job.getId(), 1, Integer::sum) >= MAX_CHANGELOG_ATTEMPTS)
+            .toList();
+    if (failedJobs.isEmpty()) {
+      log.error(
+          "Could not upload changelog file, the portal publication jobs are retried after {}"
+              + " scheduled runs.",
+          runsToSkip,
+          e);
+      return;
+    }
+
+    failedJobs.forEach(
+        job -> {
+          job.setPublicationJobStatus(PublicationJobStatus.ERROR);
+          changelogAttempts.remove(job.getId());
+        });
+    publicationJobRepository.saveAll(failedJobs);
+    log.error(
+        "Could not upload changelog file {} times, the portal publication jobs for doc numbers {}"
+            + " failed.",
+        MAX_CHANGELOG_ATTEMPTS,
+        failedJobs.stream()
+            .map(PortalPublicationJobDTO::getDocumentNumber)
+            .distinct()
+            .collect(Collectors.joining(", ")),
+        e);
+  }
+
+  /**
+   * Only the newest job of a document number has to be executed, as it determines the final state
+   * of the documentation unit in the portal. The jobs of a batch are sorted by their creation date,
+   * so later jobs replace earlier ones.
+   */
+  private static Map<String, PortalPublicationJobDTO> getLatestJobPerDocumentNumber(
+      List<PortalPublicationJobDTO> pendingJobs) {
+    Map<String, PortalPublicationJobDTO> latestJobs = new LinkedHashMap<>();
+    pendingJobs.forEach(job -> latestJobs.put(job.getDocumentNumber(), job));
+    return latestJobs;
+  }
+
+  /**
+   * The creation time of the first pending job of each document number. Files of the documentation
+   * unit written since then may have been written by an earlier attempt of the jobs whose changelog
+   * couldn't be uploaded.
+   */
+  private static Map<String, Instant> getFirstCreationPerDocumentNumber(
+      List<PortalPublicationJobDTO> pendingJobs) {
+    Map<String, Instant> firstCreation = new HashMap<>();
+    pendingJobs.stream()
+        .filter(job -> job.getCreatedAt() != null)
+        .forEach(
+            job ->
+                firstCreation.merge(
+                    job.getDocumentNumber(),
+                    job.getCreatedAt().minus(CLOCK_TOLERANCE),
+                    (first, other) -> first.isBefore(other) ? first : other));
+    return firstCreation;
+  }
+
+  /** Superseded jobs share the outcome of the newest job for the same document number. */
+  private static void markSupersededJobs(
+      List<PortalPublicationJobDTO> pendingJobs, Map<String, PortalPublicationJobDTO> latestJobs) {
+    pendingJobs.forEach(
+        job ->
+            job.setPublicationJobStatus(
+                latestJobs.get(job.getDocumentNumber()).getPublicationJobStatus()));
+  }
+
+  /**
+   * Execute the jobs in parallel on the portal publication job executor. Each job handles its own
+   * errors, so waiting for the results never fails because of a single job.
+   */
+  private List<PortalPublicationResult> executeJobs(
+      Collection<PortalPublicationJobDTO> jobs, Map<String, Instant> changedSince) {
+    List<CompletableFuture<PortalPublicationResult>> futures =
+        jobs.stream()
+            .map(
+                job ->
+                    CompletableFuture.supplyAsync(
+                        () -> executeTimedJob(job, changedSince.get(job.getDocumentNumber())),
+                        jobExecutor))
+            .toList();
+
+    return futures.stream().map(CompletableFuture::join).filter(Objects::nonNull).toList();
+  }
+
+  private PortalPublicationResult executeTimedJob(
+      PortalPublicationJobDTO job, @Nullable Instant changedSince) {
+    long start = System.nanoTime();
+    var result = executeJob(job, changedSince);
+    Timer.builder("portal.publication.job")
+        .description("Duration of a single portal publication job")
+        .tag("type", String.valueOf(job.getPublicationJobType()))
+        .tag("status", String.valueOf(job.getPublicationJobStatus()))
+        .register(meterRegistry)
+        .record(Duration.ofNanos(System.nanoTime() - start));
+    return result;
+  }
+
+  private PortalPublicationResult executeJob(
+      PortalPublicationJobDTO job, @Nullable Instant changedSince) {
     if (job.getPublicationJobType() == PublicationJobType.PUBLISH) {
       try {
         var result =
-            this.portalPublicationService.publishDocumentationUnit(job.getDocumentNumber());
+            this.portalPublicationService.publishDocumentationUnit(
+                job.getDocumentNumber(), changedSince);
         job.setPublicationJobStatus(PublicationJobStatus.SUCCESS);
         return result;
       } catch (Exception e) {
@@ -103,18 +280,14 @@ public class PortalPublicationJobService {
   }
 
   private PublicationResult writeChangelog(
-      List<PortalPublicationResult> results, List<PortalPublicationJobDTO> pendingJobs) {
+      List<PortalPublicationResult> results, Collection<PortalPublicationJobDTO> executedJobs) {
     Map<String, PortalPublicationJobDTO> jobsWithoutDuplicates =
-        pendingJobs.stream()
+        executedJobs.stream()
             .filter(job -> job.getPublicationJobStatus() == PublicationJobStatus.SUCCESS)
             .collect(
                 Collectors.toMap(
                     job -> job.getDocumentNumber() + "/" + job.getDocumentNumber() + ".xml",
-                    job -> job,
-                    (existing, replacement) ->
-                        existing.getCreatedAt().isAfter(replacement.getCreatedAt())
-                            ? existing
-                            : replacement));
+                    job -> job));
 
     Set<String> publishDocNumbers = new HashSet<>();
     Set<String> deletedDocNumbers = new HashSet<>();
@@ -143,12 +316,8 @@ public class PortalPublicationJobService {
         });
 
     if (!publishDocNumbers.isEmpty() || !deletedDocNumbers.isEmpty()) {
-      try {
-        this.portalPublicationService.uploadChangelog(
-            publishDocNumbers.stream().toList(), deletedDocNumbers.stream().toList());
-      } catch (Exception e) {
-        log.error("Could not upload changelog file.", e);
-      }
+      this.portalPublicationService.uploadChangelog(
+          publishDocNumbers.stream().toList(), deletedDocNumbers.stream().toList());
     }
 
     return new PublicationResult(publishDocNumbers.size(), deletedDocNumbers.size());
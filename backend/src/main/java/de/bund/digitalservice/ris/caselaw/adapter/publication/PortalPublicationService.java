@@ -5,14 +5,11 @@ import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import de.bund.digitalservice.ris.caselaw.adapter.S3Bucket;
 import de.bund.digitalservice.ris.caselaw.adapter.XmlUtilService;
 import de.bund.digitalservice.ris.caselaw.adapter.caselawldml.CaseLawLdml;
-import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.AttachmentInlineDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseAttachmentInlineRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationUnitRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DecisionDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentationUnitDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PendingProceedingDTO;
-import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PublishedDocumentationSnapshotEntity;
-import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PublishedDocumentationSnapshotRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.RelatedPendingProceedingDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.exception.BucketException;
 import de.bund.digitalservice.ris.caselaw.adapter.exception.ChangelogException;
@@ -36,25 +33,34 @@ import de.bund.digitalservice.ris.caselaw.domain.LdmlTransformationResult;
 import de.bund.digitalservice.ris.caselaw.domain.LoggingKeys;
 import de.bund.digitalservice.ris.caselaw.domain.PendingProceeding;
 import de.bund.digitalservice.ris.caselaw.domain.PortalPublicationStatus;
-import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
 import de.bund.digitalservice.ris.caselaw.domain.User;
 import de.bund.digitalservice.ris.caselaw.domain.exception.DocumentationUnitNotExistsException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.mapping.MappingException;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.model.S3Object;
 import tools.jackson.databind.ObjectMapper;
 
 @Service
@@ -69,7 +75,6 @@ public class PortalPublicationService {
   private final PortalTransformer ldmlTransformer;
   private final FeatureToggleService featureToggleService;
   private final DocumentationUnitHistoryLogService historyLogService;
-  private final PublishedDocumentationSnapshotRepository snapshotRepository;
   private final CaselawCitationSyncService caselawCitationSyncService;
   private final CaselawCitationPublishService caselawCitationPublishService;
   private final UliCitationPublishService uliCitationPublishService;
@@ -79,6 +84,10 @@ public class PortalPublicationService {
   private static final String PUBLICATION_FEATURE_FLAG = "neuris.portal-publication";
   private static final String CHANGELOG_FEATURE_FLAG = "neuris.regular-changelogs";
   private final DatabaseAttachmentInlineRepository attachmentInlineRepository;
+  private final Executor imageUploadExecutor;
+  private final int imageUploadConcurrency;
+  private final Timer bucketTimer;
+  private final DistributionSummary uploadedBytes;
 
   public PortalPublicationService(
       DocumentationUnitRepository documentationUnitRepository,
@@ -90,12 +99,14 @@ public class PortalPublicationService {
       FeatureToggleService featureToggleService,
       DocumentationUnitHistoryLogService historyLogService,
       DatabaseAttachmentInlineRepository attachmentInlineRepository,
-      PublishedDocumentationSnapshotRepository snapshotRepository,
       CaselawCitationSyncService caselawCitationSyncService,
       CaselawCitationPublishService caselawCitationPublishService,
       UliCitationPublishService uliCitationPublishService,
       AdmCitationPublishService admCitationPublishService,
-      SliCitationPublishService sliCitationPublishService) {
+      SliCitationPublishService sliCitationPublishService,
+      @Qualifier("portalImageUploadExecutor") Executor imageUploadExecutor,
+      @Value("${neuris.portal-publication.image-upload-concurrency:4}") int imageUploadConcurrency,
+      MeterRegistry meterRegistry) {
 
     this.documentationUnitRepository = documentationUnitRepository;
     this.databaseDocumentationUnitRepository = databaseDocumentationUnitRepository;
@@ -106,12 +117,23 @@ public class PortalPublicationService {
     this.featureToggleService = featureToggleService;
     this.historyLogService = historyLogService;
     this.attachmentInlineRepository = attachmentInlineRepository;
-    this.snapshotRepository = snapshotRepository;
     this.caselawCitationSyncService = caselawCitationSyncService;
     this.caselawCitationPublishService = caselawCitationPublishService;
     this.uliCitationPublishService = uliCitationPublishService;
     this.admCitationPublishService = admCitationPublishService;
     this.sliCitationPublishService = sliCitationPublishService;
+    this.imageUploadExecutor = imageUploadExecutor;
+    this.imageUploadConcurrency = Math.max(1, imageUploadConcurrency);
+    this.bucketTimer =
+        Timer.builder("portal.publication.bucket")
+            .description(
+                "Duration of saving the files of a documentation unit to the portal bucket")
+            .register(meterRegistry);
+    this.uploadedBytes =
+        DistributionSummary.builder("portal.publication.uploaded.bytes")
+            .description("Size of the changed files of a documentation unit uploaded to the bucket")
+            .baseUnit("bytes")
+            .register(meterRegistry);
   }
 
   /**
@@ -137,7 +159,7 @@ public class PortalPublicationService {
     DocumentationUnitDTO documentationUnit =
         documentationUnitRepository.loadDocumentationUnitDTO(documentationUnitId);
 
-    var result = publishToBucket(documentationUnit);
+    var result = publishToBucket(documentationUnit, null);
     uploadChangelogWithdrawOnFailure(documentationUnit, result);
     updatePortalPublicationStatus(documentationUnit, PortalPublicationStatus.PUBLISHED, user);
 
@@ -151,78 +173,6 @@ public class PortalPublicationService {
     return new ManualPortalPublicationResult(relatedPendingProceedingUpdateResult);
   }
 
-  @Async
-  public void publishSnapshots(int page, int size) {
-    List<UUID> documentationUnitIds =
-        documentationUnitRepository.findAllByCurrentStatus(PublicationStatus.PUBLISHED, page, size);
-
-    log.info("save {} documentation units as snapshots", documentationUnitIds.size());
-
-    AtomicInteger counter = new AtomicInteger(0);
-    AtomicInteger decisionCounter = new AtomicInteger(0);
-    AtomicInteger batchCounter = new AtomicInteger(0);
-    documentationUnitIds.forEach(
-        documentationUnitId -> {
-          DocumentationUnitDTO documentationUnit = null;
-          try {
-            documentationUnit =
-                documentationUnitRepository.loadDocumentationUnitDTO(documentationUnitId);
-          } catch (Exception e) {
-            return;
-          }
-
-          counter.incrementAndGet();
-          if (documentationUnit instanceof DecisionDTO decision) {
-            decisionCounter.incrementAndGet();
-            saveSnapshot(decision);
-          }
-
-          if (counter.get() > 1000) {
-            log.info(
-                "save {} decisions of {} documentation units in batch {}",
-                decisionCounter.get(),
-                counter.get(),
-                batchCounter.get());
-            counter.set(0);
-            decisionCounter.set(0);
-            batchCounter.incrementAndGet();
-          }
-        });
-
-    if (counter.get() > 0) {
-      log.info(
-          "save {} decisions of {} documentation units in batch {}",
-          decisionCounter.get(),
-          counter.get(),
-          batchCounter.get());
-      if (!documentationUnitIds.isEmpty()) {
-        log.info("last documentation units: {}", documentationUnitIds.getLast());
-      }
-    }
-  }
-
-  private void saveSnapshot(DocumentationUnitDTO documentationUnit) {
-    Optional<PublishedDocumentationSnapshotEntity> snapshot =
-        snapshotRepository.findByDocumentationUnitId(documentationUnit.getId());
-    PublishedDocumentationSnapshotEntity entity;
-    if (snapshot.isPresent()) {
-      entity =
-          snapshot.get().toBuilder()
-              .json(toDomain(documentationUnit))
-              .publishedAt(LocalDateTime.now())
-              .build();
-    } else {
-      entity =
-          PublishedDocumentationSnapshotEntity.builder()
-              .documentationUnitId(documentationUnit.getId())
-              .json(toDomain(documentationUnit))
-              .publishedAt(LocalDateTime.now())
-              .build();
-    }
-
-    snapshotRepository.save(entity);
-  }
-
   /**
    * Publish the documentation unit by transforming it to LDML and writing the resulting XML file
    * together with any to a bucket.
@@ -236,15 +186,56 @@ public class PortalPublicationService {
    */
   public PortalPublicationResult publishDocumentationUnit(String documentNumber)
       throws DocumentationUnitNotExistsException {
+    return publishDocumentationUnit(documentNumber, null);
+  }
+
+  /**
+   * Publish the documentation unit like {@link #publishDocumentationUnit(String)}. Files in the
+   * bucket which were written since the given time are reported as changed, even if their content
+   * didn't change. So the files of a publication whose changelog could not be written are part of
+   * the changelog of its retry.
+   *
+   * @param documentNumber the documentation unit that should be published
+   * @param changedSince files written since this time are reported as changed, null to only report
+   *     files with a changed content
+   * @throws DocumentationUnitNotExistsException if the documentation unit with the given document
+   *     number could not be found in the database
+   * @throws LdmlTransformationException if the documentation unit could not be transformed to valid
+   *     LDML
+   * @throws PublishException if the LDML file could not be saved in the bucket
+   */
+  public PortalPublicationResult publishDocumentationUnit(
+      String documentNumber, @Nullable Instant changedSince)
+      throws DocumentationUnitNotExistsException {
     DocumentationUnitDTO documentationUnit =
         documentationUnitRepository.loadDocumentationUnitDTO(documentNumber);
-    var publicationResult = publishToBucket(documentationUnit);
+    var publicationResult = publishToBucket(documentationUnit, changedSince);
     updatePortalPublicationStatus(documentationUnit, PortalPublicationStatus.PUBLISHED, null);
     if (documentationUnit instanceof DecisionDTO decision)
       publishResolutionNoteOfRelatedPendingProceedings(decision, null);
     return publicationResult;
   }
 
+  /**
+   * Transform the documentation unit to LDML again and save the changed files to the bucket, e.g.
+   * after a change of the LDML transformation. In contrast to {@link #publishDocumentationUnit},
+   * the citations are not synchronized and the publication status is not changed, as the
+   * documentation unit itself didn't change. No changelog is written.
+   *
+   * @param documentNumber the documentation unit that should be republished
+   * @throws DocumentationUnitNotExistsException if the documentation unit with the given document
+   *     number could not be found in the database
+   * @throws LdmlTransformationException if the documentation unit could not be transformed to valid
+   *     LDML
+   * @throws PublishException if the LDML file could not be saved in the bucket
+   */
+  public PortalPublicationResult republishDocumentationUnit(String documentNumber)
+      throws DocumentationUnitNotExistsException {
+    DocumentationUnitDTO documentationUnit =
+        documentationUnitRepository.loadDocumentationUnitDTO(documentNumber);
+    return transformAndSaveToBucket(documentationUnit, null);
+  }
+
   /**
    * Deletes the documentation unit and its attachments with the given documentNumber from the
    * portal bucket.
@@ -347,6 +338,16 @@ public class PortalPublicationService {
     if (featureToggleService.isEnabled(CHANGELOG_FEATURE_FLAG)) {
       return; // regular changelogs are enabled, no nightly re-indexing needed
     }
+    uploadChangeAllChangelog();
+  }
+
+  /**
+   * Generates a changelog file to trigger a full re-indexing of all documents in the bucket, even
+   * if regular changelogs are enabled. Used after all documents were republished.
+   *
+   * @throws ChangelogException if the changelog cannot be generated or saved.
+   */
+  public void uploadChangeAllChangelog() {
     uploadChangelog(null, null, true);
   }
 
@@ -378,25 +379,9 @@ public class PortalPublicationService {
     return LdmlTransformationResult.builder().success(true).ldml(fileContent.get()).build();
   }
 
-  private PortalPublicationResult publishToBucket(DocumentationUnitDTO documentationUnit) {
-    List<AttachmentInlineDTO> inlineImages =
-        attachmentInlineRepository.findAllByDocumentationUnitId(documentationUnit.getId());
-
-    if (documentationUnit instanceof DecisionDTO decision) {
-      validateAndEnrichCaselawRelatedDocuments(decision);
-      // validateAndEnrichUliCitations(decision);
-      // validateAndEnrichAdmCitations(decision);
-      // validateAndEnrichSliCitations(decision);
-    }
-
-    CaseLawLdml ldml = ldmlTransformer.transformToLdml(toDomain(documentationUnit));
-    Optional<String> fileContent = xmlUtilService.ldmlToString(ldml);
-    if (fileContent.isEmpty()) {
-      throw new LdmlTransformationException("Could not parse transformed LDML as string.", null);
-    }
-
-    var result =
-        saveToBucket(ldml.getUniqueId() + "/", ldml.getFileName(), fileContent.get(), inlineImages);
+  private PortalPublicationResult publishToBucket(
+      DocumentationUnitDTO documentationUnit, @Nullable Instant changedSince) {
+    var result = transformAndSaveToBucket(documentationUnit, changedSince);
 
     log.atInfo()
         .setMessage("Doc unit published to portal bucket.")
@@ -425,13 +410,55 @@ public class PortalPublicationService {
     return result;
   }
 
+  /**
+   * Transform the documentation unit to LDML and save it together with its inline images to the
+   * bucket.
+   */
+  private PortalPublicationResult transformAndSaveToBucket(
+      DocumentationUnitDTO documentationUnit, @Nullable Instant changedSince) {
+    List<InlineImage> inlineImages =
+        attachmentInlineRepository
+            .findAllMetadataByDocumentationUnitId(documentationUnit.getId())
+            .stream()
+            .map(row -> new InlineImage((UUID) row[0], (String) row[1], (String) row[2]))
+            .toList();
+
+    if (documentationUnit instanceof DecisionDTO decision) {
+      validateAndEnrichCaselawRelatedDocuments(decision);
+      // validateAndEnrichUliCitations(decision);
+      // validateAndEnrichAdmCitations(decision);
+      // validateAndEnrichSliCitations(decision);
+    }
+
+    CaseLawLdml ldml = ldmlTransformer.transformToLdml(toDomain(documentationUnit));
+    Optional<String> fileContent = xmlUtilService.ldmlToString(ldml);
+    if (fileContent.isEmpty()) {
+      throw new LdmlTransformationException("Could not parse transformed LDML as string.", null);
+    }
+
+    return saveToBucket(
+        ldml.getUniqueId() + "/",
+        ldml.getFileName(),
+        fileContent.get(),
+        inlineImages,
+        changedSince);
+  }
+
+  /**
+   * Validate the citations and related decisions against the published documents. All related
+   * documents are resolved in one query first and looked up by their document number.
+   */
   private void validateAndEnrichCaselawRelatedDocuments(DecisionDTO decision) {
+    var relatedDocuments = caselawCitationPublishService.resolveRelatedDocuments(decision);
+
     if (decision.getActiveCaselawCitations() != null) {
       var enriched =
           decision.getActiveCaselawCitations().stream()
               .map(
-                  caselawCitationPublishService
-                      ::updateActiveCitationTargetWithInformationFromTarget)
+                  citation ->
+                      caselawCitationPublishService
+                          .updateActiveCitationTargetWithInformationFromTarget(
+                              citation, relatedDocuments))
               .toList();
 
       decision.getActiveCaselawCitations().clear();
@@ -442,8 +469,10 @@ public class PortalPublicationService {
       var enriched =
           decision.getPassiveCaselawCitations().stream()
               .map(
-                  caselawCitationPublishService
-                      ::updatePassiveCitationSourceWithInformationFromSource)
+                  citation ->
+                      caselawCitationPublishService
+                          .updatePassiveCitationSourceWithInformationFromSource(
+                              citation, relatedDocuments))
               .flatMap(Optional::stream)
               .toList();
 
@@ -455,8 +484,10 @@ public class PortalPublicationService {
       var enriched =
           decision.getEnsuingDecisions().stream()
               .map(
-                  caselawCitationPublishService
-                      ::updateRelatedDocumentationWithInformationFromTarget)
+                  relatedDecision ->
+                      caselawCitationPublishService
+                          .updateRelatedDocumentationWithInformationFromTarget(
+                              relatedDecision, relatedDocuments))
               .toList();
 
       decision.setEnsuingDecisions(enriched);
@@ -466,8 +497,10 @@ public class PortalPublicationService {
       var enriched =
           decision.getPreviousDecisions().stream()
               .map(
-                  caselawCitationPublishService
-                      ::updateRelatedDocumentationWithInformationFromTarget)
+                  relatedDecision ->
+                      caselawCitationPublishService
+                          .updateRelatedDocumentationWithInformationFromTarget(
+                              relatedDecision, relatedDocuments))
               .toList();
 
       decision.setPreviousDecisions(enriched);
@@ -477,8 +510,10 @@ public class PortalPublicationService {
       var enriched =
           decision.getPendingDecisions().stream()
               .map(
-                  caselawCitationPublishService
-                      ::updateRelatedDocumentationWithInformationFromTarget)
+                  relatedDecision ->
+                      caselawCitationPublishService
+                          .updateRelatedDocumentationWithInformationFromTarget(
+                              relatedDecision, relatedDocuments))
               .toList();
 
       decision.setPendingDecisions(enriched);
@@ -532,35 +567,147 @@ public class PortalPublicationService {
             .toList());
   }
 
+  /**
+   * Save the LDML and the inline images of a documentation unit to the bucket. Files whose content
+   * is identical to the one already in the bucket are not uploaded again and are not part of the
+   * changed paths of the result. Files in the bucket that don't belong to the documentation unit
+   * anymore (e.g. removed images) are deleted.
+   *
+   * <p>The images are compared by the MD5 digest calculated by the database, so only the content of
+   * changed images is loaded. The changed images are uploaded in parallel.
+   *
+   * <p>Identical files which were written since the given time are not uploaded again, but are part
+   * of the changed paths, as the changelog for their upload may be missing.
+   */
   private PortalPublicationResult saveToBucket(
-      String path, String fileName, String fileContent, List<AttachmentInlineDTO> inlineImages) {
+      String path,
+      String fileName,
+      String fileContent,
+      List<InlineImage> inlineImages,
+      @Nullable Instant changedSince) {
+    long start = System.nanoTime();
     try {
-      List<String> existingFiles = portalBucket.getAllFilenamesByPath(path);
-      List<String> addedInlineImages = new ArrayList<>();
-
-      portalBucket.save(path + fileName, fileContent);
-      addedInlineImages.add(path + fileName);
-
-      if (!inlineImages.isEmpty()) {
-        inlineImages.forEach(
-            inlineImage -> {
-              portalBucket.saveBytes(path + inlineImage.getFilename(), inlineImage.getContent());
-              addedInlineImages.add(path + inlineImage.getFilename());
-            });
+      Map<String, S3Object> existingFiles = portalBucket.getAllFilesByPath(path);
+      List<String> currentFiles = new ArrayList<>();
+      List<String> changedFiles = new ArrayList<>();
+
+      String ldmlPath = path + fileName;
+      currentFiles.add(ldmlPath);
+      byte[] ldmlBytes = fileContent.getBytes(StandardCharsets.UTF_8);
+      S3Object existingLdml = existingFiles.get(ldmlPath);
+      if (!S3Bucket.hasContent(getETag(existingLdml), ldmlBytes)) {
+        portalBucket.save(ldmlPath, fileContent);
+        changedFiles.add(ldmlPath);
+        uploadedBytes.record(ldmlBytes.length);
+      } else if (isWrittenSince(existingLdml, changedSince)) {
+        changedFiles.add(ldmlPath);
       }
 
+      List<InlineImage> changedImages = new ArrayList<>();
+      inlineImages.forEach(
+          inlineImage -> {
+            String imagePath = path + inlineImage.filename();
+            currentFiles.add(imagePath);
+            S3Object existingImage = existingFiles.get(imagePath);
+            if (!S3Bucket.hasDigest(getETag(existingImage), inlineImage.contentMd5())) {
+              changedImages.add(inlineImage);
+              changedFiles.add(imagePath);
+            } else if (isWrittenSince(existingImage, changedSince)) {
+              changedFiles.add(imagePath);
+            }
+          });
+      changedFiles.removeAll(uploadImages(path, changedImages));
+
       // Check for files that are not part of this update and remove them (e.g. removed images)
-      existingFiles.removeAll(addedInlineImages);
-      existingFiles.forEach(portalBucket::delete);
+      List<String> deletedFiles =
+          existingFiles.keySet().stream().filter(file -> !currentFiles.contains(file)).toList();
+      if (!deletedFiles.isEmpty()) {
+        portalBucket.deleteAll(deletedFiles);
+      }
 
-      return new PortalPublicationResult(addedInlineImages, existingFiles);
+      if (changedFiles.size() < currentFiles.size()) {
+        log.atDebug()
+            .setMessage("Skipped upload of unchanged files.")
+            .addKeyValue("path", path)
+            .addKeyValue("unchanged", currentFiles.size() - changedFiles.size())
+            .log();
+      }
+
+      return new PortalPublicationResult(changedFiles, deletedFiles);
     } catch (BucketException e) {
       throw new PublishException("Could not save LDML to bucket.", e);
+    } finally {
+      bucketTimer.record(Duration.ofNanos(System.nanoTime() - start));
+    }
+  }
+
+  @Nullable
+  private static String getETag(@Nullable S3Object file) {
+    return file == null ? null : file.eTag();
+  }
+
+  private static boolean isWrittenSince(@Nullable S3Object file, @Nullable Instant since) {
+    return file != null
+        && since != null
+        && file.lastModified() != null
+        && !file.lastModified().isBefore(since);
+  }
+
+  /**
+   * Upload the images in parallel on the image upload executor. The content is loaded on the
+   * calling thread, as the images may be part of its transaction. Not more than the configured
+   * number of images is held in memory at the same time. Images which were deleted since their
+   * metadata was read are skipped.
+   *
+   * @return the paths of the skipped images
+   */
+  private List<String> uploadImages(String path, List<InlineImage> images) {
+    if (images.isEmpty()) {
+      return List.of();
+    }
+
+    Semaphore inFlight = new Semaphore(imageUploadConcurrency);
+    List<CompletableFuture<Void>> uploads = new ArrayList<>();
+    List<String> missingImages = new ArrayList<>();
+    try {
+      for (InlineImage image : images) {
+        String imagePath = path + image.filename();
+        inFlight.acquire();
+        Optional<byte[]> content = attachmentInlineRepository.findContentById(image.id());
+        if (content.isEmpty()) {
+          inFlight.release();
+          log.atWarn()
+              .setMessage("Skipped upload of inline image which was deleted in the meantime.")
+              .addKeyValue("path", imagePath)
+              .log();
+          missingImages.add(imagePath);
+          continue;
+        }
+
+        uploads.add(
+            CompletableFuture.runAsync(
+                    () -> portalBucket.saveBytes(imagePath, content.get()), imageUploadExecutor)
+                .whenComplete((result, throwable) -> inFlight.release()));
+        uploadedBytes.record(content.get().length);
+      }
+      CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+      return missingImages;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PublishException("Interrupted while uploading the images to the bucket.", e);
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
     }
   }
 
   private void uploadChangelogWithdrawOnFailure(
       DocumentationUnitDTO documentationUnit, PortalPublicationResult result) {
+    if (result.changedPaths().isEmpty() && result.deletedPaths().isEmpty()) {
+      return; // nothing changed in the bucket, no need to inform the portal
+    }
     try {
       uploadChangelog(result.changedPaths(), result.deletedPaths());
     } catch (Exception e) {
@@ -570,6 +717,15 @@ public class PortalPublicationService {
     }
   }
 
+  /**
+   * An inline image of a documentation unit without its content.
+   *
+   * @param id the id of the image
+   * @param filename the name of the image file in the bucket
+   * @param contentMd5 the hex encoded MD5 digest of the content
+   */
+  private record InlineImage(UUID id, String filename, @Nullable String contentMd5) {}
+
   private void uploadChangelog(
       List<String> publishedDocumentNumbers,
       List<String> deletedDocumentNumbers,
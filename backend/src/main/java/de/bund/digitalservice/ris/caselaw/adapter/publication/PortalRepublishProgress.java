@@ -0,0 +1,76 @@
+package de.bund.digitalservice.ris.caselaw.adapter.publication;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Progress of the republication of all documentation units published in the portal.
+ *
+ * @param running true while the job is running
+ * @param total number of documentation units published in the portal at the start of the job
+ * @param processed number of documentation units processed so far
+ * @param changed number of documentation units whose files in the bucket were changed
+ * @param failed number of documentation units which could not be republished
+ * @param lastDocumentNumber document number of the last documentation unit of the last completed
+ *     batch, can be used to resume the job
+ * @param startedAt start time of the job
+ * @param finishedAt end time of the job, null while it is running
+ * @param documentsPerSecond number of documentation units processed per second, null if unknown
+ */
+public record PortalRepublishProgress(
+    boolean running,
+    long total,
+    long processed,
+    long changed,
+    long failed,
+    @Nullable String lastDocumentNumber,
+    @Nullable Instant startedAt,
+    @Nullable Instant finishedAt,
+    @Nullable Double documentsPerSecond) {
+
+  public static final PortalRepublishProgress NOT_STARTED =
+      new PortalRepublishProgress(false, 0, 0, 0, 0, null, null, null, null);
+
+  static PortalRepublishProgress started(long total, @Nullable String startAfter) {
+    return new PortalRepublishProgress(true, total, 0, 0, 0, startAfter, Instant.now(), null, null);
+  }
+
+  PortalRepublishProgress withBatch(
+      int processedInBatch, int changedInBatch, int failedInBatch, String lastDocumentNumber) {
+    long newProcessed = processed + processedInBatch;
+    return new PortalRepublishProgress(
+        true,
+        total,
+        newProcessed,
+        changed + changedInBatch,
+        failed + failedInBatch,
+        lastDocumentNumber,
+        startedAt,
+        null,
+        getDocumentsPerSecond(newProcessed, Instant.now()));
+  }
+
+  PortalRepublishProgress finished() {
+    Instant now = Instant.now();
+    return new PortalRepublishProgress(
+        false,
+        total,
+        processed,
+        changed,
+        failed,
+        lastDocumentNumber,
+        startedAt,
+        now,
+        getDocumentsPerSecond(processed, now));
+  }
+
+  @Nullable
+  private Double getDocumentsPerSecond(long processedDocuments, Instant now) {
+    if (startedAt == null) {
+      return null;
+    }
+    long elapsedMillis = Duration.between(startedAt, now).toMillis();
+    return elapsedMillis > 0 ? processedDocuments * 1000.0 / elapsedMillis : null;
+  }
+}
@@ -0,0 +1,280 @@
+package de.bund.digitalservice.ris.caselaw.adapter.publication;
+
+import de.bund.digitalservice.ris.caselaw.adapter.DocumentStorageBucket;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationUnitRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.exception.BucketException;
+import de.bund.digitalservice.ris.caselaw.adapter.exception.ChangelogException;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitRepository;
+import de.bund.digitalservice.ris.caselaw.domain.LoggingKeys;
+import de.bund.digitalservice.ris.caselaw.domain.PortalPublicationStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * Transforms all documentation units published in the portal to LDML again and saves them to the
+ * portal bucket, e.g. after a change of the LDML transformation.
+ *
+ * <p>The document numbers are read in batches ordered by document number (keyset pagination). The
+ * documentation units of a batch are republished in parallel on the republish executor. Not more
+ * than the configured number of documentation units are in progress at the same time, so reading
+ * the next document numbers waits for the workers. The last document number of a batch is only
+ * saved as checkpoint to the private document storage bucket after the whole batch is done, so an
+ * interrupted run, e.g. by a restart of the pod, is resumed after it by the next run.
+ *
+ * <p>A run holds a ShedLock lock, so only one pod republishes at the same time. The lock is
+ * extended after every batch, so it expires soon after a pod running the job is stopped.
+ */
+@Service
+@Slf4j
+public class PortalRepublishService {
+
+  static final String CHECKPOINT_FILE_NAME = "portal-republish/checkpoint.txt";
+  static final String LOCK_NAME = "portal-republish-job";
+  private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(15);
+
+  private final DocumentationUnitRepository documentationUnitRepository;
+  private final DatabaseDocumentationUnitRepository databaseDocumentationUnitRepository;
+  private final PortalPublicationService portalPublicationService;
+  private final DocumentStorageBucket documentStorageBucket;
+  private final LockProvider lockProvider;
+  private final Executor republishExecutor;
+  private final int concurrency;
+  private final Counter republishedCounter;
+  private final Counter failedCounter;
+  private final AtomicReference<PortalRepublishProgress> progress =
+      new AtomicReference<>(PortalRepublishProgress.NOT_STARTED);
+
+  public PortalRepublishService(
+      DocumentationUnitRepository documentationUnitRepository,
+      DatabaseDocumentationUnitRepository databaseDocumentationUnitRepository,
+      PortalPublicationService portalPublicationService,
+      DocumentStorageBucket documentStorageBucket,
+      LockProvider lockProvider,
+      @Qualifier("portalRepublishExecutor") Executor republishExecutor,
+      @Value("${neuris.portal-publication.republish-concurrency:8}") int concurrency,
+      MeterRegistry meterRegistry) {
+    this.documentationUnitRepository = documentationUnitRepository;
+    this.databaseDocumentationUnitRepository = databaseDocumentationUnitRepository;
+    this.portalPublicationService = portalPublicationService;
+    this.documentStorageBucket = documentStorageBucket;
+    this.lockProvider = lockProvider;
+    this.republishExecutor = republishExecutor;
+    this.concurrency = Math.max(1, concurrency);
+    this.republishedCounter = buildCounter(meterRegistry, "success");
+    this.failedCounter = buildCounter(meterRegistry, "failed");
+  }
+
+  private static Counter buildCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("portal.republish.documents")
+        .description("Documentation units republished to the portal bucket")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Republish all documentation units published in the portal. A single changelog which triggers
+   * the re-indexing of all documents is uploaded at the end of a completed run. Until then the last
+   * document number of each batch is kept as checkpoint in the private document storage bucket, so
+   * a run that was interrupted is resumed from there and its changelog is still written. A run is
+   * skipped if another pod is already running one.
+   *
+   * @param startAfter the document number of the last documentation unit that was processed by a
+   *     previous run, null to resume from the saved checkpoint or to start from the beginning if
+   *     there is none, an empty string to start from the beginning anyway
+   * @param batchSize the number of document numbers that are read together
+   */
+  @Async
+  public void republishAll(@Nullable String startAfter, int batchSize) {
+    if (progress.get().running()) {
+      log.warn("Republication of the portal documentation units is already running.");
+      return;
+    }
+    Optional<SimpleLock> acquiredLock = lockProvider.lock(buildLockConfiguration());
+    if (acquiredLock.isEmpty()) {
+      log.warn(
+          "Republication of the portal documentation units is already running on another pod.");
+      return;
+    }
+
+    // an extended lock replaces the acquired one, a lost lock is removed
+    AtomicReference<SimpleLock> lock = new AtomicReference<>(acquiredLock.get());
+    try {
+      republishAll(startAfter, batchSize, lock);
+    } finally {
+      SimpleLock heldLock = lock.get();
+      if (heldLock != null) {
+        heldLock.unlock();
+      }
+    }
+  }
+
+  private void republishAll(
+      @Nullable String startAfter, int batchSize, AtomicReference<SimpleLock> lock) {
+    PortalRepublishProgress current = progress.get();
+    if (current.running()) {
+      log.warn("Republication of the portal documentation units is already running.");
+      return;
+    }
+    long total =
+        databaseDocumentationUnitRepository.countByPortalPublicationStatus(
+            PortalPublicationStatus.PUBLISHED);
+    String resumeAfter = startAfter == null ? readCheckpoint() : startAfter;
+    if (!progress.compareAndSet(current, PortalRepublishProgress.started(total, resumeAfter))) {
+      log.warn("Republication of the portal documentation units is already running.");
+      return;
+    }
+
+    log.info(
+        "Start republishing {} documentation units to the portal after document number '{}'",
+        total,
+        resumeAfter);
+
+    try {
+      Semaphore inProgress = new Semaphore(concurrency);
+      List<String> documentNumbers =
+          documentationUnitRepository.findPublishedDocumentNumbersAfter(
+              resumeAfter == null ? "" : resumeAfter, batchSize);
+      while (!documentNumbers.isEmpty()) {
+        republishBatch(documentNumbers, inProgress);
+        saveCheckpoint(documentNumbers.getLast());
+        lock.set(lock.get().extend(LOCK_AT_MOST_FOR, Duration.ZERO).orElse(null));
+        if (lock.get() == null) {
+          log.error(
+              "Lost the lock of the portal republication, the run is stopped. The next run resumes"
+                  + " from the checkpoint.");
+          return;
+        }
+        documentNumbers =
+            documentationUnitRepository.findPublishedDocumentNumbersAfter(
+                documentNumbers.getLast(), batchSize);
+      }
+
+      // files changed by an interrupted run before the checkpoint are not counted in this run, so
+      // the changelog is always written
+      portalPublicationService.uploadChangeAllChangelog();
+      documentStorageBucket.delete(CHECKPOINT_FILE_NAME);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Republication of the portal documentation units was interrupted.");
+    } catch (ChangelogException e) {
+      log.error(
+          "Could not upload the changelog of the portal republication. The checkpoint is kept, so"
+              + " the next run writes it.",
+          e);
+    } finally {
+      PortalRepublishProgress result = progress.updateAndGet(PortalRepublishProgress::finished);
+      log.info(
+          "Finished republishing: {} changed, {} failed of {} documentation units ({} per second)."
+              + " Last document number: {}",
+          result.changed(),
+          result.failed(),
+          result.processed(),
+          result.documentsPerSecond(),
+          result.lastDocumentNumber());
+    }
+  }
+
+  private static LockConfiguration buildLockConfiguration() {
+    return new LockConfiguration(Instant.now(), LOCK_NAME, LOCK_AT_MOST_FOR, Duration.ZERO);
+  }
+
+  /**
+   * @return the progress of the current or last run
+   */
+  public PortalRepublishProgress getProgress() {
+    return progress.get();
+  }
+
+  @Nullable
+  private String readCheckpoint() {
+    return documentStorageBucket
+        .get(CHECKPOINT_FILE_NAME)
+        .map(bytes -> new String(bytes, StandardCharsets.UTF_8))
+        .filter(documentNumber -> !documentNumber.isBlank())
+        .orElse(null);
+  }
+
+  private void saveCheckpoint(String lastDocumentNumber) {
+    try {
+      documentStorageBucket.save(CHECKPOINT_FILE_NAME, lastDocumentNumber);
+    } catch (BucketException e) {
+      log.atWarn()
+          .setMessage("Could not save the checkpoint of the portal republication")
+          .addKeyValue(LoggingKeys.DOCUMENT_NUMBER, lastDocumentNumber)
+          .setCause(e)
+          .log();
+    }
+  }
+
+  private void republishBatch(List<String> documentNumbers, Semaphore inProgress)
+      throws InterruptedException {
+    AtomicInteger changed = new AtomicInteger();
+    AtomicInteger failed = new AtomicInteger();
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (String documentNumber : documentNumbers) {
+      inProgress.acquire();
+      futures.add(
+          CompletableFuture.runAsync(
+                  () -> republish(documentNumber, changed, failed), republishExecutor)
+              .whenComplete((result, throwable) -> inProgress.release()));
+    }
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+    PortalRepublishProgress current =
+        progress.updateAndGet(
+            p ->
+                p.withBatch(
+                    documentNumbers.size(),
+                    changed.get(),
+                    failed.get(),
+                    documentNumbers.getLast()));
+
+    log.info(
+        "Republished {} documentation units ({} of {} done, {} per second), last document number:"
+            + " {}",
+        documentNumbers.size(),
+        current.processed(),
+        current.total(),
+        current.documentsPerSecond(),
+        current.lastDocumentNumber());
+  }
+
+  private void republish(String documentNumber, AtomicInteger changed, AtomicInteger failed) {
+    try {
+      PortalPublicationResult result =
+          portalPublicationService.republishDocumentationUnit(documentNumber);
+      if (!result.changedPaths().isEmpty() || !result.deletedPaths().isEmpty()) {
+        changed.incrementAndGet();
+      }
+      republishedCounter.increment();
+    } catch (Exception e) {
+      failed.incrementAndGet();
+      failedCounter.increment();
+      log.atWarn()
+          .setMessage("Could not republish documentation unit to the portal")
+          .addKeyValue(LoggingKeys.DOCUMENT_NUMBER, documentNumber)
+          .setCause(e)
+          .log();
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package de.bund.digitalservice.ris.caselaw.adapter.publication;
+
+import java.time.Instant;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Result of the last portal sanity check.
+ *
+ * @param checkedAt time of the check
+ * @param publicationStatus published doc units in the database (source) compared to the LDML files
+ *     in the portal bucket (target)
+ * @param publishCriteria doc units matching the publish criteria (source) compared to the LDML
+ *     files in the portal bucket (target), only checked in production
+ * @param rechtsprechungImInternet documents in Rechtsprechung im Internet (source) compared to the
+ *     LDML files in the portal bucket (target), only checked in production
+ */
+public record PortalSanityCheckReport(
+    Instant checkedAt,
+    DocumentNumberDiff publicationStatus,
+    @Nullable DocumentNumberDiff publishCriteria,
+    @Nullable DocumentNumberDiff rechtsprechungImInternet) {}
@@ -5,36 +5,60 @@ import de.bund.digitalservice.ris.caselaw.adapter.S3Bucket;
 import de.bund.digitalservice.ris.caselaw.adapter.exception.PublishException;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitRepository;
 import de.bund.digitalservice.ris.caselaw.domain.exception.DocumentationUnitNotExistsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.core.env.Environment;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * Compares the LDML files in the portal bucket with the database and Rechtsprechung im Internet.
+ * Both sides are streamed in the order of the document numbers and compared with a sorted merge, so
+ * the memory usage doesn't grow with the number of documents. The differences are published as
+ * metrics and as a report for the admin API.
+ */
 @Service
 @Slf4j
 public class PortalSanityCheckService {
 
+  private static final int PAGE_SIZE = 1000;
+  private static final String MISSING_METRIC = "portal.sanity.check.missing";
+
   private final PortalPublicationService portalPublicationService;
   private final RiiService riiService;
   private final DocumentationUnitRepository documentationUnitRepository;
   private final S3Bucket portalBucket;
   private final Environment env;
+  private final MeterRegistry meterRegistry;
+  private final Map<Tags, AtomicLong> missingGauges = new ConcurrentHashMap<>();
+  private final AtomicReference<PortalSanityCheckReport> lastReport = new AtomicReference<>();
 
   public PortalSanityCheckService(
       PortalPublicationService portalPublicationService,
       RiiService riiService,
       DocumentationUnitRepository documentationUnitRepository,
       S3Bucket portalBucket,
-      Environment env) {
+      Environment env,
+      MeterRegistry meterRegistry) {
     this.portalPublicationService = portalPublicationService;
     this.riiService = riiService;
     this.documentationUnitRepository = documentationUnitRepository;
     this.portalBucket = portalBucket;
     this.env = env;
+    this.meterRegistry = meterRegistry;
   }
 
   //                        ↓ day of month (1-31)
@@ -45,141 +69,189 @@ public class PortalSanityCheckService {
   @Scheduled(cron = "0 30 5 * * *", zone = "Europe/Berlin")
   @SchedulerLock(name = "portal-publication-diff-job", lockAtMostFor = "PT15M")
   public void logPortalPublicationSanityCheck() {
-    Set<String> portalBucketDocumentNumbers =
-        portalBucket.getAllFilenames().stream()
-            .filter(fileName -> fileName.contains(".xml"))
-            .map(fileName -> fileName.substring(fileName.lastIndexOf("/") + 1))
-            .map(fileName -> fileName.substring(0, fileName.lastIndexOf('.')))
-            .collect(Collectors.toSet());
-
-    logPublicationStatusDiff(portalBucketDocumentNumbers);
+    DocumentNumberDiff publicationStatusDiff = logPublicationStatusDiff();
 
+    DocumentNumberDiff publishCriteriaDiff = null;
+    DocumentNumberDiff riiDiff = null;
     // These checks are only relevant for the Testphase portal
     if (env.matchesProfiles("production")) {
-      logDatabaseToBucketDiff(portalBucketDocumentNumbers);
-      logBucketToRechtsprechungImInternetDiff(portalBucketDocumentNumbers);
+      publishCriteriaDiff = logDatabaseToBucketDiff();
+      riiDiff = logBucketToRechtsprechungImInternetDiff();
     }
+
+    lastReport.set(
+        new PortalSanityCheckReport(
+            Instant.now(), publicationStatusDiff, publishCriteriaDiff, riiDiff));
   }
 
-  private void logBucketToRechtsprechungImInternetDiff(Set<String> portalBucketDocumentNumbers) {
+  /**
+   * @return the result of the last sanity check, empty if no check ran since the start of the
+   *     application
+   */
+  public Optional<PortalSanityCheckReport> getLastReport() {
+    return Optional.ofNullable(lastReport.get());
+  }
+
+  private DocumentNumberDiff logBucketToRechtsprechungImInternetDiff() {
     log.info(
         "Checking for discrepancies between published doc units and Rechtsprechung im Internet...");
 
     var riiDocumentNumbers = riiService.fetchRiiDocumentNumbers();
     log.info("Number of documents in Rechtsprechung im Internet: {}", riiDocumentNumbers.size());
 
-    if (!riiDocumentNumbers.isEmpty()) {
-      List<String> inRiiNotInPortal =
-          riiDocumentNumbers.stream()
-              .filter(documentNumber -> !portalBucketDocumentNumbers.contains(documentNumber))
-              .toList();
+    if (riiDocumentNumbers.isEmpty()) {
+      return null;
+    }
 
-      List<String> inPortalNotInRii =
-          portalBucketDocumentNumbers.stream()
-              .filter(documentNumber -> !riiDocumentNumbers.contains(documentNumber))
-              .toList();
+    List<String> inPortalNotInRii = new ArrayList<>();
+    DocumentNumberDiff diff =
+        DocumentNumberDiff.compare(
+            riiDocumentNumbers.stream().sorted().iterator(),
+            bucketDocumentNumbers(),
+            documentNumber -> {},
+            inPortalNotInRii::add);
+    recordMissing("rii", "portal", "rii", diff);
 
+    log.info(
+        "Found {} doc units in Portal but not in Rechtsprechung im Internet.",
+        diff.notInSourceCount());
+    log.info(
+        "Found {} doc units in Rechtsprechung im Internet but not in Portal.",
+        diff.notInTargetCount());
+    if (!diff.notInTarget().isEmpty()) {
       log.info(
-          "Found {} doc units in Portal but not in Rechtsprechung im Internet.",
-          inPortalNotInRii.size());
+          "Document numbers found in Rechtsprechung im Internet but not in Portal: {}",
+          String.join(", ", diff.notInTarget()));
+    }
+    if (!inPortalNotInRii.isEmpty()) {
       log.info(
-          "Found {} doc units in Rechtsprechung im Internet but not in Portal.",
-          inRiiNotInPortal.size());
-      if (!inRiiNotInPortal.isEmpty()) {
-        log.info(
-            "Document numbers found in Rechtsprechung im Internet but not in Portal: {}",
-            inRiiNotInPortal.stream().map(Object::toString).collect(Collectors.joining(", ")));
-      }
-      if (!inPortalNotInRii.isEmpty()) {
-        log.info(
-            "Document numbers found in Portal but not in Rechtsprechung im Internet: {}",
-            inPortalNotInRii.stream().map(Object::toString).collect(Collectors.joining(", ")));
-        log.info("Deleting documents not in Rechtsprechung im Internet...");
-        inPortalNotInRii.forEach(
-            docNumber -> {
-              try {
-                portalPublicationService.withdrawDocumentationUnit(docNumber);
-                portalPublicationService.uploadDeletionChangelog(
-                    inPortalNotInRii.stream()
-                        .map(documentNumber -> documentNumber + ".xml")
-                        .toList());
-              } catch (PublishException | DocumentationUnitNotExistsException e) {
-                log.error(
-                    "Deleting documents not in Rechtsprechung im Internet failed with exception: {}",
-                    e.getMessage());
-              }
-            });
-      }
+          "Document numbers found in Portal but not in Rechtsprechung im Internet: {}",
+          String.join(", ", diff.notInSource()));
+      log.info("Deleting documents not in Rechtsprechung im Internet...");
+      inPortalNotInRii.forEach(
+          docNumber -> {
+            try {
+              portalPublicationService.withdrawDocumentationUnit(docNumber);
+              portalPublicationService.uploadDeletionChangelog(
+                  inPortalNotInRii.stream()
+                      .map(documentNumber -> documentNumber + ".xml")
+                      .toList());
+            } catch (PublishException | DocumentationUnitNotExistsException e) {
+              log.error(
+                  "Deleting documents not in Rechtsprechung im Internet failed with exception: {}",
+                  e.getMessage());
+            }
+          });
     }
-  }
 
-  private void logDatabaseToBucketDiff(Set<String> portalBucketDocumentNumbers) {
-    List<String> databaseDocumentNumbers =
-        documentationUnitRepository.findAllDocumentNumbersByMatchingPublishCriteria();
-    List<String> inBucketNotInDatabase =
-        portalBucketDocumentNumbers.stream()
-            .filter(documentNumber -> !databaseDocumentNumbers.contains(documentNumber))
-            .toList();
+    return diff;
+  }
 
-    List<String> inDatabaseNotInBucket =
-        databaseDocumentNumbers.stream()
-            .filter(documentNumber -> !portalBucketDocumentNumbers.contains(documentNumber))
-            .toList();
+  private DocumentNumberDiff logDatabaseToBucketDiff() {
+    DocumentNumberDiff diff =
+        compareWithBucket(
+            documentationUnitRepository::findDocumentNumbersByMatchingPublishCriteriaAfter);
+    recordMissing("publish_criteria", "bucket", "database", diff);
 
-    log.info("Number of LDML files in bucket: {}", portalBucketDocumentNumbers.size());
+    log.info("Number of LDML files in bucket: {}", diff.targetCount());
     log.info(
         "Found {} publishable doc units by database query but not in bucket.",
-        inDatabaseNotInBucket.size());
-    if (!inDatabaseNotInBucket.isEmpty()) {
+        diff.notInTargetCount());
+    if (!diff.notInTarget().isEmpty()) {
       log.info(
           "Document numbers found in database but not in bucket: {}",
-          inDatabaseNotInBucket.stream().map(Object::toString).collect(Collectors.joining(", ")));
+          String.join(", ", diff.notInTarget()));
     }
-    log.info(
-        "Found {} doc units in bucket but not by database query.", inBucketNotInDatabase.size());
-    if (!inBucketNotInDatabase.isEmpty()) {
+    log.info("Found {} doc units in bucket but not by database query.", diff.notInSourceCount());
+    if (!diff.notInSource().isEmpty()) {
       log.info(
           "Document numbers found in bucket but not in database: {}",
-          inBucketNotInDatabase.stream().map(Object::toString).collect(Collectors.joining(", ")));
+          String.join(", ", diff.notInSource()));
     }
-  }
 
-  private void logPublicationStatusDiff(Set<String> portalBucketDocumentNumbers) {
-    Set<String> databasePublishedDocumentNumbers =
-        documentationUnitRepository.findAllPublishedDocumentNumbers();
-    List<String> inBucketNotInDatabase =
-        portalBucketDocumentNumbers.stream()
-            .filter(documentNumber -> !databasePublishedDocumentNumbers.contains(documentNumber))
-            .toList();
+    return diff;
+  }
 
-    List<String> inDatabaseNotInBucket =
-        databasePublishedDocumentNumbers.stream()
-            .filter(documentNumber -> !portalBucketDocumentNumbers.contains(documentNumber))
-            .toList();
+  private DocumentNumberDiff logPublicationStatusDiff() {
+    DocumentNumberDiff diff =
+        compareWithBucket(documentationUnitRepository::findPublishedDocumentNumbersAfter);
+    recordMissing("publication_status", "bucket", "database", diff);
 
     log.atInfo()
         .setMessage(
             "Finished sanity check for published doc units. Compared published doc units in db (status=PUBLISHED) and in bucket (LDML exists).")
-        .addKeyValue("inDatabase", databasePublishedDocumentNumbers.size())
-        .addKeyValue("inBucket", portalBucketDocumentNumbers.size())
-        .addKeyValue("inBucketNotInDatabase", inBucketNotInDatabase.size())
-        .addKeyValue("inDatabaseNotInBucket", inDatabaseNotInBucket.size())
+        .addKeyValue("inDatabase", diff.sourceCount())
+        .addKeyValue("inBucket", diff.targetCount())
+        .addKeyValue("inBucketNotInDatabase", diff.notInSourceCount())
+        .addKeyValue("inDatabaseNotInBucket", diff.notInTargetCount())
         .log();
 
-    if (!inDatabaseNotInBucket.isEmpty()) {
-      String docNumbersInDatabaseNotInBucket = String.join(", ", inDatabaseNotInBucket);
+    if (!diff.notInTarget().isEmpty()) {
+      String docNumbersInDatabaseNotInBucket = String.join(", ", diff.notInTarget());
       log.atError()
           .setMessage("Published document numbers found in database but not in bucket")
           .addKeyValue("inDatabaseNotInBucket", docNumbersInDatabaseNotInBucket)
           .log();
     }
 
-    if (!inBucketNotInDatabase.isEmpty()) {
-      String docNumbersInBucketNotInDatabase = String.join(", ", inBucketNotInDatabase);
+    if (!diff.notInSource().isEmpty()) {
+      String docNumbersInBucketNotInDatabase = String.join(", ", diff.notInSource());
       log.atError()
           .setMessage("Published document numbers found in bucket but not in database")
           .addKeyValue("inBucketNotInDatabase", docNumbersInBucketNotInDatabase)
           .log();
     }
+
+    return diff;
+  }
+
+  /**
+   * Compare the document numbers of the database with the LDML files in the bucket. The database is
+   * read page by page (keyset pagination) in the same order as the bucket is listed.
+   */
+  private DocumentNumberDiff compareWithBucket(
+      BiFunction<String, Integer, List<String>> findDocumentNumbersAfter) {
+    Iterator<String> databaseDocumentNumbers =
+        Stream.iterate(
+                findDocumentNumbersAfter.apply("", PAGE_SIZE),
+                page -> !page.isEmpty(),
+                page ->
+                    page.size() < PAGE_SIZE
+                        ? List.of()
+                        : findDocumentNumbersAfter.apply(page.getLast(), PAGE_SIZE))
+            .flatMap(List::stream)
+            .iterator();
+
+    return DocumentNumberDiff.compare(
+        databaseDocumentNumbers,
+        bucketDocumentNumbers(),
+        documentNumber -> {},
+        documentNumber -> {});
+  }
+
+  /**
+   * The document numbers of all LDML files in the bucket. The LDML files are named after the
+   * document number and the separators '.' and '/' are sorted before all characters of a document
+   * number, so the document numbers have the same order as the listed file names.
+   */
+  private Iterator<String> bucketDocumentNumbers() {
+    return portalBucket
+        .streamAllFilenames()
+        .filter(fileName -> fileName.contains(".xml"))
+        .map(fileName -> fileName.substring(fileName.lastIndexOf("/") + 1))
+        .map(fileName -> fileName.substring(0, fileName.lastIndexOf('.')))
+        .iterator();
+  }
+
+  private void recordMissing(
+      String check, String targetName, String sourceName, DocumentNumberDiff diff) {
+    missingGauge(check, targetName).set(diff.notInTargetCount());
+    missingGauge(check, sourceName).set(diff.notInSourceCount());
+  }
+
+  private AtomicLong missingGauge(String check, String missingIn) {
+    return missingGauges.computeIfAbsent(
+        Tags.of("check", check, "missing_in", missingIn),
+        tags -> meterRegistry.gauge(MISSING_METRIC, tags, new AtomicLong()));
   }
 }
@@ -0,0 +1,131 @@
+package de.bund.digitalservice.ris.caselaw.adapter.publication;
+
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DecisionDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentationUnitDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PublishedDocumentationSnapshotBatchWriter;
+import de.bund.digitalservice.ris.caselaw.adapter.transformer.DecisionTransformer;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnit;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitRepository;
+import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * Creates the snapshots of all published documentation units. The documentation units are read in
+ * batches ordered by their id (keyset pagination), so only one batch is held in memory at a time
+ * and an interrupted run can be resumed after the last processed id.
+ */
+@Service
+@Slf4j
+public class PublishedDocumentationSnapshotService {
+
+  private final DocumentationUnitRepository documentationUnitRepository;
+  private final PublishedDocumentationSnapshotBatchWriter snapshotBatchWriter;
+  private final AtomicReference<SnapshotJobProgress> progress =
+      new AtomicReference<>(SnapshotJobProgress.NOT_STARTED);
+
+  public PublishedDocumentationSnapshotService(
+      DocumentationUnitRepository documentationUnitRepository,
+      PublishedDocumentationSnapshotBatchWriter snapshotBatchWriter) {
+    this.documentationUnitRepository = documentationUnitRepository;
+    this.snapshotBatchWriter = snapshotBatchWriter;
+  }
+
+  /**
+   * Save snapshots of all published documentation units.
+   *
+   * @param startAfter the id of the last documentation unit that was processed by a previous run,
+   *     null to start from the beginning
+   * @param batchSize the number of documentation units that are loaded and saved together
+   */
+  @Async
+  public void publishSnapshots(@Nullable UUID startAfter, int batchSize) {
+    SnapshotJobProgress current = progress.get();
+    if (current.running()) {
+      log.warn("Creation of published documentation snapshots is already running.");
+      return;
+    }
+    long total = documentationUnitRepository.countByCurrentStatus(PublicationStatus.PUBLISHED);
+    if (!progress.compareAndSet(current, SnapshotJobProgress.started(total, startAfter))) {
+      log.warn("Creation of published documentation snapshots is already running.");
+      return;
+    }
+
+    log.info("Start saving snapshots of {} published documentation units", total);
+
+    try {
+      List<UUID> documentationUnitIds =
+          documentationUnitRepository.findAllIdsByCurrentStatusAfter(
+              PublicationStatus.PUBLISHED, startAfter, batchSize);
+      while (!documentationUnitIds.isEmpty()) {
+        saveSnapshots(documentationUnitIds);
+        documentationUnitIds =
+            documentationUnitRepository.findAllIdsByCurrentStatusAfter(
+                PublicationStatus.PUBLISHED, documentationUnitIds.getLast(), batchSize);
+      }
+    } finally {
+      SnapshotJobProgress result = progress.updateAndGet(SnapshotJobProgress::finished);
+      log.info(
+          "Finished saving snapshots: {} saved, {} failed of {} documentation units. Last"
+              + " documentation unit: {}",
+          result.saved(),
+          result.failed(),
+          result.processed(),
+          result.lastId());
+    }
+  }
+
+  /**
+   * @return the progress of the current or last run
+   */
+  public SnapshotJobProgress getProgress() {
+    return progress.get();
+  }
+
+  private void saveSnapshots(List<UUID> documentationUnitIds) {
+    Map<UUID, DocumentationUnit> snapshots = new LinkedHashMap<>();
+    int failed = 0;
+    for (UUID documentationUnitId : documentationUnitIds) {
+      try {
+        DocumentationUnitDTO documentationUnit =
+            documentationUnitRepository.loadDocumentationUnitDTO(documentationUnitId);
+        if (documentationUnit instanceof DecisionDTO decision) {
+          snapshots.put(documentationUnitId, DecisionTransformer.transformToDomain(decision, null));
+        }
+      } catch (Exception e) {
+        failed++;
+        log.atWarn()
+            .setMessage("Could not create snapshot of documentation unit")
+            .addKeyValue("id", documentationUnitId)
+            .setCause(e)
+            .log();
+      }
+    }
+
+    int saved = snapshotBatchWriter.upsertAll(snapshots);
+    int failedInBatch = failed;
+    SnapshotJobProgress current =
+        progress.updateAndGet(
+            p ->
+                p.withBatch(
+                    documentationUnitIds.size(),
+                    saved,
+                    failedInBatch,
+                    documentationUnitIds.getLast()));
+
+    log.info(
+        "save {} decisions of {} documentation units ({} of {} done, ~{}s remaining)",
+        saved,
+        documentationUnitIds.size(),
+        current.processed(),
+        current.total(),
+        current.estimatedSecondsRemaining());
+  }
+}
@@ -0,0 +1,63 @@
+package de.bund.digitalservice.ris.caselaw.adapter.publication;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Progress of the creation of the published documentation snapshots.
+ *
+ * @param running true while the job is running
+ * @param total number of published documentation units at the start of the job
+ * @param processed number of documentation units processed so far
+ * @param saved number of written snapshots
+ * @param failed number of documentation units which could not be loaded
+ * @param lastId id of the last processed documentation unit, can be used to resume the job
+ * @param startedAt start time of the job
+ * @param finishedAt end time of the job, null while it is running
+ * @param estimatedSecondsRemaining estimated time until the job is finished, null if unknown
+ */
+public record SnapshotJobProgress(
+    boolean running,
+    long total,
+    long processed,
+    long saved,
+    long failed,
+    @Nullable UUID lastId,
+    @Nullable Instant startedAt,
+    @Nullable Instant finishedAt,
+    @Nullable Long estimatedSecondsRemaining) {
+
+  public static final SnapshotJobProgress NOT_STARTED =
+      new SnapshotJobProgress(false, 0, 0, 0, 0, null, null, null, null);
+
+  static SnapshotJobProgress started(long total, @Nullable UUID startAfter) {
+    return new SnapshotJobProgress(true, total, 0, 0, 0, startAfter, Instant.now(), null, null);
+  }
+
+  SnapshotJobProgress withBatch(
+      int processedInBatch, int savedInBatch, int failedInBatch, UUID lastId) {
+    long newProcessed = processed + processedInBatch;
+    Long remaining = null;
+    if (startedAt != null && newProcessed > 0 && total > newProcessed) {
+      long elapsedMillis = Duration.between(startedAt, Instant.now()).toMillis();
+      remaining = elapsedMillis * (total - newProcessed) / newProcessed / 1000;
+    }
+    return new SnapshotJobProgress(
+        true,
+        total,
+        newProcessed,
+        saved + savedInBatch,
+        failed + failedInBatch,
+        lastId,
+        startedAt,
+        null,
+        remaining);
+  }
+
+  SnapshotJobProgress finished() {
+    return new SnapshotJobProgress(
+        false, total, processed, saved, failed, lastId, startedAt, Instant.now(), 0L);
+  }
+}
@@ -3,20 +3,21 @@ package de.bund.digitalservice.ris.caselaw.adapter.publication.caselaw;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.ActiveCitationCaselawDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationUnitRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DecisionDTO;
-import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentationUnitDTO;
-import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.FileNumberDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PassiveCitationCaselawDTO;
-import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PendingProceedingDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.RelatedDocumentInfoDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.RelatedDocumentationDTO;
-import de.bund.digitalservice.ris.caselaw.adapter.transformer.DecisionTransformer;
-import de.bund.digitalservice.ris.caselaw.adapter.transformer.PendingProceedingTransformer;
-import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnit;
 import de.bund.digitalservice.ris.caselaw.domain.LoggingKeys;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
@@ -29,34 +30,46 @@ public class CaselawCitationPublishService {
     this.documentationUnitRepository = documentationUnitRepository;
   }
 
-  private Optional<DocumentationUnitDTO> getPassiveCitationSource(
-      PassiveCitationCaselawDTO passiveCitationCaselaw) {
-    if (passiveCitationCaselaw.getSourceDocumentNumber() == null) {
-      return Optional.empty();
+  /**
+   * Resolve the published documents referenced by the citations and related decisions of the
+   * decision. The document numbers of all relation types are collected first, so all documents are
+   * loaded in one query.
+   *
+   * @param decision the decision to publish
+   * @return the published related documents by their document number
+   */
+  public Map<String, RelatedDocumentInfoDTO> resolveRelatedDocuments(DecisionDTO decision) {
+    Set<String> documentNumbers = new HashSet<>();
+    if (decision.getActiveCaselawCitations() != null) {
+      decision.getActiveCaselawCitations().stream()
+          .map(ActiveCitationCaselawDTO::getTargetDocumentNumber)
+          .forEach(documentNumbers::add);
     }
-
-    return documentationUnitRepository.findPublishedByDocumentNumber(
-        passiveCitationCaselaw.getSourceDocumentNumber());
-  }
-
-  private Optional<DocumentationUnitDTO> getActiveCitationTarget(
-      ActiveCitationCaselawDTO activeCitationCaselaw) {
-    if (activeCitationCaselaw.getTargetDocumentNumber() == null) {
-      return Optional.empty();
+    if (decision.getPassiveCaselawCitations() != null) {
+      decision.getPassiveCaselawCitations().stream()
+          .map(PassiveCitationCaselawDTO::getSourceDocumentNumber)
+          .forEach(documentNumbers::add);
     }
-
-    return documentationUnitRepository.findPublishedByDocumentNumber(
-        activeCitationCaselaw.getTargetDocumentNumber());
-  }
-
-  private Optional<DocumentationUnitDTO> getRelatedDocumentationTarget(
-      RelatedDocumentationDTO relatedDocumentation) {
-    if (relatedDocumentation.getDocumentNumber() == null) {
-      return Optional.empty();
+    Stream.<List<? extends RelatedDocumentationDTO>>of(
+            decision.getEnsuingDecisions(),
+            decision.getPreviousDecisions(),
+            decision.getPendingDecisions())
+        .filter(Objects::nonNull)
+        .flatMap(List::stream)
+        .map(RelatedDocumentationDTO::getDocumentNumber)
+        .forEach(documentNumbers::add);
+    documentNumbers.remove(null);
+
+    if (documentNumbers.isEmpty()) {
+      return Map.of();
     }
 
-    return documentationUnitRepository.findPublishedByDocumentNumber(
-        relatedDocumentation.getDocumentNumber());
+    return documentationUnitRepository.findPublishedRelatedDocumentInfos(documentNumbers).stream()
+        .collect(
+            Collectors.toMap(
+                RelatedDocumentInfoDTO::getDocumentNumber,
+                Function.identity(),
+                (first, second) -> first));
   }
 
   /**
@@ -64,14 +77,15 @@ public class CaselawCitationPublishService {
    * found we only want to keep the passive citation if it is an actual blind-link (so has no source
    * document number).
    */
-  @Transactional
   public Optional<PassiveCitationCaselawDTO> updatePassiveCitationSourceWithInformationFromSource(
-      PassiveCitationCaselawDTO passiveCitationCaselaw) {
+      PassiveCitationCaselawDTO passiveCitationCaselaw,
+      Map<String, RelatedDocumentInfoDTO> relatedDocuments) {
     if (passiveCitationCaselaw.getSourceDocumentNumber() == null) {
       return Optional.of(passiveCitationCaselaw);
     }
 
-    var source = getPassiveCitationSource(passiveCitationCaselaw);
+    var source =
+        Optional.ofNullable(relatedDocuments.get(passiveCitationCaselaw.getSourceDocumentNumber()));
     if (source.isEmpty()) {
       log.atDebug()
           .addKeyValue("sourceDocumentNumber", passiveCitationCaselaw.getSourceDocumentNumber())
@@ -83,18 +97,10 @@ public class CaselawCitationPublishService {
       return Optional.of(passiveCitationCaselaw);
     }
 
-    toDomain(
-        source.get()); // load the lazy properties of the source, we need them later on after the
-    // transaction is closed
-
     //    passiveCitationCaselaw.setSourceDocumentNumber(source.get().getDocumentNumber());
     //    passiveCitationCaselaw.setSourceCourt(source.get().getCourt());
     //    passiveCitationCaselaw.setSourceDate(source.get().getDate());
-    //    passiveCitationCaselaw.setSourceFileNumber(
-    //        source.get().getFileNumbers().stream()
-    //            .findFirst()
-    //            .map(FileNumberDTO::getValue)
-    //            .orElse(null));
+    //    passiveCitationCaselaw.setSourceFileNumber(source.get().getFileNumber());
     //    passiveCitationCaselaw.setSourceDocumentType(source.get().getDocumentType());
 
     if (!Objects.equals(
@@ -102,11 +108,7 @@ public class CaselawCitationPublishService {
         || !Objects.equals(passiveCitationCaselaw.getSourceCourt(), source.get().getCourt())
         || !Objects.equals(passiveCitationCaselaw.getSourceDate(), source.get().getDate())
         || !Objects.equals(
-            passiveCitationCaselaw.getSourceFileNumber(),
-            source.get().getFileNumbers().stream()
-                .findFirst()
-                .map(FileNumberDTO::getValue)
-                .orElse(null))
+            passiveCitationCaselaw.getSourceFileNumber(), source.get().getFileNumber())
         || !Objects.equals(
             passiveCitationCaselaw.getSourceDocumentType(), source.get().getDocumentType())) {
 
@@ -128,12 +130,7 @@ public class CaselawCitationPublishService {
           .addKeyValue(
               "passiveCitationCaselaw.sourceFileNumber",
               passiveCitationCaselaw.getSourceFileNumber())
-          .addKeyValue(
-              "source.fileNumber[0]",
-              source.get().getFileNumbers().stream()
-                  .findFirst()
-                  .map(FileNumberDTO::getValue)
-                  .orElse(null))
+          .addKeyValue("source.fileNumber[0]", source.get().getFileNumber())
           .addKeyValue(
               "passiveCitationCaselaw.sourceDocumentType",
               passiveCitationCaselaw.getSourceDocumentType())
@@ -146,48 +143,28 @@ public class CaselawCitationPublishService {
     return Optional.of(passiveCitationCaselaw);
   }
 
-  private DocumentationUnit toDomain(DocumentationUnitDTO documentationUnit) {
-    if (documentationUnit instanceof DecisionDTO decisionDTO) {
-      return DecisionTransformer.transformToDomain(decisionDTO, null);
-    }
-    if (documentationUnit instanceof PendingProceedingDTO pendingProceedingDTO) {
-      return PendingProceedingTransformer.transformToDomain(pendingProceedingDTO, null);
-    }
-    return null;
-  }
-
   /** Update the citation target with the information from the actual target document. */
-  @Transactional
   public ActiveCitationCaselawDTO updateActiveCitationTargetWithInformationFromTarget(
-      ActiveCitationCaselawDTO activeCitationCaselaw) {
-    var target = getActiveCitationTarget(activeCitationCaselaw);
+      ActiveCitationCaselawDTO activeCitationCaselaw,
+      Map<String, RelatedDocumentInfoDTO> relatedDocuments) {
+    var target =
+        Optional.ofNullable(activeCitationCaselaw.getTargetDocumentNumber())
+            .map(relatedDocuments::get);
 
     if (target.isEmpty()) {
       // activeCitationCaselaw.setTargetDocumentNumber(null);
     } else {
-      toDomain(
-          target.get()); // load the lazy properties of the target, we need them later on after the
-      // transaction is closed
-
       //      activeCitationCaselaw.setTargetDocumentNumber(target.get().getDocumentNumber());
       //      activeCitationCaselaw.setTargetCourt(target.get().getCourt());
       //      activeCitationCaselaw.setTargetDate(target.get().getDate());
-      //      activeCitationCaselaw.setTargetFileNumber(
-      //          target.get().getFileNumbers().stream()
-      //              .findFirst()
-      //              .map(FileNumberDTO::getValue)
-      //              .orElse(null));
+      //      activeCitationCaselaw.setTargetFileNumber(target.get().getFileNumber());
       //      activeCitationCaselaw.setTargetDocumentType(target.get().getDocumentType());
       if (!Objects.equals(
               activeCitationCaselaw.getTargetDocumentNumber(), target.get().getDocumentNumber())
           || !Objects.equals(activeCitationCaselaw.getTargetCourt(), target.get().getCourt())
           || !Objects.equals(activeCitationCaselaw.getTargetDate(), target.get().getDate())
           || !Objects.equals(
-              activeCitationCaselaw.getTargetFileNumber(),
-              target.get().getFileNumbers().stream()
-                  .findFirst()
-                  .map(FileNumberDTO::getValue)
-                  .orElse(null))
+              activeCitationCaselaw.getTargetFileNumber(), target.get().getFileNumber())
           || !Objects.equals(
               activeCitationCaselaw.getTargetDocumentType(), target.get().getDocumentType())) {
 
@@ -207,12 +184,7 @@ public class CaselawCitationPublishService {
             .addKeyValue("target.date", target.get().getDate())
             .addKeyValue(
                 "activeCitation.targetFileNumber", activeCitationCaselaw.getTargetFileNumber())
-            .addKeyValue(
-                "target.fileNumber[0]",
-                target.get().getFileNumbers().stream()
-                    .findFirst()
-                    .map(FileNumberDTO::getValue)
-                    .orElse(null))
+            .addKeyValue("target.fileNumber[0]", target.get().getFileNumber())
             .addKeyValue(
                 "activeCitation.targetDocumentType", activeCitationCaselaw.getTargetDocumentType())
             .addKeyValue("target.documentType", target.get().getDocumentType())
@@ -226,38 +198,25 @@ public class CaselawCitationPublishService {
   }
 
   /** Update the citation target with the information from the actual target document. */
-  @Transactional
   public <T extends RelatedDocumentationDTO> T updateRelatedDocumentationWithInformationFromTarget(
-      T relatedDocumentation) {
-    var target = getRelatedDocumentationTarget(relatedDocumentation);
+      T relatedDocumentation, Map<String, RelatedDocumentInfoDTO> relatedDocuments) {
+    var target =
+        Optional.ofNullable(relatedDocumentation.getDocumentNumber()).map(relatedDocuments::get);
 
     if (target.isEmpty()) {
       // relatedDocumentation.setDocumentNumber(null);
     } else {
-      toDomain(
-          target.get()); // load the lazy properties of the target, we need them later on after the
-      // transaction is closed
-
       //      relatedDocumentation.setDocumentNumber(target.get().getDocumentNumber());
       //      relatedDocumentation.setCourt(target.get().getCourt());
       //      relatedDocumentation.setDate(target.get().getDate());
-      //      relatedDocumentation.setFileNumber(
-      //          target.get().getFileNumbers().stream()
-      //              .findFirst()
-      //              .map(FileNumberDTO::getValue)
-      //              .orElse(null));
+      //      relatedDocumentation.setFileNumber(target.get().getFileNumber());
       //      relatedDocumentation.setDocumentType(target.get().getDocumentType());
 
       if (!Objects.equals(
               relatedDocumentation.getDocumentNumber(), target.get().getDocumentNumber())
           || !Objects.equals(relatedDocumentation.getCourt(), target.get().getCourt())
           || !Objects.equals(relatedDocumentation.getDate(), target.get().getDate())
-          || !Objects.equals(
-              relatedDocumentation.getFileNumber(),
-              target.get().getFileNumbers().stream()
-                  .findFirst()
-                  .map(FileNumberDTO::getValue)
-                  .orElse(null))
+          || !Objects.equals(relatedDocumentation.getFileNumber(), target.get().getFileNumber())
           || !Objects.equals(
               relatedDocumentation.getDocumentType(), target.get().getDocumentType())) {
 
@@ -271,12 +230,7 @@ public class CaselawCitationPublishService {
             .addKeyValue("relatedDocumentation.date", relatedDocumentation.getDate())
             .addKeyValue("target.date", target.get().getDate())
             .addKeyValue("relatedDocumentation.fileNumber", relatedDocumentation.getFileNumber())
-            .addKeyValue(
-                "target.fileNumber[0]",
-                target.get().getFileNumbers().stream()
-                    .findFirst()
-                    .map(FileNumberDTO::getValue)
-                    .orElse(null))
+            .addKeyValue("target.fileNumber[0]", target.get().getFileNumber())
             .addKeyValue(
                 "relatedDocumentation.documentType", relatedDocumentation.getDocumentType())
             .addKeyValue("target.documentType", target.get().getDocumentType())
@@ -4,16 +4,23 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.ActiveCitationCas
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.CitationTypeDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.CourtDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationUnitRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabasePassiveCitationCaselawRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DecisionDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentTypeDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentationUnitDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.FileNumberDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PassiveCitationCaselawDTO;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,14 +29,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class CaselawCitationSyncService {
 
   private final DatabaseDocumentationUnitRepository documentationUnitRepository;
+  private final DatabasePassiveCitationCaselawRepository passiveCitationCaselawRepository;
 
   public CaselawCitationSyncService(
-      DatabaseDocumentationUnitRepository documentationUnitRepository) {
+      DatabaseDocumentationUnitRepository documentationUnitRepository,
+      DatabasePassiveCitationCaselawRepository passiveCitationCaselawRepository) {
     this.documentationUnitRepository = documentationUnitRepository;
+    this.passiveCitationCaselawRepository = passiveCitationCaselawRepository;
   }
 
   /**
-   * Create passive citations for all active citations of the doc unit.
+   * Create passive citations for all active citations of the doc unit. The targets of all active
+   * citations are loaded with their passive citations in one query and only the changed passive
+   * citations are saved.
    *
    * @return list Document numbers of all other documents that have been changed. These should be
    *     published again.
@@ -38,81 +50,100 @@ public class CaselawCitationSyncService {
   public Set<String> syncCitations(DocumentationUnitDTO documentationUnit) {
     Set<String> documentsToRepublish = new HashSet<>();
 
-    if (documentationUnit instanceof DecisionDTO decision) {
-      decision
-          .getActiveCaselawCitations()
-          .forEach(
-              activeCitationCaselaw -> {
-                var target =
-                    documentationUnitRepository.findPublishedByDocumentNumber(
-                        activeCitationCaselaw.getTargetDocumentNumber());
-
-                if (target.isPresent() && target.get() instanceof DecisionDTO targetDecision) {
-                  var matchingPassiveCitation =
-                      findMatchingPassiveCitation(
-                          targetDecision,
-                          decision.getDocumentNumber(),
-                          activeCitationCaselaw.getCitationType());
-                  if (matchingPassiveCitation.isPresent()) {
-                    if (updateOfMatchingCitationNeeded(
-                        matchingPassiveCitation.get(), activeCitationCaselaw)) {
-                      log.atInfo()
-                          .addKeyValue("publishedDocumentationUnit", decision.getDocumentNumber())
-                          .addKeyValue(
-                              "targetDocumentationUnit", targetDecision.getDocumentNumber())
-                          .addKeyValue("activeCitation", activeCitationCaselaw)
-                          .addKeyValue("matchingPassiveCitation", matchingPassiveCitation.get())
-                          .setMessage("Updating data of matching passive citation.")
-                          .log();
-                      matchingPassiveCitation
-                          .get()
-                          .setCitationType(activeCitationCaselaw.getCitationType());
-                      matchingPassiveCitation.get().setSourceDate(decision.getDate());
-                      matchingPassiveCitation
-                          .get()
-                          .setSourceDocumentType(decision.getDocumentType());
-                      matchingPassiveCitation
-                          .get()
-                          .setSourceDocumentNumber(decision.getDocumentNumber());
-                      matchingPassiveCitation.get().setSourceCourt(decision.getCourt());
-                      matchingPassiveCitation
-                          .get()
-                          .setSourceFileNumber(
-                              decision.getFileNumbers().stream()
-                                  .findFirst()
-                                  .map(FileNumberDTO::getValue)
-                                  .orElse(null));
-
-                      documentationUnitRepository.save(targetDecision);
-
-                      documentsToRepublish.add(targetDecision.getDocumentNumber());
-                    }
-                  } else {
-                    // We skip the passive citation creation for now and only log about it until we
-                    // know that we really want to create them
-                    /*targetDecision
-                    .getPassiveCaselawCitations()
-                    .add(
-                        createMatchingPassiveCitation(
-                            activeCitationCaselaw,
-                            targetDecision,
-                            decision,
-                            targetDecision.getPassiveCaselawCitations().size()));*/
-
-                    log.atInfo()
-                        .addKeyValue("publishedDocumentationUnit", decision.getDocumentNumber())
-                        .addKeyValue("targetDocumentationUnit", targetDecision.getDocumentNumber())
-                        .addKeyValue("activeCitation", activeCitationCaselaw)
-                        .setMessage(
-                            "SKIPPED: Creating passive citation for published active caselaw citation.")
-                        .log();
-
-                    // documentationUnitRepository.save(targetDecision);
-
-                    documentsToRepublish.add(targetDecision.getDocumentNumber());
-                  }
+    if (!(documentationUnit instanceof DecisionDTO decision)
+        || decision.getActiveCaselawCitations().isEmpty()) {
+      return documentsToRepublish;
+    }
+
+    Set<String> targetDocumentNumbers =
+        decision.getActiveCaselawCitations().stream()
+            .map(ActiveCitationCaselawDTO::getTargetDocumentNumber)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    if (targetDocumentNumbers.isEmpty()) {
+      return documentsToRepublish;
+    }
+
+    Map<String, DecisionDTO> targets = new HashMap<>();
+    Map<PassiveCitationKey, PassiveCitationCaselawDTO> passiveCitations = new HashMap<>();
+    documentationUnitRepository
+        .findPublishedDecisionsWithPassiveCaselawCitations(targetDocumentNumbers)
+        .forEach(
+            targetDecision -> {
+              targets.put(targetDecision.getDocumentNumber(), targetDecision);
+              indexPassiveCitations(targetDecision, decision.getDocumentNumber(), passiveCitations);
+            });
+
+    List<PassiveCitationCaselawDTO> changedPassiveCitations = new ArrayList<>();
+    decision
+        .getActiveCaselawCitations()
+        .forEach(
+            activeCitationCaselaw -> {
+              DecisionDTO targetDecision =
+                  targets.get(activeCitationCaselaw.getTargetDocumentNumber());
+              if (targetDecision == null) {
+                return;
+              }
+
+              var matchingPassiveCitation =
+                  passiveCitations.get(
+                      new PassiveCitationKey(
+                          targetDecision.getDocumentNumber(),
+                          activeCitationCaselaw.getCitationType()));
+              if (matchingPassiveCitation != null) {
+                if (updateOfMatchingCitationNeeded(
+                    matchingPassiveCitation, activeCitationCaselaw)) {
+                  log.atInfo()
+                      .addKeyValue("publishedDocumentationUnit", decision.getDocumentNumber())
+                      .addKeyValue("targetDocumentationUnit", targetDecision.getDocumentNumber())
+                      .addKeyValue("activeCitation", activeCitationCaselaw)
+                      .addKeyValue("matchingPassiveCitation", matchingPassiveCitation)
+                      .setMessage("Updating data of matching passive citation.")
+                      .log();
+                  matchingPassiveCitation.setCitationType(activeCitationCaselaw.getCitationType());
+                  matchingPassiveCitation.setSourceDate(decision.getDate());
+                  matchingPassiveCitation.setSourceDocumentType(decision.getDocumentType());
+                  matchingPassiveCitation.setSourceDocumentNumber(decision.getDocumentNumber());
+                  matchingPassiveCitation.setSourceCourt(decision.getCourt());
+                  matchingPassiveCitation.setSourceFileNumber(
+                      decision.getFileNumbers().stream()
+                          .findFirst()
+                          .map(FileNumberDTO::getValue)
+                          .orElse(null));
+
+                  changedPassiveCitations.add(matchingPassiveCitation);
+
+                  documentsToRepublish.add(targetDecision.getDocumentNumber());
                 }
-              });
+              } else {
+                // We skip the passive citation creation for now and only log about it until we
+                // know that we really want to create them
+                /*targetDecision
+                .getPassiveCaselawCitations()
+                .add(
+                    createMatchingPassiveCitation(
+                        activeCitationCaselaw,
+                        targetDecision,
+                        decision,
+                        targetDecision.getPassiveCaselawCitations().size()));*/
+
+                log.atInfo()
+                    .addKeyValue("publishedDocumentationUnit", decision.getDocumentNumber())
+                    .addKeyValue("targetDocumentationUnit", targetDecision.getDocumentNumber())
+                    .addKeyValue("activeCitation", activeCitationCaselaw)
+                    .setMessage(
+                        "SKIPPED: Creating passive citation for published active caselaw citation.")
+                    .log();
+
+                // documentationUnitRepository.save(targetDecision);
+
+                documentsToRepublish.add(targetDecision.getDocumentNumber());
+              }
+            });
+
+    if (!changedPassiveCitations.isEmpty()) {
+      // the updates of the passive citations are written in one jdbc batch on flush
+      passiveCitationCaselawRepository.saveAll(changedPassiveCitations);
     }
 
     return documentsToRepublish;
@@ -136,19 +167,27 @@ public class CaselawCitationSyncService {
         .build();
   }
 
-  private Optional<PassiveCitationCaselawDTO> findMatchingPassiveCitation(
-      DecisionDTO decision, String documentNumber, CitationTypeDTO citationType) {
-    return decision.getPassiveCaselawCitations().stream()
+  /**
+   * Index the passive citations of the target by the citation type. Only the passive citations of
+   * the given source are indexed, the first one of a citation type matches.
+   */
+  private void indexPassiveCitations(
+      DecisionDTO target,
+      String sourceDocumentNumber,
+      Map<PassiveCitationKey, PassiveCitationCaselawDTO> passiveCitations) {
+    target.getPassiveCaselawCitations().stream()
         .filter(
-            passiveCitationCaselaw -> {
-              if (passiveCitationCaselaw.getSourceDocumentNumber() == null) {
-                return false;
-              }
-
-              return passiveCitationCaselaw.getSourceDocumentNumber().equals(documentNumber)
-                  && Objects.equals(passiveCitationCaselaw.getCitationType(), citationType);
-            })
-        .findFirst();
+            passiveCitationCaselaw ->
+                passiveCitationCaselaw.getSourceDocumentNumber() != null
+                    && passiveCitationCaselaw
+                        .getSourceDocumentNumber()
+                        .equals(sourceDocumentNumber))
+        .forEach(
+            passiveCitationCaselaw ->
+                passiveCitations.putIfAbsent(
+                    new PassiveCitationKey(
+                        target.getDocumentNumber(), passiveCitationCaselaw.getCitationType()),
+                    passiveCitationCaselaw));
   }
 
   private boolean updateOfMatchingCitationNeeded(
@@ -184,4 +223,11 @@ public class CaselawCitationSyncService {
         .map(CourtDTO::getId)
         .equals(Optional.ofNullable(active.getSource().getCourt()).map(CourtDTO::getId));
   }
+
+  /**
+   * Key of a passive citation of a target. Citation types are entities of the same persistence
+   * context, so they are compared by identity.
+   */
+  private record PassiveCitationKey(
+      String targetDocumentNumber, @Nullable CitationTypeDTO citationType) {}
 }
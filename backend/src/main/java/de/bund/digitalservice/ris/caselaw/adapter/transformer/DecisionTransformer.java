@@ -33,6 +33,7 @@ import de.bund.digitalservice.ris.caselaw.domain.ActiveCitation;
 import de.bund.digitalservice.ris.caselaw.domain.AppealAdmission;
 import de.bund.digitalservice.ris.caselaw.domain.Attachment;
 import de.bund.digitalservice.ris.caselaw.domain.AttachmentType;
+import de.bund.digitalservice.ris.caselaw.domain.ChangedPaths;
 import de.bund.digitalservice.ris.caselaw.domain.CollectiveAgreement;
 import de.bund.digitalservice.ris.caselaw.domain.ContentRelatedIndexing;
 import de.bund.digitalservice.ris.caselaw.domain.CoreData;
@@ -85,8 +86,24 @@ public class DecisionTransformer extends DocumentableTransformer {
    * @return a transformed database object containing the changes from the @param
    *     updatedDomainObject
    */
-  @SuppressWarnings({"java:S6541", "java:S3776"})
   public static DecisionDTO transformToDTO(DecisionDTO currentDto, Decision updatedDomainObject) {
+    return transformToDTO(currentDto, updatedDomainObject, ChangedPaths.ALL);
+  }
+
+  /**
+   * Transforms the changed parts of a documentation unit object from its domain representation into
+   * a database object. The collections outside of the changed paths are kept from the current
+   * database object, so they are not deleted and inserted again.
+   *
+   * @param currentDto the current database documentation unit
+   * @param updatedDomainObject the updated domain object, e.g. by a REST call
+   * @param changedPaths the paths of the domain object changed by a patch
+   * @return a transformed database object containing the changes from the @param
+   *     updatedDomainObject
+   */
+  @SuppressWarnings({"java:S6541", "java:S3776"})
+  public static DecisionDTO transformToDTO(
+      DecisionDTO currentDto, Decision updatedDomainObject, ChangedPaths changedPaths) {
     final var builder = currentDto.toBuilder();
 
     builder
@@ -95,12 +112,16 @@ public class DecisionTransformer extends DocumentableTransformer {
         .version(updatedDomainObject.version())
         .inboxStatus(updatedDomainObject.inboxStatus());
 
-    addPreviousDecisions(updatedDomainObject, builder);
+    if (changedPaths.affects("/previousDecisions")) {
+      addPreviousDecisions(updatedDomainObject, builder);
+    }
 
     builder.note(
         StringUtils.isNullOrBlank(updatedDomainObject.note()) ? null : updatedDomainObject.note());
 
-    addEnsuingAndPendingDecisions(updatedDomainObject, builder, currentDto);
+    if (changedPaths.affects("/ensuingDecisions")) {
+      addEnsuingAndPendingDecisions(updatedDomainObject, builder, currentDto);
+    }
 
     if (updatedDomainObject.coreData() != null) {
       var coreData = updatedDomainObject.coreData();
@@ -118,20 +139,47 @@ public class DecisionTransformer extends DocumentableTransformer {
 
       builder.ecli(StringUtils.normalizeSpace(coreData.ecli()));
 
-      addInputTypes(builder, coreData);
-      addDeviatingEclis(builder, coreData);
+      if (changedPaths.affects("/coreData/inputTypes")) {
+        addInputTypes(builder, coreData);
+      }
+      if (changedPaths.affects("/coreData/deviatingEclis")) {
+        addDeviatingEclis(builder, coreData);
+      }
       addLegalEffect(currentDto, updatedDomainObject, builder);
-      addLeadingDecisionNormReferences(updatedDomainObject, builder);
-      addYearsOfDisputeToDTO(builder, coreData);
+      // the leading decision norm references are removed with a change of the court
+      if (changedPaths.affects("/coreData/leadingDecisionNormReferences")
+          || changedPaths.affects("/coreData/court")) {
+        addLeadingDecisionNormReferences(updatedDomainObject, builder);
+      }
+      if (changedPaths.affects("/coreData/yearsOfDispute")) {
+        addYearsOfDisputeToDTO(builder, coreData);
+      }
 
-      addDeviatingDocumentNumbers(builder, coreData, currentDto);
-      addFileNumbers(builder, coreData, currentDto);
-      addDeviatingCourts(builder, coreData);
+      if (changedPaths.affects("/coreData/deviatingDocumentNumbers")) {
+        addDeviatingDocumentNumbers(builder, coreData, currentDto);
+      }
+      if (changedPaths.affects("/coreData/fileNumbers")) {
+        addFileNumbers(builder, coreData, currentDto);
+      }
+      if (changedPaths.affects("/coreData/deviatingCourts")) {
+        addDeviatingCourts(builder, coreData);
+      }
       addCourtBranchLocation(builder, coreData);
-      addDeviatingDecisionDates(builder, coreData);
-      addDeviatingFileNumbers(builder, coreData, currentDto);
-      addSources(currentDto, builder, updatedDomainObject);
-      addOralHearingDates(builder, coreData);
+      if (changedPaths.affects("/coreData/deviatingDecisionDates")) {
+        addDeviatingDecisionDates(builder, coreData);
+      }
+      if (changedPaths.affects("/coreData/deviatingFileNumbers")) {
+        addDeviatingFileNumbers(builder, coreData, currentDto);
+      }
+      // the sources reference the caselaw and literature references
+      if (changedPaths.affects("/coreData/sources")
+          || changedPaths.affects("/caselawReferences")
+          || changedPaths.affects("/literatureReferences")) {
+        addSources(currentDto, builder, updatedDomainObject);
+      }
+      if (changedPaths.affects("/coreData/oralHearingDates")) {
+        addOralHearingDates(builder, coreData);
+      }
 
     } else {
       builder
@@ -149,18 +197,36 @@ public class DecisionTransformer extends DocumentableTransformer {
     if (updatedDomainObject.contentRelatedIndexing() != null) {
       ContentRelatedIndexing contentRelatedIndexing = updatedDomainObject.contentRelatedIndexing();
 
-      addNormReferences(builder, contentRelatedIndexing);
+      if (changedPaths.affects("/contentRelatedIndexing/norms")) {
+        addNormReferences(builder, contentRelatedIndexing);
+      }
 
-      addActiveCitations(builder, contentRelatedIndexing);
-      addPassiveCaselawCitations(builder, contentRelatedIndexing);
-      addJobProfiles(builder, contentRelatedIndexing);
-      addDefinitions(builder, contentRelatedIndexing);
-      addDismissalGrounds(builder, contentRelatedIndexing);
-      addDismissalTypes(builder, contentRelatedIndexing);
-      addCollectiveAgreements(builder, contentRelatedIndexing);
+      if (changedPaths.affects("/contentRelatedIndexing/activeCitations")) {
+        addActiveCitations(builder, contentRelatedIndexing);
+      }
+      if (changedPaths.affects("/contentRelatedIndexing/passiveCaselawCitations")) {
+        addPassiveCaselawCitations(builder, contentRelatedIndexing);
+      }
+      if (changedPaths.affects("/contentRelatedIndexing/jobProfiles")) {
+        addJobProfiles(builder, contentRelatedIndexing);
+      }
+      if (changedPaths.affects("/contentRelatedIndexing/definitions")) {
+        addDefinitions(builder, contentRelatedIndexing);
+      }
+      if (changedPaths.affects("/contentRelatedIndexing/dismissalGrounds")) {
+        addDismissalGrounds(builder, contentRelatedIndexing);
+      }
+      if (changedPaths.affects("/contentRelatedIndexing/dismissalTypes")) {
+        addDismissalTypes(builder, contentRelatedIndexing);
+      }
+      if (changedPaths.affects("/contentRelatedIndexing/collectiveAgreements")) {
+        addCollectiveAgreements(builder, contentRelatedIndexing);
+      }
       builder.hasLegislativeMandate(contentRelatedIndexing.hasLegislativeMandate());
       builder.evsf(contentRelatedIndexing.evsf());
-      addForeignLanguageVersions(builder, contentRelatedIndexing);
+      if (changedPaths.affects("/contentRelatedIndexing/foreignLanguageVersions")) {
+        addForeignLanguageVersions(builder, contentRelatedIndexing);
+      }
       if (contentRelatedIndexing.appealAdmission() == null) {
         builder.appealAdmitted(null);
         builder.appealAdmittedBy(null);
@@ -169,17 +235,31 @@ public class DecisionTransformer extends DocumentableTransformer {
         builder.appealAdmittedBy(contentRelatedIndexing.appealAdmission().by());
       }
       builder.appeal(AppealTransformer.transformToDTO(currentDto, contentRelatedIndexing.appeal()));
-      addOriginOfTranslations(builder, contentRelatedIndexing);
-      addObjectValues(builder, contentRelatedIndexing);
-      addAbuseFees(builder, contentRelatedIndexing);
-      addCountriesOfOrigin(builder, contentRelatedIndexing);
-      addIncomeTypes(builder, contentRelatedIndexing);
-      addRelatedPendingProceedings(builder, contentRelatedIndexing);
-      addNonApplicationNorms(builder, contentRelatedIndexing);
+      if (changedPaths.affects("/contentRelatedIndexing/originOfTranslations")) {
+        addOriginOfTranslations(builder, contentRelatedIndexing);
+      }
+      if (changedPaths.affects("/contentRelatedIndexing/objectValues")) {
+        addObjectValues(builder, contentRelatedIndexing);
+      }
+      if (changedPaths.affects("/contentRelatedIndexing/abuseFees")) {
+        addAbuseFees(builder, contentRelatedIndexing);
+      }
+      if (changedPaths.affects("/contentRelatedIndexing/countriesOfOrigin")) {
+        addCountriesOfOrigin(builder, contentRelatedIndexing);
+      }
+      if (changedPaths.affects("/contentRelatedIndexing/incomeTypes")) {
+        addIncomeTypes(builder, contentRelatedIndexing);
+      }
+      if (changedPaths.affects("/contentRelatedIndexing/relatedPendingProceedings")) {
+        addRelatedPendingProceedings(builder, contentRelatedIndexing);
+      }
+      if (changedPaths.affects("/contentRelatedIndexing/nonApplicationNorms")) {
+        addNonApplicationNorms(builder, contentRelatedIndexing);
+      }
     }
 
     if (updatedDomainObject.longTexts() != null) {
-      addLongTexts(updatedDomainObject, builder);
+      addLongTexts(updatedDomainObject, builder, changedPaths);
     } else {
       builder
           .tenor(null)
@@ -192,7 +272,7 @@ public class DecisionTransformer extends DocumentableTransformer {
     }
 
     if (updatedDomainObject.shortTexts() != null) {
-      addShortTexts(updatedDomainObject, builder);
+      addShortTexts(updatedDomainObject, builder, changedPaths);
     } else {
       currentDto.getDecisionNames().clear();
       builder
@@ -204,8 +284,12 @@ public class DecisionTransformer extends DocumentableTransformer {
     }
 
     // Calls to pre-build helper methods that populate the builder
-    addCaselawReferences(updatedDomainObject, builder, currentDto);
-    addLiteratureReferences(updatedDomainObject, builder, currentDto);
+    if (changedPaths.affects("/caselawReferences")) {
+      addCaselawReferences(updatedDomainObject, builder, currentDto);
+    }
+    if (changedPaths.affects("/literatureReferences")) {
+      addLiteratureReferences(updatedDomainObject, builder, currentDto);
+    }
     addManagementData(updatedDomainObject, builder);
 
     DecisionDTO result = builder.build();
@@ -334,7 +418,8 @@ public class DecisionTransformer extends DocumentableTransformer {
     builder.source(newSources);
   }
 
-  private static void addLongTexts(Decision updatedDomainObject, DecisionDTOBuilder<?, ?> builder) {
+  private static void addLongTexts(
+      Decision updatedDomainObject, DecisionDTOBuilder<?, ?> builder, ChangedPaths changedPaths) {
     LongTexts longTexts = updatedDomainObject.longTexts();
 
     builder
@@ -343,15 +428,20 @@ public class DecisionTransformer extends DocumentableTransformer {
         .caseFacts(longTexts.caseFacts())
         .decisionGrounds(longTexts.decisionReasons())
         .dissentingOpinion(longTexts.dissentingOpinion())
-        .participatingJudges(
-            ParticipatingJudgeTransformer.transformToDTO(longTexts.participatingJudges()))
         .otherLongText(longTexts.otherLongText())
-        .outline(longTexts.outline())
-        .corrections(CorrectionTransformer.transformToDTOs(longTexts.corrections()));
+        .outline(longTexts.outline());
+
+    if (changedPaths.affects("/longTexts/participatingJudges")) {
+      builder.participatingJudges(
+          ParticipatingJudgeTransformer.transformToDTO(longTexts.participatingJudges()));
+    }
+    if (changedPaths.affects("/longTexts/corrections")) {
+      builder.corrections(CorrectionTransformer.transformToDTOs(longTexts.corrections()));
+    }
   }
 
   private static void addShortTexts(
-      Decision updatedDomainObject, DecisionDTOBuilder<?, ?> builder) {
+      Decision updatedDomainObject, DecisionDTOBuilder<?, ?> builder, ChangedPaths changedPaths) {
     ShortTexts shortTexts = updatedDomainObject.shortTexts();
 
     builder
@@ -360,6 +450,10 @@ public class DecisionTransformer extends DocumentableTransformer {
         .otherHeadnote(shortTexts.otherHeadnote())
         .headline(shortTexts.headline());
 
+    if (!changedPaths.affects("/shortTexts/decisionNames")) {
+      return;
+    }
+
     var decisionNames = shortTexts.decisionNames();
     if (decisionNames != null && !decisionNames.isEmpty()) {
       List<DecisionNameDTO> decisionNameDTOs = new ArrayList<>();
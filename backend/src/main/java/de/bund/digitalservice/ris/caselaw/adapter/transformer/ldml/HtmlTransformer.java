@@ -5,6 +5,7 @@ import java.io.IOException;
 import java.io.StringReader;
 import java.util.Collections;
 import java.util.List;
+import java.util.regex.Pattern;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
@@ -18,9 +19,21 @@ import org.xml.sax.SAXException;
 
 @Slf4j
 public class HtmlTransformer {
+  private static final Pattern UNCLOSED_IMG = Pattern.compile("(<img\\b[^>]*?)(?<!/)>");
+  private static final Pattern UNCLOSED_BR =
+      Pattern.compile("<\\s*br\\s*>(?!\\s*<\\s*/\\s*br\\s*>)");
+  private static final Pattern COLGROUP = Pattern.compile("<colgroup[^>]*>.*?</colgroup>");
+  private static final Pattern IGNORE_ONCE = Pattern.compile("<(/?)ignore-once>");
 
   private final DocumentBuilderFactory documentBuilderFactory;
 
+  /**
+   * The document builders are not thread safe, so every thread gets its own builder, which is reset
+   * before it is reused. A builder is only reused on pooled platform threads; a virtual thread that
+   * is started per task creates a new one.
+   */
+  private final ThreadLocal<DocumentBuilder> documentBuilder = new ThreadLocal<>();
+
   public HtmlTransformer(DocumentBuilderFactory documentBuilderFactory) {
     this.documentBuilderFactory = documentBuilderFactory;
   }
@@ -35,22 +48,30 @@ public class HtmlTransformer {
     /* Pre-process:
     HTML allows tags that are not closed. However, XML does not. That's why we do
     this string-manipulation based workaround of closing the img and br tag.
-    Colgroup are style elements for columns in table and are not needed */
-    html =
-        html.replaceAll("(<img\\b[^>]*?)(?<!/)>", "$1/>")
-            .replaceAll("<\\s*br\\s*>(?!\\s*<\\s*/\\s*br\\s*>)", "<br/>")
-            .replaceAll("<colgroup[^>]*>.*?</colgroup>", "");
+    Colgroup are style elements for columns in table and are not needed.
+    The patterns are only applied if the text contains the respective tag at all, which is
+    not the case for most of the texts. */
+    if (html.contains("<img")) {
+      html = UNCLOSED_IMG.matcher(html).replaceAll("$1/>");
+    }
+    if (html.contains("br")) {
+      html = UNCLOSED_BR.matcher(html).replaceAll("<br/>");
+    }
+    if (html.contains("<colgroup")) {
+      html = COLGROUP.matcher(html).replaceAll("");
+    }
 
     /* Pre-process:
     Remove all ignore-once tags as they mark locally ignore text check issues that are irrelevant for the portal
     */
-    html = html.replaceAll("<(/?)ignore-once>", "");
+    if (html.contains("ignore-once>")) {
+      html = IGNORE_ONCE.matcher(html).replaceAll("");
+    }
 
     try {
       String wrapped = "<wrapper>" + html + "</wrapper>";
 
-      DocumentBuilder builder = documentBuilderFactory.newDocumentBuilder();
-      Document doc = builder.parse(new InputSource(new StringReader(wrapped)));
+      Document doc = getDocumentBuilder().parse(new InputSource(new StringReader(wrapped)));
 
       NodeList childNodes = doc.getDocumentElement().getChildNodes();
 
@@ -60,4 +81,15 @@ public class HtmlTransformer {
       throw new MappingException(e.getMessage());
     }
   }
+
+  private DocumentBuilder getDocumentBuilder() throws ParserConfigurationException {
+    DocumentBuilder builder = documentBuilder.get();
+    if (builder == null) {
+      builder = documentBuilderFactory.newDocumentBuilder();
+      documentBuilder.set(builder);
+    } else {
+      builder.reset();
+    }
+    return builder;
+  }
 }
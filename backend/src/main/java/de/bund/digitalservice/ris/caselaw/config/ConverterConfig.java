@@ -14,16 +14,23 @@ import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.TransformerFactory;
 import org.docx4j.org.apache.xalan.processor.TransformerFactoryImpl;
 import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Scope;
 import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.module.SimpleModule;
 
 @Configuration
 public class ConverterConfig {
+  /**
+   * The converter holds the styles, images, footers and numbering definitions of the converted
+   * file, so every conversion gets its own instance.
+   */
   @Bean
+  @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
   public DocxConverter docxConverter() {
     return new DocxConverter();
   }
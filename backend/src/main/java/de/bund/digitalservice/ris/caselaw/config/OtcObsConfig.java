@@ -3,6 +3,8 @@ package de.bund.digitalservice.ris.caselaw.config;
 import de.bund.digitalservice.ris.caselaw.adapter.S3MockClient;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -47,6 +49,17 @@ public class OtcObsConfig {
         .build();
   }
 
+  /**
+   * Worker pool for the parts of the multipart uploads of attachments. The pool size limits how
+   * many parts are uploaded to the bucket in parallel over all uploads.
+   */
+  @Bean(name = "attachmentUploadExecutor", destroyMethod = "close")
+  public ExecutorService attachmentUploadExecutor(
+      @Value("${neuris.attachment-upload.part-concurrency:4}") int concurrency) {
+    return Executors.newFixedThreadPool(
+        concurrency, Thread.ofVirtual().name("attachment-upload-", 0).factory());
+  }
+
   @Bean(name = "portalS3Client")
   @Profile({"staging", "uat", "production"})
   public S3Client portalS3Client() throws URISyntaxException {
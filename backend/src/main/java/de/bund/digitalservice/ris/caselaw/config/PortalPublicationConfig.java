@@ -3,7 +3,10 @@ package de.bund.digitalservice.ris.caselaw.config;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.ldml.FullLdmlTransformer;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.ldml.PortalTransformer;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.ldml.ReducedLdmlTransformer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.xml.parsers.DocumentBuilderFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -28,4 +31,39 @@ public class PortalPublicationConfig {
   public PortalTransformer defaultLdmlTransformer(DocumentBuilderFactory documentBuilderFactory) {
     return new ReducedLdmlTransformer(documentBuilderFactory);
   }
+
+  /**
+   * Worker pool for the portal publication jobs. Every job is dominated by I/O (database, S3), so
+   * the workers are virtual threads. The pool size limits how many jobs of a batch are executed in
+   * parallel and thereby the load on the database connection pool and the portal bucket.
+   */
+  @Bean(name = "portalPublicationJobExecutor", destroyMethod = "close")
+  public ExecutorService portalPublicationJobExecutor(
+      @Value("${neuris.portal-publication.job-concurrency:4}") int concurrency) {
+    return Executors.newFixedThreadPool(
+        concurrency, Thread.ofVirtual().name("portal-publication-", 0).factory());
+  }
+
+  /**
+   * Worker pool for the upload of the images of a documentation unit to the portal bucket. It is
+   * separate from the job pool, so a job never waits for a worker which is blocked by another job.
+   */
+  @Bean(name = "portalImageUploadExecutor", destroyMethod = "close")
+  public ExecutorService portalImageUploadExecutor(
+      @Value("${neuris.portal-publication.image-upload-concurrency:4}") int concurrency) {
+    return Executors.newFixedThreadPool(
+        concurrency, Thread.ofVirtual().name("portal-image-upload-", 0).factory());
+  }
+
+  /**
+   * Worker pool for the republication of all documentation units published in the portal. It is
+   * separate from the job pool, so a running republication doesn't delay the regular publication
+   * jobs.
+   */
+  @Bean(name = "portalRepublishExecutor", destroyMethod = "close")
+  public ExecutorService portalRepublishExecutor(
+      @Value("${neuris.portal-publication.republish-concurrency:8}") int concurrency) {
+    return Executors.newFixedThreadPool(
+        concurrency, Thread.ofVirtual().name("portal-republish-", 0).factory());
+  }
 }
@@ -2,11 +2,16 @@ package de.bund.digitalservice.ris.caselaw.config;
 
 import de.bund.digitalservice.ris.caselaw.adapter.languagetool.LanguageToolClient;
 import de.bund.digitalservice.ris.caselaw.adapter.languagetool.LanguageToolConfig;
+import de.bund.digitalservice.ris.caselaw.adapter.languagetool.LanguageToolMatchCache;
 import de.bund.digitalservice.ris.caselaw.adapter.languagetool.LanguageToolService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitRepository;
 import de.bund.digitalservice.ris.caselaw.domain.FeatureToggleService;
 import de.bund.digitalservice.ris.caselaw.domain.TextCheckService;
 import de.bund.digitalservice.ris.caselaw.domain.textcheck.ignored_words.IgnoredTextCheckWordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -20,8 +25,27 @@ public class TextCheckConfiguration {
       DocumentationUnitRepository documentationUnitRepository,
       IgnoredTextCheckWordRepository ignoredTextCheckWordRepository,
       FeatureToggleService featureToggleService,
-      LanguageToolClient languageToolClient) {
+      LanguageToolClient languageToolClient,
+      @Qualifier("textCheckExecutor") ExecutorService textCheckExecutor,
+      MeterRegistry meterRegistry) {
     return new LanguageToolService(
-        documentationUnitRepository, ignoredTextCheckWordRepository, config, languageToolClient);
+        documentationUnitRepository,
+        ignoredTextCheckWordRepository,
+        config,
+        languageToolClient,
+        new LanguageToolMatchCache(config.getCacheSize(), config.getCacheTtl()),
+        textCheckExecutor,
+        meterRegistry);
+  }
+
+  /**
+   * Worker pool for the text checks of the categories of a documentation unit. The checks wait for
+   * LanguageTool most of the time, so the workers are virtual threads. The pool size limits the
+   * number of parallel requests to LanguageTool.
+   */
+  @Bean(name = "textCheckExecutor", destroyMethod = "close")
+  public ExecutorService textCheckExecutor(LanguageToolConfig config) {
+    return Executors.newFixedThreadPool(
+        config.getConcurrency(), Thread.ofVirtual().name("text-check-", 0).factory());
   }
 }
@@ -0,0 +1,63 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import com.gravity9.jsonpatch.JsonPatch;
+import com.gravity9.jsonpatch.JsonPatchOperation;
+import java.util.HashSet;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The paths of a documentation unit changed by a json patch, e.g. {@code /coreData/fileNumbers/0}.
+ * Only the columns and collections of the changed paths have to be written into the database.
+ *
+ * @param paths the changed paths or null, if every part of the documentation unit may be changed
+ */
+public record ChangedPaths(@Nullable Set<String> paths) {
+
+  /** Every part of the documentation unit may be changed, e.g. by a complete update. */
+  public static final ChangedPaths ALL = new ChangedPaths(null);
+
+  /**
+   * Collect the paths changed by the operations of a patch. A move or copy operation changes the
+   * documentation unit in an unknown way, so all parts are changed.
+   *
+   * @param patch the patch applied to the documentation unit
+   * @return the changed paths
+   */
+  public static ChangedPaths of(JsonPatch patch) {
+    Set<String> paths = new HashSet<>();
+    for (JsonPatchOperation operation : patch.getOperations()) {
+      switch (operation.getOp()) {
+        case "add", "remove", "replace" -> paths.add(operation.getPath());
+        case "test" -> {
+          // doesn't change anything
+        }
+        default -> {
+          return ALL;
+        }
+      }
+    }
+    return new ChangedPaths(Set.copyOf(paths));
+  }
+
+  /**
+   * Check if the part of the documentation unit with the given path is changed. The part is
+   * changed, if one of the changed paths is the path itself, a path inside the part or a parent
+   * path of the part.
+   *
+   * @param path path of the part, e.g. {@code /coreData/fileNumbers}
+   * @return true, if the part is changed
+   */
+  public boolean affects(String path) {
+    if (paths == null) {
+      return true;
+    }
+
+    return paths.stream()
+        .anyMatch(
+            changedPath ->
+                changedPath.equals(path)
+                    || changedPath.startsWith(path + "/")
+                    || path.startsWith(changedPath + "/"));
+  }
+}
@@ -5,5 +5,8 @@ import java.util.UUID;
 public interface ConverterService {
   Attachment2Html getConvertedObject(String s3Path);
 
-  Attachment2Html getConvertedObject(String format, String s3Path, UUID documentationUnitId);
+  Attachment2Html getConvertedObject(
+      String format, String s3Path, UUID documentationUnitId, String imageUrlPrefix);
+
+  Image getConvertedImage(String s3Path, String imageUrlPrefix, String imageId);
 }
@@ -0,0 +1,26 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import java.util.UUID;
+import lombok.Builder;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The properties of a documentation unit needed to check the access of a user to it.
+ *
+ * @param id the id of the documentation unit
+ * @param documentNumber the document number of the documentation unit
+ * @param documentationOffice the responsible documentation office
+ * @param creatingDocumentationOffice the documentation office which created the documentation unit,
+ *     only set for decisions created by another documentation office
+ * @param publicationStatus the current publication status or null, if the documentation unit has no
+ *     status
+ * @param procedureUserGroupId the id of the user group the current procedure is assigned to
+ */
+@Builder
+public record DocumentationUnitAccessInfo(
+    UUID id,
+    String documentNumber,
+    DocumentationOffice documentationOffice,
+    @Nullable DocumentationOffice creatingDocumentationOffice,
+    @Nullable PublicationStatus publicationStatus,
+    @Nullable UUID procedureUserGroupId) {}
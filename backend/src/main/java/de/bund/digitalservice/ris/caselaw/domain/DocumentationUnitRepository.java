@@ -4,7 +4,6 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentationUnit
 import de.bund.digitalservice.ris.caselaw.domain.exception.DocumentationUnitNotExistsException;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.data.domain.Pageable;
@@ -57,6 +56,24 @@ public interface DocumentationUnitRepository {
    */
   DocumentationUnit findByUuid(UUID uuid) throws DocumentationUnitNotExistsException;
 
+  /**
+   * Find the properties of a documentation unit needed for the access checks by its UUID
+   *
+   * @param uuid the UUID to search for
+   * @return the access info of the documentation unit
+   */
+  DocumentationUnitAccessInfo findAccessInfoByUuid(UUID uuid)
+      throws DocumentationUnitNotExistsException;
+
+  /**
+   * Find the properties of a documentation unit needed for the access checks by its document number
+   *
+   * @param documentNumber the document number
+   * @return the access info of the documentation unit
+   */
+  DocumentationUnitAccessInfo findAccessInfoByDocumentNumber(String documentNumber)
+      throws DocumentationUnitNotExistsException;
+
   /**
    * Create a new documentation unit with the given document number and documentation office
    *
@@ -92,6 +109,24 @@ public interface DocumentationUnitRepository {
       @Nullable String description,
       @Nullable boolean processStepChanged);
 
+  /**
+   * Save the changed parts of a documentation unit. The collections of the documentation unit
+   * outside of the changed paths are kept as they are in the database.
+   *
+   * @param documentationUnit the documentation unit to save
+   * @param currentUser the user saving the documentation unit, can be null
+   * @param description the description of the history log or null for the default description
+   * @param processStepChanged true, if the process step is changed and logged already
+   * @param changedPaths the paths of the documentation unit changed by the patch
+   */
+  @Transactional(transactionManager = "jpaTransactionManager")
+  void save(
+      DocumentationUnit documentationUnit,
+      @Nullable User currentUser,
+      @Nullable String description,
+      boolean processStepChanged,
+      ChangedPaths changedPaths);
+
   /**
    * Save the keywords of a documentation unit
    *
@@ -181,15 +216,52 @@ public interface DocumentationUnitRepository {
   /** Returns doc units with a scheduled publication date that is in the past. */
   List<Decision> getScheduledDocumentationUnitsDueNow();
 
-  List<String> findAllDocumentNumbersByMatchingPublishCriteria();
+  /**
+   * Find the document numbers of the documentation units matching the criteria for the publication
+   * in the portal. The document numbers are ordered by their bytes, like the keys of a bucket.
+   *
+   * @param lastDocumentNumber the last document number of the previous page, an empty string for
+   *     the first page
+   * @param size the maximum number of document numbers to return
+   * @return the document numbers after the given one
+   */
+  List<String> findDocumentNumbersByMatchingPublishCriteriaAfter(
+      String lastDocumentNumber, int size);
 
-  Set<String> findAllPublishedDocumentNumbers();
+  /**
+   * Find the document numbers of the documentation units published in the portal. The document
+   * numbers are ordered by their bytes, like the keys of a bucket.
+   *
+   * @param lastDocumentNumber the last document number of the previous page, an empty string for
+   *     the first page
+   * @param size the maximum number of document numbers to return
+   * @return the document numbers after the given one
+   */
+  List<String> findPublishedDocumentNumbersAfter(String lastDocumentNumber, int size);
 
   void updatePortalPublicationStatus(UUID documentationUnitId, PortalPublicationStatus newStatus);
 
   void savePublicationDateTime(UUID documentationUnitId);
 
-  List<UUID> findAllByCurrentStatus(PublicationStatus publicationStatus, int page, int size);
+  /**
+   * Find the ids of the documentation units with the given publication status, ordered by id. Used
+   * for keyset pagination over all documentation units with a status.
+   *
+   * @param publicationStatus the current publication status of the documentation units
+   * @param lastId the last id of the previous page, or null for the first page
+   * @param size the maximum number of ids to return
+   * @return the ids after the given id
+   */
+  List<UUID> findAllIdsByCurrentStatusAfter(
+      PublicationStatus publicationStatus, @Nullable UUID lastId, int size);
+
+  /**
+   * Count the documentation units with the given publication status
+   *
+   * @param publicationStatus the current publication status of the documentation units
+   * @return the number of documentation units
+   */
+  long countByCurrentStatus(PublicationStatus publicationStatus);
 
   DocumentationUnitDTO loadDocumentationUnitDTO(UUID id) throws DocumentationUnitNotExistsException;
 
@@ -570,6 +570,16 @@ public class DocumentationUnitService {
     return repository.findByUuid(documentationUnitId, user);
   }
 
+  public DocumentationUnitAccessInfo getAccessInfoByUuid(UUID documentationUnitId)
+      throws DocumentationUnitNotExistsException {
+    return repository.findAccessInfoByUuid(documentationUnitId);
+  }
+
+  public DocumentationUnitAccessInfo getAccessInfoByDocumentNumber(String documentNumber)
+      throws DocumentationUnitNotExistsException {
+    return repository.findAccessInfoByDocumentNumber(documentNumber);
+  }
+
   @Transactional(transactionManager = "jpaTransactionManager")
   public String deleteByUuid(UUID documentationUnitId) throws DocumentationUnitNotExistsException {
 
@@ -685,21 +695,30 @@ public class DocumentationUnitService {
           patchMapperService.removeOpsWhereContentNotChanged(toUpdate, existingDocumentationUnit);
 
       if (!toUpdate.getOperations().isEmpty()) {
+        // the extraction of the images changes only the values, not the paths
+        ChangedPaths changedPaths = ChangedPaths.of(toUpdate);
+
         // Saving a return patch including the base64 images as src attributes with an api path.
         patchedDocumentationUnitWithBase64Images =
             cloneDocumentationUnitWithNewVersion(
                 patchMapperService.applyPatchToEntity(toUpdate, existingDocumentationUnit),
                 newVersion);
 
-        toUpdate =
+        JsonPatch toUpdateWithImageUrls =
             patchMapperService.extractAndStoreBase64Images(
                 toUpdate, existingDocumentationUnit, null);
 
-        DocumentationUnit patchedDocumentationUnit =
-            patchMapperService.applyPatchToEntity(toUpdate, existingDocumentationUnit);
-
-        patchedDocumentationUnit =
-            cloneDocumentationUnitWithNewVersion(patchedDocumentationUnit, newVersion);
+        DocumentationUnit patchedDocumentationUnit;
+        if (toUpdateWithImageUrls == toUpdate) {
+          // no base64 images in the patch, the documentation unit is already patched
+          patchedDocumentationUnit = patchedDocumentationUnitWithBase64Images;
+        } else {
+          toUpdate = toUpdateWithImageUrls;
+          patchedDocumentationUnit =
+              cloneDocumentationUnitWithNewVersion(
+                  patchMapperService.applyPatchToEntity(toUpdate, existingDocumentationUnit),
+                  newVersion);
+        }
 
         DuplicateCheckStatus duplicateCheckStatus = getDuplicateCheckStatus(patch);
 
@@ -713,7 +732,8 @@ public class DocumentationUnitService {
         }
 
         DocumentationUnit updatedDocumentationUnit =
-            updateDocumentationUnit(user, patchedDocumentationUnit, duplicateCheckStatus);
+            updateDocumentationUnit(
+                user, patchedDocumentationUnit, duplicateCheckStatus, changedPaths);
 
         toFrontendJsonPatch =
             patchMapperService.getDiffPatch(
@@ -797,13 +817,15 @@ public class DocumentationUnitService {
   private DocumentationUnit updateDocumentationUnit(
       User user,
       DocumentationUnit patchedDocumentationUnit,
-      DuplicateCheckStatus duplicateCheckStatus)
+      DuplicateCheckStatus duplicateCheckStatus,
+      ChangedPaths changedPaths)
       throws DocumentationUnitNotExistsException, ProcessStepNotFoundException {
     DocumentationUnit updatedDocumentationUnit;
     if (patchedDocumentationUnit instanceof Decision docUnit) {
-      updatedDocumentationUnit = updateDocumentationUnit(docUnit, duplicateCheckStatus, user);
+      updatedDocumentationUnit =
+          updateDocumentationUnit(docUnit, duplicateCheckStatus, user, changedPaths);
     } else if (patchedDocumentationUnit instanceof PendingProceeding pendingProceeding) {
-      updatedDocumentationUnit = updatePendingProceeding(pendingProceeding, user);
+      updatedDocumentationUnit = updatePendingProceeding(pendingProceeding, user, changedPaths);
     } else {
       throw new DocumentationUnitException(
           "Update not supported for Documentable type: " + patchedDocumentationUnit.getClass());
@@ -819,12 +841,37 @@ public class DocumentationUnitService {
   public Decision updateDocumentationUnit(
       Decision decision, DuplicateCheckStatus duplicateCheckStatus, User user)
       throws DocumentationUnitNotExistsException, ProcessStepNotFoundException {
-    repository.saveKeywords(decision);
-    repository.saveFieldsOfLaw(decision);
-    repository.saveProcedures(decision, user);
+    return updateDocumentationUnit(decision, duplicateCheckStatus, user, ChangedPaths.ALL);
+  }
+
+  /**
+   * Update the changed parts of a decision. Keywords, fields of law and the procedure are only
+   * saved, if they are part of the changed paths.
+   *
+   * @param decision the updated decision
+   * @param duplicateCheckStatus if the duplicate check should run after the update
+   * @param user the current user
+   * @param changedPaths the paths of the decision changed by a patch
+   * @return the updated decision loaded from the database
+   */
+  public Decision updateDocumentationUnit(
+      Decision decision,
+      DuplicateCheckStatus duplicateCheckStatus,
+      User user,
+      ChangedPaths changedPaths)
+      throws DocumentationUnitNotExistsException, ProcessStepNotFoundException {
+    if (changedPaths.affects("/contentRelatedIndexing/keywords")) {
+      repository.saveKeywords(decision);
+    }
+    if (changedPaths.affects("/contentRelatedIndexing/fieldsOfLaw")) {
+      repository.saveFieldsOfLaw(decision);
+    }
+    if (changedPaths.affects("/coreData/procedure")) {
+      repository.saveProcedures(decision, user);
+    }
     var processStepChanged = repository.saveProcessSteps(decision, user);
 
-    repository.save(decision, user, null, processStepChanged);
+    repository.save(decision, user, null, processStepChanged, changedPaths);
 
     if (duplicateCheckStatus == DuplicateCheckStatus.ENABLED) {
       try {
@@ -839,8 +886,27 @@ public class DocumentationUnitService {
 
   public PendingProceeding updatePendingProceeding(PendingProceeding pendingProceeding, User user)
       throws DocumentationUnitNotExistsException {
-    repository.saveKeywords(pendingProceeding);
-    repository.saveFieldsOfLaw(pendingProceeding);
+    return updatePendingProceeding(pendingProceeding, user, ChangedPaths.ALL);
+  }
+
+  /**
+   * Update the changed parts of a pending proceeding. Keywords and fields of law are only saved, if
+   * they are part of the changed paths.
+   *
+   * @param pendingProceeding the updated pending proceeding
+   * @param user the current user
+   * @param changedPaths the paths of the pending proceeding changed by a patch
+   * @return the updated pending proceeding loaded from the database
+   */
+  public PendingProceeding updatePendingProceeding(
+      PendingProceeding pendingProceeding, User user, ChangedPaths changedPaths)
+      throws DocumentationUnitNotExistsException {
+    if (changedPaths.affects("/contentRelatedIndexing/keywords")) {
+      repository.saveKeywords(pendingProceeding);
+    }
+    if (changedPaths.affects("/contentRelatedIndexing/fieldsOfLaw")) {
+      repository.saveFieldsOfLaw(pendingProceeding);
+    }
     repository.saveProcessSteps(pendingProceeding, user);
 
     repository.save(pendingProceeding, user);
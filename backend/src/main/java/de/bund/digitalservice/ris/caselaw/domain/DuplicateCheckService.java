@@ -5,6 +5,8 @@ import de.bund.digitalservice.ris.caselaw.domain.exception.DocumentationUnitNotE
 public interface DuplicateCheckService {
   void checkDuplicates(String docNumber);
 
+  void checkUpdatedDuplicates();
+
   void checkAllDuplicates();
 
   String updateDuplicateStatus(
@@ -9,12 +9,14 @@ import de.bund.digitalservice.ris.caselaw.domain.textcheck.CategoryType;
 import de.bund.digitalservice.ris.caselaw.domain.textcheck.Match;
 import de.bund.digitalservice.ris.caselaw.domain.textcheck.TextCheckCategoryResponse;
 import de.bund.digitalservice.ris.caselaw.domain.textcheck.ignored_words.IgnoredTextCheckWord;
+import de.bund.digitalservice.ris.caselaw.domain.textcheck.ignored_words.IgnoredTextCheckWordCache;
 import de.bund.digitalservice.ris.caselaw.domain.textcheck.ignored_words.IgnoredTextCheckWordRepository;
-import java.util.ArrayList;
-import java.util.Collections;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
@@ -39,13 +41,17 @@ import org.jsoup.select.NodeVisitor;
 public class TextCheckService {
   private final DocumentationUnitRepository documentationUnitRepository;
   private final IgnoredTextCheckWordRepository ignoredTextCheckWordRepository;
+  private final IgnoredTextCheckWordCache ignoredTextCheckWordCache;
 
   public TextCheckService(
       DocumentationUnitRepository documentationUnitRepository,
-      IgnoredTextCheckWordRepository ignoredTextCheckWordRepository) {
+      IgnoredTextCheckWordRepository ignoredTextCheckWordRepository,
+      MeterRegistry meterRegistry) {
 
     this.documentationUnitRepository = documentationUnitRepository;
     this.ignoredTextCheckWordRepository = ignoredTextCheckWordRepository;
+    this.ignoredTextCheckWordCache =
+        new IgnoredTextCheckWordCache(ignoredTextCheckWordRepository, meterRegistry);
   }
 
   protected List<Match> check(String text) {
@@ -74,24 +80,40 @@ public class TextCheckService {
           "Check not supported for Documentable type: " + documentationUnit.getClass());
     }
 
-    List<Match> allMatches = Collections.synchronizedList(new ArrayList<>());
-
-    stream(CategoryType.forDocumentationUnitType(documentationUnit.getClass()))
-        .parallel()
-        .forEach(
-            categoryType -> {
-              try {
-                TextCheckCategoryResponse response = checkCategory(documentationUnit, categoryType);
-                if (response != null) {
-                  allMatches.addAll(response.matches());
-                }
-              } catch (Exception e) {
-                log.error(
-                    "Could not process text category: {} for doc unit id: {}", categoryType, id, e);
-              }
-            });
-
-    return allMatches;
+    // load the ignored words once for all categories
+    ignoredTextCheckWordCache.preload(id);
+
+    List<CompletableFuture<List<Match>>> futures =
+        stream(CategoryType.forDocumentationUnitType(documentationUnit.getClass()))
+            .map(
+                categoryType ->
+                    CompletableFuture.supplyAsync(
+                        () -> checkCategorySafely(documentationUnit, categoryType, id),
+                        getCategoryExecutor()))
+            .toList();
+
+    return futures.stream().map(CompletableFuture::join).flatMap(List::stream).toList();
+  }
+
+  /**
+   * Executor for the checks of the single categories of a documentation unit. Without a dedicated
+   * executor the categories are checked one after another in the calling thread.
+   */
+  protected Executor getCategoryExecutor() {
+    return Runnable::run;
+  }
+
+  private List<Match> checkCategorySafely(
+      DocumentationUnit documentationUnit, CategoryType categoryType, UUID id) {
+    try {
+      TextCheckCategoryResponse response = checkCategory(documentationUnit, categoryType);
+      if (response != null) {
+        return response.matches();
+      }
+    } catch (Exception e) {
+      log.error("Could not process text category: {} for doc unit id: {}", categoryType, id, e);
+    }
+    return List.of();
   }
 
   /**
@@ -243,6 +265,7 @@ public class TextCheckService {
   public void removeIgnoredWord(UUID documentationUnitId, String word) {
     ignoredTextCheckWordRepository.deleteWordIgnoredInDocumentationUnitWithId(
         word, documentationUnitId);
+    ignoredTextCheckWordCache.invalidate(documentationUnitId);
   }
 
   /**
@@ -253,7 +276,10 @@ public class TextCheckService {
    * @return return the saved ignore entry
    */
   public IgnoredTextCheckWord addIgnoreWord(UUID documentationUnitId, String word) {
-    return ignoredTextCheckWordRepository.addWord(word, documentationUnitId);
+    IgnoredTextCheckWord ignoredWord =
+        ignoredTextCheckWordRepository.addWord(word, documentationUnitId);
+    ignoredTextCheckWordCache.invalidate(documentationUnitId);
+    return ignoredWord;
   }
 
   /**
@@ -263,7 +289,11 @@ public class TextCheckService {
    * @return true, if the word could be removed. otherwise false
    */
   public boolean removeIgnoredWord(String word) {
-    return ignoredTextCheckWordRepository.deleteWordGlobally(word);
+    boolean removed = ignoredTextCheckWordRepository.deleteWordGlobally(word);
+    if (removed) {
+      ignoredTextCheckWordCache.removeGlobalWord(word);
+    }
+    return removed;
   }
 
   /**
@@ -280,7 +310,10 @@ public class TextCheckService {
     if (globallyIgnoreWord != null) {
       return globallyIgnoreWord;
     }
-    return ignoredTextCheckWordRepository.addWord(word, documentationOffice);
+    IgnoredTextCheckWord ignoredWord =
+        ignoredTextCheckWordRepository.addWord(word, documentationOffice);
+    ignoredTextCheckWordCache.addGlobalWord(ignoredWord);
+    return ignoredWord;
   }
 
   protected List<Match> addIgnoredTextChecksIndividually(
@@ -292,8 +325,7 @@ public class TextCheckService {
     var words = matches.stream().map(Match::word).toList();
 
     List<IgnoredTextCheckWord> globalAndDocumentationUnitIgnoredWords =
-        ignoredTextCheckWordRepository.findByDocumentationUnitIdOrByGlobalWords(
-            words, documentationUnitId);
+        ignoredTextCheckWordCache.find(documentationUnitId, words);
 
     Map<String, List<IgnoredTextCheckWord>> groupedByWord =
         globalAndDocumentationUnitIgnoredWords.stream()
@@ -5,6 +5,7 @@ import java.awt.Dimension;
 public class InlineImageElement extends StyledElement implements RunElement {
   private String contentType;
   private String base64Representation;
+  private String url;
   private String alternateText;
   private Dimension size;
 
@@ -24,6 +25,18 @@ public class InlineImageElement extends StyledElement implements RunElement {
     this.base64Representation = base64Representation;
   }
 
+  public String getUrl() {
+    return url;
+  }
+
+  /**
+   * Set the url of the image. If the url is set, the image is referenced by it instead of being
+   * embedded as base64 representation.
+   */
+  public void setUrl(String url) {
+    this.url = url;
+  }
+
   public String getAlternateText() {
     return alternateText;
   }
@@ -42,17 +55,16 @@ public class InlineImageElement extends StyledElement implements RunElement {
 
   @Override
   public String toHtmlString() {
-    if (contentType == null || base64Representation == null) {
+    String html;
+    if (url != null) {
+      html = "<img src=\"" + url + "\"";
+    } else if (contentType != null && base64Representation != null) {
+      html = "<img src=\"data:" + contentType + ";base64, " + base64Representation + "\"";
+    } else {
       return "<span style=\"color: #FF0000;\">no image information</span>";
     }
 
-    String html =
-        "<img src=\"data:"
-            + contentType
-            + ";base64, "
-            + base64Representation
-            + "\""
-            + (alternateText != null ? " alt=\"" + alternateText + "\"" : "");
+    html += alternateText != null ? " alt=\"" + alternateText + "\"" : "";
 
     if (size != null) {
       html += size.width > 0 ? " width=\"" + size.width + "\"" : "";
@@ -117,7 +117,8 @@ public interface PatchMapperService {
 
   /**
    * Saves all base64 encoded images in src attributes of img tags as attachments and replace the
-   * src attribute with the respective api path
+   * src attribute with the respective api path. If the patch contains no base64 encoded images, the
+   * given patch instance is returned unchanged.
    */
   JsonPatch extractAndStoreBase64Images(
       JsonPatch patch, DocumentationUnit documentationUnit, User user);
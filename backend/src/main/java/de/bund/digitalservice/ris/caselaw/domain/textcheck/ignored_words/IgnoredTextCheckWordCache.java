@@ -0,0 +1,212 @@
+package de.bund.digitalservice.ris.caselaw.domain.textcheck.ignored_words;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Process local cache of the ignored text check words.
+ *
+ * <p>The globally ignored words (global and global JDV) are held in an index by word. The index is
+ * loaded with the first lookup, updated by the changes of this instance and reloaded completely
+ * after {@link #GLOBAL_RELOAD_INTERVAL} to pick up the changes of other instances.
+ *
+ * <p>The words ignored in a documentation unit are cached for {@link #DOCUMENTATION_UNIT_TTL}, so
+ * the checks of all categories of a documentation unit share one database query, if the words are
+ * preloaded before the categories are checked. The entry of a documentation unit is dropped if its
+ * words are changed by this instance.
+ */
+public class IgnoredTextCheckWordCache {
+  static final Duration GLOBAL_RELOAD_INTERVAL = Duration.ofMinutes(10);
+  static final Duration DOCUMENTATION_UNIT_TTL = Duration.ofMinutes(1);
+  static final int DOCUMENTATION_UNIT_CACHE_SIZE = 1000;
+
+  private final IgnoredTextCheckWordRepository repository;
+  private final Clock clock;
+  private final Counter globalHits;
+  private final Counter globalMisses;
+  private final Counter documentationUnitHits;
+  private final Counter documentationUnitMisses;
+
+  private final Object globalLock = new Object();
+  private volatile Map<String, List<IgnoredTextCheckWord>> globalWords;
+  private volatile Instant globalWordsLoadedAt = Instant.MIN;
+
+  private final Map<UUID, DocumentationUnitEntry> documentationUnitWords =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, DocumentationUnitEntry> eldest) {
+          return size() > DOCUMENTATION_UNIT_CACHE_SIZE;
+        }
+      };
+
+  public IgnoredTextCheckWordCache(
+      IgnoredTextCheckWordRepository repository, MeterRegistry meterRegistry) {
+    this(repository, meterRegistry, Clock.systemUTC());
+  }
+
+  IgnoredTextCheckWordCache(
+      IgnoredTextCheckWordRepository repository, MeterRegistry meterRegistry, Clock clock) {
+    this.repository = repository;
+    this.clock = clock;
+    this.globalHits = buildCounter(meterRegistry, "global", "hit");
+    this.globalMisses = buildCounter(meterRegistry, "global", "miss");
+    this.documentationUnitHits = buildCounter(meterRegistry, "documentation_unit", "hit");
+    this.documentationUnitMisses = buildCounter(meterRegistry, "documentation_unit", "miss");
+  }
+
+  private static Counter buildCounter(MeterRegistry meterRegistry, String cache, String result) {
+    return Counter.builder("text.check.ignored.words.cache")
+        .description("Lookups of ignored text check words in the process local cache")
+        .tag("cache", cache)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Get the ignored words of a documentation unit and the globally ignored words for the given
+   * words.
+   *
+   * @param documentationUnitId id of the documentation unit
+   * @param words words to search for
+   * @return the ignored words matching one of the given words
+   */
+  public List<IgnoredTextCheckWord> find(UUID documentationUnitId, Collection<String> words) {
+    Map<String, List<IgnoredTextCheckWord>> global = getGlobalWords();
+    Map<String, List<IgnoredTextCheckWord>> local = getDocumentationUnitWords(documentationUnitId);
+
+    List<IgnoredTextCheckWord> result = new ArrayList<>();
+    words.stream()
+        .filter(Objects::nonNull)
+        .distinct()
+        .forEach(
+            word -> {
+              result.addAll(local.getOrDefault(word, List.of()));
+              result.addAll(global.getOrDefault(word, List.of()));
+            });
+    return result;
+  }
+
+  /**
+   * Load the ignored words of a documentation unit into the cache, if they are not cached yet.
+   *
+   * @param documentationUnitId id of the documentation unit
+   */
+  public void preload(UUID documentationUnitId) {
+    getGlobalWords();
+    getDocumentationUnitWords(documentationUnitId);
+  }
+
+  /** Add a new globally ignored word to the index. */
+  public void addGlobalWord(IgnoredTextCheckWord ignoredWord) {
+    synchronized (globalLock) {
+      if (globalWords == null || ignoredWord == null) {
+        return;
+      }
+      globalWords.compute(
+          ignoredWord.word(),
+          (word, existing) -> {
+            List<IgnoredTextCheckWord> updated =
+                existing == null ? new ArrayList<>() : new ArrayList<>(existing);
+            updated.add(ignoredWord);
+            return List.copyOf(updated);
+          });
+    }
+  }
+
+  /**
+   * Remove a globally ignored word from the index. Words of the JDV can't be removed and are kept.
+   */
+  public void removeGlobalWord(String word) {
+    synchronized (globalLock) {
+      if (globalWords == null) {
+        return;
+      }
+      globalWords.computeIfPresent(
+          word,
+          (key, existing) -> {
+            List<IgnoredTextCheckWord> remaining =
+                existing.stream()
+                    .filter(ignoredWord -> ignoredWord.type() != IgnoredTextCheckType.GLOBAL)
+                    .toList();
+            return remaining.isEmpty() ? null : remaining;
+          });
+    }
+  }
+
+  /** Drop the cached words of a documentation unit after they have been changed. */
+  public void invalidate(UUID documentationUnitId) {
+    synchronized (documentationUnitWords) {
+      documentationUnitWords.remove(documentationUnitId);
+    }
+  }
+
+  private Map<String, List<IgnoredTextCheckWord>> getGlobalWords() {
+    Map<String, List<IgnoredTextCheckWord>> words = globalWords;
+    if (words != null && isGlobalIndexFresh()) {
+      globalHits.increment();
+      return words;
+    }
+
+    synchronized (globalLock) {
+      if (globalWords == null || !isGlobalIndexFresh()) {
+        globalMisses.increment();
+        globalWords =
+            new ConcurrentHashMap<>(groupByWord(repository.findAllGloballyIgnoredWords()));
+        globalWordsLoadedAt = clock.instant();
+      } else {
+        globalHits.increment();
+      }
+      return globalWords;
+    }
+  }
+
+  private boolean isGlobalIndexFresh() {
+    return globalWordsLoadedAt.plus(GLOBAL_RELOAD_INTERVAL).isAfter(clock.instant());
+  }
+
+  private Map<String, List<IgnoredTextCheckWord>> getDocumentationUnitWords(
+      UUID documentationUnitId) {
+    synchronized (documentationUnitWords) {
+      DocumentationUnitEntry entry = documentationUnitWords.get(documentationUnitId);
+      if (entry != null && entry.expiresAt().isAfter(clock.instant())) {
+        documentationUnitHits.increment();
+        return entry.words();
+      }
+    }
+
+    documentationUnitMisses.increment();
+    var words = groupByWord(repository.findAllIgnoredInDocumentationUnit(documentationUnitId));
+    synchronized (documentationUnitWords) {
+      documentationUnitWords.put(
+          documentationUnitId,
+          new DocumentationUnitEntry(words, clock.instant().plus(DOCUMENTATION_UNIT_TTL)));
+    }
+    return words;
+  }
+
+  private static Map<String, List<IgnoredTextCheckWord>> groupByWord(
+      List<IgnoredTextCheckWord> ignoredWords) {
+    return ignoredWords.stream()
+        .filter(Objects::nonNull)
+        .distinct()
+        .collect(
+            Collectors.groupingBy(
+                IgnoredTextCheckWord::word,
+                Collectors.collectingAndThen(Collectors.toList(), List::copyOf)));
+  }
+
+  private record DocumentationUnitEntry(
+      Map<String, List<IgnoredTextCheckWord>> words, Instant expiresAt) {}
+}
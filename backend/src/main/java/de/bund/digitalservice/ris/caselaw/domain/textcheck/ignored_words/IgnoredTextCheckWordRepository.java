@@ -29,4 +29,19 @@ public interface IgnoredTextCheckWordRepository {
       List<String> words, UUID documentationUnitId);
 
   IgnoredTextCheckWord getGloballyIgnoreWord(String word);
+
+  /**
+   * Returns all words which are ignored globally, including the words of the JDV
+   *
+   * @return a list of all globally ignored text check words
+   */
+  List<IgnoredTextCheckWord> findAllGloballyIgnoredWords();
+
+  /**
+   * Returns only the words which are ignored in the given documentation unit
+   *
+   * @param documentationUnitId id of the documentation unit
+   * @return a list of the ignored text check words of the documentation unit
+   */
+  List<IgnoredTextCheckWord> findAllIgnoredInDocumentationUnit(UUID documentationUnitId);
 }
@@ -4,6 +4,7 @@ import de.bund.digitalservice.ris.caselaw.adapter.TextCheckMockService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitRepository;
 import de.bund.digitalservice.ris.caselaw.domain.TextCheckService;
 import de.bund.digitalservice.ris.caselaw.domain.textcheck.ignored_words.IgnoredTextCheckWordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -16,7 +17,9 @@ public class TextCheckTestConfiguration {
   @Primary
   public TextCheckService textCheckService(
       DocumentationUnitRepository documentationUnitRepository,
-      IgnoredTextCheckWordRepository ignoredTextCheckWordRepository) {
-    return new TextCheckMockService(documentationUnitRepository, ignoredTextCheckWordRepository);
+      IgnoredTextCheckWordRepository ignoredTextCheckWordRepository,
+      MeterRegistry meterRegistry) {
+    return new TextCheckMockService(
+        documentationUnitRepository, ignoredTextCheckWordRepository, meterRegistry);
   }
 }
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.gravity9.jsonpatch.AddOperation;
@@ -17,9 +18,11 @@ import com.gravity9.jsonpatch.JsonPatchOperation;
 import com.gravity9.jsonpatch.PathValueOperation;
 import com.gravity9.jsonpatch.RemoveOperation;
 import com.gravity9.jsonpatch.ReplaceOperation;
+import com.gravity9.jsonpatch.diff.JsonDiff;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationUnitPatchRepository;
 import de.bund.digitalservice.ris.caselaw.domain.AttachmentInline;
 import de.bund.digitalservice.ris.caselaw.domain.AttachmentService;
+import de.bund.digitalservice.ris.caselaw.domain.CoreData;
 import de.bund.digitalservice.ris.caselaw.domain.Decision;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnit;
 import de.bund.digitalservice.ris.caselaw.domain.LongTexts;
@@ -150,6 +153,7 @@ class DatabasePatchMapperServiceTest {
     String resultHtml = ((PathValueOperation) op).getValue().textValue();
 
     assertEquals(html, resultHtml);
+    assertThat(result).isSameAs(patch);
   }
 
   @Test
@@ -451,4 +455,57 @@ class DatabasePatchMapperServiceTest {
     String remainingValue = ((PathValueOperation) remaining).getValue().textValue();
     assertEquals("<p>Some new text</p>", remainingValue);
   }
+
+  @Test
+  void getDiffPatch_withEqualDocumentationUnits_shouldReturnEmptyPatch() {
+    UUID uuid = UUID.randomUUID();
+    DocumentationUnit existed =
+        Decision.builder()
+            .uuid(uuid)
+            .documentNumber("YYDocNumber")
+            .coreData(CoreData.builder().fileNumbers(List.of("AZ 1")).build())
+            .build();
+    DocumentationUnit updated =
+        Decision.builder()
+            .uuid(uuid)
+            .documentNumber("YYDocNumber")
+            .coreData(CoreData.builder().fileNumbers(List.of("AZ 1")).build())
+            .build();
+
+    JsonPatch result = service.getDiffPatch(existed, updated);
+
+    assertThat(result.getOperations()).isEmpty();
+  }
+
+  @Test
+  void getDiffPatch_withChangedLongText_shouldReturnSamePatchAsDiffOfCompleteUnits() {
+    ObjectMapper objectMapper = new ObjectMapper();
+    UUID uuid = UUID.randomUUID();
+    CoreData coreData = CoreData.builder().fileNumbers(List.of("AZ 1", "AZ 2")).build();
+    DocumentationUnit existed =
+        Decision.builder()
+            .uuid(uuid)
+            .documentNumber("YYDocNumber")
+            .version(1L)
+            .coreData(coreData)
+            .longTexts(LongTexts.builder().tenor("<p>old</p>").reasons("<p>reasons</p>").build())
+            .build();
+    DocumentationUnit updated =
+        Decision.builder()
+            .uuid(uuid)
+            .documentNumber("YYDocNumber")
+            .version(2L)
+            .coreData(coreData.toBuilder().fileNumbers(List.of("AZ 2")).build())
+            .longTexts(LongTexts.builder().tenor("<p>new</p>").reasons("<p>reasons</p>").build())
+            .build();
+
+    JsonPatch result = service.getDiffPatch(existed, updated);
+
+    JsonPatch expected =
+        JsonDiff.asJsonPatch(
+            objectMapper.convertValue(existed, JsonNode.class),
+            objectMapper.convertValue(updated, JsonNode.class));
+    assertThat(result.getOperations()).isNotEmpty();
+    assertEquals(expected.toString(), result.toString());
+  }
 }
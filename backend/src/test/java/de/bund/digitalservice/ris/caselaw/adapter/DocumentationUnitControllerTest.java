@@ -45,6 +45,7 @@ import de.bund.digitalservice.ris.caselaw.domain.CoreData;
 import de.bund.digitalservice.ris.caselaw.domain.Decision;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationOfficeService;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitAccessInfo;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitDocxMetadataInitializationService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitHistoryLogService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitProcessStep;
@@ -169,6 +170,13 @@ class DocumentationUnitControllerTest {
 
     doReturn(true).when(userService).isInternal(any());
 
+    when(service.getAccessInfoByUuid(TEST_UUID))
+        .thenReturn(
+            DocumentationUnitAccessInfo.builder()
+                .id(TEST_UUID)
+                .documentationOffice(docOffice)
+                .publicationStatus(PublicationStatus.PUBLISHED)
+                .build());
     when(service.getByUuid(TEST_UUID))
         .thenReturn(
             Decision.builder()
@@ -315,11 +323,11 @@ class DocumentationUnitControllerTest {
   class GetByDocumentNumber {
     @Test
     void testGetByDocumentnumber() throws DocumentationUnitNotExistsException {
-      when(service.getByDocumentNumber("ABCD202200001"))
+      when(service.getAccessInfoByDocumentNumber("ABCD202200001"))
           .thenReturn(
-              Decision.builder()
-                  .coreData(CoreData.builder().documentationOffice(docOffice).build())
-                  .status(Status.builder().publicationStatus(PublicationStatus.PUBLISHED).build())
+              DocumentationUnitAccessInfo.builder()
+                  .documentationOffice(docOffice)
+                  .publicationStatus(PublicationStatus.PUBLISHED)
                   .build());
 
       risWebClient
@@ -331,19 +339,20 @@ class DocumentationUnitControllerTest {
           .isOk()
           .expectBody(Decision.class);
 
-      // once by the AuthService and once by the controller asking the service
-      verify(service, times(1)).getByDocumentNumber("ABCD202200001");
+      // only the access info is loaded by the AuthService
+      verify(service, times(1)).getAccessInfoByDocumentNumber("ABCD202200001");
+      verify(service, never()).getByDocumentNumber("ABCD202200001");
       verify(duplicateCheckService, times(1)).checkDuplicates("ABCD202200001");
     }
 
     @Test
     void testGetByDocumentNumber_withPendingProceeding()
         throws DocumentationUnitNotExistsException {
-      when(service.getByDocumentNumber("ABCD202200001"))
+      when(service.getAccessInfoByDocumentNumber("ABCD202200001"))
           .thenReturn(
-              PendingProceeding.builder()
-                  .coreData(CoreData.builder().documentationOffice(docOffice).build())
-                  .status(Status.builder().publicationStatus(PublicationStatus.PUBLISHED).build())
+              DocumentationUnitAccessInfo.builder()
+                  .documentationOffice(docOffice)
+                  .publicationStatus(PublicationStatus.PUBLISHED)
                   .build());
 
       risWebClient
@@ -355,15 +364,16 @@ class DocumentationUnitControllerTest {
           .isOk()
           .expectBody(PendingProceeding.class);
 
-      // once by the AuthService and once by the controller asking the service
-      verify(service, times(1)).getByDocumentNumber("ABCD202200001");
+      // only the access info is loaded by the AuthService
+      verify(service, times(1)).getAccessInfoByDocumentNumber("ABCD202200001");
+      verify(service, never()).getByDocumentNumber("ABCD202200001");
     }
 
     @Test
     void testGetByDocumentNumber_withInvalidDocumentNumber()
         throws DocumentationUnitNotExistsException {
 
-      when(service.getByDocumentNumber("abc")).thenReturn(null);
+      when(service.getAccessInfoByDocumentNumber("abc")).thenReturn(null);
 
       risWebClient
           .withDefaultLogin()
@@ -414,7 +424,7 @@ class DocumentationUnitControllerTest {
 
     @Test
     void testDeleteByUuid_withInvalidUuid() throws DocumentationUnitNotExistsException {
-      when(service.getByDocumentNumber("abc")).thenReturn(null);
+      when(service.getAccessInfoByDocumentNumber("abc")).thenReturn(null);
 
       risWebClient
           .withDefaultLogin()
@@ -787,9 +797,15 @@ class DocumentationUnitControllerTest {
         .expectStatus()
         .isOk();
 
-    // once by the AuthService and once by the controller asking the service
-    verify(service, times(2)).getByUuid(TEST_UUID);
-    verify(converterService).getConvertedObject("", "123", TEST_UUID);
+    // only by the controller, the AuthService loads the access info
+    verify(service, times(1)).getByUuid(TEST_UUID);
+    verify(service, times(1)).getAccessInfoByUuid(TEST_UUID);
+    verify(converterService)
+        .getConvertedObject(
+            "",
+            "123",
+            TEST_UUID,
+            "/api/v1/caselaw/documentunits/" + TEST_UUID + "/file/" + attachmentId + "/image/");
   }
 
   @Nested
@@ -1360,17 +1376,14 @@ class DocumentationUnitControllerTest {
               .build();
       String documentNumber = "ABCD202200001";
 
-      Decision decision =
-          Decision.builder()
+      DocumentationUnitAccessInfo accessInfo =
+          DocumentationUnitAccessInfo.builder()
               .documentNumber(documentNumber)
-              .status(
-                  Status.builder()
-                      .publicationStatus(PublicationStatus.EXTERNAL_HANDOVER_PENDING)
-                      .build())
-              .coreData(CoreData.builder().documentationOffice(documentationOffice).build())
+              .publicationStatus(PublicationStatus.EXTERNAL_HANDOVER_PENDING)
+              .documentationOffice(documentationOffice)
               .build();
 
-      when(service.getByDocumentNumber(documentNumber)).thenReturn(decision);
+      when(service.getAccessInfoByDocumentNumber(documentNumber)).thenReturn(accessInfo);
 
       risWebClient
           .withDefaultLogin()
@@ -1405,17 +1418,14 @@ class DocumentationUnitControllerTest {
       DocumentationOffice office = DocumentationOffice.builder().abbreviation("BGH").build();
       when(userService.getDocumentationOffice(any())).thenReturn(office);
       String documentNumber = "ABCD202200001";
-      Decision decision =
-          Decision.builder()
+      DocumentationUnitAccessInfo accessInfo =
+          DocumentationUnitAccessInfo.builder()
               .documentNumber(documentNumber)
-              .status(
-                  Status.builder()
-                      .publicationStatus(PublicationStatus.EXTERNAL_HANDOVER_PENDING)
-                      .build())
-              .coreData(CoreData.builder().documentationOffice(office).build())
+              .publicationStatus(PublicationStatus.EXTERNAL_HANDOVER_PENDING)
+              .documentationOffice(office)
               .build();
 
-      when(service.getByDocumentNumber(documentNumber)).thenReturn(decision);
+      when(service.getAccessInfoByDocumentNumber(documentNumber)).thenReturn(accessInfo);
 
       risWebClient
           .withDefaultLogin()
@@ -1710,13 +1720,13 @@ class DocumentationUnitControllerTest {
                 .abbreviation("DS")
                 .build();
 
-        Decision decision =
-            Decision.builder()
+        DocumentationUnitAccessInfo accessInfo =
+            DocumentationUnitAccessInfo.builder()
                 .documentNumber(docNumberOrigin)
-                .coreData(CoreData.builder().documentationOffice(documentationOffice).build())
+                .documentationOffice(documentationOffice)
                 .build();
 
-        when(service.getByDocumentNumber(docNumberOrigin)).thenReturn(decision);
+        when(service.getAccessInfoByDocumentNumber(docNumberOrigin)).thenReturn(accessInfo);
 
         DuplicateRelationStatusRequest body =
             DuplicateRelationStatusRequest.builder()
@@ -1749,13 +1759,13 @@ class DocumentationUnitControllerTest {
                 .abbreviation("DS")
                 .build();
 
-        Decision decision =
-            Decision.builder()
+        DocumentationUnitAccessInfo accessInfo =
+            DocumentationUnitAccessInfo.builder()
                 .documentNumber(docNumberOrigin)
-                .coreData(CoreData.builder().documentationOffice(documentationOffice).build())
+                .documentationOffice(documentationOffice)
                 .build();
 
-        when(service.getByDocumentNumber(docNumberOrigin)).thenReturn(decision);
+        when(service.getAccessInfoByDocumentNumber(docNumberOrigin)).thenReturn(accessInfo);
 
         String body =
             """
@@ -1788,13 +1798,13 @@ class DocumentationUnitControllerTest {
                 .abbreviation("DS")
                 .build();
 
-        Decision decision =
-            Decision.builder()
+        DocumentationUnitAccessInfo accessInfo =
+            DocumentationUnitAccessInfo.builder()
                 .documentNumber(docNumberOrigin)
-                .coreData(CoreData.builder().documentationOffice(documentationOffice).build())
+                .documentationOffice(documentationOffice)
                 .build();
 
-        when(service.getByDocumentNumber(docNumberOrigin)).thenReturn(decision);
+        when(service.getAccessInfoByDocumentNumber(docNumberOrigin)).thenReturn(accessInfo);
 
         when(duplicateCheckService.updateDuplicateStatus(any(), any(), any()))
             .thenThrow(EntityNotFoundException.class);
@@ -1944,11 +1954,11 @@ class DocumentationUnitControllerTest {
       @Test
       void testGetImage_shouldReturnCorrectContentType()
           throws DocumentationUnitNotExistsException, ImageNotExistsException {
-        when(service.getByDocumentNumber("ABCD202200001"))
+        when(service.getAccessInfoByDocumentNumber("ABCD202200001"))
             .thenReturn(
-                Decision.builder()
-                    .coreData(CoreData.builder().documentationOffice(docOffice).build())
-                    .status(Status.builder().publicationStatus(PublicationStatus.PUBLISHED).build())
+                DocumentationUnitAccessInfo.builder()
+                    .documentationOffice(docOffice)
+                    .publicationStatus(PublicationStatus.PUBLISHED)
                     .build());
         when(service.getImageBytes("ABCD202200001", "bild.jpg"))
             .thenReturn(
@@ -1979,11 +1989,11 @@ class DocumentationUnitControllerTest {
       @Test
       void testGetImage_shouldReturnNotFoundForMissingImage()
           throws DocumentationUnitNotExistsException, ImageNotExistsException {
-        when(service.getByDocumentNumber("ABCD202200001"))
+        when(service.getAccessInfoByDocumentNumber("ABCD202200001"))
             .thenReturn(
-                Decision.builder()
-                    .coreData(CoreData.builder().documentationOffice(docOffice).build())
-                    .status(Status.builder().publicationStatus(PublicationStatus.PUBLISHED).build())
+                DocumentationUnitAccessInfo.builder()
+                    .documentationOffice(docOffice)
+                    .publicationStatus(PublicationStatus.PUBLISHED)
                     .build());
         when(service.getImageBytes("ABCD202200001", "bild.jpg"))
             .thenThrow(new ImageNotExistsException("Image not found"));
@@ -2000,6 +2010,150 @@ class DocumentationUnitControllerTest {
         // once by the AuthService and once by the controller asking the service
         verify(service, times(1)).getImageBytes("ABCD202200001", "bild.abc");
       }
+
+      @Test
+      void testGetOriginalImage_shouldReturnImageWithETag()
+          throws DocumentationUnitNotExistsException {
+        when(service.getByUuid(TEST_UUID))
+            .thenReturn(
+                Decision.builder()
+                    .coreData(CoreData.builder().documentationOffice(docOffice).build())
+                    .status(Status.builder().publicationStatus(PublicationStatus.PUBLISHED).build())
+                    .build());
+        UUID attachmentId = UUID.randomUUID();
+        when(attachmentRepository.findById(attachmentId))
+            .thenReturn(
+                Optional.of(
+                    AttachmentDTO.builder()
+                        .s3ObjectPath("123")
+                        .format("docx")
+                        .documentationUnit(DecisionDTO.builder().id(TEST_UUID).build())
+                        .build()));
+        String imageUrlPrefix =
+            "/api/v1/caselaw/documentunits/" + TEST_UUID + "/file/" + attachmentId + "/image/";
+        when(converterService.getConvertedImage("123", imageUrlPrefix, "abc"))
+            .thenReturn(
+                Image.builder()
+                    .name("abc")
+                    .contentType("image/png")
+                    .content("imageContent".getBytes())
+                    .build());
+
+        risWebClient
+            .withDefaultLogin()
+            .get()
+            .uri(imageUrlPrefix + "abc")
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .contentType(MediaType.IMAGE_PNG)
+            .expectHeader()
+            .valueEquals(HttpHeaders.ETAG, "\"abc\"")
+            .expectHeader()
+            .valueEquals(HttpHeaders.CACHE_CONTROL, "max-age=86400, private")
+            .expectBody(byte[].class)
+            .consumeWith(
+                response ->
+                    assertThat(response.getResponseBody()).isEqualTo("imageContent".getBytes()));
+
+        verify(attachmentRepository, never()).findAllByDocumentationUnitId(any());
+      }
+
+      @Test
+      void testGetOriginalImage_withMatchingETag_shouldReturnNotModified()
+          throws DocumentationUnitNotExistsException {
+        when(service.getByUuid(TEST_UUID))
+            .thenReturn(
+                Decision.builder()
+                    .coreData(CoreData.builder().documentationOffice(docOffice).build())
+                    .status(Status.builder().publicationStatus(PublicationStatus.PUBLISHED).build())
+                    .build());
+
+        risWebClient
+            .withDefaultLogin()
+            .get()
+            .uri(
+                "/api/v1/caselaw/documentunits/"
+                    + TEST_UUID
+                    + "/file/"
+                    + UUID.randomUUID()
+                    + "/image/abc")
+            .addHeader(HttpHeaders.IF_NONE_MATCH, "\"abc\"")
+            .exchange()
+            .expectStatus()
+            .isNotModified();
+
+        verify(converterService, never()).getConvertedImage(any(), any(), any());
+      }
+
+      @Test
+      void testGetOriginalImage_withUnknownImage_shouldReturnNotFound()
+          throws DocumentationUnitNotExistsException {
+        when(service.getByUuid(TEST_UUID))
+            .thenReturn(
+                Decision.builder()
+                    .coreData(CoreData.builder().documentationOffice(docOffice).build())
+                    .status(Status.builder().publicationStatus(PublicationStatus.PUBLISHED).build())
+                    .build());
+        UUID attachmentId = UUID.randomUUID();
+        when(attachmentRepository.findById(attachmentId))
+            .thenReturn(
+                Optional.of(
+                    AttachmentDTO.builder()
+                        .s3ObjectPath("123")
+                        .format("docx")
+                        .documentationUnit(DecisionDTO.builder().id(TEST_UUID).build())
+                        .build()));
+
+        risWebClient
+            .withDefaultLogin()
+            .get()
+            .uri(
+                "/api/v1/caselaw/documentunits/"
+                    + TEST_UUID
+                    + "/file/"
+                    + attachmentId
+                    + "/image/abc")
+            .exchange()
+            .expectStatus()
+            .isNotFound();
+      }
+
+      @Test
+      void testGetOriginalImage_withAttachmentOfOtherDocumentationUnit_shouldReturnNotFound()
+          throws DocumentationUnitNotExistsException {
+        when(service.getByUuid(TEST_UUID))
+            .thenReturn(
+                Decision.builder()
+                    .coreData(CoreData.builder().documentationOffice(docOffice).build())
+                    .status(Status.builder().publicationStatus(PublicationStatus.PUBLISHED).build())
+                    .build());
+        UUID attachmentId = UUID.randomUUID();
+        when(attachmentRepository.findById(attachmentId))
+            .thenReturn(
+                Optional.of(
+                    AttachmentDTO.builder()
+                        .s3ObjectPath("123")
+                        .format("docx")
+                        .documentationUnit(DecisionDTO.builder().id(UUID.randomUUID()).build())
+                        .build()));
+
+        risWebClient
+            .withDefaultLogin()
+            .get()
+            .uri(
+                "/api/v1/caselaw/documentunits/"
+                    + TEST_UUID
+                    + "/file/"
+                    + attachmentId
+                    + "/image/abc")
+            .exchange()
+            .expectStatus()
+            .isNotFound();
+
+        verify(converterService, never()).getConvertedImage(any(), any(), any());
+      }
     }
 
     @Nested
@@ -14,9 +14,8 @@ import de.bund.digitalservice.ris.caselaw.TestConfig;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseApiKeyRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationOfficeRepository;
 import de.bund.digitalservice.ris.caselaw.config.SecurityConfig;
-import de.bund.digitalservice.ris.caselaw.domain.CoreData;
-import de.bund.digitalservice.ris.caselaw.domain.Decision;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitAccessInfo;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitHistoryLogService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitService;
 import de.bund.digitalservice.ris.caselaw.domain.HandoverService;
@@ -80,10 +79,11 @@ class DocumentationUnitHistoryLogControllerTest {
                 }));
 
     doReturn(true).when(userService).isInternal(any());
-    when(docUnitService.getByUuid(TEST_UUID))
+    when(docUnitService.getAccessInfoByUuid(TEST_UUID))
         .thenReturn(
-            Decision.builder()
-                .coreData(CoreData.builder().documentationOffice(docOffice).build())
+            DocumentationUnitAccessInfo.builder()
+                .id(TEST_UUID)
+                .documentationOffice(docOffice)
                 .build());
   }
 
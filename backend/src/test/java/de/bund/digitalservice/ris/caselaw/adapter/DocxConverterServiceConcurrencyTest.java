@@ -0,0 +1,133 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.bund.digitalservice.ris.caselaw.config.ConverterConfig;
+import de.bund.digitalservice.ris.caselaw.domain.docx.DocumentationUnitDocx;
+import jakarta.xml.bind.JAXBElement;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import javax.xml.namespace.QName;
+import org.docx4j.openpackaging.exceptions.Docx4JException;
+import org.docx4j.openpackaging.packages.WordprocessingMLPackage;
+import org.docx4j.openpackaging.parts.WordprocessingML.MainDocumentPart;
+import org.docx4j.wml.Jc;
+import org.docx4j.wml.JcEnumeration;
+import org.docx4j.wml.P;
+import org.docx4j.wml.PPr;
+import org.docx4j.wml.PPrBase;
+import org.docx4j.wml.R;
+import org.docx4j.wml.Style;
+import org.docx4j.wml.Text;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * Converts files in parallel with the docx converters provided by the application context, unlike
+ * {@link DocxConverterServiceTest} which replaces the converter by a mock.
+ */
+@ExtendWith(SpringExtension.class)
+@Import({DocxConverterService.class, ConverterConfig.class})
+class DocxConverterServiceConcurrencyTest {
+
+  @Autowired DocxConverterService service;
+
+  @MockitoBean
+  @Qualifier("docxS3Client")
+  S3Client client;
+
+  @Test
+  void testParseAsDocumentationUnitDocxList_withConcurrentConversions_shouldUseStylesOfOwnFile()
+      throws Exception {
+    byte[] centeredFile = buildDocx(JcEnumeration.CENTER);
+    byte[] rightAlignedFile = buildDocx(JcEnumeration.RIGHT);
+    CountDownLatch start = new CountDownLatch(1);
+
+    List<Callable<String>> conversions = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      byte[] file = i % 2 == 0 ? centeredFile : rightAlignedFile;
+      conversions.add(
+          () -> {
+            start.await();
+            return service.parseAsDocumentationUnitDocxList(new ByteArrayInputStream(file)).stream()
+                .map(DocumentationUnitDocx::toHtmlString)
+                .collect(Collectors.joining());
+          });
+    }
+
+    try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+      List<Future<String>> results = new ArrayList<>();
+      for (Callable<String> conversion : conversions) {
+        results.add(executor.submit(conversion));
+      }
+      start.countDown();
+
+      for (int i = 0; i < results.size(); i++) {
+        JcEnumeration alignment = i % 2 == 0 ? JcEnumeration.CENTER : JcEnumeration.RIGHT;
+        assertThat(results.get(i).get())
+            .contains("text-align: " + alignment.value() + ";")
+            .doesNotContain("text-align: " + otherAlignment(alignment).value() + ";");
+      }
+    }
+  }
+
+  private static JcEnumeration otherAlignment(JcEnumeration alignment) {
+    return alignment == JcEnumeration.CENTER ? JcEnumeration.RIGHT : JcEnumeration.CENTER;
+  }
+
+  private static byte[] buildDocx(JcEnumeration alignment) throws Docx4JException {
+    WordprocessingMLPackage mlPackage = WordprocessingMLPackage.createPackage();
+    MainDocumentPart mainDocumentPart = mlPackage.getMainDocumentPart();
+    mainDocumentPart
+        .getStyleDefinitionsPart()
+        .getJaxbElement()
+        .getStyle()
+        .add(buildParagraphStyle("heading", alignment));
+    mainDocumentPart.getContent().add(buildParagraph("heading"));
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    mlPackage.save(outputStream);
+    return outputStream.toByteArray();
+  }
+
+  private static Style buildParagraphStyle(String styleId, JcEnumeration alignment) {
+    Jc jc = new Jc();
+    jc.setVal(alignment);
+    PPr pPr = new PPr();
+    pPr.setJc(jc);
+    Style style = new Style();
+    style.setStyleId(styleId);
+    style.setType("paragraph");
+    style.setPPr(pPr);
+    return style;
+  }
+
+  private static P buildParagraph(String styleId) {
+    PPrBase.PStyle pStyle = new PPrBase.PStyle();
+    pStyle.setVal(styleId);
+    PPr pPr = new PPr();
+    pPr.setPStyle(pStyle);
+    P paragraph = new P();
+    paragraph.setPPr(pPr);
+    R run = new R();
+    Text text = new Text();
+    text.setValue("text");
+    run.getContent().add(new JAXBElement<>(new QName("text"), Text.class, text));
+    paragraph.getContent().add(run);
+    return paragraph;
+  }
+}
@@ -1,15 +1,22 @@
 package de.bund.digitalservice.ris.caselaw.adapter;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConverter;
@@ -32,11 +39,16 @@ import jakarta.xml.bind.JAXBElement;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
@@ -79,17 +91,24 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 @ExtendWith(SpringExtension.class)
 @ExtendWith(MockitoExtension.class)
@@ -1293,6 +1312,155 @@ class DocxConverterServiceTest {
     assertEquals(Docx2Html.EMPTY, docx2Html);
   }
 
+  @Test
+  void testGetHtml_withUnchangedFile_shouldUseCachedConversion() {
+    when(client.headObject(any(HeadObjectRequest.class)))
+        .thenReturn(HeadObjectResponse.builder().eTag("\"etag\"").build());
+    when(client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class)))
+        .thenReturn(responseBytes);
+    when(responseBytes.response()).thenReturn(GetObjectResponse.builder().eTag("\"etag\"").build());
+    when(responseBytes.asInputStream()).thenReturn(null);
+
+    Docx2Html first = service.getConvertedObject("unchanged.docx");
+    Docx2Html second = service.getConvertedObject("unchanged.docx");
+
+    assertEquals(Docx2Html.EMPTY, first);
+    assertSame(first, second);
+    verify(client, times(1)).getObject(any(GetObjectRequest.class), any(ResponseTransformer.class));
+  }
+
+  @Test
+  void testGetHtml_withConcurrentRequests_shouldConvertOnce() throws Exception {
+    CountDownLatch downloadStarted = new CountDownLatch(1);
+    CountDownLatch downloadReleased = new CountDownLatch(1);
+    when(client.headObject(any(HeadObjectRequest.class)))
+        .thenReturn(HeadObjectResponse.builder().eTag("\"etag\"").build());
+    when(client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class)))
+        .thenAnswer(
+            invocation -> {
+              downloadStarted.countDown();
+              downloadReleased.await();
+              return responseBytes;
+            });
+    when(responseBytes.response()).thenReturn(GetObjectResponse.builder().eTag("\"etag\"").build());
+    when(responseBytes.asInputStream()).thenReturn(null);
+
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      Future<Docx2Html> first =
+          executor.submit(() -> service.getConvertedObject("concurrent.docx"));
+      downloadStarted.await();
+      Future<Docx2Html> second =
+          executor.submit(() -> service.getConvertedObject("concurrent.docx"));
+      Future<Docx2Html> third =
+          executor.submit(() -> service.getConvertedObject("concurrent.docx"));
+      // the later requests are waiting for the running conversion
+      await()
+          .atMost(Duration.ofSeconds(5))
+          .untilAsserted(() -> verify(client, times(3)).headObject(any(HeadObjectRequest.class)));
+      downloadReleased.countDown();
+
+      assertSame(first.get(), second.get());
+      assertSame(first.get(), third.get());
+    } finally {
+      downloadReleased.countDown();
+      executor.shutdownNow();
+    }
+    verify(client, times(1)).getObject(any(GetObjectRequest.class), any(ResponseTransformer.class));
+  }
+
+  @Nested
+  class ImagesByReference {
+    private static final String IMAGE_ID = "a".repeat(64);
+    private static final String IMAGE_URL_PREFIX = "/images/";
+
+    private DocxConverterService imagesByReferenceService;
+    private final DocxImagePart image = new DocxImagePart("image/png", new byte[] {1, 2, 3});
+
+    @BeforeEach
+    void setUp() {
+      @SuppressWarnings("unchecked")
+      ObjectProvider<DocxConverter> converterProvider = mock(ObjectProvider.class);
+      lenient().when(converterProvider.getObject()).thenReturn(converter);
+      imagesByReferenceService =
+          new DocxConverterService(
+              client, documentBuilderFactory, converterProvider, 1_000_000, true);
+      ReflectionTestUtils.setField(imagesByReferenceService, "bucketName", "bucket");
+    }
+
+    @Test
+    void testGetConvertedImage_withSavedImage_shouldNotConvertTheFile() {
+      when(client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class)))
+          .thenReturn(
+              ResponseBytes.fromByteArray(
+                  GetObjectResponse.builder().contentType("image/png").build(), image.bytes()));
+
+      DocxImagePart result =
+          imagesByReferenceService.getConvertedImage("file.docx", IMAGE_URL_PREFIX, IMAGE_ID);
+
+      assertEquals(image, result);
+      ArgumentCaptor<GetObjectRequest> requestCaptor =
+          ArgumentCaptor.forClass(GetObjectRequest.class);
+      verify(client).getObject(requestCaptor.capture(), any(ResponseTransformer.class));
+      assertEquals("images/" + IMAGE_ID, requestCaptor.getValue().key());
+      verify(client, never()).headObject(any(HeadObjectRequest.class));
+    }
+
+    @Test
+    void testGetConvertedImage_withoutSavedImage_shouldConvertTheFileAndSaveItsImages() {
+      when(client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class)))
+          .thenAnswer(
+              invocation -> {
+                GetObjectRequest request = invocation.getArgument(0);
+                if (request.key().startsWith("images/")) {
+                  throw NoSuchKeyException.builder().build();
+                }
+                return responseBytes;
+              });
+      when(responseBytes.asInputStream()).thenReturn(null);
+      when(converter.getReferencedImages()).thenReturn(Map.of(IMAGE_ID, image));
+
+      DocxImagePart result =
+          imagesByReferenceService.getConvertedImage("file.docx", IMAGE_URL_PREFIX, IMAGE_ID);
+
+      assertEquals(image, result);
+      ArgumentCaptor<PutObjectRequest> requestCaptor =
+          ArgumentCaptor.forClass(PutObjectRequest.class);
+      verify(client).putObject(requestCaptor.capture(), any(RequestBody.class));
+      assertEquals("images/" + IMAGE_ID, requestCaptor.getValue().key());
+      assertEquals("image/png", requestCaptor.getValue().contentType());
+    }
+
+    @Test
+    void testGetConvertedImage_withInvalidImageId_shouldNotAccessTheBucket() {
+      DocxImagePart result =
+          imagesByReferenceService.getConvertedImage("file.docx", IMAGE_URL_PREFIX, "../file");
+
+      assertNull(result);
+      verifyNoInteractions(client);
+    }
+  }
+
+  @Test
+  void testGetHtml_withChangedFile_shouldConvertAgain() {
+    when(client.headObject(any(HeadObjectRequest.class)))
+        .thenReturn(
+            HeadObjectResponse.builder().eTag("\"first\"").build(),
+            HeadObjectResponse.builder().eTag("\"second\"").build());
+    when(client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class)))
+        .thenReturn(responseBytes);
+    when(responseBytes.response())
+        .thenReturn(
+            GetObjectResponse.builder().eTag("\"first\"").build(),
+            GetObjectResponse.builder().eTag("\"second\"").build());
+    when(responseBytes.asInputStream()).thenReturn(null);
+
+    service.getConvertedObject("changed.docx");
+    service.getConvertedObject("changed.docx");
+
+    verify(client, times(2)).getObject(any(GetObjectRequest.class), any(ResponseTransformer.class));
+  }
+
   @Test
   void testGetHtml_withLoadDocxThrowsException() {
     when(client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class)))
@@ -0,0 +1,71 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.bund.digitalservice.ris.caselaw.adapter.DocxHtmlCache.Conversion;
+import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
+import de.bund.digitalservice.ris.caselaw.domain.docx.DocxImagePart;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class DocxHtmlCacheTest {
+
+  @Test
+  void testGet_withOtherETag_shouldReturnNull() {
+    DocxHtmlCache cache = new DocxHtmlCache(100);
+    Conversion conversion = buildConversion("<p>text</p>");
+
+    cache.put("path", "etag", null, conversion);
+
+    assertThat(cache.get("path", "etag", null)).isSameAs(conversion);
+    assertThat(cache.get("path", "other", null)).isNull();
+    assertThat(cache.get("other", "etag", null)).isNull();
+  }
+
+  @Test
+  void testGet_withOtherImageUrlPrefix_shouldReturnNull() {
+    DocxHtmlCache cache = new DocxHtmlCache(100);
+    Conversion conversion = buildConversion("<p>text</p>");
+
+    cache.put("path", "etag", "/images/", conversion);
+
+    assertThat(cache.get("path", "etag", "/images/")).isSameAs(conversion);
+    assertThat(cache.get("path", "etag", null)).isNull();
+  }
+
+  @Test
+  void testPut_withFullCache_shouldEvictLeastRecentlyUsedEntries() {
+    DocxHtmlCache cache = new DocxHtmlCache(10);
+
+    cache.put("first", "etag", null, buildConversion("1234"));
+    cache.put("second", "etag", null, buildConversion("1234"));
+    cache.get("first", "etag", null);
+    cache.put("third", "etag", null, buildConversion("1234"));
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get("first", "etag", null)).isNotNull();
+    assertThat(cache.get("second", "etag", null)).isNull();
+    assertThat(cache.get("third", "etag", null)).isNotNull();
+  }
+
+  @Test
+  void testPut_withTooBigConversion_shouldNotCache() {
+    DocxHtmlCache cache = new DocxHtmlCache(10);
+
+    cache.put("path", "etag", null, buildConversion("12345678901"));
+    cache.put(
+        "images",
+        "etag",
+        "/images/",
+        new Conversion(
+            new Docx2Html("<img>", List.of(), Map.of()),
+            Map.of("id", new DocxImagePart("image/png", new byte[10]))));
+
+    assertThat(cache.size()).isZero();
+  }
+
+  private static Conversion buildConversion(String html) {
+    return new Conversion(new Docx2Html(html, List.of(), Map.of()), Map.of());
+  }
+}
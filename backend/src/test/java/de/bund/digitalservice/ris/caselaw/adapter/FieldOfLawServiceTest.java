@@ -308,6 +308,29 @@ class FieldOfLawServiceTest {
     verify(repository).findAllByParentIdentifierOrderByIdentifierAsc("TS-01-01");
   }
 
+  @Test
+  void testGetFieldsOfLaw_withSearchTerm_shouldReturnPageOfBestScoredResults() {
+    Pageable pageable = PageRequest.of(1, 2);
+    List<FieldOfLaw> fieldsOfLaw =
+        List.of(
+            generateFieldOfLaw().toBuilder().identifier("TS-01").text("other test").build(),
+            generateFieldOfLaw().toBuilder().identifier("TS-02").text("test").build(),
+            generateFieldOfLaw().toBuilder().identifier("TS-03").text("a testcase").build(),
+            generateFieldOfLaw().toBuilder().identifier("TS-04").text("test case").build(),
+            generateFieldOfLaw().toBuilder().identifier("TS-05").text("contest").build());
+    when(repository.findByCombinedCriteria(null, "test", null)).thenReturn(fieldsOfLaw);
+
+    var page =
+        service.getFieldsOfLawBySearchQuery(
+            Optional.empty(), Optional.of("test"), Optional.empty(), pageable);
+
+    // scores: TS-02 and TS-04 9, TS-01 4, TS-03 3, TS-05 1
+    assertThat(page.getContent()).extracting("identifier").containsExactly("TS-01", "TS-03");
+    assertThat(page)
+        .isInstanceOfSatisfying(
+            Page.class, result -> assertThat(result.getTotalElements()).isEqualTo(5));
+  }
+
   FieldOfLaw generateFieldOfLaw() {
     return FieldOfLaw.builder()
         .id(UUID.randomUUID())
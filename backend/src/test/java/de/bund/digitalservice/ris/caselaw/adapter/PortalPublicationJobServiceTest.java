@@ -1,8 +1,10 @@
 package de.bund.digitalservice.ris.caselaw.adapter;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -12,13 +14,20 @@ import static org.mockito.Mockito.when;
 
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PortalPublicationJobDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PortalPublicationJobRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.exception.ChangelogException;
 import de.bund.digitalservice.ris.caselaw.adapter.publication.PortalPublicationJobService;
 import de.bund.digitalservice.ris.caselaw.adapter.publication.PortalPublicationResult;
 import de.bund.digitalservice.ris.caselaw.adapter.publication.PortalPublicationService;
 import de.bund.digitalservice.ris.caselaw.domain.PublicationJobStatus;
 import de.bund.digitalservice.ris.caselaw.domain.PublicationJobType;
 import de.bund.digitalservice.ris.caselaw.domain.exception.DocumentationUnitNotExistsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -27,14 +36,19 @@ class PortalPublicationJobServiceTest {
   private PortalPublicationJobService service;
   private PortalPublicationJobRepository publicationJobRepository;
   private PortalPublicationService portalPublicationService;
+  private SimpleMeterRegistry meterRegistry;
 
   @BeforeEach
   void beforeEach() {
     this.publicationJobRepository = mock(PortalPublicationJobRepository.class);
     this.portalPublicationService = mock(PortalPublicationService.class);
+    this.meterRegistry = new SimpleMeterRegistry();
     this.service =
         new PortalPublicationJobService(
-            this.publicationJobRepository, this.portalPublicationService);
+            this.publicationJobRepository,
+            this.portalPublicationService,
+            Runnable::run,
+            this.meterRegistry);
   }
 
   @Test
@@ -43,7 +57,7 @@ class PortalPublicationJobServiceTest {
 
     this.service.executePendingJobs();
 
-    verify(portalPublicationService, never()).publishDocumentationUnit(anyString());
+    verify(portalPublicationService, never()).publishDocumentationUnit(anyString(), any());
     verify(portalPublicationService, never()).withdrawDocumentationUnit(anyString());
     verify(publicationJobRepository, never()).saveAll(any());
   }
@@ -52,12 +66,12 @@ class PortalPublicationJobServiceTest {
   void shouldPublishASingleDocUnit() throws DocumentationUnitNotExistsException {
     var jobs = List.of(createPublicationJob("123", PublicationJobType.PUBLISH));
     when(this.publicationJobRepository.findNextPendingJobsBatch()).thenReturn(jobs);
-    when(this.portalPublicationService.publishDocumentationUnit("123"))
+    when(this.portalPublicationService.publishDocumentationUnit(eq("123"), any()))
         .thenReturn(new PortalPublicationResult(List.of("123.xml"), List.of()));
 
     this.service.executePendingJobs();
 
-    verify(portalPublicationService, times(1)).publishDocumentationUnit("123");
+    verify(portalPublicationService, times(1)).publishDocumentationUnit(eq("123"), any());
     verify(portalPublicationService, never()).withdrawDocumentationUnit(anyString());
     verify(portalPublicationService, times(1)).uploadChangelog(List.of("123.xml"), List.of());
     verify(publicationJobRepository, times(1)).saveAll(jobs);
@@ -73,7 +87,7 @@ class PortalPublicationJobServiceTest {
 
     this.service.executePendingJobs();
 
-    verify(portalPublicationService, never()).publishDocumentationUnit(anyString());
+    verify(portalPublicationService, never()).publishDocumentationUnit(anyString(), any());
     verify(portalPublicationService, times(1)).withdrawDocumentationUnit("456");
     verify(portalPublicationService, times(1)).uploadChangelog(List.of(), List.of("456.xml"));
     verify(publicationJobRepository, times(1)).saveAll(jobs);
@@ -84,11 +98,13 @@ class PortalPublicationJobServiceTest {
   void shouldHandleErrorWhenPublishingASingleDocUnit() throws DocumentationUnitNotExistsException {
     var jobs = List.of(createPublicationJob("789", PublicationJobType.PUBLISH));
     when(this.publicationJobRepository.findNextPendingJobsBatch()).thenReturn(jobs);
-    doThrow(RuntimeException.class).when(portalPublicationService).publishDocumentationUnit("789");
+    doThrow(RuntimeException.class)
+        .when(portalPublicationService)
+        .publishDocumentationUnit(eq("789"), any());
 
     this.service.executePendingJobs();
 
-    verify(portalPublicationService, times(1)).publishDocumentationUnit("789");
+    verify(portalPublicationService, times(1)).publishDocumentationUnit(eq("789"), any());
     verify(portalPublicationService, never()).withdrawDocumentationUnit(anyString());
     verify(portalPublicationService, never()).uploadChangelog(any(), any());
     verify(publicationJobRepository, times(1)).saveAll(jobs);
@@ -103,7 +119,7 @@ class PortalPublicationJobServiceTest {
 
     this.service.executePendingJobs();
 
-    verify(portalPublicationService, never()).publishDocumentationUnit(anyString());
+    verify(portalPublicationService, never()).publishDocumentationUnit(anyString(), any());
     verify(portalPublicationService, times(1)).withdrawDocumentationUnit("312");
     verify(portalPublicationService, never()).uploadChangelog(any(), any());
     verify(publicationJobRepository, times(1)).saveAll(jobs);
@@ -118,7 +134,7 @@ class PortalPublicationJobServiceTest {
 
     this.service.executePendingJobs();
 
-    verify(portalPublicationService, never()).publishDocumentationUnit(anyString());
+    verify(portalPublicationService, never()).publishDocumentationUnit(anyString(), any());
     verify(portalPublicationService, times(1)).withdrawDocumentationUnit("312");
     // currently disabled
     //    verify(publicPortalPublicationService, times(1)).uploadChangelog(List.of(),
@@ -127,6 +143,100 @@ class PortalPublicationJobServiceTest {
     assertThat(jobs.getFirst().getPublicationJobStatus()).isEqualTo(PublicationJobStatus.SUCCESS);
   }
 
+  @Test
+  void shouldKeepJobsPendingWhenUploadingChangelogFails()
+      throws DocumentationUnitNotExistsException {
+    var job = createPublicationJob("123", PublicationJobType.PUBLISH);
+    when(this.publicationJobRepository.findNextPendingJobsBatch()).thenReturn(List.of(job));
+    when(this.portalPublicationService.publishDocumentationUnit(eq("123"), any()))
+        .thenReturn(new PortalPublicationResult(List.of("123/123.xml"), List.of()));
+    doThrow(ChangelogException.class).when(portalPublicationService).uploadChangelog(any(), any());
+
+    this.service.executePendingJobs();
+
+    verify(publicationJobRepository, never()).saveAll(any());
+  }
+
+  @Test
+  void shouldSkipScheduledRunsAfterFailedChangelogUpload()
+      throws DocumentationUnitNotExistsException {
+    var job = createPublicationJob("123", PublicationJobType.PUBLISH);
+    when(this.publicationJobRepository.findNextPendingJobsBatch()).thenReturn(List.of(job));
+    when(this.portalPublicationService.publishDocumentationUnit(eq("123"), any()))
+        .thenReturn(new PortalPublicationResult(List.of("123/123.xml"), List.of()));
+    doThrow(ChangelogException.class)
+        .doThrow(ChangelogException.class)
+        .doNothing()
+        .when(portalPublicationService)
+        .uploadChangelog(any(), any());
+
+    // first failure: one run is skipped
+    this.service.executePendingJobs();
+    this.service.executePendingJobs();
+    verify(publicationJobRepository, times(1)).findNextPendingJobsBatch();
+
+    // second failure: two runs are skipped
+    this.service.executePendingJobs();
+    this.service.executePendingJobs();
+    this.service.executePendingJobs();
+    verify(publicationJobRepository, times(2)).findNextPendingJobsBatch();
+
+    this.service.executePendingJobs();
+    verify(publicationJobRepository, times(3)).findNextPendingJobsBatch();
+    verify(publicationJobRepository, times(1)).saveAll(List.of(job));
+    assertThat(job.getPublicationJobStatus()).isEqualTo(PublicationJobStatus.SUCCESS);
+
+    // the backoff is reset by a successful changelog upload
+    this.service.executePendingJobs();
+    verify(publicationJobRepository, times(4)).findNextPendingJobsBatch();
+  }
+
+  @Test
+  void shouldFailJobsAfterMaxChangelogAttempts() throws DocumentationUnitNotExistsException {
+    var job = createPublicationJob("123", PublicationJobType.PUBLISH);
+    AtomicBoolean saved = new AtomicBoolean();
+    when(this.publicationJobRepository.findNextPendingJobsBatch())
+        .thenAnswer(invocation -> saved.get() ? List.of() : List.of(job));
+    doAnswer(
+            invocation -> {
+              saved.set(true);
+              return invocation.getArgument(0);
+            })
+        .when(publicationJobRepository)
+        .saveAll(any());
+    when(this.portalPublicationService.publishDocumentationUnit(eq("123"), any()))
+        .thenReturn(new PortalPublicationResult(List.of("123/123.xml"), List.of()));
+    doThrow(ChangelogException.class).when(portalPublicationService).uploadChangelog(any(), any());
+
+    for (int run = 0; run < 1000; run++) {
+      this.service.executePendingJobs();
+    }
+
+    verify(portalPublicationService, times(10)).uploadChangelog(any(), any());
+    verify(publicationJobRepository, times(1)).saveAll(List.of(job));
+    assertThat(job.getPublicationJobStatus()).isEqualTo(PublicationJobStatus.ERROR);
+  }
+
+  @Test
+  void shouldReportFilesWrittenSinceTheFirstPendingJobAsChanged()
+      throws DocumentationUnitNotExistsException {
+    Instant firstCreatedAt = Instant.parse("2024-01-01T10:00:00Z");
+    var first = createPublicationJob("123", PublicationJobType.PUBLISH);
+    first.setCreatedAt(firstCreatedAt);
+    var second = createPublicationJob("123", PublicationJobType.PUBLISH);
+    second.setCreatedAt(firstCreatedAt.plusSeconds(60));
+    when(this.publicationJobRepository.findNextPendingJobsBatch())
+        .thenReturn(List.of(first, second));
+    when(this.portalPublicationService.publishDocumentationUnit(eq("123"), any()))
+        .thenReturn(new PortalPublicationResult(List.of("123/123.xml"), List.of()));
+
+    this.service.executePendingJobs();
+
+    verify(portalPublicationService, times(1))
+        .publishDocumentationUnit("123", firstCreatedAt.minusSeconds(60));
+    verify(publicationJobRepository, times(1)).saveAll(List.of(first, second));
+  }
+
   @Test
   void shouldContinueExecutionOnErrors() throws DocumentationUnitNotExistsException {
     var jobs =
@@ -137,14 +247,16 @@ class PortalPublicationJobServiceTest {
             createPublicationJob("4", PublicationJobType.DELETE),
             createPublicationJob("5", PublicationJobType.PUBLISH));
     when(this.publicationJobRepository.findNextPendingJobsBatch()).thenReturn(jobs);
-    doThrow(RuntimeException.class).when(portalPublicationService).publishDocumentationUnit("1");
+    doThrow(RuntimeException.class)
+        .when(portalPublicationService)
+        .publishDocumentationUnit(eq("1"), any());
     doThrow(RuntimeException.class).when(portalPublicationService).withdrawDocumentationUnit("2");
 
     this.service.executePendingJobs();
 
-    verify(portalPublicationService, times(1)).publishDocumentationUnit("1");
-    verify(portalPublicationService, times(1)).publishDocumentationUnit("3");
-    verify(portalPublicationService, times(1)).publishDocumentationUnit("5");
+    verify(portalPublicationService, times(1)).publishDocumentationUnit(eq("1"), any());
+    verify(portalPublicationService, times(1)).publishDocumentationUnit(eq("3"), any());
+    verify(portalPublicationService, times(1)).publishDocumentationUnit(eq("5"), any());
     verify(portalPublicationService, times(1)).withdrawDocumentationUnit("2");
     verify(portalPublicationService, times(1)).withdrawDocumentationUnit("4");
     // currently disabled
@@ -158,9 +270,118 @@ class PortalPublicationJobServiceTest {
     assertThat(jobs.get(4).getPublicationJobStatus()).isEqualTo(PublicationJobStatus.SUCCESS);
   }
 
+  @Test
+  void shouldOnlyExecuteLatestJobPerDocumentNumber() throws DocumentationUnitNotExistsException {
+    var jobs =
+        List.of(
+            createPublicationJob("1", PublicationJobType.PUBLISH),
+            createPublicationJob("2", PublicationJobType.PUBLISH),
+            createPublicationJob("1", PublicationJobType.DELETE),
+            createPublicationJob("2", PublicationJobType.DELETE),
+            createPublicationJob("2", PublicationJobType.PUBLISH));
+    when(this.publicationJobRepository.findNextPendingJobsBatch()).thenReturn(jobs);
+    when(this.portalPublicationService.withdrawDocumentationUnit("1"))
+        .thenReturn(new PortalPublicationResult(List.of(), List.of("1/1.xml")));
+    when(this.portalPublicationService.publishDocumentationUnit(eq("2"), any()))
+        .thenReturn(new PortalPublicationResult(List.of("2/2.xml"), List.of()));
+
+    this.service.executePendingJobs();
+
+    verify(portalPublicationService, never()).publishDocumentationUnit(eq("1"), any());
+    verify(portalPublicationService, times(1)).withdrawDocumentationUnit("1");
+    verify(portalPublicationService, times(1)).publishDocumentationUnit(eq("2"), any());
+    verify(portalPublicationService, never()).withdrawDocumentationUnit("2");
+    verify(portalPublicationService, times(1))
+        .uploadChangelog(List.of("2/2.xml"), List.of("1/1.xml"));
+    verify(publicationJobRepository, times(1)).saveAll(jobs);
+    assertThat(jobs).allMatch(job -> job.getPublicationJobStatus() == PublicationJobStatus.SUCCESS);
+  }
+
+  @Test
+  void shouldMarkSupersededJobsWithStatusOfLatestJob() throws DocumentationUnitNotExistsException {
+    var jobs =
+        List.of(
+            createPublicationJob("1", PublicationJobType.PUBLISH),
+            createPublicationJob("1", PublicationJobType.PUBLISH));
+    when(this.publicationJobRepository.findNextPendingJobsBatch()).thenReturn(jobs);
+    doThrow(RuntimeException.class)
+        .when(portalPublicationService)
+        .publishDocumentationUnit(eq("1"), any());
+
+    this.service.executePendingJobs();
+
+    verify(portalPublicationService, times(1)).publishDocumentationUnit(eq("1"), any());
+    assertThat(jobs).allMatch(job -> job.getPublicationJobStatus() == PublicationJobStatus.ERROR);
+  }
+
+  @Test
+  void shouldExecuteJobsOnExecutor() throws DocumentationUnitNotExistsException {
+    try (ExecutorService executor = Executors.newFixedThreadPool(3)) {
+      var parallelService =
+          new PortalPublicationJobService(
+              publicationJobRepository, portalPublicationService, executor, meterRegistry);
+      var jobs =
+          List.of(
+              createPublicationJob("1", PublicationJobType.PUBLISH),
+              createPublicationJob("2", PublicationJobType.PUBLISH),
+              createPublicationJob("3", PublicationJobType.DELETE),
+              createPublicationJob("4", PublicationJobType.PUBLISH));
+      when(this.publicationJobRepository.findNextPendingJobsBatch()).thenReturn(jobs);
+      when(this.portalPublicationService.publishDocumentationUnit(anyString(), any()))
+          .thenReturn(new PortalPublicationResult(List.of("1/1.xml"), List.of()));
+      when(this.portalPublicationService.withdrawDocumentationUnit("3"))
+          .thenReturn(new PortalPublicationResult(List.of(), List.of("3/3.xml")));
+
+      parallelService.executePendingJobs();
+
+      verify(portalPublicationService, times(3)).publishDocumentationUnit(anyString(), any());
+      verify(portalPublicationService, times(1)).withdrawDocumentationUnit("3");
+      verify(portalPublicationService, times(1)).uploadChangelog(any(), any());
+      verify(publicationJobRepository, times(1)).saveAll(jobs);
+      assertThat(jobs)
+          .allMatch(job -> job.getPublicationJobStatus() == PublicationJobStatus.SUCCESS);
+    }
+  }
+
+  @Test
+  void shouldRecordJobMetrics() throws DocumentationUnitNotExistsException {
+    var jobs =
+        List.of(
+            createPublicationJob("1", PublicationJobType.PUBLISH),
+            createPublicationJob("2", PublicationJobType.PUBLISH));
+    when(this.publicationJobRepository.findNextPendingJobsBatch()).thenReturn(jobs);
+    when(this.portalPublicationService.publishDocumentationUnit(eq("1"), any()))
+        .thenReturn(new PortalPublicationResult(List.of("1/1.xml"), List.of()));
+    doThrow(RuntimeException.class)
+        .when(portalPublicationService)
+        .publishDocumentationUnit(eq("2"), any());
+
+    this.service.executePendingJobs();
+
+    assertThat(
+            meterRegistry
+                .get("portal.publication.job")
+                .tag("type", "PUBLISH")
+                .tag("status", "SUCCESS")
+                .timer()
+                .count())
+        .isEqualTo(1L);
+    assertThat(
+            meterRegistry
+                .get("portal.publication.job")
+                .tag("type", "PUBLISH")
+                .tag("status", "ERROR")
+                .timer()
+                .count())
+        .isEqualTo(1L);
+    assertThat(meterRegistry.get("portal.publication.batch").timer().count()).isEqualTo(1L);
+  }
+
   private PortalPublicationJobDTO createPublicationJob(String docNumber, PublicationJobType type) {
     return PortalPublicationJobDTO.builder()
+        .id(UUID.randomUUID())
         .documentNumber(docNumber)
+        .createdAt(Instant.now())
         .publicationJobType(type)
         .publicationJobStatus(PublicationJobStatus.PENDING)
         .build();
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
@@ -22,7 +23,6 @@ import de.bund.digitalservice.ris.caselaw.adapter.caselawldml.Identification;
 import de.bund.digitalservice.ris.caselaw.adapter.caselawldml.Judgment;
 import de.bund.digitalservice.ris.caselaw.adapter.caselawldml.Meta;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.AttachmentDTO;
-import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.AttachmentInlineDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.AttachmentRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.CourtDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseAttachmentInlineRepository;
@@ -33,8 +33,6 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.FileNumberDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.LegalEffectDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PendingProceedingDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PreviousDecisionDTO;
-import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PublishedDocumentationSnapshotEntity;
-import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PublishedDocumentationSnapshotRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.RelatedPendingProceedingDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.exception.BucketException;
 import de.bund.digitalservice.ris.caselaw.adapter.exception.ChangelogException;
@@ -61,16 +59,21 @@ import de.bund.digitalservice.ris.caselaw.domain.LdmlTransformationResult;
 import de.bund.digitalservice.ris.caselaw.domain.PendingProceeding;
 import de.bund.digitalservice.ris.caselaw.domain.PendingProceedingShortTexts;
 import de.bund.digitalservice.ris.caselaw.domain.PortalPublicationStatus;
-import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
 import de.bund.digitalservice.ris.caselaw.domain.RelatedPendingProceeding;
 import de.bund.digitalservice.ris.caselaw.domain.User;
 import de.bund.digitalservice.ris.caselaw.domain.court.Court;
 import de.bund.digitalservice.ris.caselaw.domain.exception.DocumentationUnitNotExistsException;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.documenttype.DocumentType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeAll;
@@ -80,10 +83,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import software.amazon.awssdk.services.s3.model.S3Object;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.ObjectMapper;
 
@@ -100,16 +103,12 @@ class PortalPublicationServiceTest {
   @MockitoBean private PortalTransformer portalTransformer;
   @MockitoBean private FeatureToggleService featureToggleService;
   @MockitoBean private DocumentationUnitHistoryLogService historyLogService;
-  @MockitoBean private PublishedDocumentationSnapshotRepository snapshotRepository;
   @MockitoBean private CaselawCitationPublishService caselawCitationPublishService;
   @MockitoBean private CaselawCitationSyncService caselawCitationSyncService;
   @MockitoBean private UliCitationPublishService uliCitationPublishService;
   @MockitoBean private AdmCitationPublishService admCitationPublishService;
   @MockitoBean private SliCitationPublishService sliCitationPublishService;
 
-  private ArgumentCaptor<PublishedDocumentationSnapshotEntity> snapshotCaptor =
-      ArgumentCaptor.forClass(PublishedDocumentationSnapshotEntity.class);
-
   private static Decision testDocumentUnit;
   private static DecisionDTO testDocumentUnitDTO;
   private static String testDocumentNumber;
@@ -235,16 +234,19 @@ class PortalPublicationServiceTest {
             featureToggleService,
             historyLogService,
             attachmentInlineRepository,
-            snapshotRepository,
             caselawCitationSyncService,
             caselawCitationPublishService,
             uliCitationPublishService,
             admCitationPublishService,
-            sliCitationPublishService);
+            sliCitationPublishService,
+            Runnable::run,
+            2,
+            new SimpleMeterRegistry());
     when(objectMapper.writeValueAsString(any())).thenReturn("");
     when(featureToggleService.isEnabled("neuris.portal-publication")).thenReturn(true);
     when(featureToggleService.isEnabled("neuris.regular-changelogs")).thenReturn(true);
-    when(caselawCitationPublishService.updateRelatedDocumentationWithInformationFromTarget(any()))
+    when(caselawCitationPublishService.updateRelatedDocumentationWithInformationFromTarget(
+            any(), any()))
         .thenAnswer(a -> a.getArguments()[0]);
   }
 
@@ -259,15 +261,7 @@ class PortalPublicationServiceTest {
       when(portalTransformer.transformToLdml(any())).thenReturn(testLdml);
       when(xmlUtilService.ldmlToString(any())).thenReturn(Optional.of(transformed));
       var content = new byte[] {1};
-      when(attachmentInlineRepository.findAllByDocumentationUnitId(testDocumentUnit.uuid()))
-          .thenReturn(
-              List.of(
-                  AttachmentInlineDTO.builder()
-                      .filename("bild1.png")
-                      .format("png")
-                      .content(content)
-                      .uploadTimestamp(Instant.now())
-                      .build()));
+      mockInlineImages(Map.of("bild1.png", content));
       when(attachmentRepository.findAllByDocumentationUnitId(testDocumentUnit.uuid()))
           .thenReturn(
               List.of(
@@ -285,6 +279,189 @@ class PortalPublicationServiceTest {
           .saveBytes(eq(testDocumentNumber + "/originalenscheidung"), any(byte[].class));
     }
 
+    @Test
+    void publishDocumentationUnit_withUnchangedFiles_shouldSkipUpload() throws Exception {
+      String transformed = "ldml";
+      var content = new byte[] {1};
+      when(documentationUnitRepository.loadDocumentationUnitDTO(testDocumentNumber))
+          .thenReturn(testDocumentUnitDTO);
+      when(portalTransformer.transformToLdml(any())).thenReturn(testLdml);
+      when(xmlUtilService.ldmlToString(any())).thenReturn(Optional.of(transformed));
+      mockInlineImages(Map.of("bild1.png", content));
+      when(caseLawBucket.getAllFilesByPath(testDocumentNumber + "/"))
+          .thenReturn(
+              Map.of(
+                  withPrefix(testDocumentNumber),
+                  storedFile(transformed.getBytes(StandardCharsets.UTF_8)),
+                  testDocumentNumber + "/bild1.png",
+                  storedFile(content)));
+
+      var result = subject.publishDocumentationUnit(testDocumentNumber);
+
+      verify(caseLawBucket, never()).save(anyString(), anyString());
+      verify(caseLawBucket, never()).saveBytes(anyString(), any(byte[].class));
+      verify(caseLawBucket, never()).delete(anyString());
+      verify(caseLawBucket, never()).deleteAll(anyList());
+      verify(attachmentInlineRepository, never()).findContentById(any());
+      assertThat(result.changedPaths()).isEmpty();
+      assertThat(result.deletedPaths()).isEmpty();
+    }
+
+    @Test
+    void publishDocumentationUnit_withUnchangedFilesWrittenSinceGivenTime_shouldReportThem()
+        throws Exception {
+      String transformed = "ldml";
+      var content = new byte[] {1};
+      Instant changedSince = Instant.parse("2024-01-01T10:00:00Z");
+      when(documentationUnitRepository.loadDocumentationUnitDTO(testDocumentNumber))
+          .thenReturn(testDocumentUnitDTO);
+      when(portalTransformer.transformToLdml(any())).thenReturn(testLdml);
+      when(xmlUtilService.ldmlToString(any())).thenReturn(Optional.of(transformed));
+      mockInlineImages(Map.of("bild1.png", content));
+      when(caseLawBucket.getAllFilesByPath(testDocumentNumber + "/"))
+          .thenReturn(
+              Map.of(
+                  withPrefix(testDocumentNumber),
+                  storedFile(
+                      transformed.getBytes(StandardCharsets.UTF_8), changedSince.plusSeconds(1)),
+                  testDocumentNumber + "/bild1.png",
+                  storedFile(content, changedSince.minusSeconds(1))));
+
+      var result = subject.publishDocumentationUnit(testDocumentNumber, changedSince);
+
+      verify(caseLawBucket, never()).save(anyString(), anyString());
+      verify(caseLawBucket, never()).saveBytes(anyString(), any(byte[].class));
+      assertThat(result.changedPaths()).containsExactly(withPrefix(testDocumentNumber));
+      assertThat(result.deletedPaths()).isEmpty();
+    }
+
+    @Test
+    void publishDocumentationUnit_withChangedAndRemovedFiles_shouldOnlyReportChanges()
+        throws Exception {
+      String transformed = "ldml";
+      var content = new byte[] {1};
+      when(documentationUnitRepository.loadDocumentationUnitDTO(testDocumentNumber))
+          .thenReturn(testDocumentUnitDTO);
+      when(portalTransformer.transformToLdml(any())).thenReturn(testLdml);
+      when(xmlUtilService.ldmlToString(any())).thenReturn(Optional.of(transformed));
+      mockInlineImages(Map.of("bild1.png", content));
+      when(caseLawBucket.getAllFilesByPath(testDocumentNumber + "/"))
+          .thenReturn(
+              Map.of(
+                  withPrefix(testDocumentNumber),
+                  storedFile("old ldml".getBytes(StandardCharsets.UTF_8)),
+                  testDocumentNumber + "/bild1.png",
+                  storedFile(content),
+                  testDocumentNumber + "/bild2.png",
+                  storedFile(new byte[] {2})));
+
+      var result = subject.publishDocumentationUnit(testDocumentNumber);
+
+      verify(caseLawBucket).save(withPrefix(testDocumentNumber), transformed);
+      verify(caseLawBucket, never()).saveBytes(anyString(), any(byte[].class));
+      verify(caseLawBucket).deleteAll(List.of(testDocumentNumber + "/bild2.png"));
+      assertThat(result.changedPaths()).containsExactly(withPrefix(testDocumentNumber));
+      assertThat(result.deletedPaths()).containsExactly(testDocumentNumber + "/bild2.png");
+    }
+
+    @Test
+    void publishDocumentationUnit_withManyImages_shouldUploadOnlyChangedImages() throws Exception {
+      String transformed = "ldml";
+      var unchanged = new byte[] {1};
+      var changed = new byte[] {2};
+      var added = new byte[] {3};
+      when(documentationUnitRepository.loadDocumentationUnitDTO(testDocumentNumber))
+          .thenReturn(testDocumentUnitDTO);
+      when(portalTransformer.transformToLdml(any())).thenReturn(testLdml);
+      when(xmlUtilService.ldmlToString(any())).thenReturn(Optional.of(transformed));
+      mockInlineImages(Map.of("bild1.png", unchanged, "bild2.png", changed, "bild3.png", added));
+      when(caseLawBucket.getAllFilesByPath(testDocumentNumber + "/"))
+          .thenReturn(
+              Map.of(
+                  withPrefix(testDocumentNumber),
+                  storedFile(transformed.getBytes(StandardCharsets.UTF_8)),
+                  testDocumentNumber + "/bild1.png",
+                  storedFile(unchanged),
+                  testDocumentNumber + "/bild2.png",
+                  storedFile(new byte[] {4}),
+                  testDocumentNumber + "/bild4.png",
+                  storedFile(new byte[] {5}),
+                  testDocumentNumber + "/bild5.png",
+                  storedFile(new byte[] {6})));
+
+      var result = subject.publishDocumentationUnit(testDocumentNumber);
+
+      verify(caseLawBucket, never()).save(anyString(), anyString());
+      verify(caseLawBucket).saveBytes(testDocumentNumber + "/bild2.png", changed);
+      verify(caseLawBucket).saveBytes(testDocumentNumber + "/bild3.png", added);
+      verify(caseLawBucket, times(2)).saveBytes(anyString(), any(byte[].class));
+      verify(attachmentInlineRepository, times(2)).findContentById(any());
+      verify(caseLawBucket)
+          .deleteAll(
+              argThat(
+                  files ->
+                      files.size() == 2
+                          && files.containsAll(
+                              List.of(
+                                  testDocumentNumber + "/bild4.png",
+                                  testDocumentNumber + "/bild5.png"))));
+      assertThat(result.changedPaths())
+          .containsExactlyInAnyOrder(
+              testDocumentNumber + "/bild2.png", testDocumentNumber + "/bild3.png");
+    }
+
+    @Test
+    void publishDocumentationUnit_withDeletedImage_shouldSkipIt() throws Exception {
+      String transformed = "ldml";
+      var content = new byte[] {1};
+      when(documentationUnitRepository.loadDocumentationUnitDTO(testDocumentNumber))
+          .thenReturn(testDocumentUnitDTO);
+      when(portalTransformer.transformToLdml(any())).thenReturn(testLdml);
+      when(xmlUtilService.ldmlToString(any())).thenReturn(Optional.of(transformed));
+      mockInlineImages(Map.of("bild1.png", content));
+      when(attachmentInlineRepository.findContentById(any())).thenReturn(Optional.empty());
+
+      var result = subject.publishDocumentationUnit(testDocumentNumber);
+
+      verify(caseLawBucket).save(withPrefix(testDocumentNumber), transformed);
+      verify(caseLawBucket, never()).saveBytes(anyString(), any(byte[].class));
+      assertThat(result.changedPaths()).containsExactly(withPrefix(testDocumentNumber));
+    }
+
+    @Test
+    void publishDocumentationUnit_withFailingImageUpload_shouldThrowPublishException()
+        throws Exception {
+      when(documentationUnitRepository.loadDocumentationUnitDTO(testDocumentNumber))
+          .thenReturn(testDocumentUnitDTO);
+      when(portalTransformer.transformToLdml(any())).thenReturn(testLdml);
+      when(xmlUtilService.ldmlToString(any())).thenReturn(Optional.of("ldml"));
+      mockInlineImages(Map.of("bild1.png", new byte[] {1}));
+      doThrow(BucketException.class)
+          .when(caseLawBucket)
+          .saveBytes(eq(testDocumentNumber + "/bild1.png"), any(byte[].class));
+
+      assertThatExceptionOfType(PublishException.class)
+          .isThrownBy(() -> subject.publishDocumentationUnit(testDocumentNumber))
+          .withMessageContaining("Could not save LDML to bucket.");
+    }
+
+    @Test
+    void republishDocumentationUnit_shouldOnlySaveToBucket() throws Exception {
+      String transformed = "ldml";
+      when(documentationUnitRepository.loadDocumentationUnitDTO(testDocumentNumber))
+          .thenReturn(testDocumentUnitDTO);
+      when(portalTransformer.transformToLdml(any())).thenReturn(testLdml);
+      when(xmlUtilService.ldmlToString(any())).thenReturn(Optional.of(transformed));
+
+      var result = subject.republishDocumentationUnit(testDocumentNumber);
+
+      verify(caseLawBucket).save(withPrefix(testDocumentNumber), transformed);
+      verify(caselawCitationSyncService, never()).syncCitations(any());
+      verify(documentationUnitRepository, never()).updatePortalPublicationStatus(any(), any());
+      verify(caseLawBucket, never()).save(contains("changelogs/"), anyString());
+      assertThat(result.changedPaths()).containsExactly(withPrefix(testDocumentNumber));
+    }
+
     @Test
     void
         publishDocumentationUnit_withDocumentNumberDoesNotExist_shouldThrowDocumentationUnitNotExistsException()
@@ -505,8 +682,8 @@ class PortalPublicationServiceTest {
             .thenReturn(testDocumentUnitDTO);
         when(portalTransformer.transformToLdml(any())).thenReturn(testLdml);
         when(xmlUtilService.ldmlToString(testLdml)).thenReturn(Optional.of("<akn:akomaNtoso />"));
-        when(caseLawBucket.getAllFilenamesByPath(testDocumentUnit.documentNumber() + "/"))
-            .thenReturn(new ArrayList<>(), List.of(withPrefix(testDocumentNumber)));
+        when(caseLawBucket.getAllFilenamesByPath(testDocumentNumber + "/"))
+            .thenReturn(List.of(withPrefix(testDocumentNumber)));
 
         when(objectMapper.writeValueAsString(any())).thenThrow(JacksonException.class);
 
@@ -528,7 +705,7 @@ class PortalPublicationServiceTest {
         when(portalTransformer.transformToLdml(any())).thenReturn(testLdml);
         when(xmlUtilService.ldmlToString(testLdml)).thenReturn(Optional.of("<akn:akomaNtoso />"));
         when(caseLawBucket.getAllFilenamesByPath(testDocumentNumber + "/"))
-            .thenReturn(new ArrayList<>(), List.of(withPrefix(testDocumentNumber)));
+            .thenReturn(List.of(withPrefix(testDocumentNumber)));
 
         doThrow(BucketException.class)
             .when(caseLawBucket)
@@ -1145,67 +1322,32 @@ class PortalPublicationServiceTest {
     }
   }
 
-  @Test
-  void testPublishSnapshots_withoutSnapshotInDatabase_saveNewSnapshot()
-      throws DocumentationUnitNotExistsException {
-    List<UUID> documentationUnitIds = List.of(testDocumentUnitDTO.getId());
-
-    when(documentationUnitRepository.findAllByCurrentStatus(PublicationStatus.PUBLISHED, 0, 10))
-        .thenReturn(documentationUnitIds);
-    when(documentationUnitRepository.loadDocumentationUnitDTO(testDocumentUnitDTO.getId()))
-        .thenReturn(testDocumentUnitDTO);
-    when(snapshotRepository.findByDocumentationUnitId(testDocumentUnitDTO.getId()))
-        .thenReturn(Optional.empty());
-
-    subject.publishSnapshots(0, 10);
-
-    verify(snapshotRepository, times(1)).save(snapshotCaptor.capture());
-    assertThat(snapshotCaptor.getValue())
-        .extracting("documentationUnitId", "json")
-        .containsExactly(testDocumentUnitDTO.getId(), testDocumentUnit);
+  private String withPrefix(String documentNumber) {
+    return documentNumber + "/" + documentNumber + ".xml";
   }
 
-  @Test
-  void testPublishSnapshots_withPendingProceeding_shouldNotSave()
-      throws DocumentationUnitNotExistsException {
-    UUID pendingProceedingUuid = UUID.randomUUID();
-    List<UUID> documentationUnits = List.of(pendingProceedingUuid);
-
-    when(documentationUnitRepository.findAllByCurrentStatus(PublicationStatus.PUBLISHED, 0, 10))
-        .thenReturn(documentationUnits);
-    when(documentationUnitRepository.findByUuid(pendingProceedingUuid))
-        .thenReturn(PendingProceeding.builder().uuid(pendingProceedingUuid).build());
-
-    subject.publishSnapshots(0, 10);
-
-    verify(snapshotRepository, never()).save(any(PublishedDocumentationSnapshotEntity.class));
+  private void mockInlineImages(Map<String, byte[]> images) throws NoSuchAlgorithmException {
+    List<Object[]> rows = new ArrayList<>();
+    for (Map.Entry<String, byte[]> image : images.entrySet()) {
+      UUID id = UUID.randomUUID();
+      rows.add(new Object[] {id, image.getKey(), md5(image.getValue())});
+      when(attachmentInlineRepository.findContentById(id))
+          .thenReturn(Optional.of(image.getValue()));
+    }
+    when(attachmentInlineRepository.findAllMetadataByDocumentationUnitId(testDocumentUnit.uuid()))
+        .thenReturn(rows);
   }
 
-  @Test
-  void testPublishSnapshots_withExistingSnapshot_overwriteTheOldSnapshot()
-      throws DocumentationUnitNotExistsException {
-    List<UUID> documentationUnits = List.of(testDocumentUnit.uuid());
-    PublishedDocumentationSnapshotEntity existingSnapshot =
-        PublishedDocumentationSnapshotEntity.builder()
-            .documentationUnitId(testDocumentUnit.uuid())
-            .build();
-
-    when(documentationUnitRepository.findAllByCurrentStatus(PublicationStatus.PUBLISHED, 0, 10))
-        .thenReturn(documentationUnits);
-    when(documentationUnitRepository.loadDocumentationUnitDTO(testDocumentUnit.uuid()))
-        .thenReturn(testDocumentUnitDTO);
-    when(snapshotRepository.findByDocumentationUnitId(testDocumentUnit.uuid()))
-        .thenReturn(Optional.of(existingSnapshot));
-
-    subject.publishSnapshots(0, 10);
+  private S3Object storedFile(byte[] content) throws NoSuchAlgorithmException {
+    return storedFile(content, Instant.EPOCH);
+  }
 
-    verify(snapshotRepository, times(1)).save(snapshotCaptor.capture());
-    assertThat(snapshotCaptor.getValue())
-        .extracting("documentationUnitId", "json")
-        .containsExactly(testDocumentUnit.uuid(), testDocumentUnit);
+  private S3Object storedFile(byte[] content, Instant lastModified)
+      throws NoSuchAlgorithmException {
+    return S3Object.builder().eTag("\"" + md5(content) + "\"").lastModified(lastModified).build();
   }
 
-  private String withPrefix(String documentNumber) {
-    return documentNumber + "/" + documentNumber + ".xml";
+  private String md5(byte[] content) throws NoSuchAlgorithmException {
+    return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content));
   }
 }
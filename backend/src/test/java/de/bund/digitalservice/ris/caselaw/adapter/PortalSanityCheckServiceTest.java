@@ -8,12 +8,16 @@ import static org.mockito.Mockito.when;
 
 import ch.qos.logback.classic.Level;
 import de.bund.digitalservice.ris.caselaw.TestMemoryAppender;
+import de.bund.digitalservice.ris.caselaw.adapter.publication.DocumentNumberDiff;
 import de.bund.digitalservice.ris.caselaw.adapter.publication.PortalBucket;
 import de.bund.digitalservice.ris.caselaw.adapter.publication.PortalPublicationService;
+import de.bund.digitalservice.ris.caselaw.adapter.publication.PortalSanityCheckReport;
 import de.bund.digitalservice.ris.caselaw.adapter.publication.PortalSanityCheckService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
-import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,20 +35,28 @@ class PortalSanityCheckServiceTest {
   @MockitoBean private PortalPublicationService portalPublicationService;
   @MockitoBean private Environment env;
 
+  private SimpleMeterRegistry meterRegistry;
   private PortalSanityCheckService subject;
 
   @BeforeEach
   void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
     subject =
         new PortalSanityCheckService(
-            portalPublicationService, riiService, documentationUnitRepository, portalBucket, env);
+            portalPublicationService,
+            riiService,
+            documentationUnitRepository,
+            portalBucket,
+            env,
+            meterRegistry);
   }
 
   @Test
   void testphaseSanityCheck_shouldDeleteDocumentNumbersInPortalButNotInRii() {
     when(env.matchesProfiles("production")).thenReturn(true);
     when(riiService.fetchRiiDocumentNumbers()).thenReturn(List.of("123", "456"));
-    when(portalBucket.getAllFilenames()).thenReturn(List.of("123.xml", "456.xml", "789.xml"));
+    when(portalBucket.streamAllFilenames())
+        .thenAnswer(invocation -> Stream.of("123.xml", "456.xml", "789.xml"));
 
     subject.logPortalPublicationSanityCheck();
 
@@ -55,7 +67,8 @@ class PortalSanityCheckServiceTest {
   void testphaseSanityCheck_shouldNotRunOnOtherEnvs() {
     when(env.matchesProfiles("production")).thenReturn(false);
     when(riiService.fetchRiiDocumentNumbers()).thenReturn(List.of("123", "456"));
-    when(portalBucket.getAllFilenames()).thenReturn(List.of("123.xml", "456.xml", "789.xml"));
+    when(portalBucket.streamAllFilenames())
+        .thenAnswer(invocation -> Stream.of("123.xml", "456.xml", "789.xml"));
 
     subject.logPortalPublicationSanityCheck();
 
@@ -65,9 +78,10 @@ class PortalSanityCheckServiceTest {
   @Test
   void sanityCheck_shouldFindDocumentsNotInDatabase() {
     when(env.matchesProfiles("production")).thenReturn(false);
-    when(documentationUnitRepository.findAllPublishedDocumentNumbers())
-        .thenReturn(Set.of("123", "456"));
-    when(portalBucket.getAllFilenames()).thenReturn(List.of("123.xml", "456.xml", "789.xml"));
+    when(documentationUnitRepository.findPublishedDocumentNumbersAfter("", 1000))
+        .thenReturn(List.of("123", "456"));
+    when(portalBucket.streamAllFilenames())
+        .thenAnswer(invocation -> Stream.of("123.xml", "456.xml", "789.xml"));
 
     TestMemoryAppender memoryAppender = new TestMemoryAppender(PortalSanityCheckService.class);
 
@@ -80,10 +94,10 @@ class PortalSanityCheckServiceTest {
     List<KeyValuePair> infoKVPairs = memoryAppender.getKeyValuePairs(Level.INFO, 0);
     assertThat(infoKVPairs)
         .containsExactlyInAnyOrder(
-            new KeyValuePair("inDatabaseNotInBucket", 0),
-            new KeyValuePair("inBucketNotInDatabase", 1),
-            new KeyValuePair("inDatabase", 2),
-            new KeyValuePair("inBucket", 3));
+            new KeyValuePair("inDatabaseNotInBucket", 0L),
+            new KeyValuePair("inBucketNotInDatabase", 1L),
+            new KeyValuePair("inDatabase", 2L),
+            new KeyValuePair("inBucket", 3L));
 
     assertThat(memoryAppender.count(Level.ERROR)).isEqualTo(1L);
     assertThat(memoryAppender.getMessage(Level.ERROR, 0))
@@ -96,9 +110,10 @@ class PortalSanityCheckServiceTest {
   @Test
   void sanityCheck_shouldFindDocumentsNotInBucket() {
     when(env.matchesProfiles("production")).thenReturn(false);
-    when(documentationUnitRepository.findAllPublishedDocumentNumbers())
-        .thenReturn(Set.of("123", "456", "789"));
-    when(portalBucket.getAllFilenames()).thenReturn(List.of("123.xml", "456.xml"));
+    when(documentationUnitRepository.findPublishedDocumentNumbersAfter("", 1000))
+        .thenReturn(List.of("123", "456", "789"));
+    when(portalBucket.streamAllFilenames())
+        .thenAnswer(invocation -> Stream.of("123.xml", "456.xml"));
 
     TestMemoryAppender memoryAppender = new TestMemoryAppender(PortalSanityCheckService.class);
 
@@ -111,10 +126,10 @@ class PortalSanityCheckServiceTest {
     List<KeyValuePair> infoKVPairs = memoryAppender.getKeyValuePairs(Level.INFO, 0);
     assertThat(infoKVPairs)
         .containsExactlyInAnyOrder(
-            new KeyValuePair("inDatabaseNotInBucket", 1),
-            new KeyValuePair("inBucketNotInDatabase", 0),
-            new KeyValuePair("inDatabase", 3),
-            new KeyValuePair("inBucket", 2));
+            new KeyValuePair("inDatabaseNotInBucket", 1L),
+            new KeyValuePair("inBucketNotInDatabase", 0L),
+            new KeyValuePair("inDatabase", 3L),
+            new KeyValuePair("inBucket", 2L));
 
     assertThat(memoryAppender.count(Level.ERROR)).isEqualTo(1L);
     assertThat(memoryAppender.getMessage(Level.ERROR, 0))
@@ -127,9 +142,10 @@ class PortalSanityCheckServiceTest {
   @Test
   void sanityCheck_shouldLogBothErrorsWhenBothMismatch() {
     when(env.matchesProfiles("production")).thenReturn(false);
-    when(documentationUnitRepository.findAllPublishedDocumentNumbers())
-        .thenReturn(Set.of("123", "789"));
-    when(portalBucket.getAllFilenames()).thenReturn(List.of("123.xml", "456.xml"));
+    when(documentationUnitRepository.findPublishedDocumentNumbersAfter("", 1000))
+        .thenReturn(List.of("123", "789"));
+    when(portalBucket.streamAllFilenames())
+        .thenAnswer(invocation -> Stream.of("123.xml", "456.xml"));
 
     TestMemoryAppender memoryAppender = new TestMemoryAppender(PortalSanityCheckService.class);
 
@@ -141,9 +157,10 @@ class PortalSanityCheckServiceTest {
   @Test
   void sanityCheck_shouldOnlyLogInfoWhenDatabaseAndBucketIsTheSame() {
     when(env.matchesProfiles("production")).thenReturn(false);
-    when(documentationUnitRepository.findAllPublishedDocumentNumbers())
-        .thenReturn(Set.of("123", "456", "789"));
-    when(portalBucket.getAllFilenames()).thenReturn(List.of("123.xml", "456.xml", "789.xml"));
+    when(documentationUnitRepository.findPublishedDocumentNumbersAfter("", 1000))
+        .thenReturn(List.of("123", "456", "789"));
+    when(portalBucket.streamAllFilenames())
+        .thenAnswer(invocation -> Stream.of("123.xml", "456.xml", "789.xml"));
 
     TestMemoryAppender memoryAppender = new TestMemoryAppender(PortalSanityCheckService.class);
 
@@ -156,11 +173,75 @@ class PortalSanityCheckServiceTest {
     List<KeyValuePair> infoKVPairs = memoryAppender.getKeyValuePairs(Level.INFO, 0);
     assertThat(infoKVPairs)
         .containsExactlyInAnyOrder(
-            new KeyValuePair("inDatabaseNotInBucket", 0),
-            new KeyValuePair("inBucketNotInDatabase", 0),
-            new KeyValuePair("inDatabase", 3),
-            new KeyValuePair("inBucket", 3));
+            new KeyValuePair("inDatabaseNotInBucket", 0L),
+            new KeyValuePair("inBucketNotInDatabase", 0L),
+            new KeyValuePair("inDatabase", 3L),
+            new KeyValuePair("inBucket", 3L));
 
     assertThat(memoryAppender.count(Level.ERROR)).isZero();
   }
+
+  @Test
+  void sanityCheck_shouldReadDatabaseInPages() {
+    when(env.matchesProfiles("production")).thenReturn(false);
+    List<String> firstPage =
+        IntStream.range(0, 1000).mapToObj(i -> String.format("DOC%04d", i)).toList();
+    when(documentationUnitRepository.findPublishedDocumentNumbersAfter("", 1000))
+        .thenReturn(firstPage);
+    when(documentationUnitRepository.findPublishedDocumentNumbersAfter("DOC0999", 1000))
+        .thenReturn(List.of("DOC1000"));
+    when(portalBucket.streamAllFilenames())
+        .thenAnswer(
+            invocation ->
+                Stream.concat(
+                    firstPage.stream().map(documentNumber -> documentNumber + ".xml"),
+                    Stream.of("DOC1000/DOC1000.xml", "DOC1000/bild.png")));
+
+    subject.logPortalPublicationSanityCheck();
+
+    assertThat(subject.getLastReport())
+        .get()
+        .extracting(PortalSanityCheckReport::publicationStatus)
+        .isEqualTo(new DocumentNumberDiff(1001, 1001, 0, 0, List.of(), List.of()));
+  }
+
+  @Test
+  void sanityCheck_shouldPublishDifferencesAsMetricsAndReport() {
+    when(env.matchesProfiles("production")).thenReturn(true);
+    when(documentationUnitRepository.findPublishedDocumentNumbersAfter("", 1000))
+        .thenReturn(List.of("123", "789"));
+    when(documentationUnitRepository.findDocumentNumbersByMatchingPublishCriteriaAfter("", 1000))
+        .thenReturn(List.of("123", "456", "789"));
+    when(riiService.fetchRiiDocumentNumbers()).thenReturn(List.of("456", "123"));
+    when(portalBucket.streamAllFilenames())
+        .thenAnswer(invocation -> Stream.of("123/123.xml", "456/456.xml"));
+
+    assertThat(subject.getLastReport()).isEmpty();
+
+    subject.logPortalPublicationSanityCheck();
+
+    assertThat(missingGauge("publication_status", "bucket")).isEqualTo(1.0);
+    assertThat(missingGauge("publication_status", "database")).isEqualTo(1.0);
+    assertThat(missingGauge("publish_criteria", "bucket")).isEqualTo(1.0);
+    assertThat(missingGauge("publish_criteria", "database")).isZero();
+    assertThat(missingGauge("rii", "portal")).isZero();
+    assertThat(missingGauge("rii", "rii")).isZero();
+
+    PortalSanityCheckReport report = subject.getLastReport().orElseThrow();
+    assertThat(report.publicationStatus())
+        .isEqualTo(new DocumentNumberDiff(2, 2, 1, 1, List.of("789"), List.of("456")));
+    assertThat(report.publishCriteria())
+        .isEqualTo(new DocumentNumberDiff(3, 2, 1, 0, List.of("789"), List.of()));
+    assertThat(report.rechtsprechungImInternet())
+        .isEqualTo(new DocumentNumberDiff(2, 2, 0, 0, List.of(), List.of()));
+  }
+
+  private double missingGauge(String check, String missingIn) {
+    return meterRegistry
+        .get("portal.sanity.check.missing")
+        .tag("check", check)
+        .tag("missing_in", missingIn)
+        .gauge()
+        .value();
+  }
 }
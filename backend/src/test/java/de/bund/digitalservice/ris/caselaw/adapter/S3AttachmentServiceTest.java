@@ -26,14 +26,21 @@ import de.bund.digitalservice.ris.caselaw.domain.AttachmentType;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitHistoryLogService;
 import de.bund.digitalservice.ris.caselaw.domain.HistoryLogEventType;
 import de.bund.digitalservice.ris.caselaw.domain.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -46,7 +53,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -61,8 +71,10 @@ import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
@@ -73,10 +85,24 @@ import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
-@TestPropertySource(properties = "otc.obs.bucket-name=testBucket")
+@TestPropertySource(
+    properties = {"otc.obs.bucket-name=testBucket", "neuris.attachment-upload.part-concurrency=2"})
 @ExtendWith(SpringExtension.class)
-@Import({S3AttachmentService.class})
+@Import({S3AttachmentService.class, S3AttachmentServiceTest.UploadConfig.class})
 class S3AttachmentServiceTest {
+  @TestConfiguration
+  static class UploadConfig {
+    @Bean(name = "attachmentUploadExecutor", destroyMethod = "close")
+    ExecutorService attachmentUploadExecutor() {
+      return Executors.newFixedThreadPool(2);
+    }
+
+    @Bean
+    MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+  }
+
   @MockitoSpyBean S3AttachmentService service;
 
   @MockitoBean AttachmentRepository repository;
@@ -89,6 +115,8 @@ class S3AttachmentServiceTest {
 
   @MockitoBean DatabaseDocumentationUnitRepository documentationUnitRepository;
 
+  @Autowired MeterRegistry meterRegistry;
+
   private DocumentationUnitDTO documentationUnitDTO;
 
   @BeforeEach
@@ -140,6 +168,35 @@ class S3AttachmentServiceTest {
 
       assertThrows(ResponseStatusException.class, () -> service.checkDocx(byteBuffer));
     }
+
+    @Test
+    void testCheckDocx_withDocumentAfterOtherEntries_shouldNotChangeBufferPosition() {
+      ByteBuffer byteBuffer =
+          buildBuffer("[Content_Types].xml", "word/styles.xml", "word/document2.xml");
+      byteBuffer.position(10);
+
+      assertDoesNotThrow(() -> service.checkDocx(byteBuffer));
+      assertEquals(10, byteBuffer.position());
+    }
+
+    @Test
+    void testCheckDocx_withTruncatedArchive() {
+      ByteBuffer complete = buildBuffer("word/document.xml");
+      ByteBuffer byteBuffer = complete.slice(0, complete.limit() - 10);
+
+      assertThrows(ResponseStatusException.class, () -> service.checkDocx(byteBuffer));
+    }
+
+    @Test
+    void testCheckDocx_withTooLargeUncompressedSize() {
+      ByteBuffer byteBuffer = buildBuffer("word/document.xml");
+      // set the uncompressed size of the entry in the central directory to 2 GB
+      int centralDirectoryOffset =
+          byteBuffer.order(ByteOrder.LITTLE_ENDIAN).getInt(byteBuffer.limit() - 6);
+      byteBuffer.putInt(centralDirectoryOffset + 24, Integer.MIN_VALUE);
+
+      assertThrows(ResponseStatusException.class, () -> service.checkDocx(byteBuffer));
+    }
   }
 
   @Test
@@ -316,7 +373,11 @@ class S3AttachmentServiceTest {
     var requestBodyCaptor = ArgumentCaptor.forClass(RequestBody.class);
     verify(s3Client, times(2))
         .uploadPart(uploadPartRequestCaptor.capture(), requestBodyCaptor.capture());
-    List<UploadPartRequest> capturedUploadRequests = uploadPartRequestCaptor.getAllValues();
+    // the parts are uploaded in parallel, so the order of the calls is not defined
+    List<UploadPartRequest> capturedUploadRequests =
+        uploadPartRequestCaptor.getAllValues().stream()
+            .sorted(Comparator.comparing(UploadPartRequest::partNumber))
+            .toList();
     List<RequestBody> capturedRequestBodies = requestBodyCaptor.getAllValues();
     assertEquals(2, capturedUploadRequests.size());
     assertEquals(2, capturedRequestBodies.size());
@@ -328,6 +389,48 @@ class S3AttachmentServiceTest {
     assertEquals("upload-123", second.uploadId());
     assertEquals(5L * 1024 * 1024, first.contentLength().longValue());
     assertEquals((6L * 1024 * 1024) - (5L * 1024 * 1024), second.contentLength().longValue());
+    var completeRequestCaptor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+    verify(s3Client).completeMultipartUpload(completeRequestCaptor.capture());
+    assertThat(completeRequestCaptor.getValue().multipartUpload().parts())
+        .extracting(CompletedPart::partNumber)
+        .containsExactly(1, 2);
+    assertThat(meterRegistry.get("attachment.upload.throughput").summary().count()).isPositive();
+  }
+
+  @Test
+  void testStreamUploadToS3_withManyParts_shouldLimitPartsInFlight() throws Exception {
+    // given
+    byte[] data = new byte[(5 * 5 + 1) * 1024 * 1024];
+    var in = new ByteArrayInputStream(data);
+    var user = User.builder().build();
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+
+    when(s3Client.createMultipartUpload(any(Consumer.class)))
+        .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-123").build());
+    when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+        .thenAnswer(
+            invocation -> {
+              maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+              Thread.sleep(20);
+              inFlight.decrementAndGet();
+              return UploadPartResponse.builder().eTag("etag").build();
+            });
+    when(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+        .thenReturn(CompleteMultipartUploadResponse.builder().build());
+
+    // when
+    service.streamFileToDocumentationUnit(
+        documentationUnitDTO.getId(), in, "test.zip", user, AttachmentType.OTHER);
+
+    // then
+    verify(s3Client, times(6)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+    assertThat(maxInFlight.get()).isBetween(1, 2);
+    var completeRequestCaptor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+    verify(s3Client).completeMultipartUpload(completeRequestCaptor.capture());
+    assertThat(completeRequestCaptor.getValue().multipartUpload().parts())
+        .extracting(CompletedPart::partNumber)
+        .containsExactly(1, 2, 3, 4, 5, 6);
   }
 
   @Test
@@ -368,6 +471,8 @@ class S3AttachmentServiceTest {
     Assertions.assertNotNull(exception.getReason());
     Assertions.assertTrue(exception.getReason().contains("Failed to upload file"));
     verify(repository).delete(any(AttachmentDTO.class));
+    verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
   }
 
   @Test
@@ -445,12 +550,15 @@ class S3AttachmentServiceTest {
     assertEquals(new String(data), streamOutput.toString());
   }
 
-  private ByteBuffer buildBuffer(String entry) {
+  private ByteBuffer buildBuffer(String... entries) {
     try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
         ZipOutputStream zipOutputStream = new ZipOutputStream(byteArrayOutputStream)) {
-      ZipEntry zipEntry = new ZipEntry(entry);
-      zipOutputStream.putNextEntry(zipEntry);
-      zipOutputStream.closeEntry();
+      for (String entry : entries) {
+        ZipEntry zipEntry = new ZipEntry(entry);
+        zipOutputStream.putNextEntry(zipEntry);
+        zipOutputStream.write("<xml/>".getBytes());
+        zipOutputStream.closeEntry();
+      }
       zipOutputStream.finish();
 
       byte[] zipBytes = byteArrayOutputStream.toByteArray();
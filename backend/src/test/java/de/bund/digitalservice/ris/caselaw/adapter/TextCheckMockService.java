@@ -5,6 +5,7 @@ import de.bund.digitalservice.ris.caselaw.domain.TextCheckService;
 import de.bund.digitalservice.ris.caselaw.domain.textcheck.Match;
 import de.bund.digitalservice.ris.caselaw.domain.textcheck.Rule;
 import de.bund.digitalservice.ris.caselaw.domain.textcheck.ignored_words.IgnoredTextCheckWordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -12,8 +13,9 @@ public class TextCheckMockService extends TextCheckService {
 
   public TextCheckMockService(
       DocumentationUnitRepository documentationUnitRepository,
-      IgnoredTextCheckWordRepository ignoredTextCheckWordRepository) {
-    super(documentationUnitRepository, ignoredTextCheckWordRepository);
+      IgnoredTextCheckWordRepository ignoredTextCheckWordRepository,
+      MeterRegistry meterRegistry) {
+    super(documentationUnitRepository, ignoredTextCheckWordRepository, meterRegistry);
   }
 
   @Override
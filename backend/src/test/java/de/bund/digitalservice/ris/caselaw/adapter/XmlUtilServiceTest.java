@@ -0,0 +1,58 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.sf.saxon.TransformerFactoryImpl;
+import org.junit.jupiter.api.Test;
+
+class XmlUtilServiceTest {
+
+  @Test
+  void testGetTemplates_shouldReturnTheSameCompiledStylesheet() {
+    var meterRegistry = new SimpleMeterRegistry();
+    var xmlUtilService = new XmlUtilService(new TransformerFactoryImpl(), meterRegistry);
+
+    var templates = xmlUtilService.getTemplates("xml/fmxToHtml.xslt");
+
+    assertThat(xmlUtilService.getTemplates("xml/fmxToHtml.xslt")).isSameAs(templates);
+    assertThat(
+            meterRegistry
+                .get("xml.xslt.compile")
+                .tag("stylesheet", "xml/fmxToHtml.xslt")
+                .timer()
+                .count())
+        .isEqualTo(1);
+    // the stylesheet is compiled at startup, both lookups are hits
+    assertThat(
+            meterRegistry
+                .get("xml.xslt.templates")
+                .tags("stylesheet", "xml/fmxToHtml.xslt", "result", "miss")
+                .counter()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get("xml.xslt.templates")
+                .tags("stylesheet", "xml/fmxToHtml.xslt", "result", "hit")
+                .counter()
+                .count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void testXsltTransform_shouldTimeTheTransformation() {
+    var meterRegistry = new SimpleMeterRegistry();
+    var xmlUtilService = new XmlUtilService(new TransformerFactoryImpl(), meterRegistry);
+
+    XmlUtilService.xsltTransform(xmlUtilService.getTemplates("xml/fmxToHtml.xslt"), "<P>text</P>");
+
+    assertThat(
+            meterRegistry
+                .get("xml.xslt.transform")
+                .tag("stylesheet", "xml/fmxToHtml.xslt")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+}
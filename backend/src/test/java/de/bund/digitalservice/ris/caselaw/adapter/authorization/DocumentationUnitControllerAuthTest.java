@@ -27,6 +27,7 @@ import de.bund.digitalservice.ris.caselaw.domain.ConverterService;
 import de.bund.digitalservice.ris.caselaw.domain.CoreData;
 import de.bund.digitalservice.ris.caselaw.domain.Decision;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitAccessInfo;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitDocxMetadataInitializationService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitHistoryLogService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitService;
@@ -125,7 +126,7 @@ class DocumentationUnitControllerAuthTest {
       throws DocumentationUnitNotExistsException {
 
     // testGetByDocumentNumber() is also in DocumentationUnitControllerAuthIntegrationTest
-    when(service.getByDocumentNumber(any(String.class))).thenReturn(null);
+    when(service.getAccessInfoByDocumentNumber(any(String.class))).thenReturn(null);
 
     risWebTestClient
         .withLogin(docOffice1Group)
@@ -263,7 +264,7 @@ class DocumentationUnitControllerAuthTest {
         .isOk();
 
     UUID nonExistentUuid = UUID.fromString("12345678-1111-2222-3333-787878787878");
-    when(service.getByUuid(nonExistentUuid)).thenReturn(null);
+    when(service.getAccessInfoByUuid(nonExistentUuid)).thenReturn(null);
     uri = "/api/v1/caselaw/documentunits/" + nonExistentUuid;
 
     risWebTestClient
@@ -385,6 +386,13 @@ class DocumentationUnitControllerAuthTest {
             .coreData(CoreData.builder().documentationOffice(docOffice).build())
             .build();
     when(service.getByUuid(TEST_UUID)).thenReturn(docUnit);
+    when(service.getAccessInfoByUuid(TEST_UUID))
+        .thenReturn(
+            DocumentationUnitAccessInfo.builder()
+                .id(TEST_UUID)
+                .documentationOffice(docOffice)
+                .publicationStatus(docUnit.status().publicationStatus())
+                .build());
     return docUnit;
   }
 
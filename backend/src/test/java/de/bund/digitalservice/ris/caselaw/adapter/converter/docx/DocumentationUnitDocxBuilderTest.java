@@ -780,6 +780,38 @@ class DocumentationUnitDocxBuilderTest {
     assertEquals("<p><img src=\"data:content-extension;base64, AQI=\" /></p>", htmlString);
   }
 
+  @Test
+  void testBuild_withInlineImage_withImageUrlPrefix_shouldReferenceImageByUrl() {
+    DocumentationUnitDocxBuilder builder = DocumentationUnitDocxBuilder.newInstance();
+    P paragraph = new P();
+    R run = new R();
+    Drawing drawing = new Drawing();
+    drawing.getAnchorOrInline().add(generateInline(null, null, null));
+    JAXBElement<Drawing> element = new JAXBElement<>(new QName("drawing"), Drawing.class, drawing);
+    run.getContent().add(element);
+    paragraph.getContent().add(run);
+
+    HashMap<String, DocxImagePart> images = new HashMap<>();
+    DocxImagePart image = new DocxImagePart("content-extension", new byte[] {1, 2});
+    images.put("image-ref", image);
+
+    var converter = new DocxConverter();
+    converter.setImages(images);
+    converter.setImageUrlPrefix("/prefix/");
+    var result = builder.setParagraph(paragraph).setConverter(converter).build(new ArrayList<>());
+
+    String imageId = "a12871fee210fb8619291eaea194581cbd2531e4b23759d225f6806923f63222";
+    assertInstanceOf(ParagraphElement.class, result);
+    ParagraphElement paragraphElement = (ParagraphElement) result;
+    var runImageElement = (InlineImageElement) paragraphElement.getRunElements().get(0);
+    assertEquals("/prefix/" + imageId, runImageElement.getUrl());
+    assertNull(runImageElement.getBase64Representation());
+    assertEquals(Map.of(imageId, image), converter.getReferencedImages());
+
+    var htmlString = paragraphElement.toHtmlString();
+    assertEquals("<p><img src=\"/prefix/" + imageId + "\" /></p>", htmlString);
+  }
+
   @Test
   void testBuild_withInlineImage_withAlternateText() {
     DocumentationUnitDocxBuilder builder = DocumentationUnitDocxBuilder.newInstance();
@@ -0,0 +1,139 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.FieldOfLaw;
+import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.Norm;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FieldOfLawTreeTest {
+  private FieldOfLawDTO root;
+  private FieldOfLawDTO child;
+  private FieldOfLawDTO grandChild;
+  private FieldOfLawDTO otherRoot;
+  private FieldOfLawDTO oldNotation;
+  private FieldOfLawTree tree;
+
+  @BeforeEach
+  void setUp() {
+    root = buildFieldOfLaw("AB", "Arbeitsrecht", null, Notation.NEW);
+    child = buildFieldOfLaw("AB-01", "Kündigung und Kündigungsschutz", root, Notation.NEW);
+    grandChild = buildFieldOfLaw("AB-01-01", "Fristlose Kündigung", child, Notation.NEW);
+    otherRoot = buildFieldOfLaw("PR", "Privatrecht", null, Notation.NEW);
+    oldNotation = buildFieldOfLaw("AB-02", "Kündigung alt", root, Notation.OLD);
+
+    List<FieldOfLawNormDTO> norms =
+        List.of(
+            buildNorm(grandChild, "BGB", "§ 626"),
+            buildNorm(child, "KSchG", "§ 1"),
+            buildNorm(otherRoot, "ZPO", null));
+
+    tree =
+        FieldOfLawTree.build(
+            List.of(otherRoot, grandChild, root, oldNotation, child),
+            norms,
+            List.of(new FieldOfLawTree.TextReference(grandChild.getId(), "PR")));
+  }
+
+  @Test
+  void testGetTopLevelNodes_shouldReturnNodesWithoutParentOrderedByIdentifier() {
+    assertThat(tree.getTopLevelNodes())
+        .extracting(FieldOfLaw::identifier)
+        .containsExactly("AB", "PR");
+    assertThat(tree.getTopLevelNodes().getFirst().hasChildren()).isTrue();
+    assertThat(tree.getTopLevelNodes().get(1).hasChildren()).isFalse();
+  }
+
+  @Test
+  void testGetChildren_shouldReturnChildrenWithNorms() {
+    List<FieldOfLaw> children = tree.getChildren("AB");
+
+    assertThat(children).extracting(FieldOfLaw::identifier).containsExactly("AB-01", "AB-02");
+    assertThat(children.getFirst().norms()).containsExactly(new Norm("KSchG", "§ 1"));
+    assertThat(children.getFirst().children()).isEmpty();
+    assertThat(children.getFirst().parent().identifier()).isEqualTo("AB");
+    assertThat(children.getFirst().parent().norms()).isNull();
+  }
+
+  @Test
+  void testGetChildren_withUnknownIdentifier_shouldReturnEmptyList() {
+    assertThat(tree.getChildren("XY")).isEmpty();
+  }
+
+  @Test
+  void testGetPath_shouldReturnPathFromTopLevelNode() {
+    FieldOfLaw path = tree.getPath("AB-01-01");
+
+    assertThat(path.identifier()).isEqualTo("AB");
+    assertThat(path.children()).extracting(FieldOfLaw::identifier).containsExactly("AB-01");
+    FieldOfLaw leaf = path.children().getFirst().children().getFirst();
+    assertThat(leaf.identifier()).isEqualTo("AB-01-01");
+    assertThat(leaf.linkedFields()).containsExactly("PR");
+    assertThat(leaf.norms()).containsExactly(new Norm("BGB", "§ 626"));
+    assertThat(leaf.parent().parent().identifier()).isEqualTo("AB");
+  }
+
+  @Test
+  void testGetPath_withUnknownIdentifier_shouldReturnNull() {
+    assertThat(tree.getPath("XY")).isNull();
+  }
+
+  @Test
+  void testFindByIdentifierPrefix_shouldIgnoreOldNotation() {
+    assertThat(tree.findByIdentifierPrefix("AB"))
+        .extracting(FieldOfLaw::identifier)
+        .containsExactly("AB", "AB-01", "AB-01-01");
+    assertThat(tree.findByIdentifierPrefix("AB-01-"))
+        .extracting(FieldOfLaw::identifier)
+        .containsExactly("AB-01-01");
+    assertThat(tree.findByIdentifierPrefix("XY")).isEmpty();
+    assertThat(tree.findByIdentifierPrefix("")).hasSize(4);
+  }
+
+  @Test
+  void testFindByCombinedCriteria_withDescription_shouldMatchAllSearchTerms() {
+    assertThat(tree.findByCombinedCriteria(null, "kündigung", null))
+        .extracting(FieldOfLaw::identifier)
+        .containsExactly("AB-01", "AB-01-01");
+    assertThat(tree.findByCombinedCriteria(null, "kündigung FRIST", null))
+        .extracting(FieldOfLaw::identifier)
+        .containsExactly("AB-01-01");
+  }
+
+  @Test
+  void testFindByCombinedCriteria_withIdentifierAndNorm_shouldMatchAllCriteria() {
+    assertThat(tree.findByCombinedCriteria("ab", null, "bgb § 6"))
+        .extracting(FieldOfLaw::identifier)
+        .containsExactly("AB-01-01");
+    assertThat(tree.findByCombinedCriteria("ab-01-01", null, "KSchG")).isEmpty();
+  }
+
+  @Test
+  void testFindByCombinedCriteria_withNormWithoutDescription_shouldNotMatch() {
+    assertThat(tree.findByCombinedCriteria(null, null, "zpo")).isEmpty();
+  }
+
+  private static FieldOfLawDTO buildFieldOfLaw(
+      String identifier, String text, FieldOfLawDTO parent, Notation notation) {
+    return FieldOfLawDTO.builder()
+        .id(UUID.randomUUID())
+        .identifier(identifier)
+        .text(text)
+        .parent(parent)
+        .notation(notation)
+        .build();
+  }
+
+  private static FieldOfLawNormDTO buildNorm(
+      FieldOfLawDTO fieldOfLaw, String abbreviation, String singleNormDescription) {
+    return FieldOfLawNormDTO.builder()
+        .id(UUID.randomUUID())
+        .abbreviation(abbreviation)
+        .singleNormDescription(singleNormDescription)
+        .fieldOfLaw(fieldOfLaw)
+        .build();
+  }
+}
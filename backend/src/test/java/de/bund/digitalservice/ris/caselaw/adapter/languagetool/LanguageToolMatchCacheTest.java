@@ -0,0 +1,67 @@
+package de.bund.digitalservice.ris.caselaw.adapter.languagetool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LanguageToolMatchCacheTest {
+
+  private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+  @Test
+  void shouldReturnCachedMatches() {
+    LanguageToolMatchCache cache = new LanguageToolMatchCache(10, Duration.ofMinutes(5));
+    Match match = Match.builder().offset(3).length(4).build();
+
+    cache.put("key", List.of(match));
+
+    assertThat(cache.get("key")).containsExactly(match);
+    assertThat(cache.get("unknown")).isNull();
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntry() {
+    LanguageToolMatchCache cache = new LanguageToolMatchCache(2, Duration.ofMinutes(5));
+
+    cache.put("first", List.of());
+    cache.put("second", List.of());
+    cache.get("first");
+    cache.put("third", List.of());
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get("first")).isEmpty();
+    assertThat(cache.get("second")).isNull();
+    assertThat(cache.get("third")).isEmpty();
+  }
+
+  @Test
+  void shouldExpireEntriesAfterTtl() {
+    Clock clock = mock(Clock.class);
+    when(clock.instant()).thenReturn(NOW);
+    LanguageToolMatchCache cache = new LanguageToolMatchCache(10, Duration.ofMinutes(5), clock);
+
+    cache.put("key", List.of());
+
+    when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(4)));
+    assertThat(cache.get("key")).isEmpty();
+
+    when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(5)));
+    assertThat(cache.get("key")).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void shouldNotCacheWithoutSize() {
+    LanguageToolMatchCache cache = new LanguageToolMatchCache(0, Duration.ofMinutes(5));
+
+    cache.put("key", List.of());
+
+    assertThat(cache.get("key")).isNull();
+  }
+}
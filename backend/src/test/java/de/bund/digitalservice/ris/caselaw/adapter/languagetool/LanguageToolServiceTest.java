@@ -1,35 +1,64 @@
 package de.bund.digitalservice.ris.caselaw.adapter.languagetool;
 
-import static de.bund.digitalservice.ris.caselaw.adapter.languagetool.LanguageToolService.getAnnotationsArray;
+import static de.bund.digitalservice.ris.caselaw.adapter.languagetool.LanguageToolService.getParagraphAnnotations;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitRepository;
 import de.bund.digitalservice.ris.caselaw.domain.FeatureToggleService;
 import de.bund.digitalservice.ris.caselaw.domain.textcheck.ignored_words.IgnoredTextCheckWordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 @ExtendWith(SpringExtension.class)
-@Import({
-  LanguageToolService.class,
-})
+@Import({LanguageToolService.class, LanguageToolServiceTest.LanguageToolServiceTestConfig.class})
 class LanguageToolServiceTest {
 
+  @TestConfiguration
+  static class LanguageToolServiceTestConfig {
+    @Bean
+    LanguageToolMatchCache languageToolMatchCache() {
+      return new LanguageToolMatchCache(100, Duration.ofMinutes(5));
+    }
+
+    @Bean
+    Executor textCheckExecutor() {
+      return Runnable::run;
+    }
+
+    @Bean
+    MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+  }
+
   @MockitoSpyBean LanguageToolService languageToolService;
+  @Autowired LanguageToolMatchCache languageToolMatchCache;
 
   @MockitoBean LanguageToolClient languageToolClient;
   @MockitoBean LanguageToolConfig languageToolConfig;
@@ -37,6 +66,11 @@ class LanguageToolServiceTest {
   @MockitoBean IgnoredTextCheckWordRepository ignoredTextCheckWordRepository;
   @MockitoBean FeatureToggleService featureToggleService;
 
+  @BeforeEach
+  void setUp() {
+    languageToolMatchCache.clear();
+  }
+
   @Test
   void testRequestTool_withCategoriesWithAllowedRules() {
     when(languageToolConfig.getDisabledCategoriesWithWhitelistedRules())
@@ -75,6 +109,84 @@ class LanguageToolServiceTest {
     Assertions.assertEquals("DISABLED_CATEGORY_1", response.get(1).rule().category().id());
   }
 
+  @Test
+  void testRequestTool_shouldShiftOffsetsToParagraphPosition() {
+    when(languageToolConfig.isEnabled()).thenReturn(true);
+    // "<p>Erster Satz</p>" has a length of 18, "<p>Zweiter " of 11
+    when(languageToolClient.checkText(any()))
+        .thenReturn(
+            LanguageToolResponse.builder()
+                .matches(List.of(createMatch("RULE", "CATEGORY", 29, 7)))
+                .build());
+
+    var response = languageToolService.requestTool("<p>Erster Satz</p><p>Zweiter Fehlerr</p>");
+
+    Assertions.assertEquals(1, response.size());
+    Assertions.assertEquals(29, response.getFirst().offset());
+    Assertions.assertEquals(7, response.getFirst().length());
+    Assertions.assertEquals(2, languageToolMatchCache.size());
+  }
+
+  @Test
+  void testRequestTool_shouldOnlySendChangedParagraphs() {
+    when(languageToolConfig.isEnabled()).thenReturn(true);
+    when(languageToolClient.checkText(any()))
+        .thenReturn(
+            LanguageToolResponse.builder()
+                .matches(List.of(createMatch("RULE", "CATEGORY", 29, 7)))
+                .build())
+        .thenReturn(LanguageToolResponse.builder().matches(List.of()).build());
+
+    languageToolService.requestTool("<p>Erster Satz</p><p>Zweiter Fehlerr</p>");
+    var response = languageToolService.requestTool("<p>Erster Satz!</p><p>Zweiter Fehlerr</p>");
+
+    ArgumentCaptor<JsonObject> captor = ArgumentCaptor.forClass(JsonObject.class);
+    verify(languageToolClient, times(2)).checkText(captor.capture());
+    JsonArray secondRequest = captor.getAllValues().get(1).getAsJsonArray("annotation");
+    Assertions.assertEquals(3, secondRequest.size());
+    Assertions.assertEquals(
+        "Erster Satz!", secondRequest.get(1).getAsJsonObject().get("text").getAsString());
+
+    // the cached match of the second paragraph is moved by the added character
+    Assertions.assertEquals(1, response.size());
+    Assertions.assertEquals(30, response.getFirst().offset());
+  }
+
+  @Test
+  void testRequestTool_shouldNotCallLanguageToolForCachedText() {
+    when(languageToolConfig.isEnabled()).thenReturn(true);
+    when(languageToolClient.checkText(any()))
+        .thenReturn(LanguageToolResponse.builder().matches(List.of()).build());
+
+    languageToolService.requestTool("<p>Erster Satz</p><p>Zweiter Satz</p>");
+    var response = languageToolService.requestTool("<p>Erster Satz</p><p>Zweiter Satz</p>");
+
+    verify(languageToolClient, times(1)).checkText(any());
+    Assertions.assertTrue(response.isEmpty());
+  }
+
+  @Test
+  void testGetParagraphAnnotations() {
+    Document doc = Jsoup.parse("<body><p>Hello</p><span>World</span></body>");
+    List<JsonArray> result = getParagraphAnnotations(doc);
+
+    Assertions.assertEquals(2, result.size());
+    Assertions.assertEquals(3, result.get(0).size());
+    Assertions.assertEquals(
+        "Hello", result.get(0).get(1).getAsJsonObject().get("text").getAsString());
+    Assertions.assertEquals(3, result.get(1).size());
+    Assertions.assertEquals(
+        "World", result.get(1).get(1).getAsJsonObject().get("text").getAsString());
+  }
+
+  private static Match createMatch(String rule, String category, int offset, int length) {
+    return Match.builder()
+        .offset(offset)
+        .length(length)
+        .rule(Rule.builder().id(rule).category(Category.builder().id(category).build()).build())
+        .build();
+  }
+
   private static Match createMatch(String rule, String category) {
     return Match.builder()
         .rule(Rule.builder().id(rule).category(Category.builder().id(category).build()).build())
@@ -91,7 +203,7 @@ class LanguageToolServiceTest {
   void testSimpleText() {
     String html = "<body><div>Hello, world!</div></body>";
     Document doc = Jsoup.parse(html);
-    JsonArray result = getAnnotationsArray(doc);
+    JsonArray result = getAnnotations(doc);
 
     Assertions.assertEquals(3, result.size());
     Assertions.assertEquals("<div>", result.get(0).getAsJsonObject().get("markup").getAsString());
@@ -104,7 +216,7 @@ class LanguageToolServiceTest {
   void testParagraphAndBreak() {
     String html = "<body><p>Line 1<br>Line 2</p></body>";
     Document doc = Jsoup.parse(html);
-    JsonArray result = getAnnotationsArray(doc);
+    JsonArray result = getAnnotations(doc);
 
     Assertions.assertEquals(5, result.size());
     Assertions.assertEquals("<p>", result.get(0).getAsJsonObject().get("markup").getAsString());
@@ -161,7 +273,7 @@ class LanguageToolServiceTest {
   @MethodSource("getTableHtml")
   void testTableWithSelfClosingTags(String tableHtml) {
     Document doc = Jsoup.parse(tableHtml);
-    JsonArray result = getAnnotationsArray(doc);
+    JsonArray result = getAnnotations(doc);
 
     Assertions.assertEquals(20, result.size());
     Assertions.assertEquals("<table>", result.get(0).getAsJsonObject().get("markup").getAsString());
@@ -196,7 +308,7 @@ class LanguageToolServiceTest {
   void testAttributes() {
     String html = "<body><span class=\"test\" id=\"mySpan\">Test</span></body>";
     Document doc = Jsoup.parse(html);
-    JsonArray result = getAnnotationsArray(doc);
+    JsonArray result = getAnnotations(doc);
 
     Assertions.assertEquals(3, result.size());
     Assertions.assertEquals(
@@ -210,7 +322,7 @@ class LanguageToolServiceTest {
   void testEmptyContent() {
     String html = "<body><div>< ></div></body>";
     Document doc = Jsoup.parse(html);
-    JsonArray result = getAnnotationsArray(doc);
+    JsonArray result = getAnnotations(doc);
 
     Assertions.assertEquals(5, result.size());
     Assertions.assertEquals("<div>", result.get(0).getAsJsonObject().get("markup").getAsString());
@@ -223,7 +335,7 @@ class LanguageToolServiceTest {
   @Test
   void testEmpty() {
     Document doc = Jsoup.parse("");
-    JsonArray result = getAnnotationsArray(doc);
+    JsonArray result = getAnnotations(doc);
 
     Assertions.assertEquals(0, result.size());
   }
@@ -232,7 +344,7 @@ class LanguageToolServiceTest {
   void testEmptyText() {
     String html = "<body><p></p></body>";
     Document doc = Jsoup.parse(html);
-    JsonArray result = getAnnotationsArray(doc);
+    JsonArray result = getAnnotations(doc);
 
     Assertions.assertEquals(2, result.size());
     Assertions.assertEquals("<p>", result.get(0).getAsJsonObject().get("markup").getAsString());
@@ -243,7 +355,7 @@ class LanguageToolServiceTest {
   void testNonBreakingSpace() {
     String html = "<body><p>Test&nbsp;Space</p></body>";
     Document doc = Jsoup.parse(html);
-    JsonArray result = getAnnotationsArray(doc);
+    JsonArray result = getAnnotations(doc);
 
     Assertions.assertEquals(3, result.size());
     Assertions.assertEquals(
@@ -254,7 +366,7 @@ class LanguageToolServiceTest {
   void testMultipleElements() {
     String html = "<body><p>Hello</p><span>World</span></body>";
     Document doc = Jsoup.parse(html);
-    JsonArray result = getAnnotationsArray(doc);
+    JsonArray result = getAnnotations(doc);
 
     Assertions.assertEquals(6, result.size());
     Assertions.assertEquals("<p>", result.get(0).getAsJsonObject().get("markup").getAsString());
@@ -271,7 +383,7 @@ class LanguageToolServiceTest {
   void testNestedElements() {
     String html = "<body><p><span>Hello</span>World</p></body>";
     Document doc = Jsoup.parse(html);
-    JsonArray result = getAnnotationsArray(doc);
+    JsonArray result = getAnnotations(doc);
 
     Assertions.assertEquals(6, result.size());
     Assertions.assertEquals("<p>", result.get(0).getAsJsonObject().get("markup").getAsString());
@@ -289,7 +401,7 @@ class LanguageToolServiceTest {
     // contains img, hr, br
     String html = "<body><div><img src=\"http://example.com/image\"><hr><br></div></body>";
     Document doc = Jsoup.parse(html);
-    JsonArray result = getAnnotationsArray(doc);
+    JsonArray result = getAnnotations(doc);
 
     Assertions.assertEquals(5, result.size());
     Assertions.assertEquals("<div>", result.get(0).getAsJsonObject().get("markup").getAsString());
@@ -305,7 +417,7 @@ class LanguageToolServiceTest {
   void testKeepEncodedGtAndLtChars() {
     String html = "<p>This text contains a fake &lt;tag&gt; and text afterwards</p>";
     Document doc = Jsoup.parse(html);
-    JsonArray result = getAnnotationsArray(doc);
+    JsonArray result = getAnnotations(doc);
 
     Assertions.assertEquals(7, result.size());
     Assertions.assertEquals("<p>", result.get(0).getAsJsonObject().get("markup").getAsString());
@@ -320,4 +432,11 @@ class LanguageToolServiceTest {
         " and text afterwards", result.get(5).getAsJsonObject().get("text").getAsString());
     Assertions.assertEquals("</p>", result.get(6).getAsJsonObject().get("markup").getAsString());
   }
+
+  /** The annotations of all paragraphs, as they are sent to LanguageTool if none is cached. */
+  private static JsonArray getAnnotations(Document document) {
+    JsonArray annotations = new JsonArray();
+    getParagraphAnnotations(document).forEach(annotations::addAll);
+    return annotations;
+  }
 }
@@ -0,0 +1,85 @@
+package de.bund.digitalservice.ris.caselaw.adapter.publication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class DocumentNumberDiffTest {
+
+  @Test
+  void compare_shouldFindDocumentNumbersMissingOnEachSide() {
+    List<String> notInTarget = new ArrayList<>();
+    List<String> notInSource = new ArrayList<>();
+
+    var diff =
+        DocumentNumberDiff.compare(
+            List.of("A", "B", "D", "F").iterator(),
+            List.of("B", "C", "D", "E").iterator(),
+            notInTarget::add,
+            notInSource::add);
+
+    assertThat(diff)
+        .isEqualTo(new DocumentNumberDiff(4, 4, 2, 2, List.of("A", "F"), List.of("C", "E")));
+    assertThat(notInTarget).containsExactly("A", "F");
+    assertThat(notInSource).containsExactly("C", "E");
+  }
+
+  @Test
+  void compare_shouldSkipDuplicates() {
+    var diff =
+        DocumentNumberDiff.compare(
+            List.of("A", "A", "B").iterator(),
+            List.of("A", "B", "B").iterator(),
+            documentNumber -> {},
+            documentNumber -> {});
+
+    assertThat(diff).isEqualTo(new DocumentNumberDiff(2, 2, 0, 0, List.of(), List.of()));
+  }
+
+  @Test
+  void compare_withEmptySide_shouldReportAllAsMissing() {
+    var diff =
+        DocumentNumberDiff.compare(
+            List.<String>of().iterator(),
+            List.of("A", "B").iterator(),
+            documentNumber -> {},
+            documentNumber -> {});
+
+    assertThat(diff).isEqualTo(new DocumentNumberDiff(0, 2, 0, 2, List.of(), List.of("A", "B")));
+  }
+
+  @Test
+  void compare_shouldOnlyKeepASampleOfTheDifferences() {
+    List<String> source =
+        IntStream.range(0, 150).mapToObj(i -> String.format("DOC%03d", i)).toList();
+    List<String> notInTarget = new ArrayList<>();
+
+    var diff =
+        DocumentNumberDiff.compare(
+            source.iterator(),
+            List.<String>of().iterator(),
+            notInTarget::add,
+            documentNumber -> {});
+
+    assertThat(diff.notInTargetCount()).isEqualTo(150);
+    assertThat(diff.notInTarget()).hasSize(100).isEqualTo(source.subList(0, 100));
+    assertThat(notInTarget).isEqualTo(source);
+  }
+
+  @Test
+  void compare_withUnsortedSequence_shouldThrow() {
+    var source = List.of("B", "A").iterator();
+    var target = List.of("A").iterator();
+
+    assertThatThrownBy(
+            () ->
+                DocumentNumberDiff.compare(
+                    source, target, documentNumber -> {}, documentNumber -> {}))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("source");
+  }
+}
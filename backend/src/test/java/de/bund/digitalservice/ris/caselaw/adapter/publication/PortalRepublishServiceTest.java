@@ -0,0 +1,253 @@
+package de.bund.digitalservice.ris.caselaw.adapter.publication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.bund.digitalservice.ris.caselaw.adapter.DocumentStorageBucket;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationUnitRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.exception.ChangelogException;
+import de.bund.digitalservice.ris.caselaw.adapter.exception.LdmlTransformationException;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitRepository;
+import de.bund.digitalservice.ris.caselaw.domain.PortalPublicationStatus;
+import de.bund.digitalservice.ris.caselaw.domain.exception.DocumentationUnitNotExistsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+class PortalRepublishServiceTest {
+
+  private DocumentationUnitRepository documentationUnitRepository;
+  private DatabaseDocumentationUnitRepository databaseDocumentationUnitRepository;
+  private PortalPublicationService portalPublicationService;
+  private DocumentStorageBucket documentStorageBucket;
+  private LockProvider lockProvider;
+  private SimpleLock lock;
+  private SimpleMeterRegistry meterRegistry;
+  private ExecutorService executor;
+  private PortalRepublishService service;
+
+  @BeforeEach
+  void beforeEach() {
+    documentationUnitRepository = mock(DocumentationUnitRepository.class);
+    databaseDocumentationUnitRepository = mock(DatabaseDocumentationUnitRepository.class);
+    portalPublicationService = mock(PortalPublicationService.class);
+    documentStorageBucket = mock(DocumentStorageBucket.class);
+    lock = mock(SimpleLock.class);
+    when(lock.extend(any(), any())).thenReturn(Optional.of(lock));
+    lockProvider = mock(LockProvider.class);
+    when(lockProvider.lock(any())).thenReturn(Optional.of(lock));
+    when(documentStorageBucket.get(PortalRepublishService.CHECKPOINT_FILE_NAME))
+        .thenReturn(Optional.empty());
+    meterRegistry = new SimpleMeterRegistry();
+    executor = Executors.newFixedThreadPool(2);
+    service =
+        new PortalRepublishService(
+            documentationUnitRepository,
+            databaseDocumentationUnitRepository,
+            portalPublicationService,
+            documentStorageBucket,
+            lockProvider,
+            executor,
+            2,
+            meterRegistry);
+  }
+
+  @AfterEach
+  void afterEach() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void republishAll_shouldRepublishInBatchesAndUploadOneChangelog()
+      throws DocumentationUnitNotExistsException {
+    when(databaseDocumentationUnitRepository.countByPortalPublicationStatus(
+            PortalPublicationStatus.PUBLISHED))
+        .thenReturn(3L);
+    when(documentationUnitRepository.findPublishedDocumentNumbersAfter("", 2))
+        .thenReturn(List.of("DOC1", "DOC2"));
+    when(documentationUnitRepository.findPublishedDocumentNumbersAfter("DOC2", 2))
+        .thenReturn(List.of("DOC3"));
+    when(documentationUnitRepository.findPublishedDocumentNumbersAfter("DOC3", 2))
+        .thenReturn(List.of());
+    when(portalPublicationService.republishDocumentationUnit("DOC1"))
+        .thenReturn(new PortalPublicationResult(List.of("DOC1/DOC1.xml"), List.of()));
+    when(portalPublicationService.republishDocumentationUnit("DOC2"))
+        .thenReturn(new PortalPublicationResult(List.of(), List.of()));
+    when(portalPublicationService.republishDocumentationUnit("DOC3"))
+        .thenReturn(new PortalPublicationResult(List.of(), List.of("DOC3/bild1.png")));
+
+    service.republishAll(null, 2);
+
+    verify(portalPublicationService, times(3)).republishDocumentationUnit(anyString());
+    verify(documentStorageBucket).save(PortalRepublishService.CHECKPOINT_FILE_NAME, "DOC2");
+    verify(documentStorageBucket).save(PortalRepublishService.CHECKPOINT_FILE_NAME, "DOC3");
+    InOrder inOrder = inOrder(portalPublicationService, documentStorageBucket);
+    inOrder.verify(portalPublicationService).uploadChangeAllChangelog();
+    inOrder.verify(documentStorageBucket).delete(PortalRepublishService.CHECKPOINT_FILE_NAME);
+    ArgumentCaptor<LockConfiguration> lockConfiguration =
+        ArgumentCaptor.forClass(LockConfiguration.class);
+    verify(lockProvider).lock(lockConfiguration.capture());
+    assertThat(lockConfiguration.getValue().getName()).isEqualTo(PortalRepublishService.LOCK_NAME);
+    verify(lock, times(2)).extend(any(), any());
+    verify(lock).unlock();
+
+    PortalRepublishProgress progress = service.getProgress();
+    assertThat(progress.running()).isFalse();
+    assertThat(progress.total()).isEqualTo(3);
+    assertThat(progress.processed()).isEqualTo(3);
+    assertThat(progress.changed()).isEqualTo(2);
+    assertThat(progress.failed()).isZero();
+    assertThat(progress.lastDocumentNumber()).isEqualTo("DOC3");
+    assertThat(progress.finishedAt()).isNotNull();
+    assertThat(
+            meterRegistry
+                .get("portal.republish.documents")
+                .tag("result", "success")
+                .counter()
+                .count())
+        .isEqualTo(3);
+  }
+
+  @Test
+  void republishAll_shouldResumeAfterGivenDocumentNumber()
+      throws DocumentationUnitNotExistsException {
+    when(documentationUnitRepository.findPublishedDocumentNumbersAfter("DOC1", 10))
+        .thenReturn(List.of("DOC2"));
+    when(documentationUnitRepository.findPublishedDocumentNumbersAfter("DOC2", 10))
+        .thenReturn(List.of());
+    when(portalPublicationService.republishDocumentationUnit("DOC2"))
+        .thenReturn(new PortalPublicationResult(List.of(), List.of()));
+
+    service.republishAll("DOC1", 10);
+
+    verify(portalPublicationService).republishDocumentationUnit("DOC2");
+    verify(documentationUnitRepository, never()).findPublishedDocumentNumbersAfter("", 10);
+    verify(portalPublicationService).uploadChangeAllChangelog();
+  }
+
+  @Test
+  void republishAll_withoutStartAfter_shouldResumeFromCheckpoint()
+      throws DocumentationUnitNotExistsException {
+    when(documentStorageBucket.get(PortalRepublishService.CHECKPOINT_FILE_NAME))
+        .thenReturn(Optional.of("DOC1".getBytes(StandardCharsets.UTF_8)));
+    when(documentationUnitRepository.findPublishedDocumentNumbersAfter("DOC1", 10))
+        .thenReturn(List.of("DOC2"));
+    when(documentationUnitRepository.findPublishedDocumentNumbersAfter("DOC2", 10))
+        .thenReturn(List.of());
+    when(portalPublicationService.republishDocumentationUnit("DOC2"))
+        .thenReturn(new PortalPublicationResult(List.of(), List.of()));
+
+    service.republishAll(null, 10);
+
+    verify(portalPublicationService).republishDocumentationUnit("DOC2");
+    verify(documentationUnitRepository, never()).findPublishedDocumentNumbersAfter("", 10);
+    verify(portalPublicationService).uploadChangeAllChangelog();
+    verify(documentStorageBucket).delete(PortalRepublishService.CHECKPOINT_FILE_NAME);
+  }
+
+  @Test
+  void republishAll_withResumedRunWithoutChanges_shouldStillUploadChangelog() {
+    when(documentStorageBucket.get(PortalRepublishService.CHECKPOINT_FILE_NAME))
+        .thenReturn(Optional.of("DOC3".getBytes(StandardCharsets.UTF_8)));
+    when(documentationUnitRepository.findPublishedDocumentNumbersAfter("DOC3", 10))
+        .thenReturn(List.of());
+
+    service.republishAll(null, 10);
+
+    assertThat(service.getProgress().changed()).isZero();
+    verify(portalPublicationService).uploadChangeAllChangelog();
+    verify(documentStorageBucket).delete(PortalRepublishService.CHECKPOINT_FILE_NAME);
+  }
+
+  @Test
+  void republishAll_withFailingChangelogUpload_shouldKeepCheckpoint()
+      throws DocumentationUnitNotExistsException {
+    when(documentationUnitRepository.findPublishedDocumentNumbersAfter("", 10))
+        .thenReturn(List.of("DOC1"));
+    when(documentationUnitRepository.findPublishedDocumentNumbersAfter("DOC1", 10))
+        .thenReturn(List.of());
+    when(portalPublicationService.republishDocumentationUnit("DOC1"))
+        .thenReturn(new PortalPublicationResult(List.of("DOC1/DOC1.xml"), List.of()));
+    doThrow(new ChangelogException("could not save changelog", null))
+        .when(portalPublicationService)
+        .uploadChangeAllChangelog();
+
+    service.republishAll(null, 10);
+
+    verify(documentStorageBucket).save(PortalRepublishService.CHECKPOINT_FILE_NAME, "DOC1");
+    verify(documentStorageBucket, never()).delete(anyString());
+    assertThat(service.getProgress().running()).isFalse();
+  }
+
+  @Test
+  void republishAll_withFailingDocumentationUnit_shouldContinueWithOthers()
+      throws DocumentationUnitNotExistsException {
+    when(documentationUnitRepository.findPublishedDocumentNumbersAfter(anyString(), anyInt()))
+        .thenReturn(List.of());
+    when(documentationUnitRepository.findPublishedDocumentNumbersAfter("", 10))
+        .thenReturn(List.of("DOC1", "DOC2"));
+    when(portalPublicationService.republishDocumentationUnit("DOC1"))
+        .thenThrow(new LdmlTransformationException("invalid", null));
+    when(portalPublicationService.republishDocumentationUnit("DOC2"))
+        .thenReturn(new PortalPublicationResult(List.of("DOC2/DOC2.xml"), List.of()));
+
+    service.republishAll(null, 10);
+
+    PortalRepublishProgress progress = service.getProgress();
+    assertThat(progress.processed()).isEqualTo(2);
+    assertThat(progress.changed()).isEqualTo(1);
+    assertThat(progress.failed()).isEqualTo(1);
+    assertThat(progress.lastDocumentNumber()).isEqualTo("DOC2");
+    verify(portalPublicationService).uploadChangeAllChangelog();
+  }
+
+  @Test
+  void republishAll_withRunOnOtherPod_shouldSkipTheRun() {
+    when(lockProvider.lock(any())).thenReturn(Optional.empty());
+
+    service.republishAll(null, 10);
+
+    verify(documentationUnitRepository, never()).findPublishedDocumentNumbersAfter(any(), anyInt());
+    verify(portalPublicationService, never()).uploadChangeAllChangelog();
+    assertThat(service.getProgress()).isEqualTo(PortalRepublishProgress.NOT_STARTED);
+  }
+
+  @Test
+  void republishAll_withLostLock_shouldStopAndKeepCheckpoint()
+      throws DocumentationUnitNotExistsException {
+    when(lock.extend(any(), any())).thenReturn(Optional.empty());
+    when(documentationUnitRepository.findPublishedDocumentNumbersAfter("", 1))
+        .thenReturn(List.of("DOC1"));
+    when(portalPublicationService.republishDocumentationUnit("DOC1"))
+        .thenReturn(new PortalPublicationResult(List.of("DOC1/DOC1.xml"), List.of()));
+
+    service.republishAll(null, 1);
+
+    verify(documentStorageBucket).save(PortalRepublishService.CHECKPOINT_FILE_NAME, "DOC1");
+    verify(documentationUnitRepository, never()).findPublishedDocumentNumbersAfter("DOC1", 1);
+    verify(portalPublicationService, never()).uploadChangeAllChangelog();
+    verify(documentStorageBucket, never()).delete(anyString());
+    verify(lock, never()).unlock();
+    assertThat(service.getProgress().running()).isFalse();
+  }
+}
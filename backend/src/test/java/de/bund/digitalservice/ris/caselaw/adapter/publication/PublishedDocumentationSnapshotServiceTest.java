@@ -0,0 +1,130 @@
+package de.bund.digitalservice.ris.caselaw.adapter.publication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DecisionDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PendingProceedingDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PublishedDocumentationSnapshotBatchWriter;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnit;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitRepository;
+import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
+import de.bund.digitalservice.ris.caselaw.domain.exception.DocumentationUnitNotExistsException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@Import({PublishedDocumentationSnapshotService.class})
+class PublishedDocumentationSnapshotServiceTest {
+  @Autowired PublishedDocumentationSnapshotService service;
+
+  @MockitoBean DocumentationUnitRepository documentationUnitRepository;
+  @MockitoBean PublishedDocumentationSnapshotBatchWriter snapshotBatchWriter;
+
+  @SuppressWarnings("unchecked")
+  private final ArgumentCaptor<Map<UUID, DocumentationUnit>> snapshotCaptor =
+      ArgumentCaptor.forClass(Map.class);
+
+  @Test
+  void publishSnapshots_shouldWriteDecisionsInBatches() throws DocumentationUnitNotExistsException {
+    UUID id1 = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    UUID id2 = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    UUID id3 = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    when(documentationUnitRepository.countByCurrentStatus(PublicationStatus.PUBLISHED))
+        .thenReturn(3L);
+    when(documentationUnitRepository.findAllIdsByCurrentStatusAfter(
+            PublicationStatus.PUBLISHED, null, 2))
+        .thenReturn(List.of(id1, id2));
+    when(documentationUnitRepository.findAllIdsByCurrentStatusAfter(
+            PublicationStatus.PUBLISHED, id2, 2))
+        .thenReturn(List.of(id3));
+    when(documentationUnitRepository.findAllIdsByCurrentStatusAfter(
+            PublicationStatus.PUBLISHED, id3, 2))
+        .thenReturn(List.of());
+    when(documentationUnitRepository.loadDocumentationUnitDTO(id1))
+        .thenReturn(DecisionDTO.builder().id(id1).documentNumber("DOC1").build());
+    when(documentationUnitRepository.loadDocumentationUnitDTO(id2))
+        .thenReturn(DecisionDTO.builder().id(id2).documentNumber("DOC2").build());
+    when(documentationUnitRepository.loadDocumentationUnitDTO(id3))
+        .thenReturn(DecisionDTO.builder().id(id3).documentNumber("DOC3").build());
+    when(snapshotBatchWriter.upsertAll(any())).thenReturn(2, 1);
+
+    service.publishSnapshots(null, 2);
+
+    verify(snapshotBatchWriter, times(2)).upsertAll(snapshotCaptor.capture());
+    assertThat(snapshotCaptor.getAllValues().get(0)).containsOnlyKeys(id1, id2);
+    assertThat(snapshotCaptor.getAllValues().get(1)).containsOnlyKeys(id3);
+    assertThat(snapshotCaptor.getAllValues().get(1).get(id3).documentNumber()).isEqualTo("DOC3");
+
+    SnapshotJobProgress progress = service.getProgress();
+    assertThat(progress.running()).isFalse();
+    assertThat(progress.total()).isEqualTo(3);
+    assertThat(progress.processed()).isEqualTo(3);
+    assertThat(progress.saved()).isEqualTo(3);
+    assertThat(progress.failed()).isZero();
+    assertThat(progress.lastId()).isEqualTo(id3);
+    assertThat(progress.finishedAt()).isNotNull();
+  }
+
+  @Test
+  void publishSnapshots_shouldResumeAfterGivenId() throws DocumentationUnitNotExistsException {
+    UUID startAfter = UUID.randomUUID();
+    UUID id = UUID.randomUUID();
+    when(documentationUnitRepository.findAllIdsByCurrentStatusAfter(
+            PublicationStatus.PUBLISHED, startAfter, 10))
+        .thenReturn(List.of(id));
+    when(documentationUnitRepository.findAllIdsByCurrentStatusAfter(
+            PublicationStatus.PUBLISHED, id, 10))
+        .thenReturn(List.of());
+    when(documentationUnitRepository.loadDocumentationUnitDTO(id))
+        .thenReturn(DecisionDTO.builder().id(id).build());
+
+    service.publishSnapshots(startAfter, 10);
+
+    verify(snapshotBatchWriter).upsertAll(snapshotCaptor.capture());
+    assertThat(snapshotCaptor.getValue()).containsOnlyKeys(id);
+    verify(documentationUnitRepository, never())
+        .findAllIdsByCurrentStatusAfter(PublicationStatus.PUBLISHED, null, 10);
+  }
+
+  @Test
+  void publishSnapshots_withPendingProceedingAndUnloadableUnit_shouldOnlySaveDecisions()
+      throws DocumentationUnitNotExistsException {
+    UUID decisionId = UUID.randomUUID();
+    UUID pendingProceedingId = UUID.randomUUID();
+    UUID missingId = UUID.randomUUID();
+    when(documentationUnitRepository.findAllIdsByCurrentStatusAfter(
+            PublicationStatus.PUBLISHED, null, 10))
+        .thenReturn(List.of(decisionId, pendingProceedingId, missingId));
+    when(documentationUnitRepository.findAllIdsByCurrentStatusAfter(
+            PublicationStatus.PUBLISHED, missingId, 10))
+        .thenReturn(List.of());
+    when(documentationUnitRepository.loadDocumentationUnitDTO(decisionId))
+        .thenReturn(DecisionDTO.builder().id(decisionId).build());
+    when(documentationUnitRepository.loadDocumentationUnitDTO(pendingProceedingId))
+        .thenReturn(PendingProceedingDTO.builder().id(pendingProceedingId).build());
+    when(documentationUnitRepository.loadDocumentationUnitDTO(missingId))
+        .thenThrow(new DocumentationUnitNotExistsException());
+    when(snapshotBatchWriter.upsertAll(any())).thenReturn(1);
+
+    service.publishSnapshots(null, 10);
+
+    verify(snapshotBatchWriter).upsertAll(snapshotCaptor.capture());
+    assertThat(snapshotCaptor.getValue()).containsOnlyKeys(decisionId);
+    assertThat(service.getProgress().processed()).isEqualTo(3);
+    assertThat(service.getProgress().saved()).isEqualTo(1);
+    assertThat(service.getProgress().failed()).isEqualTo(1);
+  }
+}
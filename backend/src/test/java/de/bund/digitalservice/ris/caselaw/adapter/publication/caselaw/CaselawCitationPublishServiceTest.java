@@ -1,6 +1,9 @@
 package de.bund.digitalservice.ris.caselaw.adapter.publication.caselaw;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import ch.qos.logback.classic.Level;
@@ -11,11 +14,14 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumenta
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DecisionDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentTypeDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.EnsuingDecisionDTO;
-import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.FileNumberDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PassiveCitationCaselawDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PendingDecisionDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PreviousDecisionDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.RelatedDocumentInfoDTO;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -33,6 +39,62 @@ class CaselawCitationPublishServiceTest {
 
   @MockitoBean DatabaseDocumentationUnitRepository documentationUnitRepository;
 
+  @Nested
+  class resolveRelatedDocuments {
+    @Test
+    void shouldResolveTheDocumentsOfAllRelationTypesInOneQuery() {
+      var decision =
+          DecisionDTO.builder()
+              .documentNumber("XXRE000000001")
+              .activeCaselawCitations(
+                  List.of(
+                      ActiveCitationCaselawDTO.builder()
+                          .targetDocumentNumber("XXRE000000002")
+                          .rank(1)
+                          .build(),
+                      ActiveCitationCaselawDTO.builder()
+                          .targetFileNumber("XXX 2313")
+                          .rank(2)
+                          .build()))
+              .passiveCaselawCitations(
+                  List.of(
+                      PassiveCitationCaselawDTO.builder()
+                          .sourceDocumentNumber("XXRE000000003")
+                          .rank(1)
+                          .build()))
+              .ensuingDecisions(
+                  List.of(EnsuingDecisionDTO.builder().documentNumber("XXRE000000004").build()))
+              .previousDecisions(
+                  List.of(PreviousDecisionDTO.builder().documentNumber("XXRE000000005").build()))
+              .pendingDecisions(
+                  List.of(PendingDecisionDTO.builder().documentNumber("XXRE000000002").build()))
+              .build();
+      var target = relatedDocument("XXRE000000002", null, null, null, null);
+      var source = relatedDocument("XXRE000000003", null, null, null, null);
+
+      when(documentationUnitRepository.findPublishedRelatedDocumentInfos(
+              Set.of("XXRE000000002", "XXRE000000003", "XXRE000000004", "XXRE000000005")))
+          .thenReturn(List.of(target, source));
+
+      var result = caselawCitationPublishService.resolveRelatedDocuments(decision);
+
+      assertThat(result)
+          .containsExactlyInAnyOrderEntriesOf(
+              Map.of("XXRE000000002", target, "XXRE000000003", source));
+      verify(documentationUnitRepository).findPublishedRelatedDocumentInfos(any());
+    }
+
+    @Test
+    void shouldNotQueryWithoutRelatedDocuments() {
+      var decision = DecisionDTO.builder().documentNumber("XXRE000000001").build();
+
+      var result = caselawCitationPublishService.resolveRelatedDocuments(decision);
+
+      assertThat(result).isEmpty();
+      verify(documentationUnitRepository, never()).findPublishedRelatedDocumentInfos(any());
+    }
+  }
+
   @Nested
   class updatePassiveCitationSourceWithInformationFromSource {
     @Test
@@ -42,7 +104,7 @@ class CaselawCitationPublishServiceTest {
 
       var result =
           caselawCitationPublishService.updatePassiveCitationSourceWithInformationFromSource(
-              passiveCitation);
+              passiveCitation, Map.of());
 
       assertThat(result).contains(passiveCitation);
       assertThat(result.get().getSourceFileNumber()).isEqualTo("XXX 2313");
@@ -64,12 +126,11 @@ class CaselawCitationPublishServiceTest {
               .rank(1)
               .build();
 
-      when(documentationUnitRepository.findPublishedByDocumentNumber("XXRE000714526"))
-          .thenReturn(Optional.empty());
+      Map<String, RelatedDocumentInfoDTO> relatedDocuments = Map.of();
 
       var result =
           caselawCitationPublishService.updatePassiveCitationSourceWithInformationFromSource(
-              passiveCitation);
+              passiveCitation, relatedDocuments);
 
       assertThat(result).isEmpty();
     }
@@ -83,23 +144,15 @@ class CaselawCitationPublishServiceTest {
       var court = CourtDTO.builder().build();
       var documentType = DocumentTypeDTO.builder().build();
 
-      when(documentationUnitRepository.findPublishedByDocumentNumber("XXRE000714526"))
-          .thenReturn(
-              Optional.of(
-                  DecisionDTO.builder()
-                      .documentNumber("XXRE000714526")
-                      .date(LocalDate.parse("2026-01-01"))
-                      .court(court)
-                      .fileNumbers(
-                          List.of(
-                              FileNumberDTO.builder().value("XXX 0001").build(),
-                              FileNumberDTO.builder().value("XXX 0002").build()))
-                      .documentType(documentType)
-                      .build()));
+      var relatedDocuments =
+          Map.of(
+              "XXRE000714526",
+              relatedDocument(
+                  "XXRE000714526", LocalDate.parse("2026-01-01"), court, "XXX 0001", documentType));
 
       var result =
           caselawCitationPublishService.updatePassiveCitationSourceWithInformationFromSource(
-              passiveCitation);
+              passiveCitation, relatedDocuments);
 
       assertThat(result).contains(passiveCitation);
       assertThat(result.get().getSourceDocumentNumber()).isEqualTo("XXRE000714526");
@@ -118,22 +171,14 @@ class CaselawCitationPublishServiceTest {
       var court = CourtDTO.builder().build();
       var documentType = DocumentTypeDTO.builder().build();
 
-      when(documentationUnitRepository.findPublishedByDocumentNumber("XXRE000714526"))
-          .thenReturn(
-              Optional.of(
-                  DecisionDTO.builder()
-                      .documentNumber("XXRE000714526")
-                      .date(LocalDate.parse("2026-01-01"))
-                      .court(court)
-                      .fileNumbers(
-                          List.of(
-                              FileNumberDTO.builder().value("XXX 0001").build(),
-                              FileNumberDTO.builder().value("XXX 0002").build()))
-                      .documentType(documentType)
-                      .build()));
+      var relatedDocuments =
+          Map.of(
+              "XXRE000714526",
+              relatedDocument(
+                  "XXRE000714526", LocalDate.parse("2026-01-01"), court, "XXX 0001", documentType));
 
       caselawCitationPublishService.updatePassiveCitationSourceWithInformationFromSource(
-          passiveCitation);
+          passiveCitation, relatedDocuments);
 
       assertThat(memoryAppender.count(Level.INFO)).isEqualTo(1L);
       assertThat(memoryAppender.getMessage(Level.INFO, 0))
@@ -153,7 +198,7 @@ class CaselawCitationPublishServiceTest {
 
       var result =
           caselawCitationPublishService.updateActiveCitationTargetWithInformationFromTarget(
-              activeCitation);
+              activeCitation, Map.of());
 
       assertThat(result).isEqualTo(activeCitation);
       assertThat(result.getTargetFileNumber()).isEqualTo("XXX 2313");
@@ -176,12 +221,11 @@ class CaselawCitationPublishServiceTest {
               .rank(1)
               .build();
 
-      when(documentationUnitRepository.findPublishedByDocumentNumber("XXRE000714526"))
-          .thenReturn(Optional.empty());
+      Map<String, RelatedDocumentInfoDTO> relatedDocuments = Map.of();
 
       var result =
           caselawCitationPublishService.updateActiveCitationTargetWithInformationFromTarget(
-              activeCitation);
+              activeCitation, relatedDocuments);
 
       assertThat(result).isEqualTo(activeCitation);
       assertThat(result.getTargetFileNumber()).isEqualTo("XXX 2313");
@@ -201,23 +245,15 @@ class CaselawCitationPublishServiceTest {
       var court = CourtDTO.builder().build();
       var documentType = DocumentTypeDTO.builder().build();
 
-      when(documentationUnitRepository.findPublishedByDocumentNumber("XXRE000714526"))
-          .thenReturn(
-              Optional.of(
-                  DecisionDTO.builder()
-                      .documentNumber("XXRE000714526")
-                      .date(LocalDate.parse("2026-01-01"))
-                      .court(court)
-                      .fileNumbers(
-                          List.of(
-                              FileNumberDTO.builder().value("XXX 0001").build(),
-                              FileNumberDTO.builder().value("XXX 0002").build()))
-                      .documentType(documentType)
-                      .build()));
+      var relatedDocuments =
+          Map.of(
+              "XXRE000714526",
+              relatedDocument(
+                  "XXRE000714526", LocalDate.parse("2026-01-01"), court, "XXX 0001", documentType));
 
       var result =
           caselawCitationPublishService.updateActiveCitationTargetWithInformationFromTarget(
-              activeCitation);
+              activeCitation, relatedDocuments);
 
       assertThat(result).isEqualTo(activeCitation);
       assertThat(result.getTargetDocumentNumber()).isEqualTo("XXRE000714526");
@@ -236,22 +272,14 @@ class CaselawCitationPublishServiceTest {
       var court = CourtDTO.builder().build();
       var documentType = DocumentTypeDTO.builder().build();
 
-      when(documentationUnitRepository.findPublishedByDocumentNumber("XXRE000714526"))
-          .thenReturn(
-              Optional.of(
-                  DecisionDTO.builder()
-                      .documentNumber("XXRE000714526")
-                      .date(LocalDate.parse("2026-01-01"))
-                      .court(court)
-                      .fileNumbers(
-                          List.of(
-                              FileNumberDTO.builder().value("XXX 0001").build(),
-                              FileNumberDTO.builder().value("XXX 0002").build()))
-                      .documentType(documentType)
-                      .build()));
+      var relatedDocuments =
+          Map.of(
+              "XXRE000714526",
+              relatedDocument(
+                  "XXRE000714526", LocalDate.parse("2026-01-01"), court, "XXX 0001", documentType));
 
       caselawCitationPublishService.updateActiveCitationTargetWithInformationFromTarget(
-          activeCitation);
+          activeCitation, relatedDocuments);
 
       assertThat(memoryAppender.count(Level.INFO)).isEqualTo(1L);
       assertThat(memoryAppender.getMessage(Level.INFO, 0))
@@ -270,7 +298,7 @@ class CaselawCitationPublishServiceTest {
 
       var result =
           caselawCitationPublishService.updateRelatedDocumentationWithInformationFromTarget(
-              ensuingDecision);
+              ensuingDecision, Map.of());
 
       assertThat(result).isEqualTo(ensuingDecision);
       assertThat(result.getFileNumber()).isEqualTo("XXX 2313");
@@ -292,12 +320,11 @@ class CaselawCitationPublishServiceTest {
               .rank(1)
               .build();
 
-      when(documentationUnitRepository.findPublishedByDocumentNumber("XXRE000714526"))
-          .thenReturn(Optional.empty());
+      Map<String, RelatedDocumentInfoDTO> relatedDocuments = Map.of();
 
       var result =
           caselawCitationPublishService.updateRelatedDocumentationWithInformationFromTarget(
-              ensuingDecision);
+              ensuingDecision, relatedDocuments);
 
       assertThat(result).isEqualTo(ensuingDecision);
       assertThat(result.getFileNumber()).isEqualTo("XXX 2313");
@@ -320,23 +347,15 @@ class CaselawCitationPublishServiceTest {
       var court = CourtDTO.builder().build();
       var documentType = DocumentTypeDTO.builder().build();
 
-      when(documentationUnitRepository.findPublishedByDocumentNumber("XXRE000714526"))
-          .thenReturn(
-              Optional.of(
-                  DecisionDTO.builder()
-                      .documentNumber("XXRE000714526")
-                      .date(LocalDate.parse("2026-01-01"))
-                      .court(court)
-                      .fileNumbers(
-                          List.of(
-                              FileNumberDTO.builder().value("XXX 0001").build(),
-                              FileNumberDTO.builder().value("XXX 0002").build()))
-                      .documentType(documentType)
-                      .build()));
+      var relatedDocuments =
+          Map.of(
+              "XXRE000714526",
+              relatedDocument(
+                  "XXRE000714526", LocalDate.parse("2026-01-01"), court, "XXX 0001", documentType));
 
       var result =
           caselawCitationPublishService.updateRelatedDocumentationWithInformationFromTarget(
-              ensuingDecision);
+              ensuingDecision, relatedDocuments);
 
       assertThat(result).isEqualTo(ensuingDecision);
       assertThat(result.getFileNumber()).isEqualTo("XXX 0001");
@@ -359,22 +378,14 @@ class CaselawCitationPublishServiceTest {
     var court = CourtDTO.builder().build();
     var documentType = DocumentTypeDTO.builder().build();
 
-    when(documentationUnitRepository.findPublishedByDocumentNumber("XXRE000714526"))
-        .thenReturn(
-            Optional.of(
-                DecisionDTO.builder()
-                    .documentNumber("XXRE000714526")
-                    .date(LocalDate.parse("2026-01-01"))
-                    .court(court)
-                    .fileNumbers(
-                        List.of(
-                            FileNumberDTO.builder().value("XXX 0001").build(),
-                            FileNumberDTO.builder().value("XXX 0002").build()))
-                    .documentType(documentType)
-                    .build()));
+    var relatedDocuments =
+        Map.of(
+            "XXRE000714526",
+            relatedDocument(
+                "XXRE000714526", LocalDate.parse("2026-01-01"), court, "XXX 0001", documentType));
 
     caselawCitationPublishService.updateRelatedDocumentationWithInformationFromTarget(
-        ensuingDecision);
+        ensuingDecision, relatedDocuments);
 
     assertThat(memoryAppender.count(Level.INFO)).isEqualTo(1L);
     assertThat(memoryAppender.getMessage(Level.INFO, 0))
@@ -383,4 +394,38 @@ class CaselawCitationPublishServiceTest {
 
     memoryAppender.detachLoggingTestAppender();
   }
+
+  private static RelatedDocumentInfoDTO relatedDocument(
+      String documentNumber,
+      LocalDate date,
+      CourtDTO court,
+      String fileNumber,
+      DocumentTypeDTO documentType) {
+    return new RelatedDocumentInfoDTO() {
+      @Override
+      public String getDocumentNumber() {
+        return documentNumber;
+      }
+
+      @Override
+      public LocalDate getDate() {
+        return date;
+      }
+
+      @Override
+      public CourtDTO getCourt() {
+        return court;
+      }
+
+      @Override
+      public String getFileNumber() {
+        return fileNumber;
+      }
+
+      @Override
+      public DocumentTypeDTO getDocumentType() {
+        return documentType;
+      }
+    };
+  }
 }
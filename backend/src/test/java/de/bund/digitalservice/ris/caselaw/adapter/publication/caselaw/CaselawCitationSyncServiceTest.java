@@ -10,13 +10,14 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.ActiveCitationCas
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.CitationTypeDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.CourtDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationUnitRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabasePassiveCitationCaselawRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DecisionDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentTypeDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.FileNumberDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PassiveCitationCaselawDTO;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -34,6 +35,8 @@ public class CaselawCitationSyncServiceTest {
 
   @MockitoBean DatabaseDocumentationUnitRepository documentationUnitRepository;
 
+  @MockitoBean DatabasePassiveCitationCaselawRepository passiveCitationCaselawRepository;
+
   @Nested
   class syncCitations {
     @Test
@@ -73,13 +76,14 @@ public class CaselawCitationSyncServiceTest {
                           .build()))
               .build();
 
-      when(documentationUnitRepository.findPublishedByDocumentNumber("XXRE000000002"))
-          .thenReturn(Optional.of(docUnitXXRE000000002));
+      when(documentationUnitRepository.findPublishedDecisionsWithPassiveCaselawCitations(
+              Set.of("XXRE000000002")))
+          .thenReturn(List.of(docUnitXXRE000000002));
 
       var result = caselawCitationSyncService.syncCitations(publishedDocUnit);
 
       assertThat(result).isEmpty();
-      verify(documentationUnitRepository, never()).save(any());
+      verify(passiveCitationCaselawRepository, never()).saveAll(any());
     }
 
     @Test
@@ -106,8 +110,9 @@ public class CaselawCitationSyncServiceTest {
 
       var docUnitXXRE000000002 = DecisionDTO.builder().documentNumber("XXRE000000002").build();
 
-      when(documentationUnitRepository.findPublishedByDocumentNumber("XXRE000000002"))
-          .thenReturn(Optional.of(docUnitXXRE000000002));
+      when(documentationUnitRepository.findPublishedDecisionsWithPassiveCaselawCitations(
+              Set.of("XXRE000000002")))
+          .thenReturn(List.of(docUnitXXRE000000002));
 
       var result = caselawCitationSyncService.syncCitations(publishedDocUnit);
 
@@ -154,13 +159,15 @@ public class CaselawCitationSyncServiceTest {
                   .rank(1)
                   .build()));
 
-      when(documentationUnitRepository.findPublishedByDocumentNumber("XXRE000000002"))
-          .thenReturn(Optional.of(docUnitXXRE000000002));
+      when(documentationUnitRepository.findPublishedDecisionsWithPassiveCaselawCitations(
+              Set.of("XXRE000000002")))
+          .thenReturn(List.of(docUnitXXRE000000002));
 
       var result = caselawCitationSyncService.syncCitations(publishedDocUnit);
 
       assertThat(result).containsExactly("XXRE000000002");
-      verify(documentationUnitRepository).save(docUnitXXRE000000002);
+      verify(passiveCitationCaselawRepository)
+          .saveAll(List.of(docUnitXXRE000000002.getPassiveCaselawCitations().getFirst()));
       assertThat(docUnitXXRE000000002.getPassiveCaselawCitations()).hasSize(1);
       var passiveCitation = docUnitXXRE000000002.getPassiveCaselawCitations().getFirst();
       assertThat(passiveCitation.getCitationType()).isEqualTo(citationType);
@@ -170,5 +177,69 @@ public class CaselawCitationSyncServiceTest {
       assertThat(passiveCitation.getSourceFileNumber()).isEqualTo("XXX 0001");
       assertThat(passiveCitation.getSourceDocumentType()).isEqualTo(documentType);
     }
+
+    @Test
+    void shouldLoadAllTargetsInOneQuery() {
+      var citationType = CitationTypeDTO.builder().build();
+      var publishedDocUnit =
+          DecisionDTO.builder()
+              .documentNumber("XXRE000000001")
+              .fileNumbers(List.of(FileNumberDTO.builder().value("XXX 0001").build()))
+              .date(LocalDate.of(2020, 1, 1))
+              .build();
+      publishedDocUnit.setActiveCaselawCitations(
+          List.of(
+              ActiveCitationCaselawDTO.builder()
+                  .source(publishedDocUnit)
+                  .citationType(citationType)
+                  .rank(1)
+                  .targetDocumentNumber("XXRE000000002")
+                  .build(),
+              ActiveCitationCaselawDTO.builder()
+                  .source(publishedDocUnit)
+                  .citationType(citationType)
+                  .rank(2)
+                  .targetDocumentNumber("XXRE000000003")
+                  .build(),
+              ActiveCitationCaselawDTO.builder()
+                  .source(publishedDocUnit)
+                  .citationType(citationType)
+                  .rank(3)
+                  .targetDocumentNumber("XXRE000000004")
+                  .build()));
+
+      // outdated passive citation
+      var docUnitXXRE000000002 = DecisionDTO.builder().documentNumber("XXRE000000002").build();
+      docUnitXXRE000000002.setPassiveCaselawCitations(
+          List.of(
+              PassiveCitationCaselawDTO.builder()
+                  .sourceDocumentNumber("XXRE000000001")
+                  .citationType(citationType)
+                  .rank(1)
+                  .build()));
+      // up-to-date passive citation
+      var docUnitXXRE000000003 = DecisionDTO.builder().documentNumber("XXRE000000003").build();
+      docUnitXXRE000000003.setPassiveCaselawCitations(
+          List.of(
+              PassiveCitationCaselawDTO.builder()
+                  .sourceDocumentNumber("XXRE000000001")
+                  .citationType(citationType)
+                  .sourceFileNumber("XXX 0001")
+                  .sourceDate(LocalDate.of(2020, 1, 1))
+                  .rank(1)
+                  .build()));
+
+      // XXRE000000004 is not published
+      when(documentationUnitRepository.findPublishedDecisionsWithPassiveCaselawCitations(
+              Set.of("XXRE000000002", "XXRE000000003", "XXRE000000004")))
+          .thenReturn(List.of(docUnitXXRE000000002, docUnitXXRE000000003));
+
+      var result = caselawCitationSyncService.syncCitations(publishedDocUnit);
+
+      assertThat(result).containsExactly("XXRE000000002");
+      verify(documentationUnitRepository).findPublishedDecisionsWithPassiveCaselawCitations(any());
+      verify(passiveCitationCaselawRepository)
+          .saveAll(List.of(docUnitXXRE000000002.getPassiveCaselawCitations().getFirst()));
+    }
   }
 }
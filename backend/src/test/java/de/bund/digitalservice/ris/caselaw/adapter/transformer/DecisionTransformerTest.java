@@ -32,6 +32,7 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentalistDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentationOfficeDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.EnsuingDecisionDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.FieldOfLawDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.FileNumberDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.ForeignLanguageVersionDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.IncomeTypeDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.InputTypeDTO;
@@ -63,6 +64,7 @@ import de.bund.digitalservice.ris.caselaw.domain.Addressee;
 import de.bund.digitalservice.ris.caselaw.domain.AppealAdmission;
 import de.bund.digitalservice.ris.caselaw.domain.AppealAdmitter;
 import de.bund.digitalservice.ris.caselaw.domain.AttachmentType;
+import de.bund.digitalservice.ris.caselaw.domain.ChangedPaths;
 import de.bund.digitalservice.ris.caselaw.domain.CollectiveAgreement;
 import de.bund.digitalservice.ris.caselaw.domain.CollectiveAgreementIndustry;
 import de.bund.digitalservice.ris.caselaw.domain.ContentRelatedIndexing;
@@ -151,6 +153,44 @@ class DecisionTransformerTest {
     assertThat(decisionDTO.getDecisionNames()).isEmpty();
   }
 
+  @Test
+  void testTransformToDTO_withUnchangedCollection_shouldKeepTheCurrentCollection() {
+    List<FileNumberDTO> fileNumbers =
+        new ArrayList<>(List.of(FileNumberDTO.builder().value("AZ 1").rank(1L).build()));
+    DecisionDTO currentDto = DecisionDTO.builder().fileNumbers(fileNumbers).build();
+    Decision updatedDomainObject =
+        Decision.builder()
+            .coreData(CoreData.builder().fileNumbers(List.of("AZ 1")).build())
+            .shortTexts(ShortTexts.builder().headnote("headnote").build())
+            .build();
+
+    DecisionDTO decisionDTO =
+        DecisionTransformer.transformToDTO(
+            currentDto, updatedDomainObject, new ChangedPaths(Set.of("/shortTexts/headnote")));
+
+    assertThat(decisionDTO.getHeadnote()).isEqualTo("headnote");
+    assertThat(decisionDTO.getFileNumbers()).isSameAs(fileNumbers);
+  }
+
+  @Test
+  void testTransformToDTO_withChangedCollection_shouldTransformTheCollection() {
+    List<FileNumberDTO> fileNumbers =
+        new ArrayList<>(List.of(FileNumberDTO.builder().value("AZ 1").rank(1L).build()));
+    DecisionDTO currentDto = DecisionDTO.builder().fileNumbers(fileNumbers).build();
+    Decision updatedDomainObject =
+        Decision.builder()
+            .coreData(CoreData.builder().fileNumbers(List.of("AZ 1", "AZ 2")).build())
+            .build();
+
+    DecisionDTO decisionDTO =
+        DecisionTransformer.transformToDTO(
+            currentDto, updatedDomainObject, new ChangedPaths(Set.of("/coreData/fileNumbers/1")));
+
+    assertThat(decisionDTO.getFileNumbers())
+        .extracting(FileNumberDTO::getValue)
+        .containsExactly("AZ 1", "AZ 2");
+  }
+
   @Test
   void testTransformToDTO_addLegalEffectWithCoreDataDeleted_shouldSetLegalEffectToNull() {
     DecisionDTO currentDto = DecisionDTO.builder().court(CourtDTO.builder().build()).build();
@@ -0,0 +1,59 @@
+package de.bund.digitalservice.ris.caselaw.adapter.transformer.ldml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mapping.MappingException;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+class HtmlTransformerTest {
+  private final HtmlTransformer htmlTransformer =
+      new HtmlTransformer(DocumentBuilderFactory.newInstance());
+
+  @Test
+  void testHtmlStringToObjectList_withBlankText_shouldReturnEmptyList() {
+    assertThat(htmlTransformer.htmlStringToObjectList(" ")).isEmpty();
+    assertThat(htmlTransformer.htmlStringToObjectList(null)).isEmpty();
+  }
+
+  @Test
+  void testHtmlStringToObjectList_shouldCloseImgAndBrTags() {
+    List<Object> nodes =
+        htmlTransformer.htmlStringToObjectList(
+            "<p>text<br>more<br/><img src=\"a.png\" alt=\"image\"><img src=\"b.png\"/></p>");
+
+    assertThat(nodes).hasSize(1);
+    Element paragraph = (Element) nodes.getFirst();
+    assertThat(paragraph.getElementsByTagName("br").getLength()).isEqualTo(2);
+    assertThat(paragraph.getElementsByTagName("img").getLength()).isEqualTo(2);
+    assertThat(paragraph.getTextContent()).isEqualTo("textmore");
+  }
+
+  @Test
+  void testHtmlStringToObjectList_shouldRemoveColgroupAndIgnoreOnceTags() {
+    List<Object> nodes =
+        htmlTransformer.htmlStringToObjectList(
+            "<table><colgroup><col style=\"width: 10px\"/></colgroup><tr><td>cell</td></tr></table>"
+                + "<p>an <ignore-once>ignored</ignore-once> word&nbsp;</p>");
+
+    assertThat(nodes).hasSize(2);
+    Element table = (Element) nodes.getFirst();
+    assertThat(table.getElementsByTagName("colgroup").getLength()).isZero();
+    Element paragraph = (Element) nodes.get(1);
+    assertThat(paragraph.getChildNodes().getLength()).isEqualTo(1);
+    assertThat(paragraph.getFirstChild().getNodeType()).isEqualTo(Node.TEXT_NODE);
+    assertThat(paragraph.getTextContent()).isEqualTo("an ignored word\u00A0");
+  }
+
+  @Test
+  void testHtmlStringToObjectList_withInvalidXml_shouldThrowAndStayUsable() {
+    assertThatThrownBy(() -> htmlTransformer.htmlStringToObjectList("<p>unclosed"))
+        .isInstanceOf(MappingException.class);
+
+    assertThat(htmlTransformer.htmlStringToObjectList("<p>closed</p>")).hasSize(1);
+  }
+}
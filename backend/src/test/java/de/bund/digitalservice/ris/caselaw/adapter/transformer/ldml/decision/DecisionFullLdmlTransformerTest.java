@@ -35,6 +35,7 @@ import de.bund.digitalservice.ris.caselaw.domain.lookuptable.ParticipatingJudge;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.citation.CitationType;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.documenttype.DocumentType;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.FieldOfLaw;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.List;
@@ -58,7 +59,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class DecisionFullLdmlTransformerTest {
 
   private static Decision testDocumentUnit;
-  static XmlUtilService xmlUtilService = new XmlUtilService(new TransformerFactoryImpl());
+  static XmlUtilService xmlUtilService =
+      new XmlUtilService(new TransformerFactoryImpl(), new SimpleMeterRegistry());
 
   private static DecisionFullLdmlTransformer subject;
   private static UUID documentationUnitId;
@@ -450,7 +452,7 @@ class DecisionFullLdmlTransformerTest {
     var documentationUnit = getEntireDocumentationUnit();
     var expected =
         String.format(
-"""
+            """
 <?xml version="1.0" encoding="utf-8"?>
 <akn:akomaNtoso xmlns:akn="http://docs.oasis-open.org/legaldocml/ns/akn/3.0/WD17"
                 xmlns:ris="http://example.com/0.1/"
@@ -33,6 +33,7 @@ import de.bund.digitalservice.ris.caselaw.domain.lookuptable.ParticipatingJudge;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.citation.CitationType;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.documenttype.DocumentType;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.FieldOfLaw;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.List;
@@ -55,7 +56,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class DecisionReducedLdmlTransformerTest {
 
   private static Decision testDocumentUnit;
-  static XmlUtilService xmlUtilService = new XmlUtilService(new TransformerFactoryImpl());
+  static XmlUtilService xmlUtilService =
+      new XmlUtilService(new TransformerFactoryImpl(), new SimpleMeterRegistry());
 
   private static DecisionReducedLdmlTransformer subject;
   private static UUID documentationUnitId;
@@ -26,6 +26,7 @@ import de.bund.digitalservice.ris.caselaw.domain.lookuptable.NormAbbreviation;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.citation.CitationType;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.documenttype.DocumentType;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.FieldOfLaw;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -43,7 +44,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class PendingProceedingFullLdmlTransformerTest {
 
   private static PendingProceeding testDocumentUnit;
-  static XmlUtilService xmlUtilService = new XmlUtilService(new TransformerFactoryImpl());
+  static XmlUtilService xmlUtilService =
+      new XmlUtilService(new TransformerFactoryImpl(), new SimpleMeterRegistry());
 
   private static PendingProceedingFullLdmlTransformer transformer;
   private static UUID documentationUnitId;
@@ -192,7 +194,7 @@ class PendingProceedingFullLdmlTransformerTest {
     var documentationUnit = getEntireDocumentationUnit();
     var expected =
         String.format(
-"""
+            """
 <?xml version="1.0" encoding="utf-8"?>
 <akn:akomaNtoso xmlns:akn="http://docs.oasis-open.org/legaldocml/ns/akn/3.0/WD17"
                 xmlns:ris="http://example.com/0.1/"
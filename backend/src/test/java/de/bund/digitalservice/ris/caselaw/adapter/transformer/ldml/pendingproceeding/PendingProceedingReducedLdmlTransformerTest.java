@@ -26,6 +26,7 @@ import de.bund.digitalservice.ris.caselaw.domain.lookuptable.NormAbbreviation;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.citation.CitationType;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.documenttype.DocumentType;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.FieldOfLaw;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -43,7 +44,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class PendingProceedingReducedLdmlTransformerTest {
 
   private static PendingProceeding testDocumentUnit;
-  static XmlUtilService xmlUtilService = new XmlUtilService(new TransformerFactoryImpl());
+  static XmlUtilService xmlUtilService =
+      new XmlUtilService(new TransformerFactoryImpl(), new SimpleMeterRegistry());
 
   private static PendingProceedingReducedLdmlTransformer transformer;
   private static UUID documentationUnitId;
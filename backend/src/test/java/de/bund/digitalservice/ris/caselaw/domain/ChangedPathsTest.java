@@ -0,0 +1,55 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.gravity9.jsonpatch.AddOperation;
+import com.gravity9.jsonpatch.JsonPatch;
+import com.gravity9.jsonpatch.MoveOperation;
+import com.gravity9.jsonpatch.RemoveOperation;
+import com.gravity9.jsonpatch.ReplaceOperation;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ChangedPathsTest {
+
+  @Test
+  void testOf_shouldCollectThePathsOfTheOperations() {
+    JsonPatch patch =
+        new JsonPatch(
+            List.of(
+                new ReplaceOperation("/shortTexts/headnote", new TextNode("headnote")),
+                new AddOperation("/coreData/fileNumbers/0", new TextNode("AZ 1")),
+                new RemoveOperation("/coreData/fileNumbers/1")));
+
+    assertThat(ChangedPaths.of(patch).paths())
+        .containsExactlyInAnyOrder(
+            "/shortTexts/headnote", "/coreData/fileNumbers/0", "/coreData/fileNumbers/1");
+  }
+
+  @Test
+  void testOf_withMoveOperation_shouldChangeAllPaths() {
+    JsonPatch patch =
+        new JsonPatch(List.of(new MoveOperation("/coreData/fileNumbers/0", "/coreData/ecli")));
+
+    assertThat(ChangedPaths.of(patch)).isEqualTo(ChangedPaths.ALL);
+  }
+
+  @Test
+  void testAffects_shouldMatchTheChildAndParentPaths() {
+    ChangedPaths changedPaths =
+        new ChangedPaths(Set.of("/coreData/fileNumbers/0", "/contentRelatedIndexing"));
+
+    assertThat(changedPaths.affects("/coreData/fileNumbers")).isTrue();
+    assertThat(changedPaths.affects("/contentRelatedIndexing/norms")).isTrue();
+    assertThat(changedPaths.affects("/coreData/deviatingFileNumbers")).isFalse();
+    assertThat(changedPaths.affects("/coreData/fileNumbersOld")).isFalse();
+    assertThat(changedPaths.affects("/shortTexts/decisionNames")).isFalse();
+  }
+
+  @Test
+  void testAffects_withAllPaths_shouldMatchEveryPath() {
+    assertThat(ChangedPaths.ALL.affects("/shortTexts/decisionNames")).isTrue();
+  }
+}
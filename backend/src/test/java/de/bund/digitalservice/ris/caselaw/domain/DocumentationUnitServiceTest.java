@@ -47,6 +47,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
@@ -707,7 +708,7 @@ class DocumentationUnitServiceTest {
     var du = service.updateDocumentationUnit(decision);
     assertEquals(du, decision);
 
-    verify(repository).save(decision, null, null, false);
+    verify(repository).save(decision, null, null, false, ChangedPaths.ALL);
   }
 
   @Test
@@ -758,7 +759,48 @@ class DocumentationUnitServiceTest {
     PendingProceeding patchedPendingProceeding = pendingProceeding.toBuilder().version(1L).build();
 
     // Assert
-    verify(service).updatePendingProceeding(patchedPendingProceeding, user);
+    verify(service).updatePendingProceeding(patchedPendingProceeding, user, ChangedPaths.of(patch));
+  }
+
+  @Test
+  void testPatchUpdateWithHeadnote_shouldOnlySaveTheChangedPaths()
+      throws DocumentationUnitNotExistsException {
+    // Arrange
+    Decision decision =
+        Decision.builder()
+            .uuid(UUID.randomUUID())
+            .documentNumber("ABCDE20220001")
+            .version(0L)
+            .build();
+
+    JsonPatchOperation replaceOperation =
+        new ReplaceOperation("/shortTexts/headnote", new TextNode("headnote"));
+    JsonPatch patch = new JsonPatch(List.of(replaceOperation));
+    User user = User.builder().build();
+
+    when(repository.findByUuid(decision.uuid(), user)).thenReturn(decision);
+    when(patchMapperService.calculatePatch(any(), any())).thenReturn(new JsonPatch(List.of()));
+    when(patchMapperService.removePatchForSamePath(any(), any())).thenReturn(patch);
+    when(patchMapperService.applyPatchToEntity(any(), any())).thenReturn(decision);
+    when(patchMapperService.handlePatchForSamePath(any(), any(), any(), any()))
+        .thenReturn(
+            RisJsonPatch.builder()
+                .patch(new JsonPatch(List.of()))
+                .documentationUnitVersion(1L)
+                .errorPaths(Collections.emptyList())
+                .build());
+    when(patchMapperService.removeOpsWhereContentNotChanged(any(), any())).thenReturn(patch);
+
+    // Act
+    service.updateDocumentationUnit(
+        decision.uuid(), RisJsonPatch.builder().patch(patch).build(), user);
+
+    // Assert
+    ChangedPaths changedPaths = new ChangedPaths(Set.of("/shortTexts/headnote"));
+    verify(repository, never()).saveKeywords(any());
+    verify(repository, never()).saveFieldsOfLaw(any());
+    verify(repository, never()).saveProcedures(any(), any());
+    verify(repository).save(any(), eq(user), any(), anyBoolean(), eq(changedPaths));
   }
 
   @Test
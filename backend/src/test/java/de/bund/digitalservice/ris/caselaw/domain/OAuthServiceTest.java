@@ -2,6 +2,9 @@ package de.bund.digitalservice.ris.caselaw.domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -25,6 +28,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -32,6 +36,8 @@ import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 @ExtendWith(SpringExtension.class)
 @Import({OAuthService.class})
@@ -53,8 +59,10 @@ class OAuthServiceTest {
       throws DocumentationUnitNotExistsException {
     // Arrange
     String documentNumber = "DOC12345";
-    Decision decision = Decision.builder().documentNumber(documentNumber).build();
-    when(documentationUnitService.getByDocumentNumber(documentNumber)).thenReturn(decision);
+    DocumentationUnitAccessInfo accessInfo =
+        DocumentationUnitAccessInfo.builder().documentNumber(documentNumber).build();
+    when(documentationUnitService.getAccessInfoByDocumentNumber(documentNumber))
+        .thenReturn(accessInfo);
 
     // Act
     Function<String, Boolean> result = service.userHasReadAccessByDocumentNumber();
@@ -69,12 +77,13 @@ class OAuthServiceTest {
 
     // Arrange
     String documentNumber = "DOC12345";
-    Decision decision =
-        Decision.builder()
+    DocumentationUnitAccessInfo accessInfo =
+        DocumentationUnitAccessInfo.builder()
             .documentNumber(documentNumber)
-            .status(Status.builder().publicationStatus(PublicationStatus.PUBLISHED).build())
+            .publicationStatus(PublicationStatus.PUBLISHED)
             .build();
-    when(documentationUnitService.getByDocumentNumber(documentNumber)).thenReturn(decision);
+    when(documentationUnitService.getAccessInfoByDocumentNumber(documentNumber))
+        .thenReturn(accessInfo);
 
     // Act
     Function<String, Boolean> result = service.userHasReadAccessByDocumentNumber();
@@ -93,13 +102,14 @@ class OAuthServiceTest {
     when(authentication.getPrincipal()).thenReturn(oidcUser);
     String documentNumber = "DOC12345";
     DocumentationOffice office = DocumentationOffice.builder().abbreviation("DS").build();
-    Decision decision =
-        Decision.builder()
+    DocumentationUnitAccessInfo accessInfo =
+        DocumentationUnitAccessInfo.builder()
             .documentNumber(documentNumber)
-            .status(Status.builder().publicationStatus(PublicationStatus.DUPLICATED).build())
-            .coreData(CoreData.builder().documentationOffice(office).build())
+            .publicationStatus(PublicationStatus.DUPLICATED)
+            .documentationOffice(office)
             .build();
-    when(documentationUnitService.getByDocumentNumber(documentNumber)).thenReturn(decision);
+    when(documentationUnitService.getAccessInfoByDocumentNumber(documentNumber))
+        .thenReturn(accessInfo);
     when(userService.getDocumentationOffice(any())).thenReturn(office);
 
     // Act
@@ -118,16 +128,14 @@ class OAuthServiceTest {
     when(authentication.getPrincipal()).thenReturn(oidcUser);
     String documentNumber = "DOC12345";
     DocumentationOffice office = DocumentationOffice.builder().abbreviation("DS").build();
-    Decision decision =
-        Decision.builder()
+    DocumentationUnitAccessInfo accessInfo =
+        DocumentationUnitAccessInfo.builder()
             .documentNumber(documentNumber)
-            .status(
-                Status.builder()
-                    .publicationStatus(PublicationStatus.EXTERNAL_HANDOVER_PENDING)
-                    .build())
-            .coreData(CoreData.builder().documentationOffice(office).build())
+            .publicationStatus(PublicationStatus.EXTERNAL_HANDOVER_PENDING)
+            .documentationOffice(office)
             .build();
-    when(documentationUnitService.getByDocumentNumber(documentNumber)).thenReturn(decision);
+    when(documentationUnitService.getAccessInfoByDocumentNumber(documentNumber))
+        .thenReturn(accessInfo);
     when(userService.getDocumentationOffice(any())).thenReturn(office);
 
     Function<String, Boolean> result = service.userHasReadAccessByDocumentNumber();
@@ -144,19 +152,14 @@ class OAuthServiceTest {
     when(authentication.getPrincipal()).thenReturn(oidcUser);
     String documentNumber = "DOC12345";
     DocumentationOffice office = DocumentationOffice.builder().abbreviation("BGH").build();
-    Decision decision =
-        Decision.builder()
+    DocumentationUnitAccessInfo accessInfo =
+        DocumentationUnitAccessInfo.builder()
             .documentNumber(documentNumber)
-            .status(
-                Status.builder()
-                    .publicationStatus(PublicationStatus.EXTERNAL_HANDOVER_PENDING)
-                    .build())
-            .coreData(
-                CoreData.builder()
-                    .documentationOffice(DocumentationOffice.builder().abbreviation("DS").build())
-                    .build())
+            .publicationStatus(PublicationStatus.EXTERNAL_HANDOVER_PENDING)
+            .documentationOffice(DocumentationOffice.builder().abbreviation("DS").build())
             .build();
-    when(documentationUnitService.getByDocumentNumber(documentNumber)).thenReturn(decision);
+    when(documentationUnitService.getAccessInfoByDocumentNumber(documentNumber))
+        .thenReturn(accessInfo);
     when(userService.getDocumentationOffice(any())).thenReturn(office);
 
     Function<String, Boolean> result = service.userHasReadAccessByDocumentNumber();
@@ -174,20 +177,15 @@ class OAuthServiceTest {
     when(authentication.getPrincipal()).thenReturn(oidcUser);
     String documentNumber = "DOC12345";
     DocumentationOffice office = DocumentationOffice.builder().abbreviation("BGH").build();
-    Decision decision =
-        Decision.builder()
+    DocumentationUnitAccessInfo accessInfo =
+        DocumentationUnitAccessInfo.builder()
             .documentNumber(documentNumber)
-            .status(
-                Status.builder()
-                    .publicationStatus(PublicationStatus.EXTERNAL_HANDOVER_PENDING)
-                    .build())
-            .coreData(
-                CoreData.builder()
-                    .documentationOffice(DocumentationOffice.builder().abbreviation("DS").build())
-                    .creatingDocOffice(DocumentationOffice.builder().abbreviation("BGH").build())
-                    .build())
+            .publicationStatus(PublicationStatus.EXTERNAL_HANDOVER_PENDING)
+            .documentationOffice(DocumentationOffice.builder().abbreviation("DS").build())
+            .creatingDocumentationOffice(DocumentationOffice.builder().abbreviation("BGH").build())
             .build();
-    when(documentationUnitService.getByDocumentNumber(documentNumber)).thenReturn(decision);
+    when(documentationUnitService.getAccessInfoByDocumentNumber(documentNumber))
+        .thenReturn(accessInfo);
     when(userService.getDocumentationOffice(any())).thenReturn(office);
 
     Function<String, Boolean> result = service.userHasReadAccessByDocumentNumber();
@@ -205,16 +203,14 @@ class OAuthServiceTest {
     when(authentication.getPrincipal()).thenReturn(oidcUser);
     String documentNumber = "DOC12345";
     DocumentationOffice office = DocumentationOffice.builder().abbreviation("BGH").build();
-    Decision decision =
-        Decision.builder()
+    DocumentationUnitAccessInfo accessInfo =
+        DocumentationUnitAccessInfo.builder()
             .documentNumber(documentNumber)
-            .status(Status.builder().publicationStatus(PublicationStatus.UNPUBLISHED).build())
-            .coreData(
-                CoreData.builder()
-                    .documentationOffice(DocumentationOffice.builder().abbreviation("DS").build())
-                    .build())
+            .publicationStatus(PublicationStatus.UNPUBLISHED)
+            .documentationOffice(DocumentationOffice.builder().abbreviation("DS").build())
             .build();
-    when(documentationUnitService.getByDocumentNumber(documentNumber)).thenReturn(decision);
+    when(documentationUnitService.getAccessInfoByDocumentNumber(documentNumber))
+        .thenReturn(accessInfo);
     when(userService.getDocumentationOffice(any())).thenReturn(office);
 
     Function<String, Boolean> result = service.userHasReadAccessByDocumentNumber();
@@ -227,8 +223,9 @@ class OAuthServiceTest {
       throws DocumentationUnitNotExistsException {
     // Arrange
     UUID testUUID = UUID.randomUUID();
-    Decision decision = Decision.builder().uuid(testUUID).build();
-    when(documentationUnitService.getByUuid(testUUID)).thenReturn(decision);
+    DocumentationUnitAccessInfo accessInfo =
+        DocumentationUnitAccessInfo.builder().id(testUUID).build();
+    when(documentationUnitService.getAccessInfoByUuid(testUUID)).thenReturn(accessInfo);
 
     // Act
     Function<UUID, Boolean> result = service.userHasReadAccessByDocumentationUnitId();
@@ -247,18 +244,15 @@ class OAuthServiceTest {
     when(authentication.getPrincipal()).thenReturn(oidcUser);
 
     DocumentationOffice office = DocumentationOffice.builder().abbreviation("BGH").build();
-    Decision decision =
-        Decision.builder()
-            .uuid(testUUID)
-            .status(Status.builder().publicationStatus(PublicationStatus.DUPLICATED).build())
-            .coreData(
-                CoreData.builder()
-                    .documentationOffice(DocumentationOffice.builder().abbreviation("DS").build())
-                    .build())
+    DocumentationUnitAccessInfo accessInfo =
+        DocumentationUnitAccessInfo.builder()
+            .id(testUUID)
+            .publicationStatus(PublicationStatus.DUPLICATED)
+            .documentationOffice(DocumentationOffice.builder().abbreviation("DS").build())
             .build();
 
     when(userService.getDocumentationOffice(any())).thenReturn(office);
-    when(documentationUnitService.getByUuid(testUUID)).thenReturn(decision);
+    when(documentationUnitService.getAccessInfoByUuid(testUUID)).thenReturn(accessInfo);
 
     // Act
     Function<UUID, Boolean> result = service.userHasReadAccessByDocumentationUnitId();
@@ -273,7 +267,7 @@ class OAuthServiceTest {
           throws DocumentationUnitNotExistsException {
     UUID testUUID = UUID.randomUUID();
 
-    when(documentationUnitService.getByUuid(testUUID))
+    when(documentationUnitService.getAccessInfoByUuid(testUUID))
         .thenThrow(new DocumentationUnitNotExistsException("Documentation unit not found"));
 
     Function<UUID, Boolean> result = service.userHasReadAccessByDocumentationUnitId();
@@ -286,7 +280,7 @@ class OAuthServiceTest {
       throws DocumentationUnitNotExistsException {
     UUID testUUID = UUID.randomUUID();
 
-    when(documentationUnitService.getByUuid(testUUID)).thenReturn(null);
+    when(documentationUnitService.getAccessInfoByUuid(testUUID)).thenReturn(null);
 
     Function<UUID, Boolean> result = service.userHasReadAccessByDocumentationUnitId();
 
@@ -360,7 +354,7 @@ class OAuthServiceTest {
       throws DocumentationUnitNotExistsException {
     // Arrange
     UUID uuid = UUID.randomUUID();
-    when(documentationUnitService.getByUuid(uuid)).thenReturn(null);
+    when(documentationUnitService.getAccessInfoByUuid(uuid)).thenReturn(null);
 
     // Act
     Function<UUID, Boolean> result = service.userHasWriteAccess();
@@ -377,11 +371,11 @@ class OAuthServiceTest {
     UUID uuid = UUID.randomUUID();
     DocumentationOffice documentationOffice = DocumentationOffice.builder().build();
     SecurityContextHolder.setContext(securityContext);
-    when(documentationUnitService.getByUuid(uuid))
+    when(documentationUnitService.getAccessInfoByUuid(uuid))
         .thenReturn(
-            Decision.builder()
-                .coreData(CoreData.builder().documentationOffice(documentationOffice).build())
-                .status(Status.builder().publicationStatus(PublicationStatus.PUBLISHED).build())
+            DocumentationUnitAccessInfo.builder()
+                .documentationOffice(documentationOffice)
+                .publicationStatus(PublicationStatus.PUBLISHED)
                 .build());
     when(securityContext.getAuthentication()).thenReturn(authentication);
     when(authentication.getPrincipal()).thenReturn(oidcUser);
@@ -404,12 +398,9 @@ class OAuthServiceTest {
     when(authentication.getPrincipal()).thenReturn(oidcUser);
     UUID testUUID = UUID.randomUUID();
     DocumentationOffice office = DocumentationOffice.builder().abbreviation("DS").build();
-    Decision decision =
-        Decision.builder()
-            .uuid(testUUID)
-            .coreData(CoreData.builder().documentationOffice(office).build())
-            .build();
-    when(documentationUnitService.getByUuid(testUUID)).thenReturn(decision);
+    DocumentationUnitAccessInfo accessInfo =
+        DocumentationUnitAccessInfo.builder().id(testUUID).documentationOffice(office).build();
+    when(documentationUnitService.getAccessInfoByUuid(testUUID)).thenReturn(accessInfo);
     when(userService.getDocumentationOffice(any())).thenReturn(office);
 
     // Act
@@ -430,16 +421,13 @@ class OAuthServiceTest {
     when(authentication.getPrincipal()).thenReturn(oidcUser);
     UUID testUUID = UUID.randomUUID();
     DocumentationOffice office = DocumentationOffice.builder().abbreviation("DS").build();
-    Decision decision =
-        Decision.builder()
-            .uuid(testUUID)
-            .status(
-                Status.builder()
-                    .publicationStatus(PublicationStatus.EXTERNAL_HANDOVER_PENDING)
-                    .build())
-            .coreData(CoreData.builder().documentationOffice(office).build())
+    DocumentationUnitAccessInfo accessInfo =
+        DocumentationUnitAccessInfo.builder()
+            .id(testUUID)
+            .publicationStatus(PublicationStatus.EXTERNAL_HANDOVER_PENDING)
+            .documentationOffice(office)
             .build();
-    when(documentationUnitService.getByUuid(testUUID)).thenReturn(decision);
+    when(documentationUnitService.getAccessInfoByUuid(testUUID)).thenReturn(accessInfo);
     when(userService.getDocumentationOffice(any())).thenReturn(office);
 
     // Act
@@ -459,19 +447,13 @@ class OAuthServiceTest {
     when(authentication.getPrincipal()).thenReturn(oidcUser);
     UUID testUUID = UUID.randomUUID();
     DocumentationOffice office = DocumentationOffice.builder().abbreviation("BGH").build();
-    Decision decision =
-        Decision.builder()
-            .uuid(testUUID)
-            .status(
-                Status.builder()
-                    .publicationStatus(PublicationStatus.EXTERNAL_HANDOVER_PENDING)
-                    .build())
-            .coreData(
-                CoreData.builder()
-                    .documentationOffice(DocumentationOffice.builder().abbreviation("DS").build())
-                    .build())
+    DocumentationUnitAccessInfo accessInfo =
+        DocumentationUnitAccessInfo.builder()
+            .id(testUUID)
+            .publicationStatus(PublicationStatus.EXTERNAL_HANDOVER_PENDING)
+            .documentationOffice(DocumentationOffice.builder().abbreviation("DS").build())
             .build();
-    when(documentationUnitService.getByUuid(testUUID)).thenReturn(decision);
+    when(documentationUnitService.getAccessInfoByUuid(testUUID)).thenReturn(accessInfo);
     when(userService.getDocumentationOffice(any())).thenReturn(office);
 
     // Act
@@ -492,20 +474,14 @@ class OAuthServiceTest {
     when(authentication.getPrincipal()).thenReturn(oidcUser);
     UUID testUUID = UUID.randomUUID();
     DocumentationOffice office = DocumentationOffice.builder().abbreviation("BGH").build();
-    Decision decision =
-        Decision.builder()
-            .uuid(testUUID)
-            .status(
-                Status.builder()
-                    .publicationStatus(PublicationStatus.EXTERNAL_HANDOVER_PENDING)
-                    .build())
-            .coreData(
-                CoreData.builder()
-                    .documentationOffice(DocumentationOffice.builder().abbreviation("DS").build())
-                    .creatingDocOffice(DocumentationOffice.builder().abbreviation("BGH").build())
-                    .build())
+    DocumentationUnitAccessInfo accessInfo =
+        DocumentationUnitAccessInfo.builder()
+            .id(testUUID)
+            .publicationStatus(PublicationStatus.EXTERNAL_HANDOVER_PENDING)
+            .documentationOffice(DocumentationOffice.builder().abbreviation("DS").build())
+            .creatingDocumentationOffice(DocumentationOffice.builder().abbreviation("BGH").build())
             .build();
-    when(documentationUnitService.getByUuid(testUUID)).thenReturn(decision);
+    when(documentationUnitService.getAccessInfoByUuid(testUUID)).thenReturn(accessInfo);
     when(userService.getDocumentationOffice(any())).thenReturn(office);
 
     // Act
@@ -526,17 +502,14 @@ class OAuthServiceTest {
     when(authentication.getPrincipal()).thenReturn(oidcUser);
     UUID testUUID = UUID.randomUUID();
     DocumentationOffice office = DocumentationOffice.builder().abbreviation("BGH").build();
-    Decision decision =
-        Decision.builder()
-            .uuid(testUUID)
-            .status(Status.builder().publicationStatus(PublicationStatus.UNPUBLISHED).build())
-            .coreData(
-                CoreData.builder()
-                    .documentationOffice(DocumentationOffice.builder().abbreviation("DS").build())
-                    .creatingDocOffice(DocumentationOffice.builder().abbreviation("BGH").build())
-                    .build())
+    DocumentationUnitAccessInfo accessInfo =
+        DocumentationUnitAccessInfo.builder()
+            .id(testUUID)
+            .publicationStatus(PublicationStatus.UNPUBLISHED)
+            .documentationOffice(DocumentationOffice.builder().abbreviation("DS").build())
+            .creatingDocumentationOffice(DocumentationOffice.builder().abbreviation("BGH").build())
             .build();
-    when(documentationUnitService.getByUuid(testUUID)).thenReturn(decision);
+    when(documentationUnitService.getAccessInfoByUuid(testUUID)).thenReturn(accessInfo);
     when(userService.getDocumentationOffice(any())).thenReturn(office);
 
     // Act
@@ -685,16 +658,14 @@ class OAuthServiceTest {
     when(authentication.getPrincipal()).thenReturn(oidcUser);
     String documentNumber = "DOC12345";
     DocumentationOffice office = DocumentationOffice.builder().abbreviation("DS").build();
-    Decision decision =
-        Decision.builder()
+    DocumentationUnitAccessInfo accessInfo =
+        DocumentationUnitAccessInfo.builder()
             .documentNumber(documentNumber)
-            .status(
-                Status.builder()
-                    .publicationStatus(PublicationStatus.EXTERNAL_HANDOVER_PENDING)
-                    .build())
-            .coreData(CoreData.builder().documentationOffice(office).build())
+            .publicationStatus(PublicationStatus.EXTERNAL_HANDOVER_PENDING)
+            .documentationOffice(office)
             .build();
-    when(documentationUnitService.getByDocumentNumber(documentNumber)).thenReturn(decision);
+    when(documentationUnitService.getAccessInfoByDocumentNumber(documentNumber))
+        .thenReturn(accessInfo);
     when(userService.getDocumentationOffice(any())).thenReturn(office);
 
     Function<String, Boolean> result = service.userHasSameDocOfficeAsDocument();
@@ -711,19 +682,14 @@ class OAuthServiceTest {
     when(authentication.getPrincipal()).thenReturn(oidcUser);
     String documentNumber = "DOC12345";
     DocumentationOffice office = DocumentationOffice.builder().abbreviation("BGH").build();
-    Decision decision =
-        Decision.builder()
+    DocumentationUnitAccessInfo accessInfo =
+        DocumentationUnitAccessInfo.builder()
             .documentNumber(documentNumber)
-            .status(
-                Status.builder()
-                    .publicationStatus(PublicationStatus.EXTERNAL_HANDOVER_PENDING)
-                    .build())
-            .coreData(
-                CoreData.builder()
-                    .documentationOffice(DocumentationOffice.builder().abbreviation("DS").build())
-                    .build())
+            .publicationStatus(PublicationStatus.EXTERNAL_HANDOVER_PENDING)
+            .documentationOffice(DocumentationOffice.builder().abbreviation("DS").build())
             .build();
-    when(documentationUnitService.getByDocumentNumber(documentNumber)).thenReturn(decision);
+    when(documentationUnitService.getAccessInfoByDocumentNumber(documentNumber))
+        .thenReturn(accessInfo);
     when(userService.getDocumentationOffice(any())).thenReturn(office);
 
     Function<String, Boolean> result = service.userHasSameDocOfficeAsDocument();
@@ -737,7 +703,7 @@ class OAuthServiceTest {
 
     // Arrange
     UUID uuid = UUID.randomUUID();
-    when(documentationUnitService.getByUuid(uuid)).thenReturn(null);
+    when(documentationUnitService.getAccessInfoByUuid(uuid)).thenReturn(null);
 
     // Act
     Function<UUID, Boolean> result = service.isAssignedViaProcedure();
@@ -754,14 +720,9 @@ class OAuthServiceTest {
     UUID documentationUnitId = UUID.randomUUID();
     UUID userGroupId = UUID.randomUUID();
     SecurityContextHolder.setContext(securityContext);
-    when(documentationUnitService.getByUuid(documentationUnitId))
+    when(documentationUnitService.getAccessInfoByUuid(documentationUnitId))
         .thenReturn(
-            Decision.builder()
-                .coreData(
-                    CoreData.builder()
-                        .procedure(Procedure.builder().userGroupId(userGroupId).build())
-                        .build())
-                .build());
+            DocumentationUnitAccessInfo.builder().procedureUserGroupId(userGroupId).build());
     when(securityContext.getAuthentication()).thenReturn(authentication);
     when(authentication.getPrincipal()).thenReturn(oidcUser);
     when(userService.getUserGroup(oidcUser))
@@ -782,14 +743,8 @@ class OAuthServiceTest {
     UUID documentationUnitId = UUID.randomUUID();
     UUID userGroupId = UUID.randomUUID();
     SecurityContextHolder.setContext(securityContext);
-    when(documentationUnitService.getByUuid(documentationUnitId))
-        .thenReturn(
-            Decision.builder()
-                .coreData(
-                    CoreData.builder()
-                        .procedure(Procedure.builder().userGroupId(null).build())
-                        .build())
-                .build());
+    when(documentationUnitService.getAccessInfoByUuid(documentationUnitId))
+        .thenReturn(DocumentationUnitAccessInfo.builder().procedureUserGroupId(null).build());
     when(securityContext.getAuthentication()).thenReturn(authentication);
     when(authentication.getPrincipal()).thenReturn(oidcUser);
     when(userService.getUserGroup(oidcUser))
@@ -802,6 +757,45 @@ class OAuthServiceTest {
     assertThat(result.apply(documentationUnitId)).isFalse();
   }
 
+  @Test
+  void testAccessChecks_withinRequest_shouldLoadAccessInfoOnlyOnce()
+      throws DocumentationUnitNotExistsException {
+    // Arrange
+    UUID uuid = UUID.randomUUID();
+    String documentNumber = "DOC12345";
+    UUID userGroupId = UUID.randomUUID();
+    DocumentationOffice office = DocumentationOffice.builder().abbreviation("DS").build();
+    SecurityContextHolder.setContext(securityContext);
+    when(securityContext.getAuthentication()).thenReturn(authentication);
+    when(authentication.getPrincipal()).thenReturn(oidcUser);
+    when(userService.getDocumentationOffice(any())).thenReturn(office);
+    when(userService.getUserGroup(oidcUser))
+        .thenReturn(Optional.of(UserGroup.builder().id(userGroupId).build()));
+    when(documentationUnitService.getAccessInfoByUuid(uuid))
+        .thenReturn(
+            DocumentationUnitAccessInfo.builder()
+                .id(uuid)
+                .documentNumber(documentNumber)
+                .documentationOffice(office)
+                .publicationStatus(PublicationStatus.UNPUBLISHED)
+                .procedureUserGroupId(userGroupId)
+                .build());
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+
+    try {
+      // Act + Assert
+      assertThat(service.userHasWriteAccess().apply(uuid)).isTrue();
+      assertThat(service.isAssignedViaProcedure().apply(uuid)).isTrue();
+      assertThat(service.userHasReadAccessByDocumentNumber().apply(documentNumber)).isTrue();
+
+      verify(documentationUnitService, times(1)).getAccessInfoByUuid(uuid);
+      verify(documentationUnitService, never()).getAccessInfoByDocumentNumber(any());
+    } finally {
+      RequestContextHolder.resetRequestAttributes();
+    }
+  }
+
   @ParameterizedTest
   @ValueSource(
       strings = {
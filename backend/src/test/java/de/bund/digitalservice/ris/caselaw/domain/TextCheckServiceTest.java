@@ -8,6 +8,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import ch.qos.logback.classic.Level;
@@ -23,6 +25,7 @@ import de.bund.digitalservice.ris.caselaw.domain.textcheck.TextCheckCategoryResp
 import de.bund.digitalservice.ris.caselaw.domain.textcheck.ignored_words.IgnoredTextCheckType;
 import de.bund.digitalservice.ris.caselaw.domain.textcheck.ignored_words.IgnoredTextCheckWord;
 import de.bund.digitalservice.ris.caselaw.domain.textcheck.ignored_words.IgnoredTextCheckWordRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
@@ -46,7 +49,8 @@ class TextCheckServiceTest {
     ignoredTextCheckWordRepository = mock(IgnoredTextCheckWordRepository.class);
 
     textCheckService =
-        new TextCheckMockService(documentationUnitRepository, ignoredTextCheckWordRepository);
+        new TextCheckMockService(
+            documentationUnitRepository, ignoredTextCheckWordRepository, new SimpleMeterRegistry());
   }
 
   @Test
@@ -79,6 +83,40 @@ class TextCheckServiceTest {
     assertNotNull(result);
   }
 
+  @Test
+  void testCheckWholeDocumentationUnit_shouldLoadIgnoredWordsOnce()
+      throws DocumentationUnitNotExistsException {
+    UUID uuid = UUID.randomUUID();
+
+    when(documentationUnitRepository.findByUuid(uuid))
+        .thenReturn(
+            Decision.builder()
+                .uuid(uuid)
+                .longTexts(
+                    LongTexts.builder()
+                        .reasons("<p>misspellinng in reasons</p>")
+                        .caseFacts("<p>misspellinng in case facts</p>")
+                        .tenor("<p>notIgnoredWord in tenor</p>")
+                        .build())
+                .coreData(CoreData.builder().build())
+                .shortTexts(ShortTexts.builder().headnote("<p>misspellinng</p>").build())
+                .build());
+    when(ignoredTextCheckWordRepository.findAllIgnoredInDocumentationUnit(uuid))
+        .thenReturn(
+            List.of(
+                new IgnoredTextCheckWord(
+                    UUID.randomUUID(), IgnoredTextCheckType.DOCUMENTATION_UNIT, "misspellinng")));
+
+    List<Match> result = textCheckService.checkWholeDocumentationUnit(uuid);
+
+    assertThat(result).hasSize(4);
+    assertThat(result)
+        .filteredOn(match -> match.word().equals("misspellinng"))
+        .allSatisfy(match -> assertThat(match.ignoredTextCheckWords()).hasSize(1));
+    verify(ignoredTextCheckWordRepository, times(1)).findAllIgnoredInDocumentationUnit(uuid);
+    verify(ignoredTextCheckWordRepository, times(1)).findAllGloballyIgnoredWords();
+  }
+
   @Test
   void testCheckWholeDocumentationUnit_invalidDocumentableType()
       throws DocumentationUnitNotExistsException {
@@ -531,8 +569,7 @@ class TextCheckServiceTest {
     when(mockService.checkCategoryByHTML(any(String.class), any(CategoryType.class)))
         .thenCallRealMethod();
 
-    when(ignoredTextCheckWordRepository.findByDocumentationUnitIdOrByGlobalWords(
-            any(), any(UUID.class)))
+    when(ignoredTextCheckWordRepository.findAllGloballyIgnoredWords())
         .thenReturn(List.of(globallyIgnoredWord));
 
     TextCheckCategoryResponse response =
@@ -557,8 +594,7 @@ class TextCheckServiceTest {
         new IgnoredTextCheckWord(
             UUID.randomUUID(), IgnoredTextCheckType.DOCUMENTATION_UNIT, ignoredWord);
 
-    when(ignoredTextCheckWordRepository.findByDocumentationUnitIdOrByGlobalWords(
-            any(), any(UUID.class)))
+    when(ignoredTextCheckWordRepository.findAllIgnoredInDocumentationUnit(any(UUID.class)))
         .thenReturn(List.of(docunitIgnoredWord));
 
     TextCheckService mockService = spy(textCheckService);
@@ -593,8 +629,7 @@ class TextCheckServiceTest {
     final String onceIgnoredWord = "once ignored match";
     final UUID docUnitId = UUID.randomUUID();
     // no globally or docunit ignored words
-    when(ignoredTextCheckWordRepository.findByDocumentationUnitIdOrByGlobalWords(
-            any(), any(UUID.class)))
+    when(ignoredTextCheckWordRepository.findAllIgnoredInDocumentationUnit(any(UUID.class)))
         .thenReturn(List.of());
 
     TextCheckService mockService = spy(textCheckService);
@@ -630,8 +665,7 @@ class TextCheckServiceTest {
     final String onceIgnoredWord = "errrror";
     final UUID docUnitId = UUID.randomUUID();
     // no globally or docunit ignored words
-    when(ignoredTextCheckWordRepository.findByDocumentationUnitIdOrByGlobalWords(
-            any(), any(UUID.class)))
+    when(ignoredTextCheckWordRepository.findAllIgnoredInDocumentationUnit(any(UUID.class)))
         .thenReturn(List.of());
 
     TextCheckService mockService = spy(textCheckService);
@@ -682,8 +716,7 @@ class TextCheckServiceTest {
             .rule(Rule.builder().issueType("missspelling").build())
             .build();
 
-    when(ignoredTextCheckWordRepository.findByDocumentationUnitIdOrByGlobalWords(
-            any(), any(UUID.class)))
+    when(ignoredTextCheckWordRepository.findAllGloballyIgnoredWords())
         .thenReturn(List.of(globallyIgnoredWord));
 
     // ACT
@@ -719,8 +752,7 @@ class TextCheckServiceTest {
                 .rule(Rule.builder().issueType("misspelling").build())
                 .build());
 
-    when(ignoredTextCheckWordRepository.findByDocumentationUnitIdOrByGlobalWords(
-            any(), any(UUID.class)))
+    when(ignoredTextCheckWordRepository.findAllGloballyIgnoredWords())
         .thenReturn(List.of(globallyIgnoredWord));
 
     // ACT
@@ -754,8 +786,7 @@ class TextCheckServiceTest {
             .isIgnoredOnce(false)
             .build();
 
-    when(ignoredTextCheckWordRepository.findByDocumentationUnitIdOrByGlobalWords(
-            any(), any(UUID.class)))
+    when(ignoredTextCheckWordRepository.findAllIgnoredInDocumentationUnit(any(UUID.class)))
         .thenReturn(List.of(globallyIgnoredWord));
 
     // ACT
@@ -774,8 +805,7 @@ class TextCheckServiceTest {
     // ARRANGE: HTML HAS <ignore-once> tag
     String originalHtml = "<p>text <ignore-once>misspelling</ignore-once> text</p>";
 
-    when(ignoredTextCheckWordRepository.findByDocumentationUnitIdOrByGlobalWords(
-            any(), any(UUID.class)))
+    when(ignoredTextCheckWordRepository.findAllIgnoredInDocumentationUnit(any(UUID.class)))
         .thenReturn(List.of());
 
     Match matchBeforeIgnoreLogic =
@@ -807,7 +837,7 @@ class TextCheckServiceTest {
     final int FIRST_OFFSET = 31;
     final int SECOND_OFFSET = 75;
 
-    when(ignoredTextCheckWordRepository.findByDocumentationUnitIdOrByGlobalWords(any(), any()))
+    when(ignoredTextCheckWordRepository.findAllIgnoredInDocumentationUnit(any(UUID.class)))
         .thenReturn(List.of());
 
     List<Match> matchesBeforeLogic =
@@ -829,8 +859,7 @@ class TextCheckServiceTest {
   void testAddIgnoredTextChecksIndividually_IgnoredByNeither() {
     String originalHtml = "<p>text misspelling text</p>";
 
-    when(ignoredTextCheckWordRepository.findByDocumentationUnitIdOrByGlobalWords(
-            any(), any(UUID.class)))
+    when(ignoredTextCheckWordRepository.findAllIgnoredInDocumentationUnit(any(UUID.class)))
         .thenReturn(List.of());
 
     Match matchBeforeIgnoreLogic =
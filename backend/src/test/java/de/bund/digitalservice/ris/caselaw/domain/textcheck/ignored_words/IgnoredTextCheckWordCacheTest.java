@@ -0,0 +1,118 @@
+package de.bund.digitalservice.ris.caselaw.domain.textcheck.ignored_words;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IgnoredTextCheckWordCacheTest {
+  private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+  private static final UUID DOCUMENTATION_UNIT_ID = UUID.randomUUID();
+
+  private IgnoredTextCheckWordRepository repository;
+  private SimpleMeterRegistry meterRegistry;
+  private Clock clock;
+  private IgnoredTextCheckWordCache cache;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(IgnoredTextCheckWordRepository.class);
+    meterRegistry = new SimpleMeterRegistry();
+    clock = mock(Clock.class);
+    when(clock.instant()).thenReturn(NOW);
+    cache = new IgnoredTextCheckWordCache(repository, meterRegistry, clock);
+  }
+
+  @Test
+  void shouldFindGlobalAndDocumentationUnitWords() {
+    var global = word(IgnoredTextCheckType.GLOBAL, "global");
+    var jdv = word(IgnoredTextCheckType.GLOBAL_JDV, "jdv");
+    var local = word(IgnoredTextCheckType.DOCUMENTATION_UNIT, "local");
+    when(repository.findAllGloballyIgnoredWords()).thenReturn(List.of(global, jdv));
+    when(repository.findAllIgnoredInDocumentationUnit(DOCUMENTATION_UNIT_ID))
+        .thenReturn(List.of(local));
+
+    var result = cache.find(DOCUMENTATION_UNIT_ID, List.of("global", "jdv", "local", "other"));
+
+    assertThat(result).containsExactlyInAnyOrder(global, jdv, local);
+  }
+
+  @Test
+  void shouldQueryTheDatabaseOnlyOnceForRepeatedLookups() {
+    cache.preload(DOCUMENTATION_UNIT_ID);
+    cache.find(DOCUMENTATION_UNIT_ID, List.of("word"));
+    cache.find(DOCUMENTATION_UNIT_ID, List.of("word"));
+
+    verify(repository, times(1)).findAllGloballyIgnoredWords();
+    verify(repository, times(1)).findAllIgnoredInDocumentationUnit(DOCUMENTATION_UNIT_ID);
+    assertThat(counter("documentation_unit", "miss")).isEqualTo(1);
+    assertThat(counter("documentation_unit", "hit")).isEqualTo(2);
+    assertThat(counter("global", "miss")).isEqualTo(1);
+    assertThat(counter("global", "hit")).isEqualTo(2);
+  }
+
+  @Test
+  void shouldReloadExpiredEntries() {
+    cache.find(DOCUMENTATION_UNIT_ID, List.of("word"));
+
+    when(clock.instant()).thenReturn(NOW.plus(IgnoredTextCheckWordCache.DOCUMENTATION_UNIT_TTL));
+    cache.find(DOCUMENTATION_UNIT_ID, List.of("word"));
+
+    when(clock.instant()).thenReturn(NOW.plus(IgnoredTextCheckWordCache.GLOBAL_RELOAD_INTERVAL));
+    cache.find(DOCUMENTATION_UNIT_ID, List.of("word"));
+
+    verify(repository, times(2)).findAllGloballyIgnoredWords();
+    verify(repository, times(3)).findAllIgnoredInDocumentationUnit(DOCUMENTATION_UNIT_ID);
+  }
+
+  @Test
+  void shouldUpdateTheGlobalIndexIncrementally() {
+    var jdv = word(IgnoredTextCheckType.GLOBAL_JDV, "word");
+    when(repository.findAllGloballyIgnoredWords()).thenReturn(List.of(jdv));
+    cache.preload(DOCUMENTATION_UNIT_ID);
+
+    var global = word(IgnoredTextCheckType.GLOBAL, "word");
+    cache.addGlobalWord(global);
+    assertThat(cache.find(DOCUMENTATION_UNIT_ID, List.of("word")))
+        .containsExactlyInAnyOrder(jdv, global);
+
+    cache.removeGlobalWord("word");
+    assertThat(cache.find(DOCUMENTATION_UNIT_ID, List.of("word"))).containsExactly(jdv);
+
+    verify(repository, times(1)).findAllGloballyIgnoredWords();
+  }
+
+  @Test
+  void shouldReloadDocumentationUnitWordsAfterInvalidation() {
+    cache.preload(DOCUMENTATION_UNIT_ID);
+    var local = word(IgnoredTextCheckType.DOCUMENTATION_UNIT, "word");
+    when(repository.findAllIgnoredInDocumentationUnit(DOCUMENTATION_UNIT_ID))
+        .thenReturn(List.of(local));
+
+    cache.invalidate(DOCUMENTATION_UNIT_ID);
+
+    assertThat(cache.find(DOCUMENTATION_UNIT_ID, List.of("word"))).containsExactly(local);
+  }
+
+  private double counter(String cacheName, String result) {
+    return meterRegistry
+        .get("text.check.ignored.words.cache")
+        .tag("cache", cacheName)
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+
+  private static IgnoredTextCheckWord word(IgnoredTextCheckType type, String word) {
+    return new IgnoredTextCheckWord(UUID.randomUUID(), type, word);
+  }
+}
@@ -52,6 +52,7 @@ import org.testcontainers.utility.DockerImageName;
       "management.endpoint.health.group.readiness.include=readinessState,redis,db",
       "management.endpoint.health.validate-group-membership=false",
       "spring.security.oauth2.client.provider.keycloak.issuer-uri=localhost",
+      "neuris.field-of-law.revalidate-interval=PT0S",
     })
 @AutoConfigureMockMvc
 @Tag("integration")
@@ -0,0 +1,202 @@
+package de.bund.digitalservice.ris.caselaw.integration.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.bund.digitalservice.ris.caselaw.EntityBuilderTestUtil;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.CourtDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseCourtRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentTypeRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationOfficeRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationUnitRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DecisionDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DeviatingFileNumberDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentTypeDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentationOfficeDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.FileNumberDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.StatusDTO;
+import de.bund.digitalservice.ris.caselaw.domain.Decision;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitRepository;
+import de.bund.digitalservice.ris.caselaw.domain.exception.DocumentationUnitNotExistsException;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Random;
+import java.util.stream.LongStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Counts the statements of the aggregate loads of a documentation unit with the Hibernate
+ * statistics. The single valued associations have to be part of the first query and the number of
+ * statements must not depend on the number of rows in the collections.
+ */
+class DocumentationUnitAggregateLoadIntegrationTest extends BaseIntegrationTest {
+  /**
+   * One statement for the documentation unit with its single valued associations, one for each of
+   * the 51 collections of a decision and a few for the eager associations of the referenced
+   * entities. A new collection of the aggregate has to raise this limit.
+   */
+  private static final long MAX_AGGREGATE_STATEMENTS = 60;
+
+  @Autowired private DocumentationUnitRepository documentationUnitRepository;
+  @Autowired private DatabaseDocumentationUnitRepository repository;
+  @Autowired private DatabaseDocumentationOfficeRepository documentationOfficeRepository;
+  @Autowired private DatabaseCourtRepository courtRepository;
+  @Autowired private DatabaseDocumentTypeRepository documentTypeRepository;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+  private DocumentationOfficeDTO documentationOffice;
+  private CourtDTO court;
+  private DocumentTypeDTO documentType;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+
+    documentationOffice = documentationOfficeRepository.findByAbbreviation("DS");
+    court =
+        courtRepository.saveAndFlush(
+            CourtDTO.builder()
+                .type("AG")
+                .location("Aachen")
+                .isSuperiorCourt(false)
+                .isForeignCourt(false)
+                .jurisId(new Random().nextInt())
+                .build());
+    documentType =
+        documentTypeRepository.saveAndFlush(
+            DocumentTypeDTO.builder().abbreviation("test").multiple(true).build());
+  }
+
+  @AfterEach
+  void cleanUp() {
+    statistics.setStatisticsEnabled(false);
+    repository.deleteAll();
+    courtRepository.delete(court);
+    documentTypeRepository.delete(documentType);
+  }
+
+  @Test
+  void testFindByUuid_shouldLoadSingleValuedAssociationsWithTheDocumentationUnit()
+      throws DocumentationUnitNotExistsException {
+    DecisionDTO decisionDTO = createDecision("DOC0000000001", 1);
+
+    statistics.clear();
+    Decision decision = (Decision) documentationUnitRepository.findByUuid(decisionDTO.getId());
+
+    assertThat(decision.coreData().court().label()).isEqualTo("AG Aachen");
+    assertThat(decision.coreData().documentType().jurisShortcut()).isEqualTo("test");
+    assertThat(decision.status()).isNotNull();
+    assertThat(statistics.getEntityStatistics(StatusDTO.class.getName()).getFetchCount()).isZero();
+    assertThat(statistics.getEntityStatistics(CourtDTO.class.getName()).getFetchCount()).isZero();
+    assertThat(statistics.getEntityStatistics(DocumentTypeDTO.class.getName()).getFetchCount())
+        .isZero();
+  }
+
+  @Test
+  void testFindByUuid_shouldNotDependOnTheSizeOfTheCollections()
+      throws DocumentationUnitNotExistsException {
+    DecisionDTO smallDecision = createDecision("DOC0000000001", 1);
+    DecisionDTO largeDecision = createDecision("DOC0000000002", 5);
+
+    statistics.clear();
+    documentationUnitRepository.findByUuid(smallDecision.getId());
+    long smallStatements = statistics.getPrepareStatementCount();
+    long smallCollectionFetches = statistics.getCollectionFetchCount();
+
+    statistics.clear();
+    documentationUnitRepository.findByUuid(largeDecision.getId());
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(smallStatements);
+    assertThat(statistics.getCollectionFetchCount()).isEqualTo(smallCollectionFetches);
+  }
+
+  @Test
+  void testFindByDocumentNumber_shouldNotDependOnTheSizeOfTheCollections()
+      throws DocumentationUnitNotExistsException {
+    DecisionDTO smallDecision = createDecision("DOC0000000001", 1);
+    DecisionDTO largeDecision = createDecision("DOC0000000002", 5);
+
+    statistics.clear();
+    documentationUnitRepository.findByDocumentNumber(smallDecision.getDocumentNumber());
+    long smallStatements = statistics.getPrepareStatementCount();
+    long smallCollectionFetches = statistics.getCollectionFetchCount();
+
+    statistics.clear();
+    documentationUnitRepository.findByDocumentNumber(largeDecision.getDocumentNumber());
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(smallStatements);
+    assertThat(statistics.getCollectionFetchCount()).isEqualTo(smallCollectionFetches);
+  }
+
+  @Test
+  void testAggregateLoads_shouldNotExceedTheStatementLimit()
+      throws DocumentationUnitNotExistsException {
+    DecisionDTO decisionDTO = createDecision("DOC0000000001", 5);
+
+    statistics.clear();
+    documentationUnitRepository.findByUuid(decisionDTO.getId());
+    assertThat(statistics.getPrepareStatementCount())
+        .isPositive()
+        .isLessThanOrEqualTo(MAX_AGGREGATE_STATEMENTS);
+
+    statistics.clear();
+    documentationUnitRepository.findByDocumentNumber(decisionDTO.getDocumentNumber());
+    assertThat(statistics.getPrepareStatementCount())
+        .isPositive()
+        .isLessThanOrEqualTo(MAX_AGGREGATE_STATEMENTS);
+  }
+
+  @Test
+  void testLoadProfiles_shouldShareTheStatementsOfTheEditorLoad()
+      throws DocumentationUnitNotExistsException {
+    DecisionDTO decisionDTO = createDecision("DOC0000000001", 2);
+
+    statistics.clear();
+    documentationUnitRepository.findByUuid(decisionDTO.getId());
+    long editorStatements = statistics.getPrepareStatementCount();
+
+    // the aggregate is loaded by the document number without a lookup of the id
+    statistics.clear();
+    documentationUnitRepository.findByDocumentNumber(decisionDTO.getDocumentNumber());
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(editorStatements);
+
+    // publication (LDML) and handover load the same aggregate
+    statistics.clear();
+    documentationUnitRepository.loadDocumentationUnitDTO(decisionDTO.getId());
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(editorStatements);
+
+    statistics.clear();
+    documentationUnitRepository.loadDocumentationUnitDTO(decisionDTO.getDocumentNumber());
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(editorStatements);
+  }
+
+  private DecisionDTO createDecision(String documentNumber, int numberOfFileNumbers) {
+    return EntityBuilderTestUtil.createAndSaveDecision(
+        repository,
+        DecisionDTO.builder()
+            .documentNumber(documentNumber)
+            .documentationOffice(documentationOffice)
+            .court(court)
+            .documentType(documentType)
+            .fileNumbers(
+                LongStream.range(0, numberOfFileNumbers)
+                    .mapToObj(
+                        rank -> FileNumberDTO.builder().value("AZ " + rank).rank(rank).build())
+                    .toList())
+            .deviatingFileNumbers(
+                LongStream.range(0, numberOfFileNumbers)
+                    .mapToObj(
+                        rank ->
+                            DeviatingFileNumberDTO.builder()
+                                .value("DAZ " + rank)
+                                .rank(rank)
+                                .build())
+                    .toList()),
+        null);
+  }
+}
@@ -0,0 +1,153 @@
+package de.bund.digitalservice.ris.caselaw.integration.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.gravity9.jsonpatch.AddOperation;
+import com.gravity9.jsonpatch.JsonPatch;
+import de.bund.digitalservice.ris.caselaw.EntityBuilderTestUtil;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationOfficeRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationUnitPatchRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DatabaseDocumentationUnitRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DecisionDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DeviatingFileNumberDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentationOfficeDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentationUnitDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.FileNumberDTO;
+import de.bund.digitalservice.ris.caselaw.domain.RisJsonPatch;
+import de.bund.digitalservice.ris.caselaw.webtestclient.RisWebTestClient;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CollectionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Counts the statements of an autosave with the Hibernate statistics. An autosave of a text must
+ * not write the collections of the documentation unit again.
+ */
+@Slf4j
+class DocumentationUnitAutosaveIntegrationTest extends BaseIntegrationTest {
+  @Autowired private RisWebTestClient risWebTestClient;
+  @Autowired private DatabaseDocumentationUnitRepository repository;
+  @Autowired private DatabaseDocumentationUnitPatchRepository patchRepository;
+  @Autowired private DatabaseDocumentationOfficeRepository documentationOfficeRepository;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+  private DocumentationOfficeDTO documentationOffice;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    documentationOffice = documentationOfficeRepository.findByAbbreviation("DS");
+  }
+
+  @AfterEach
+  void cleanUp() {
+    statistics.setStatisticsEnabled(false);
+    patchRepository.deleteAll();
+    repository.deleteAll();
+  }
+
+  @Test
+  void testPatchHeadnote_shouldNotWriteTheCollections() {
+    DecisionDTO decision = createDecision("DOC0000000001", 3);
+
+    statistics.clear();
+    patchHeadnote(decision);
+
+    assertThat(statistics.getEntityStatistics(FileNumberDTO.class.getName()).getInsertCount())
+        .isZero();
+    assertThat(statistics.getEntityStatistics(FileNumberDTO.class.getName()).getDeleteCount())
+        .isZero();
+    assertThat(
+            statistics.getEntityStatistics(DeviatingFileNumberDTO.class.getName()).getInsertCount())
+        .isZero();
+    assertThat(
+            statistics.getEntityStatistics(DeviatingFileNumberDTO.class.getName()).getDeleteCount())
+        .isZero();
+    assertCollectionNotWritten("fileNumbers");
+    assertCollectionNotWritten("deviatingFileNumbers");
+    assertCollectionNotWritten("regions");
+
+    assertThat(repository.findById(decision.getId()))
+        .get()
+        .extracting(dto -> ((DecisionDTO) dto).getHeadnote())
+        .isEqualTo("<p>headnote</p>");
+  }
+
+  @Test
+  void testPatchHeadnote_shouldNotDependOnTheSizeOfTheCollections() {
+    DecisionDTO smallDecision = createDecision("DOC0000000001", 1);
+    DecisionDTO largeDecision = createDecision("DOC0000000002", 5);
+
+    statistics.clear();
+    patchHeadnote(smallDecision);
+    long smallStatements = statistics.getPrepareStatementCount();
+
+    statistics.clear();
+    patchHeadnote(largeDecision);
+    long largeStatements = statistics.getPrepareStatementCount();
+
+    log.info("statements of an autosave of the headnote: {}", largeStatements);
+    assertThat(largeStatements).isEqualTo(smallStatements);
+  }
+
+  private void patchHeadnote(DecisionDTO decision) {
+    RisJsonPatch patch =
+        new RisJsonPatch(
+            0L,
+            new JsonPatch(
+                List.of(new AddOperation("/shortTexts/headnote", new TextNode("<p>headnote</p>")))),
+            Collections.emptyList());
+
+    risWebTestClient
+        .withDefaultLogin()
+        .patch()
+        .uri("/api/v1/caselaw/documentunits/" + decision.getId())
+        .bodyValue(patch)
+        .exchange()
+        .expectStatus()
+        .is2xxSuccessful();
+  }
+
+  private void assertCollectionNotWritten(String property) {
+    CollectionStatistics collectionStatistics =
+        statistics.getCollectionStatistics(DocumentationUnitDTO.class.getName() + "." + property);
+    assertThat(collectionStatistics.getRecreateCount()).isZero();
+    assertThat(collectionStatistics.getRemoveCount()).isZero();
+    assertThat(collectionStatistics.getUpdateCount()).isZero();
+  }
+
+  private DecisionDTO createDecision(String documentNumber, int numberOfFileNumbers) {
+    return EntityBuilderTestUtil.createAndSaveDecision(
+        repository,
+        DecisionDTO.builder()
+            .documentNumber(documentNumber)
+            .documentationOffice(documentationOffice)
+            .fileNumbers(
+                LongStream.range(0, numberOfFileNumbers)
+                    .mapToObj(
+                        rank -> FileNumberDTO.builder().value("AZ " + rank).rank(rank).build())
+                    .toList())
+            .deviatingFileNumbers(
+                LongStream.range(0, numberOfFileNumbers)
+                    .mapToObj(
+                        rank ->
+                            DeviatingFileNumberDTO.builder()
+                                .value("DAZ " + rank)
+                                .rank(rank)
+                                .build())
+                    .toList()),
+        null);
+  }
+}
@@ -17,6 +17,7 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DeviatingFileNumb
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DocumentationOfficeDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.DuplicateRelationRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.FileNumberDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.ManagementDataDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PendingProceedingDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.StatusDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.CourtTransformer;
@@ -36,6 +37,8 @@ import de.bund.digitalservice.ris.caselaw.domain.exception.DocumentationUnitNotE
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.documenttype.DocumentType;
 import de.bund.digitalservice.ris.caselaw.webtestclient.RisWebTestClient;
 import jakarta.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -224,6 +227,65 @@ class DuplicateCheckIntegrationTest extends BaseIntegrationTest {
       assertThat(duplicate.status()).isEqualTo(DuplicateRelationStatus.PENDING);
     }
 
+    @Test
+    void checkUpdatedDuplicates_shouldOnlyCheckRecentlyUpdatedDecisions() {
+      // Arrange
+      var updatedDocUnit =
+          generateNewDocumentationUnit(
+              docOffice,
+              Optional.of(
+                  CreationParameters.builder()
+                      .documentNumber("DocumentNumb1")
+                      .decisionDate(LocalDate.of(2020, 12, 1))
+                      .fileNumbers(List.of("AZ-123"))
+                      .documentType(documentType1)
+                      .build()));
+      generateNewDocumentationUnit(
+          docOffice,
+          Optional.of(
+              CreationParameters.builder()
+                  .documentNumber("DocumentNumb2")
+                  .decisionDate(LocalDate.of(2020, 12, 1))
+                  .fileNumbers(List.of("AZ-123"))
+                  .documentType(documentType1)
+                  .build()));
+      var notUpdatedDocUnit =
+          generateNewDocumentationUnit(
+              docOffice,
+              Optional.of(
+                  CreationParameters.builder()
+                      .documentNumber("DocumentNumb3")
+                      .decisionDate(LocalDate.of(2021, 12, 1))
+                      .fileNumbers(List.of("AZ-456"))
+                      .documentType(documentType1)
+                      .build()));
+      generateNewDocumentationUnit(
+          docOffice,
+          Optional.of(
+              CreationParameters.builder()
+                  .documentNumber("DocumentNumb4")
+                  .decisionDate(LocalDate.of(2021, 12, 1))
+                  .fileNumbers(List.of("AZ-456"))
+                  .documentType(documentType1)
+                  .build()));
+      setLastUpdatedAt(updatedDocUnit, Instant.now());
+      setLastUpdatedAt(notUpdatedDocUnit, Instant.now().minus(Duration.ofDays(1)));
+
+      // Act
+      duplicateCheckService.checkUpdatedDuplicates();
+
+      // Assert
+      assertThat(duplicateRelationRepository.findAll())
+          .singleElement()
+          .satisfies(
+              relation ->
+                  assertThat(
+                          List.of(
+                              relation.getId().getDocumentationUnitId1(),
+                              relation.getId().getDocumentationUnitId2()))
+                      .contains(updatedDocUnit.getId()));
+    }
+
     @Test
     void checkDuplicates_withMatchingDeviatingFileNumber_shouldCreateNewDuplicateWithPendingStatus()
         throws DocumentationUnitNotExistsException {
@@ -1297,6 +1359,16 @@ class DuplicateCheckIntegrationTest extends BaseIntegrationTest {
       List<String> deviatingEclis,
       PublicationStatus publicationStatus) {}
 
+  private void setLastUpdatedAt(DecisionDTO decisionDTO, Instant lastUpdatedAt) {
+    var documentationUnitDTO = repository.findById(decisionDTO.getId()).orElseThrow();
+    documentationUnitDTO.setManagementData(
+        ManagementDataDTO.builder()
+            .documentationUnit(documentationUnitDTO)
+            .lastUpdatedAtDateTime(lastUpdatedAt)
+            .build());
+    repository.save(documentationUnitDTO);
+  }
+
   private DecisionDTO generateNewDocumentationUnit(
       DocumentationOffice userDocOffice, Optional<CreationParameters> parameters)
       throws DocumentationUnitException {
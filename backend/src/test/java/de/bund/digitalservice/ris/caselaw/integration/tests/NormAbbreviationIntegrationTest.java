@@ -18,6 +18,7 @@ import java.time.LocalDate;
 import java.time.Month;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -464,6 +465,93 @@ class NormAbbreviationIntegrationTest extends BaseIntegrationTest {
                         abbreviation3.getId(), abbreviation2.getId(), abbreviation4.getId()));
   }
 
+  @Test
+  void testGetNormAbbreviationBySearchQuery_withPagesAcrossTiers_shouldKeepTheOrder() {
+    // Exact abbreviation
+    NormAbbreviationDTO exact =
+        repository.save(
+            NormAbbreviationDTO.builder().abbreviation("Paging").documentId(1234L).build());
+    // Abbreviation starts with
+    NormAbbreviationDTO startsWithB =
+        repository.save(
+            NormAbbreviationDTO.builder().abbreviation("Paging B").documentId(2345L).build());
+    NormAbbreviationDTO startsWithA =
+        repository.save(
+            NormAbbreviationDTO.builder().abbreviation("Paging A").documentId(3456L).build());
+    NormAbbreviationDTO startsWithC =
+        repository.save(
+            NormAbbreviationDTO.builder().abbreviation("Paging C").documentId(4567L).build());
+    // Official long title contains
+    NormAbbreviationDTO longTitle =
+        repository.save(
+            NormAbbreviationDTO.builder()
+                .abbreviation("No match")
+                .documentId(5678L)
+                .officialLongTitle("Title about paging")
+                .build());
+    repository.refreshMaterializedViews();
+
+    // the first page ends inside of the tier of the abbreviations starting with the query and the
+    // second page ends at the border to the next tier
+    assertThat(searchNormAbbreviationIds("Paging", 0, 2))
+        .containsExactly(exact.getId(), startsWithA.getId());
+    assertThat(searchNormAbbreviationIds("Paging", 1, 2))
+        .containsExactly(startsWithB.getId(), startsWithC.getId());
+    assertThat(searchNormAbbreviationIds("Paging", 2, 2)).containsExactly(longTitle.getId());
+    assertThat(searchNormAbbreviationIds("Paging", 3, 2)).isEmpty();
+  }
+
+  @Test
+  void testGetNormAbbreviationBySearchQuery_withMatchInTwoTiers_shouldReturnItOnceInBestTier() {
+    // Exact abbreviation, found by the weighted vector, too
+    NormAbbreviationDTO exactAndRanked =
+        repository.save(
+            NormAbbreviationDTO.builder()
+                .abbreviation("Duplicate")
+                .documentId(1234L)
+                .officialShortTitle("Duplicate")
+                .build());
+    // Only found by the weighted vector
+    NormAbbreviationDTO ranked =
+        repository.save(
+            NormAbbreviationDTO.builder()
+                .abbreviation("No match")
+                .documentId(2345L)
+                .officialShortTitle("Duplicate")
+                .build());
+    repository.refreshMaterializedViews();
+
+    assertThat(searchNormAbbreviationIds("Duplicate", 0, 30))
+        .containsExactly(exactAndRanked.getId(), ranked.getId());
+    // the duplicate doesn't shift the following page
+    assertThat(searchNormAbbreviationIds("Duplicate", 0, 1))
+        .containsExactly(exactAndRanked.getId());
+    assertThat(searchNormAbbreviationIds("Duplicate", 1, 1)).containsExactly(ranked.getId());
+    assertThat(searchNormAbbreviationIds("Duplicate", 2, 1)).isEmpty();
+  }
+
+  private List<UUID> searchNormAbbreviationIds(String query, int page, int size) {
+    NormAbbreviation[] result =
+        risWebTestClient
+            .withDefaultLogin()
+            .get()
+            .uri(
+                "/api/v1/caselaw/normabbreviation/search?q="
+                    + query
+                    + "&pg="
+                    + page
+                    + "&sz="
+                    + size)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBody(NormAbbreviation[].class)
+            .returnResult()
+            .getResponseBody();
+    assertThat(result).isNotNull();
+    return Arrays.stream(result).map(NormAbbreviation::id).toList();
+  }
+
   private void generateOtherLookupValues() {
     documentType1.setCategory(documentCategoryRepository.findFirstByLabel("S"));
     documentType1 = documentTypeRepository.save(documentType1);
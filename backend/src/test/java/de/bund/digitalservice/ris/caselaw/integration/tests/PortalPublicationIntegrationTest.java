@@ -36,6 +36,7 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PublishedDocument
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.PublishedDocumentationSnapshotRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.RevokedUliRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.jpa.StatusDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.publication.SnapshotJobProgress;
 import de.bund.digitalservice.ris.caselaw.adapter.publication.uli.UliCitationPublishService;
 import de.bund.digitalservice.ris.caselaw.adapter.publication.uli.UliCitationSyncService;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.ldml.FullLdmlTransformer;
@@ -419,8 +420,10 @@ class PortalPublicationIntegrationTest extends BaseIntegrationTest {
 
     var capturedRequests = captor.getAllValues();
     assertThat(capturedRequests.get(0).key()).isEqualTo("1234567890123/1234567890123.xml");
-    assertThat(capturedRequests.get(1).key()).isEqualTo("1234567890123/bild1.png");
-    assertThat(capturedRequests.get(2).key()).isEqualTo("1234567890123/bild2.png");
+    // the images are uploaded in parallel
+    assertThat(capturedRequests.subList(1, 3))
+        .extracting(PutObjectRequest::key)
+        .containsExactlyInAnyOrder("1234567890123/bild1.png", "1234567890123/bild2.png");
     assertThat(capturedRequests.get(3).key()).contains("changelogs/");
 
     var updatedDto = repository.findById(dto.getId()).orElseThrow();
@@ -645,6 +648,21 @@ class PortalPublicationIntegrationTest extends BaseIntegrationTest {
 
     assertThat(result.getResponseBody()).isEqualTo("ok");
     assertThat(snapshots).hasSize(1);
+
+    var progress =
+        risWebTestClient
+            .withDefaultLogin()
+            .get()
+            .uri("/api/v1/admin/fillPublishedDocumentationUnit/progress")
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBody(SnapshotJobProgress.class)
+            .returnResult();
+
+    assertThat(progress.getResponseBody())
+        .extracting("running", "processed", "saved", "lastId")
+        .containsExactly(false, 1L, 1L, decision.getId());
   }
 
   @Test
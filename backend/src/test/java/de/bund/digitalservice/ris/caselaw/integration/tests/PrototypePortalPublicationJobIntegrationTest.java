@@ -163,20 +163,15 @@ class PrototypePortalPublicationJobIntegrationTest extends BaseIntegrationTest {
     ArgumentCaptor<DeleteObjectRequest> deleteCaptor =
         ArgumentCaptor.forClass(DeleteObjectRequest.class);
 
-    // TWO DELETE JOBS (currently deleting documents at the prefix and root level)
-    verify(s3Client, times(2)).deleteObject(deleteCaptor.capture());
-    // PUT 4 PUBLISH JOBS (currently adding documents at the prefix and root level)
-    verify(s3Client, times(4)).putObject(putCaptor.capture(), bodyCaptor.capture());
+    // only the latest job per document number is executed: DELETE 1, PUBLISH 2
+    verify(s3Client, times(1)).deleteObject(deleteCaptor.capture());
+    verify(s3Client, times(1)).putObject(putCaptor.capture(), bodyCaptor.capture());
 
     var capturedPutRequests = putCaptor.getAllValues();
     var capturedDeleteRequests = deleteCaptor.getAllValues();
 
-    assertThat(capturedPutRequests.get(0).key()).isEqualTo("1/1.xml");
-    assertThat(capturedPutRequests.get(1).key()).isEqualTo("1/1.xml");
-    assertThat(capturedPutRequests.get(2).key()).isEqualTo("2/2.xml");
-    assertThat(capturedPutRequests.get(3).key()).isEqualTo("2/2.xml");
-    assertThat(capturedDeleteRequests.get(0).key()).isEqualTo("2/2.xml");
-    assertThat(capturedDeleteRequests.get(1).key()).isEqualTo("1/1.xml");
+    assertThat(capturedPutRequests.get(0).key()).isEqualTo("2/2.xml");
+    assertThat(capturedDeleteRequests.get(0).key()).isEqualTo("1/1.xml");
 
     assertThat(portalPublicationJobRepository.findAll())
         .allMatch(job -> job.getPublicationJobStatus() == SUCCESS);
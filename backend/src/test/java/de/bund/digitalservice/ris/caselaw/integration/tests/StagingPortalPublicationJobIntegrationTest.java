@@ -175,25 +175,21 @@ class StagingPortalPublicationJobIntegrationTest extends BaseIntegrationTest {
     ArgumentCaptor<DeleteObjectRequest> deleteCaptor =
         ArgumentCaptor.forClass(DeleteObjectRequest.class);
 
-    // TWO DELETE JOBS
-    verify(s3Client, times(2)).deleteObject(deleteCaptor.capture());
-    // PUT 4 PUBLISH JOBS + PUT changelog
-    verify(s3Client, times(5)).putObject(putCaptor.capture(), bodyCaptor.capture());
+    // only the latest job per document number is executed: DELETE 1, PUBLISH 2
+    verify(s3Client, times(1)).deleteObject(deleteCaptor.capture());
+    // PUT 2 + PUT changelog
+    verify(s3Client, times(2)).putObject(putCaptor.capture(), bodyCaptor.capture());
 
     var capturedPutRequests = putCaptor.getAllValues();
     var capturedDeleteRequests = deleteCaptor.getAllValues();
     var changelogContent =
         new String(
-            bodyCaptor.getAllValues().get(4).contentStreamProvider().newStream().readAllBytes(),
+            bodyCaptor.getAllValues().get(1).contentStreamProvider().newStream().readAllBytes(),
             StandardCharsets.UTF_8);
 
-    assertThat(capturedPutRequests.get(0).key()).isEqualTo("1/1.xml");
-    assertThat(capturedPutRequests.get(1).key()).isEqualTo("1/1.xml");
-    assertThat(capturedPutRequests.get(2).key()).isEqualTo("2/2.xml");
-    assertThat(capturedPutRequests.get(3).key()).isEqualTo("2/2.xml");
-    assertThat(capturedPutRequests.get(4).key()).contains("changelogs/");
-    assertThat(capturedDeleteRequests.get(0).key()).isEqualTo("2/2.xml");
-    assertThat(capturedDeleteRequests.get(1).key()).isEqualTo("1/1.xml");
+    assertThat(capturedPutRequests.get(0).key()).isEqualTo("2/2.xml");
+    assertThat(capturedPutRequests.get(1).key()).contains("changelogs/");
+    assertThat(capturedDeleteRequests.get(0).key()).isEqualTo("1/1.xml");
     //         ensure that each document number only appears either in changed or deleted section
     assertThat(changelogContent)
         .isEqualTo(
@@ -233,11 +229,12 @@ class StagingPortalPublicationJobIntegrationTest extends BaseIntegrationTest {
     // PUT 1.xml (fails) + PUT changelog
     verify(s3Client, times(2)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
 
+    // the changelog failed, so the jobs are retried
     assertThat(
             portalPublicationJobRepository.findAll().stream()
                 .map(PortalPublicationJobDTO::getPublicationJobStatus)
                 .toList())
-        .isEqualTo(List.of(PublicationJobStatus.ERROR, SUCCESS));
+        .isEqualTo(List.of(PublicationJobStatus.PENDING, PublicationJobStatus.PENDING));
   }
 
   @Test
@@ -50,6 +50,15 @@ public class RisStatusAssertions {
     return responseSpec;
   }
 
+  public RisResponseSpec isNotModified() {
+    try {
+      resultActions.andExpect(status().isNotModified());
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+    return responseSpec;
+  }
+
   public RisResponseSpec isNoContent() {
     try {
       resultActions.andExpect(status().isNoContent());